@@ -0,0 +1,49 @@
+package com.databricks.jdbc.api;
+
+/**
+ * Snapshot of the off-heap Arrow memory held by cloud fetch results of a connection.
+ *
+ * <p>All values are in bytes. Reserved bytes include the estimated size of chunks that are still
+ * being downloaded, and are what prefetch is throttled on.
+ */
+public final class ArrowMemoryUsage {
+  private final long allocatedBytes;
+  private final long peakAllocatedBytes;
+  private final long reservedBytes;
+  private final long limitBytes;
+
+  public ArrowMemoryUsage(
+      long allocatedBytes, long peakAllocatedBytes, long reservedBytes, long limitBytes) {
+    this.allocatedBytes = allocatedBytes;
+    this.peakAllocatedBytes = peakAllocatedBytes;
+    this.reservedBytes = reservedBytes;
+    this.limitBytes = limitBytes;
+  }
+
+  /** Returns the bytes currently allocated by Arrow vectors of the connection. */
+  public long getAllocatedBytes() {
+    return allocatedBytes;
+  }
+
+  /** Returns the highest number of bytes allocated at once since the connection was opened. */
+  public long getPeakAllocatedBytes() {
+    return peakAllocatedBytes;
+  }
+
+  /** Returns the bytes reserved for downloaded and in-flight chunks. */
+  public long getReservedBytes() {
+    return reservedBytes;
+  }
+
+  /** Returns the configured limit, or {@link Long#MAX_VALUE} if memory is not limited. */
+  public long getLimitBytes() {
+    return limitBytes;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "ArrowMemoryUsage{allocatedBytes=%d, peakAllocatedBytes=%d, reservedBytes=%d, limitBytes=%d}",
+        allocatedBytes, peakAllocatedBytes, reservedBytes, limitBytes);
+  }
+}
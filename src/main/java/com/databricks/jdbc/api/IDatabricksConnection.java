@@ -1,8 +1,12 @@
 package com.databricks.jdbc.api;
 
+import com.databricks.jdbc.telemetry.latency.LatencyOperation;
+import com.databricks.jdbc.telemetry.latency.LatencySnapshot;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * Extends the standard JDBC {@link Connection} interface to provide Databricks-specific
@@ -29,4 +33,45 @@ public interface IDatabricksConnection extends Connection {
    *     connection
    */
   String getConnectionId() throws SQLException;
+
+  /**
+   * Retrieves the off-heap Arrow memory used by cloud fetch results of this connection.
+   *
+   * @return An {@link ArrowMemoryUsage} snapshot with current and peak usage in bytes, all zero for
+   *     connections that do not track Arrow memory
+   */
+  default ArrowMemoryUsage getArrowMemoryUsage() {
+    return new ArrowMemoryUsage(0, 0, 0, 0);
+  }
+
+  /**
+   * Retrieves latency histograms of the server requests, chunk downloads and decoding done for this
+   * connection, measured with nanosecond resolution.
+   *
+   * @return A {@link LatencySnapshot} for every {@link LatencyOperation}, empty for connections
+   *     that do not record latencies
+   */
+  default Map<LatencyOperation, LatencySnapshot> getLatencySnapshots() {
+    return Collections.emptyMap();
+  }
+
+  /**
+   * Retrieves the hit and miss counts of the prepared statement metadata cache of this connection.
+   *
+   * @return A {@link MetadataCacheStats} snapshot, with a maximum size of 0 if caching is disabled
+   *     or not supported by the connection
+   */
+  default MetadataCacheStats getMetadataCacheStats() {
+    return new MetadataCacheStats(0, 0, 0, 0);
+  }
+
+  /**
+   * Retrieves the size and hit ratio of the prepared statement cache of this connection.
+   *
+   * @return A {@link PreparedStatementCacheStats} snapshot, with a maximum size of 0 if caching is
+   *     disabled or not supported by the connection
+   */
+  default PreparedStatementCacheStats getPreparedStatementCacheStats() {
+    return new PreparedStatementCacheStats(0, 0, 0, 0);
+  }
 }
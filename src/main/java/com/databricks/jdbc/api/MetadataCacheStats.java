@@ -0,0 +1,43 @@
+package com.databricks.jdbc.api;
+
+/** Snapshot of the {@code DESCRIBE QUERY} metadata cache of a connection. */
+public final class MetadataCacheStats {
+  private final long hitCount;
+  private final long missCount;
+  private final int size;
+  private final int maxSize;
+
+  public MetadataCacheStats(long hitCount, long missCount, int size, int maxSize) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.size = size;
+    this.maxSize = maxSize;
+  }
+
+  /** Returns the number of metadata requests served from the cache. */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /** Returns the number of metadata requests that ran a {@code DESCRIBE QUERY}. */
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /** Returns the number of cached entries. */
+  public int getSize() {
+    return size;
+  }
+
+  /** Returns the maximum number of cached entries, 0 if the cache is disabled. */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "MetadataCacheStats{hitCount=%d, missCount=%d, size=%d, maxSize=%d}",
+        hitCount, missCount, size, maxSize);
+  }
+}
@@ -0,0 +1,49 @@
+package com.databricks.jdbc.api;
+
+/** Snapshot of the prepared statement cache of a connection. */
+public final class PreparedStatementCacheStats {
+  private final long hitCount;
+  private final long missCount;
+  private final int size;
+  private final int maxSize;
+
+  public PreparedStatementCacheStats(long hitCount, long missCount, int size, int maxSize) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.size = size;
+    this.maxSize = maxSize;
+  }
+
+  /** Returns the number of prepared statements that reused a cached parsed statement. */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /** Returns the number of prepared statements whose SQL had to be parsed. */
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /** Returns the fraction of prepared statements served from the cache, 0 if none was prepared. */
+  public double getHitRatio() {
+    long requestCount = hitCount + missCount;
+    return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+  }
+
+  /** Returns the number of cached parsed statements. */
+  public int getSize() {
+    return size;
+  }
+
+  /** Returns the maximum number of cached parsed statements, 0 if the cache is disabled. */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "PreparedStatementCacheStats{hitCount=%d, missCount=%d, hitRatio=%.3f, size=%d, maxSize=%d}",
+        hitCount, missCount, getHitRatio(), size, maxSize);
+  }
+}
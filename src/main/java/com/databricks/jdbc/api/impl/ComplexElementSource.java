@@ -0,0 +1,41 @@
+package com.databricks.jdbc.api.impl;
+
+import com.databricks.jdbc.exception.DatabricksSQLException;
+
+/**
+ * Supplies the elements of a {@link DatabricksArray}, {@link DatabricksMap} or {@link
+ * DatabricksStruct} that are decoded on first access rather than when the value is created.
+ *
+ * <p>Implementations read from the vectors of an Arrow result chunk. They copy their elements out
+ * when {@link #copyOut()} is called, which happens at the latest before the chunk is released.
+ */
+public interface ComplexElementSource {
+
+  /** Returns the number of elements. */
+  int size();
+
+  /**
+   * Returns the element at the given index, decoding it on first access. Elements of a map are
+   * {@link java.util.Map.Entry} instances.
+   *
+   * @param index index of the element
+   * @return the converted element
+   * @throws DatabricksSQLException if the element cannot be converted
+   */
+  Object get(int index) throws DatabricksSQLException;
+
+  /**
+   * Decodes the elements that have not been accessed yet and drops the references to the underlying
+   * vectors, so that the elements remain readable after the vectors are released.
+   */
+  void copyOut();
+
+  /** Returns all elements, decoding the ones that have not been accessed yet. */
+  default Object[] toArray() throws DatabricksSQLException {
+    Object[] elements = new Object[size()];
+    for (int i = 0; i < elements.length; i++) {
+      elements[i] = get(i);
+    }
+    return elements;
+  }
+}
@@ -19,7 +19,8 @@ import java.util.Map;
 public class DatabricksArray implements Array {
   private static final JdbcLogger LOGGER = JdbcLoggerFactory.getLogger(DatabricksArray.class);
 
-  private final Object[] elements;
+  private Object[] elements;
+  private ComplexElementSource elementSource;
   private final String typeName;
 
   /**
@@ -35,6 +36,47 @@ public class DatabricksArray implements Array {
     this.typeName = metadata;
   }
 
+  private DatabricksArray(Object[] elements, String metadata) {
+    this.elements = elements;
+    this.typeName = metadata;
+  }
+
+  /**
+   * Creates a DatabricksArray from elements that already hold the Java values of the element type,
+   * so that neither the metadata nor the elements are parsed again.
+   *
+   * @param elements the converted elements of the array
+   * @param metadata the metadata describing the type of array elements
+   * @return the array backed by the given elements
+   */
+  public static DatabricksArray fromConvertedElements(Object[] elements, String metadata) {
+    return new DatabricksArray(elements, metadata);
+  }
+
+  /**
+   * Creates a DatabricksArray whose elements are decoded from the given source when they are
+   * accessed. Reading a slice only decodes the elements of the slice.
+   *
+   * @param elementSource source of the converted elements
+   * @param metadata the metadata describing the type of array elements
+   * @return the array reading from the given source
+   */
+  public static DatabricksArray fromElementSource(
+      ComplexElementSource elementSource, String metadata) {
+    DatabricksArray array = new DatabricksArray((Object[]) null, metadata);
+    array.elementSource = elementSource;
+    return array;
+  }
+
+  /** Returns all elements, decoding the ones of a lazy array that were not accessed yet. */
+  private synchronized Object[] getElements() throws SQLException {
+    if (elements == null) {
+      elements = elementSource.toArray();
+      elementSource = null;
+    }
+    return elements;
+  }
+
   /**
    * Converts the elements based on specified element type.
    *
@@ -160,7 +202,7 @@ public class DatabricksArray implements Array {
   @Override
   public Object getArray() throws SQLException {
     LOGGER.debug("Getting array elements");
-    return this.elements;
+    return getElements();
   }
 
   @Override
@@ -172,7 +214,22 @@ public class DatabricksArray implements Array {
   @Override
   public Object getArray(long index, int count) throws SQLException {
     LOGGER.debug("Getting subarray from index {} with count {}", index, count);
-    return java.util.Arrays.copyOfRange(this.elements, (int) index - 1, (int) index - 1 + count);
+    int from = (int) index - 1;
+    ComplexElementSource source;
+    synchronized (this) {
+      source = this.elementSource;
+    }
+    if (source == null) {
+      return java.util.Arrays.copyOfRange(getElements(), from, from + count);
+    }
+    if (from < 0 || from > source.size()) {
+      throw new ArrayIndexOutOfBoundsException(from);
+    }
+    Object[] slice = new Object[count];
+    for (int i = 0; i < count && from + i < source.size(); i++) {
+      slice[i] = source.get(from + i);
+    }
+    return slice;
   }
 
   @Override
@@ -184,6 +241,13 @@ public class DatabricksArray implements Array {
   @Override
   public void free() throws SQLException {
     LOGGER.debug("Freeing resources (if any)");
+    ComplexElementSource source;
+    synchronized (this) {
+      source = this.elementSource;
+    }
+    if (source != null) {
+      source.copyOut();
+    }
   }
 
   @Override
@@ -216,6 +280,15 @@ public class DatabricksArray implements Array {
 
   @Override
   public String toString() {
+    Object[] elements;
+    try {
+      elements = getElements();
+    } catch (SQLException e) {
+      throw new DatabricksDriverException(
+          "Error converting elements",
+          e,
+          DatabricksDriverErrorCode.COMPLEX_DATA_TYPE_ARRAY_CONVERSION_ERROR);
+    }
     StringBuilder sb = new StringBuilder("[");
     for (int i = 0; i < elements.length; i++) {
       if (i > 0) {
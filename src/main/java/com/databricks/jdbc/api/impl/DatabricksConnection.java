@@ -4,6 +4,8 @@ import static com.databricks.jdbc.common.DatabricksJdbcConstants.ALLOWED_SESSION
 
 import com.databricks.jdbc.api.*;
 import com.databricks.jdbc.api.IDatabricksStatement;
+import com.databricks.jdbc.api.impl.arrow.ArrowMemoryBudgetFactory;
+import com.databricks.jdbc.api.impl.batch.DatabricksBatchExecutor;
 import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
 import com.databricks.jdbc.api.internal.IDatabricksConnectionInternal;
 import com.databricks.jdbc.api.internal.IDatabricksSession;
@@ -23,11 +25,14 @@ import com.databricks.jdbc.log.JdbcLogger;
 import com.databricks.jdbc.log.JdbcLoggerFactory;
 import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
 import com.databricks.jdbc.telemetry.TelemetryClientFactory;
+import com.databricks.jdbc.telemetry.latency.LatencyOperation;
+import com.databricks.jdbc.telemetry.latency.LatencySnapshot;
 import com.google.common.annotations.VisibleForTesting;
 import java.sql.*;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 /** Implementation for Databricks specific connection. */
@@ -37,6 +42,10 @@ public class DatabricksConnection implements IDatabricksConnection, IDatabricksC
   private final Set<IDatabricksStatementInternal> statementSet = ConcurrentHashMap.newKeySet();
   private SQLWarning warnings = null;
   private final IDatabricksConnectionContext connectionContext;
+  private final DescribeQueryMetadataCache describeQueryMetadataCache;
+  private final PreparedStatementCache preparedStatementCache;
+  // Created on the first batch executed concurrently, shut down when the connection is closed
+  private ExecutorService batchExecutor;
 
   /**
    * Creates an instance of Databricks connection for given connection context.
@@ -46,6 +55,10 @@ public class DatabricksConnection implements IDatabricksConnection, IDatabricksC
   public DatabricksConnection(IDatabricksConnectionContext connectionContext)
       throws DatabricksSQLException {
     this.connectionContext = connectionContext;
+    this.describeQueryMetadataCache =
+        new DescribeQueryMetadataCache(connectionContext.getDescribeQueryCacheSize());
+    this.preparedStatementCache =
+        new PreparedStatementCache(connectionContext.getPreparedStatementCacheSize());
     DatabricksThreadContextHolder.setConnectionContext(connectionContext);
     this.session = new DatabricksSession(connectionContext);
   }
@@ -55,6 +68,10 @@ public class DatabricksConnection implements IDatabricksConnection, IDatabricksC
       IDatabricksConnectionContext connectionContext, IDatabricksClient testDatabricksClient)
       throws DatabricksSQLException {
     this.connectionContext = connectionContext;
+    this.describeQueryMetadataCache =
+        new DescribeQueryMetadataCache(connectionContext.getDescribeQueryCacheSize());
+    this.preparedStatementCache =
+        new PreparedStatementCache(connectionContext.getPreparedStatementCacheSize());
     DatabricksThreadContextHolder.setConnectionContext(connectionContext);
     this.session = new DatabricksSession(connectionContext, testDatabricksClient);
     UserAgentManager.setUserAgent(connectionContext);
@@ -79,6 +96,46 @@ public class DatabricksConnection implements IDatabricksConnection, IDatabricksC
     return SessionId.create(Objects.requireNonNull(session.getSessionInfo())).toString();
   }
 
+  @Override
+  public ArrowMemoryUsage getArrowMemoryUsage() {
+    return ArrowMemoryBudgetFactory.getInstance().getUsage(connectionContext);
+  }
+
+  @Override
+  public Map<LatencyOperation, LatencySnapshot> getLatencySnapshots() {
+    return session.getLatencyRecorder().snapshot();
+  }
+
+  @Override
+  public MetadataCacheStats getMetadataCacheStats() {
+    return describeQueryMetadataCache.getStats();
+  }
+
+  DescribeQueryMetadataCache getDescribeQueryMetadataCache() {
+    return describeQueryMetadataCache;
+  }
+
+  @Override
+  public PreparedStatementCacheStats getPreparedStatementCacheStats() {
+    return preparedStatementCache.getStats();
+  }
+
+  /** Returns the parsed form of a closed prepared statement to the statement cache. */
+  void releaseParsedStatement(ParsedStatement parsedStatement) {
+    preparedStatementCache.release(parsedStatement);
+  }
+
+  /**
+   * Returns the executor of the concurrent batch commands of the statements of this connection,
+   * creating it on first use.
+   */
+  synchronized ExecutorService getBatchExecutor() {
+    if (batchExecutor == null) {
+      batchExecutor = DatabricksBatchExecutor.createExecutor(connectionContext);
+    }
+    return batchExecutor;
+  }
+
   @Override
   public IDatabricksSession getSession() {
     return session;
@@ -94,23 +151,31 @@ public class DatabricksConnection implements IDatabricksConnection, IDatabricksC
 
   @Override
   public PreparedStatement prepareStatement(String sql) {
-    LOGGER.debug(
-        String.format("public PreparedStatement prepareStatement(String sql = {%s})", sql));
-    DatabricksPreparedStatement statement = new DatabricksPreparedStatement(this, sql);
+    LOGGER.debug("public PreparedStatement prepareStatement(String sql = {})", sql);
+    DatabricksPreparedStatement statement;
+    if (preparedStatementCache.isEnabled()) {
+      ParsedStatement parsedStatement = preparedStatementCache.borrow(sql);
+      if (parsedStatement == null) {
+        parsedStatement = ParsedStatement.parse(sql, connectionContext.supportManyParameters());
+      }
+      statement = new DatabricksPreparedStatement(this, parsedStatement);
+    } else {
+      statement = new DatabricksPreparedStatement(this, sql);
+    }
     statementSet.add(statement);
     return statement;
   }
 
   @Override
   public CallableStatement prepareCall(String sql) throws SQLException {
-    LOGGER.debug(String.format("public CallableStatement prepareCall= {%s})", sql));
+    LOGGER.debug("public CallableStatement prepareCall= {})", sql);
     throw new DatabricksSQLFeatureNotImplementedException(
         "Callable statements are not implemented in OSS JDBC");
   }
 
   @Override
   public String nativeSQL(String sql) throws SQLException {
-    LOGGER.debug(String.format("public String nativeSQL(String sql{%s})", sql));
+    LOGGER.debug("public String nativeSQL(String sql{})", sql);
     throw new DatabricksSQLFeatureNotSupportedException(
         "Databricks OSS JDBC does not support conversion to native query.");
   }
@@ -152,9 +217,18 @@ public class DatabricksConnection implements IDatabricksConnection, IDatabricksC
       statement.close(false);
       statementSet.remove(statement);
     }
+    synchronized (this) {
+      if (batchExecutor != null) {
+        batchExecutor.shutdownNow();
+        batchExecutor = null;
+      }
+    }
+    preparedStatementCache.clear();
+    describeQueryMetadataCache.invalidateAll();
     this.session.close();
     TelemetryClientFactory.getInstance().closeTelemetryClient(connectionContext);
     DatabricksHttpClientFactory.getInstance().removeClient(connectionContext);
+    ArrowMemoryBudgetFactory.getInstance().removeBudget(connectionContext);
     DatabricksClientConfiguratorManager.getInstance().removeInstance(connectionContext);
     DatabricksDriverFeatureFlagsContextFactory.removeInstance(connectionContext);
     DatabricksThreadContextHolder.clearAllContext();
@@ -194,6 +268,7 @@ public class DatabricksConnection implements IDatabricksConnection, IDatabricksC
     Statement statement = this.createStatement();
     statement.execute("SET CATALOG " + catalog);
     this.session.setCatalog(catalog);
+    describeQueryMetadataCache.invalidateAll();
   }
 
   @Override
@@ -530,6 +605,7 @@ public class DatabricksConnection implements IDatabricksConnection, IDatabricksC
     Statement statement = this.createStatement();
     statement.execute("USE SCHEMA " + schema);
     session.setSchema(schema);
+    describeQueryMetadataCache.invalidateAll();
   }
 
   @Override
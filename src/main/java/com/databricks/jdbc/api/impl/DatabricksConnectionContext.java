@@ -418,6 +418,40 @@ public class DatabricksConnectionContext implements IDatabricksConnectionContext
     return Integer.parseInt(getParameter(DatabricksJdbcUrlParams.CLOUD_FETCH_THREAD_POOL_SIZE));
   }
 
+  @Override
+  public long getCloudFetchMemoryLimit() {
+    return Long.parseLong(getParameter(DatabricksJdbcUrlParams.CLOUD_FETCH_MEMORY_LIMIT));
+  }
+
+  @Override
+  public int getCloudFetchMemoryWaitTimeout() {
+    return Integer.parseInt(getParameter(DatabricksJdbcUrlParams.CLOUD_FETCH_MEMORY_WAIT_TIMEOUT));
+  }
+
+  @Override
+  public boolean isCloudFetchAsyncDownloadEnabled() {
+    return Objects.equals(getParameter(DatabricksJdbcUrlParams.CLOUD_FETCH_ASYNC_DOWNLOAD), "1");
+  }
+
+  @Override
+  public boolean isCloudFetchLazyResultLinksEnabled() {
+    return Objects.equals(getParameter(DatabricksJdbcUrlParams.CLOUD_FETCH_LAZY_RESULT_LINKS), "1");
+  }
+
+  @Override
+  public long getCloudFetchRangeDownloadSize() {
+    return Math.max(
+        0, Long.parseLong(getParameter(DatabricksJdbcUrlParams.CLOUD_FETCH_RANGE_DOWNLOAD_SIZE)));
+  }
+
+  @Override
+  public int getCloudFetchRangeDownloadParallelism() {
+    return Math.max(
+        1,
+        Integer.parseInt(
+            getParameter(DatabricksJdbcUrlParams.CLOUD_FETCH_RANGE_DOWNLOAD_PARALLELISM)));
+  }
+
   @Override
   public String getCatalog() {
     return getParameter(DatabricksJdbcUrlParams.CONN_CATALOG);
@@ -757,6 +791,51 @@ public class DatabricksConnectionContext implements IDatabricksConnectionContext
     return Integer.parseInt(getParameter(DatabricksJdbcUrlParams.MAX_BATCH_SIZE));
   }
 
+  @Override
+  public boolean isBatchedInsertsEnabled() {
+    return Objects.equals(getParameter(DatabricksJdbcUrlParams.ENABLE_BATCHED_INSERTS), "1");
+  }
+
+  @Override
+  public int getPreparedStatementCacheSize() {
+    return Math.max(
+        0, Integer.parseInt(getParameter(DatabricksJdbcUrlParams.PREPARED_STATEMENT_CACHE_SIZE)));
+  }
+
+  @Override
+  public int getDescribeQueryCacheSize() {
+    return Math.max(
+        0, Integer.parseInt(getParameter(DatabricksJdbcUrlParams.DESCRIBE_QUERY_CACHE_SIZE)));
+  }
+
+  @Override
+  public boolean isAdaptivePollingEnabled() {
+    return Objects.equals(getParameter(DatabricksJdbcUrlParams.ADAPTIVE_POLLING), "1");
+  }
+
+  @Override
+  public int getAdaptivePollMinInterval() {
+    return Math.max(
+        1, Integer.parseInt(getParameter(DatabricksJdbcUrlParams.ADAPTIVE_POLL_MIN_INTERVAL)));
+  }
+
+  @Override
+  public int getAdaptivePollMaxInterval() {
+    return Math.max(
+        getAdaptivePollMinInterval(),
+        Integer.parseInt(getParameter(DatabricksJdbcUrlParams.ADAPTIVE_POLL_MAX_INTERVAL)));
+  }
+
+  @Override
+  public int getBatchParallelism() {
+    return Math.max(1, Integer.parseInt(getParameter(DatabricksJdbcUrlParams.BATCH_PARALLELISM)));
+  }
+
+  @Override
+  public boolean isBatchContinueOnErrorEnabled() {
+    return Objects.equals(getParameter(DatabricksJdbcUrlParams.BATCH_CONTINUE_ON_ERROR), "1");
+  }
+
   @Override
   public String getConnectionUuid() {
     return connectionUuid;
@@ -7,6 +7,7 @@ import com.databricks.jdbc.log.JdbcLoggerFactory;
 import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
 import java.math.BigDecimal;
 import java.sql.Date;
+import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.LinkedHashMap;
@@ -15,7 +16,8 @@ import java.util.Map;
 
 /** Class for representation of Map complex object. */
 public class DatabricksMap<K, V> implements Map<K, V> {
-  private final Map<K, V> map;
+  private Map<K, V> map;
+  private ComplexElementSource entrySource;
   private static final JdbcLogger LOGGER = JdbcLoggerFactory.getLogger(DatabricksMap.class);
 
   /**
@@ -29,6 +31,61 @@ public class DatabricksMap<K, V> implements Map<K, V> {
     this.map = convertMap(map, metadata);
   }
 
+  private DatabricksMap(Map<K, V> map) {
+    this.map = map;
+  }
+
+  /**
+   * Creates a DatabricksMap from entries whose keys and values already hold the Java values of the
+   * map type, so that neither the metadata nor the entries are parsed again.
+   *
+   * @param map the converted entries, kept in iteration order
+   * @param <K> the key type
+   * @param <V> the value type
+   * @return the map backed by the given entries
+   */
+  public static <K, V> DatabricksMap<K, V> fromConvertedEntries(LinkedHashMap<K, V> map) {
+    return new DatabricksMap<>(map);
+  }
+
+  /**
+   * Creates a DatabricksMap whose entries are decoded from the given source the first time the map
+   * is accessed.
+   *
+   * @param entrySource source of the converted entries, as {@link Map.Entry} instances
+   * @param <K> the key type
+   * @param <V> the value type
+   * @return the map reading from the given source
+   */
+  public static <K, V> DatabricksMap<K, V> fromEntrySource(ComplexElementSource entrySource) {
+    DatabricksMap<K, V> map = new DatabricksMap<>((Map<K, V>) null);
+    map.entrySource = entrySource;
+    return map;
+  }
+
+  /** Returns the entries, decoding them on the first access of a lazy map. */
+  @SuppressWarnings("unchecked")
+  private synchronized Map<K, V> delegate() {
+    if (map == null) {
+      try {
+        Map<K, V> entries = new LinkedHashMap<>();
+        for (Object element : entrySource.toArray()) {
+          Map.Entry<K, V> entry = (Map.Entry<K, V>) element;
+          entries.put(entry.getKey(), entry.getValue());
+        }
+        map = entries;
+        entrySource = null;
+      } catch (SQLException e) {
+        LOGGER.error(e, "Error during map conversion: {}", e.getMessage());
+        throw new DatabricksDriverException(
+            "Invalid metadata or map structure",
+            e,
+            DatabricksDriverErrorCode.COMPLEX_DATA_TYPE_MAP_CONVERSION_ERROR);
+      }
+    }
+    return map;
+  }
+
   /**
    * Converts the provided map according to specified metadata.
    *
@@ -169,69 +226,69 @@ public class DatabricksMap<K, V> implements Map<K, V> {
 
   @Override
   public int size() {
-    return map.size();
+    return delegate().size();
   }
 
   @Override
   public boolean isEmpty() {
-    return map.isEmpty();
+    return delegate().isEmpty();
   }
 
   @Override
   public boolean containsKey(Object key) {
-    return map.containsKey(key);
+    return delegate().containsKey(key);
   }
 
   @Override
   public boolean containsValue(Object value) {
-    return map.containsValue(value);
+    return delegate().containsValue(value);
   }
 
   @Override
   public V get(Object key) {
-    return map.get(key);
+    return delegate().get(key);
   }
 
   @Override
   public V put(K key, V value) {
-    return map.put(key, value);
+    return delegate().put(key, value);
   }
 
   @Override
   public V remove(Object key) {
-    return map.remove(key);
+    return delegate().remove(key);
   }
 
   @Override
   public void putAll(Map<? extends K, ? extends V> m) {
-    map.putAll(m);
+    delegate().putAll(m);
   }
 
   @Override
   public void clear() {
-    map.clear();
+    delegate().clear();
   }
 
   @Override
   public java.util.Set<K> keySet() {
-    return map.keySet();
+    return delegate().keySet();
   }
 
   @Override
   public java.util.Collection<V> values() {
-    return map.values();
+    return delegate().values();
   }
 
   @Override
   public java.util.Set<Entry<K, V>> entrySet() {
-    return map.entrySet();
+    return delegate().entrySet();
   }
 
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder("{");
     boolean first = true;
-    for (Map.Entry<K, V> entry : map.entrySet()) {
+    for (Map.Entry<K, V> entry : delegate().entrySet()) {
       if (!first) {
         sb.append(",");
       } else {
@@ -3,10 +3,11 @@ package com.databricks.jdbc.api.impl;
 import static com.databricks.jdbc.common.util.DatabricksTypeUtil.NULL;
 import static com.databricks.jdbc.common.util.DatabricksTypeUtil.getDatabricksTypeFromSQLType;
 import static com.databricks.jdbc.common.util.DatabricksTypeUtil.inferDatabricksType;
-import static com.databricks.jdbc.common.util.SQLInterpolator.interpolateSQL;
 import static com.databricks.jdbc.common.util.SQLInterpolator.surroundPlaceholdersWithQuotes;
 import static com.databricks.jdbc.common.util.ValidationUtil.throwErrorIfNull;
 
+import com.databricks.jdbc.api.impl.batch.MultiRowInsertStatement;
+import com.databricks.jdbc.api.internal.IDatabricksSession;
 import com.databricks.jdbc.common.StatementType;
 import com.databricks.jdbc.common.util.DatabricksTypeUtil;
 import com.databricks.jdbc.exception.*;
@@ -35,12 +36,27 @@ public class DatabricksPreparedStatement extends DatabricksStatement implements
   private DatabricksParameterMetaData databricksParameterMetaData;
   private List<DatabricksParameterMetaData> databricksBatchParameterMetaData;
   private final boolean interpolateParameters;
+  private final ParsedStatement parsedStatement;
+  // Whether the parsed statement is returned to the statement cache of the connection on close
+  private boolean releaseParsedStatement;
   private final int CHUNK_SIZE = 8192;
 
   public DatabricksPreparedStatement(DatabricksConnection connection, String sql) {
     super(connection);
     this.sql = sql;
     this.interpolateParameters = connection.getConnectionContext().supportManyParameters();
+    this.parsedStatement = ParsedStatement.parse(sql, interpolateParameters);
+    this.databricksParameterMetaData = new DatabricksParameterMetaData();
+    this.databricksBatchParameterMetaData = new ArrayList<>();
+  }
+
+  /** Creates a statement from a parsed statement borrowed from the cache of the connection. */
+  DatabricksPreparedStatement(DatabricksConnection connection, ParsedStatement parsedStatement) {
+    super(connection);
+    this.sql = parsedStatement.getSql();
+    this.interpolateParameters = connection.getConnectionContext().supportManyParameters();
+    this.parsedStatement = parsedStatement;
+    this.releaseParsedStatement = true;
     this.databricksParameterMetaData = new DatabricksParameterMetaData();
     this.databricksBatchParameterMetaData = new ArrayList<>();
   }
@@ -53,10 +69,20 @@ public class DatabricksPreparedStatement extends DatabricksStatement implements
     super(connection);
     this.sql = sql;
     this.interpolateParameters = interpolateParameters;
+    this.parsedStatement = ParsedStatement.parse(sql, interpolateParameters);
     this.databricksParameterMetaData = databricksParameterMetaData;
     this.databricksBatchParameterMetaData = new ArrayList<>();
   }
 
+  @Override
+  public void close(boolean removeFromSession) throws DatabricksSQLException {
+    super.close(removeFromSession);
+    if (releaseParsedStatement) {
+      releaseParsedStatement = false;
+      connection.releaseParsedStatement(parsedStatement);
+    }
+  }
+
   @Override
   public ResultSet executeQuery() throws SQLException {
     LOGGER.debug("public ResultSet executeQuery()");
@@ -89,6 +115,11 @@ public class DatabricksPreparedStatement extends DatabricksStatement implements
   public long[] executeLargeBatch() throws DatabricksBatchUpdateException {
     LOGGER.debug("public long executeLargeBatch()");
     long[] largeUpdateCount = new long[databricksBatchParameterMetaData.size()];
+    MultiRowInsertStatement multiRowInsert = getMultiRowInsertStatement();
+    if (multiRowInsert != null) {
+      executeMultiRowInsertBatch(multiRowInsert, largeUpdateCount);
+      return largeUpdateCount;
+    }
 
     for (int sqlQueryIndex = 0;
         sqlQueryIndex < databricksBatchParameterMetaData.size();
@@ -115,6 +146,71 @@ public class DatabricksPreparedStatement extends DatabricksStatement implements
     return largeUpdateCount;
   }
 
+  /**
+   * Returns the statement to coalesce the batch into, or null if the batch must be executed row by
+   * row because batched inserts are disabled, the SQL is not a plain single-row INSERT or a row
+   * does not bind every placeholder.
+   */
+  private MultiRowInsertStatement getMultiRowInsertStatement() {
+    if (databricksBatchParameterMetaData.size() < 2
+        || !connection.getConnectionContext().isBatchedInsertsEnabled()) {
+      return null;
+    }
+    MultiRowInsertStatement multiRowInsert = parsedStatement.getMultiRowInsertStatement();
+    if (multiRowInsert == null) {
+      return null;
+    }
+    for (DatabricksParameterMetaData row : databricksBatchParameterMetaData) {
+      if (row.getParameterBindings().size() != multiRowInsert.getParametersPerRow()) {
+        return null;
+      }
+    }
+    return multiRowInsert;
+  }
+
+  /**
+   * Executes the batch as multi-row INSERT statements. Each row reports an update count of 1 when
+   * the server reports one inserted row per row of its statement, and {@link
+   * Statement#SUCCESS_NO_INFO} otherwise.
+   */
+  private void executeMultiRowInsertBatch(
+      MultiRowInsertStatement multiRowInsert, long[] largeUpdateCount)
+      throws DatabricksBatchUpdateException {
+    List<Map<Integer, ImmutableSqlParameter>> rows = new ArrayList<>();
+    databricksBatchParameterMetaData.forEach(row -> rows.add(row.getParameterBindings()));
+    List<MultiRowInsertStatement.Group> groups;
+    try {
+      groups = multiRowInsert.group(rows, this.interpolateParameters);
+    } catch (DatabricksValidationException e) {
+      Arrays.fill(largeUpdateCount, Statement.EXECUTE_FAILED);
+      throw new DatabricksBatchUpdateException(
+          e.getMessage(), DatabricksDriverErrorCode.BATCH_EXECUTE_EXCEPTION, largeUpdateCount);
+    }
+    LOGGER.debug(
+        "Executing batch of {} rows as {} multi-row INSERT statements", rows.size(), groups.size());
+    for (MultiRowInsertStatement.Group group : groups) {
+      int firstRow = group.getFirstRowIndex();
+      int endRow = firstRow + group.getRowCount();
+      try {
+        executeInternal(group.getSql(), group.getParameters(), StatementType.UPDATE, false);
+        long rowUpdateCount =
+            resultSet.getUpdateCount() == group.getRowCount() ? 1 : Statement.SUCCESS_NO_INFO;
+        Arrays.fill(largeUpdateCount, firstRow, endRow, rowUpdateCount);
+      } catch (Exception e) {
+        LOGGER.error(
+            "Error executing batch update for rows {} to {}: {}",
+            firstRow,
+            endRow - 1,
+            e.getMessage(),
+            e);
+        // A multi-row statement fails as a whole, so its rows and all remaining rows are failed
+        Arrays.fill(largeUpdateCount, firstRow, largeUpdateCount.length, Statement.EXECUTE_FAILED);
+        throw new DatabricksBatchUpdateException(
+            e.getMessage(), DatabricksDriverErrorCode.BATCH_EXECUTE_EXCEPTION, largeUpdateCount);
+      }
+    }
+  }
+
   @Override
   public void setNull(int parameterIndex, int sqlType) throws SQLException {
     LOGGER.debug("public void setNull(int parameterIndex, int sqlType)");
@@ -338,7 +434,7 @@ public class DatabricksPreparedStatement extends DatabricksStatement implements
     checkIfClosed();
     checkIfBatchOperation();
     interpolateIfRequiredAndExecute(StatementType.SQL);
-    return shouldReturnResultSet(sql);
+    return parsedStatement.returnsResultSet();
   }
 
   @Override
@@ -409,10 +505,10 @@ public class DatabricksPreparedStatement extends DatabricksStatement implements
     checkIfClosed();
     if (resultSet == null) {
 
-      if (DatabricksStatement.isSelectQuery(sql)) {
+      if (parsedStatement.isSelectQuery()) {
         LOGGER.info(
             "Fetching metadata before executing the query, some values may not be available");
-        return getMetaDataFromDescribeQuery();
+        return getCachedMetaDataFromDescribeQuery();
       } else {
         return null;
       }
@@ -827,7 +923,9 @@ public class DatabricksPreparedStatement extends DatabricksStatement implements
       throws SQLException {
     String interpolatedSql =
         this.interpolateParameters
-            ? interpolateSQL(sql, this.databricksParameterMetaData.getParameterBindings())
+            ? parsedStatement
+                .getSqlTemplate()
+                .render(this.databricksParameterMetaData.getParameterBindings())
             : sql;
 
     Map<Integer, ImmutableSqlParameter> paramMap =
@@ -837,6 +935,26 @@ public class DatabricksPreparedStatement extends DatabricksStatement implements
     return executeInternal(interpolatedSql, paramMap, statementType);
   }
 
+  /**
+   * Returns the metadata of the query from the metadata cache of the connection, running a DESCRIBE
+   * QUERY command on a miss.
+   */
+  private ResultSetMetaData getCachedMetaDataFromDescribeQuery() throws DatabricksSQLException {
+    DescribeQueryMetadataCache cache = connection.getDescribeQueryMetadataCache();
+    if (cache == null || !cache.isEnabled()) {
+      return getMetaDataFromDescribeQuery();
+    }
+    IDatabricksSession session = connection.getSession();
+    String catalog = session.getCatalog();
+    String schema = session.getSchema();
+    ResultSetMetaData metaData = cache.get(sql, catalog, schema);
+    if (metaData == null) {
+      metaData = getMetaDataFromDescribeQuery();
+      cache.put(sql, catalog, schema, metaData);
+    }
+    return metaData;
+  }
+
   /**
    * Executes a DESCRIBE QUERY command to retrieve metadata about the SQL query.
    *
@@ -849,7 +967,11 @@ public class DatabricksPreparedStatement extends DatabricksStatement implements
     String describeQuerySQL = "DESCRIBE QUERY " + surroundPlaceholdersWithQuotes(sql);
     try (DatabricksPreparedStatement preparedStatement =
             new DatabricksPreparedStatement(
-                connection, describeQuerySQL, interpolateParameters, databricksParameterMetaData);
+                connection,
+                describeQuerySQL,
+                interpolateParameters,
+                // Placeholders are quoted in the described query, so no parameters are bound
+                new DatabricksParameterMetaData());
         ResultSet metadataResultSet = preparedStatement.executeQuery(); ) {
       ArrayList<String> columnNames = new ArrayList<>();
       ArrayList<String> columnDataTypes = new ArrayList<>();
@@ -67,6 +67,9 @@ public class DatabricksResultSet implements IDatabricksResultSet, IDatabricksRes
   private boolean isClosed;
   private SQLWarning warnings = null;
   private boolean wasNull;
+  // Whether next() has returned a row, and whether it has since moved past the last row
+  private boolean hasReadRow;
+  private boolean isCursorAfterLast;
 
   private ResultSetType resultSetType = ResultSetType.UNASSIGNED;
 
@@ -265,7 +268,13 @@ public class DatabricksResultSet implements IDatabricksResultSet, IDatabricksRes
   @Override
   public boolean next() throws SQLException {
     checkIfClosed();
-    return this.executionResult.next();
+    boolean hasRow = this.executionResult.next();
+    if (hasRow) {
+      hasReadRow = true;
+    } else {
+      isCursorAfterLast = hasReadRow;
+    }
+    return hasRow;
   }
 
   @Override
@@ -290,36 +299,59 @@ public class DatabricksResultSet implements IDatabricksResultSet, IDatabricksRes
 
   @Override
   public boolean getBoolean(int columnIndex) throws SQLException {
+    if (isPrimitiveReadSupported(columnIndex, Types.BOOLEAN)) {
+      return !isNullInternal(columnIndex) && executionResult.getBoolean(columnIndex - 1);
+    }
     return getConvertedObject(columnIndex, ObjectConverter::toBoolean, () -> false);
   }
 
   @Override
   public byte getByte(int columnIndex) throws SQLException {
+    if (isPrimitiveReadSupported(columnIndex, Types.TINYINT)) {
+      return isNullInternal(columnIndex) ? 0 : (byte) executionResult.getLong(columnIndex - 1);
+    }
     return getConvertedObject(columnIndex, ObjectConverter::toByte, () -> (byte) 0);
   }
 
   @Override
   public short getShort(int columnIndex) throws SQLException {
+    if (isPrimitiveReadSupported(columnIndex, Types.SMALLINT)) {
+      return isNullInternal(columnIndex) ? 0 : (short) executionResult.getLong(columnIndex - 1);
+    }
     return getConvertedObject(columnIndex, ObjectConverter::toShort, () -> (short) 0);
   }
 
   @Override
   public int getInt(int columnIndex) throws SQLException {
+    if (isPrimitiveReadSupported(columnIndex, Types.INTEGER)) {
+      return isNullInternal(columnIndex) ? 0 : (int) executionResult.getLong(columnIndex - 1);
+    }
     return getConvertedObject(columnIndex, ObjectConverter::toInt, () -> 0);
   }
 
   @Override
   public long getLong(int columnIndex) throws SQLException {
+    if (isPrimitiveReadSupported(columnIndex, Types.BIGINT)) {
+      return isNullInternal(columnIndex) ? 0L : executionResult.getLong(columnIndex - 1);
+    }
     return getConvertedObject(columnIndex, ObjectConverter::toLong, () -> 0L);
   }
 
   @Override
   public float getFloat(int columnIndex) throws SQLException {
+    if (isPrimitiveReadSupported(columnIndex, Types.REAL)) {
+      return isNullInternal(columnIndex)
+          ? 0.0f
+          : (float) executionResult.getDouble(columnIndex - 1);
+    }
     return getConvertedObject(columnIndex, ObjectConverter::toFloat, () -> 0.0f);
   }
 
   @Override
   public double getDouble(int columnIndex) throws SQLException {
+    if (isPrimitiveReadSupported(columnIndex, Types.DOUBLE)) {
+      return isNullInternal(columnIndex) ? 0.0 : executionResult.getDouble(columnIndex - 1);
+    }
     return getConvertedObject(columnIndex, ObjectConverter::toDouble, () -> 0.0);
   }
 
@@ -577,7 +609,7 @@ public class DatabricksResultSet implements IDatabricksResultSet, IDatabricksRes
   @Override
   public boolean isAfterLast() throws SQLException {
     checkIfClosed();
-    return executionResult.getCurrentRow() >= resultSetMetaData.getTotalRows();
+    return isCursorAfterLast;
   }
 
   @Override
@@ -589,7 +621,13 @@ public class DatabricksResultSet implements IDatabricksResultSet, IDatabricksRes
   @Override
   public boolean isLast() throws SQLException {
     checkIfClosed();
-    return executionResult.getCurrentRow() == resultSetMetaData.getTotalRows() - 1;
+    // The row count of results read page by page grows as pages are fetched, hence it is only
+    // compared to the cursor once no rows follow the counted ones
+    long currentRow = executionResult.getCurrentRow();
+    return !isCursorAfterLast
+        && currentRow >= 0
+        && executionResult.isRowCountFinal()
+        && currentRow == executionResult.getRowCount() - 1;
   }
 
   @Override
@@ -1851,7 +1889,8 @@ public class DatabricksResultSet implements IDatabricksResultSet, IDatabricksRes
       return true;
     }
     return this.resultSetMetaData.getColumnNameIndex(AFFECTED_ROWS_COUNT) > -1
-        && this.resultSetMetaData.getTotalRows() == 1;
+        && executionResult.getRowCount() == 1
+        && executionResult.isRowCountFinal();
   }
 
   @Override
@@ -1878,6 +1917,24 @@ public class DatabricksResultSet implements IDatabricksResultSet, IDatabricksRes
     return object;
   }
 
+  /**
+   * Checks whether the given column of the current row can be read as a primitive directly from the
+   * underlying result, skipping the boxed {@link #getObjectInternal} and converter path.
+   */
+  private boolean isPrimitiveReadSupported(int columnIndex, int targetSqlType) throws SQLException {
+    checkIfClosed();
+    if (columnIndex <= 0) {
+      throw new DatabricksSQLException(
+          "Invalid column index", DatabricksDriverErrorCode.INVALID_STATE);
+    }
+    return executionResult.supportsPrimitiveRead(columnIndex - 1, targetSqlType);
+  }
+
+  private boolean isNullInternal(int columnIndex) throws SQLException {
+    this.wasNull = executionResult.isNull(columnIndex - 1);
+    return this.wasNull;
+  }
+
   private int getColumnNameIndex(String columnName) {
     return this.resultSetMetaData.getColumnNameIndex(columnName);
   }
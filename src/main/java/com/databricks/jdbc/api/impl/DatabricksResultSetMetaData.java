@@ -154,9 +154,7 @@ public class DatabricksResultSetMetaData implements ResultSetMetaData {
     Map<String, Integer> columnNameToIndexMap = new HashMap<>();
     ImmutableList.Builder<ImmutableDatabricksColumn> columnsBuilder = ImmutableList.builder();
     LOGGER.debug(
-        String.format(
-            "Result manifest for statement {%s} has schema: {%s}",
-            statementId, resultManifest.getSchema()));
+        "Result manifest for statement {} has schema: {}", statementId, resultManifest.getSchema());
     int currIndex = 0;
     if (resultManifest.isSetIsStagingOperation() && resultManifest.isIsStagingOperation()) {
       ImmutableDatabricksColumn.Builder columnBuilder = getColumnBuilder();
@@ -19,7 +19,7 @@ import com.databricks.jdbc.exception.DatabricksSQLException;
 import com.databricks.jdbc.exception.DatabricksTemporaryRedirectException;
 import com.databricks.jdbc.log.JdbcLogger;
 import com.databricks.jdbc.log.JdbcLoggerFactory;
-import com.databricks.jdbc.telemetry.latency.DatabricksMetricsTimedProcessor;
+import com.databricks.jdbc.telemetry.latency.LatencyRecorder;
 import com.databricks.sdk.support.ToStringer;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.Map;
@@ -55,15 +55,10 @@ public class DatabricksSession implements IDatabricksSession {
   public DatabricksSession(IDatabricksConnectionContext connectionContext)
       throws DatabricksSQLException {
     if (connectionContext.getClientType() == DatabricksClientType.THRIFT) {
-      this.databricksClient =
-          DatabricksMetricsTimedProcessor.createProxy(
-              new DatabricksThriftServiceClient(connectionContext));
+      this.databricksClient = new DatabricksThriftServiceClient(connectionContext);
     } else {
-      this.databricksClient =
-          DatabricksMetricsTimedProcessor.createProxy(new DatabricksSdkClient(connectionContext));
-      this.databricksMetadataClient =
-          DatabricksMetricsTimedProcessor.createProxy(
-              new DatabricksMetadataSdkClient(databricksClient));
+      this.databricksClient = new DatabricksSdkClient(connectionContext);
+      this.databricksMetadataClient = new DatabricksMetadataSdkClient(databricksClient);
     }
     this.isSessionOpen = false;
     this.sessionInfo = null;
@@ -139,9 +134,7 @@ public class DatabricksSession implements IDatabricksSession {
                   this.computeResource, this.catalog, this.schema, this.sessionConfigs);
         } catch (DatabricksTemporaryRedirectException e) {
           this.connectionContext.setClientType(DatabricksClientType.THRIFT);
-          this.databricksClient =
-              DatabricksMetricsTimedProcessor.createProxy(
-                  new DatabricksThriftServiceClient(connectionContext));
+          this.databricksClient = new DatabricksThriftServiceClient(connectionContext);
           this.sessionInfo =
               this.databricksClient.createSession(
                   this.computeResource, this.catalog, this.schema, this.sessionConfigs);
@@ -178,6 +171,11 @@ public class DatabricksSession implements IDatabricksSession {
     return databricksMetadataClient;
   }
 
+  @Override
+  public LatencyRecorder getLatencyRecorder() {
+    return databricksClient.getLatencyRecorder();
+  }
+
   @Override
   public String getCatalog() {
     LOGGER.debug("public String getCatalog()");
@@ -240,9 +238,7 @@ public class DatabricksSession implements IDatabricksSession {
   @Override
   public void setClientInfoProperty(String name, String value) {
     LOGGER.debug(
-        String.format(
-            "public void setClientInfoProperty(String name = {%s}, String value = {%s})",
-            name, value));
+        "public void setClientInfoProperty(String name = {}, String value = {})", name, value);
     if (name.equalsIgnoreCase(DatabricksJdbcUrlParams.AUTH_ACCESS_TOKEN.getParamName())) {
       // refresh the access token if provided a new value in client info
       this.databricksClient.resetAccessToken(value);
@@ -7,6 +7,7 @@ import static java.lang.String.format;
 import com.databricks.jdbc.api.IDatabricksResultSet;
 import com.databricks.jdbc.api.IDatabricksStatement;
 import com.databricks.jdbc.api.impl.batch.DatabricksBatchExecutor;
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
 import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
 import com.databricks.jdbc.common.StatementType;
 import com.databricks.jdbc.common.util.*;
@@ -53,8 +54,7 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
     this.statementId = null;
     this.isClosed = false;
     this.timeoutInSeconds = DEFAULT_STATEMENT_TIMEOUT_SECONDS;
-    this.databricksBatchExecutor =
-        new DatabricksBatchExecutor(this, connection.getConnectionContext().getMaxBatchSize());
+    this.databricksBatchExecutor = createBatchExecutor(connection.getConnectionContext());
   }
 
   public DatabricksStatement(DatabricksConnection connection, StatementId statementId) {
@@ -63,8 +63,7 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
     this.resultSet = null;
     this.isClosed = false;
     this.timeoutInSeconds = DEFAULT_STATEMENT_TIMEOUT_SECONDS;
-    this.databricksBatchExecutor =
-        new DatabricksBatchExecutor(this, connection.getConnectionContext().getMaxBatchSize());
+    this.databricksBatchExecutor = createBatchExecutor(connection.getConnectionContext());
   }
 
   @Override
@@ -134,7 +133,7 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
 
   @Override
   public void setMaxFieldSize(int max) throws SQLException {
-    LOGGER.debug(String.format("public void setMaxFieldSize(int max = {%s})", max));
+    LOGGER.debug("public void setMaxFieldSize(int max = {})", max);
     maxFieldSize = max;
   }
 
@@ -154,7 +153,7 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
 
   @Override
   public void setMaxRows(int max) throws SQLException {
-    LOGGER.debug(String.format("public void setMaxRows(int max = {%s})", max));
+    LOGGER.debug("public void setMaxRows(int max = {})", max);
     checkIfClosed();
     ValidationUtil.checkIfNonNegative(max, "maxRows");
     this.maxRows = max;
@@ -170,7 +169,7 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
 
   @Override
   public void setEscapeProcessing(boolean enable) throws SQLException {
-    LOGGER.debug(String.format("public void setEscapeProcessing(boolean enable = {%s})", enable));
+    LOGGER.debug("public void setEscapeProcessing(boolean enable = {})", enable);
     this.escapeProcessing = enable;
   }
 
@@ -183,7 +182,7 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
 
   @Override
   public void setQueryTimeout(int seconds) throws SQLException {
-    LOGGER.debug(String.format("public void setQueryTimeout(int seconds = {%s})", seconds));
+    LOGGER.debug("public void setQueryTimeout(int seconds = {})", seconds);
     checkIfClosed();
     ValidationUtil.checkIfNonNegative(seconds, "queryTimeout");
     this.timeoutInSeconds = seconds;
@@ -217,7 +216,7 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
 
   @Override
   public void setCursorName(String name) throws SQLException {
-    LOGGER.debug(String.format("public void setCursorName(String name = {%s})", name));
+    LOGGER.debug("public void setCursorName(String name = {})", name);
     throw new DatabricksSQLFeatureNotSupportedException(
         "Not implemented in DatabricksStatement - setCursorName(String name)");
   }
@@ -258,7 +257,7 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
 
   @Override
   public void setFetchDirection(int direction) throws SQLException {
-    LOGGER.debug(String.format("public void setFetchDirection(int direction = {%s})", direction));
+    LOGGER.debug("public void setFetchDirection(int direction = {})", direction);
     checkIfClosed();
     if (direction != ResultSet.FETCH_FORWARD) {
       throw new DatabricksSQLFeatureNotSupportedException("Not supported: ResultSet.FetchForward");
@@ -277,7 +276,7 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
     /* As we fetch chunks of data together,
     setting fetchSize is an overkill.
     Hence, we don't support it.*/
-    LOGGER.debug(String.format("public void setFetchSize(int rows = {%s})", rows));
+    LOGGER.debug("public void setFetchSize(int rows = {})", rows);
     String warningString = "As FetchSize is not supported in the Databricks JDBC, ignoring it";
 
     LOGGER.warn(warningString);
@@ -312,7 +311,7 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
   /** {@inheritDoc} */
   @Override
   public void addBatch(String sql) throws SQLException {
-    LOGGER.debug(String.format("public void addBatch(String sql = {%s})", sql));
+    LOGGER.debug("public void addBatch(String sql = {})", sql);
     checkIfClosed();
     databricksBatchExecutor.addCommand(sql);
   }
@@ -356,7 +355,7 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
 
   @Override
   public boolean getMoreResults(int current) throws SQLException {
-    LOGGER.debug(String.format("public boolean getMoreResults(int current = {%s})", current));
+    LOGGER.debug("public boolean getMoreResults(int current = {})", current);
     throw new DatabricksSQLFeatureNotSupportedException(
         "Not implemented in DatabricksStatement - getMoreResults(int current)");
   }
@@ -470,7 +469,7 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
 
   @Override
   public void setPoolable(boolean poolable) throws SQLException {
-    LOGGER.debug(String.format("public void setPoolable(boolean poolable = {%s})", poolable));
+    LOGGER.debug("public void setPoolable(boolean poolable = {})", poolable);
     checkIfClosed();
     if (poolable) {
       throw new DatabricksSQLFeatureNotSupportedException(
@@ -733,9 +732,20 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
           errMsg, e, DatabricksDriverErrorCode.EXECUTE_STATEMENT_FAILED);
     }
     LOGGER.debug("Result retrieved successfully {}", resultSet.toString());
+    invalidateMetadataCacheIfRequired(sql);
     return resultSet;
   }
 
+  /** Clears the cached query metadata of the connection after a statement that may change it. */
+  private void invalidateMetadataCacheIfRequired(String sql) {
+    DescribeQueryMetadataCache cache = connection.getDescribeQueryMetadataCache();
+    if (cache != null
+        && !cache.isEmpty()
+        && METADATA_CHANGING_PATTERN.matcher(trimCommentsAndWhitespaces(sql)).find()) {
+      cache.invalidateAll();
+    }
+  }
+
   DatabricksResultSet executeInternal(
       String sql, Map<Integer, ImmutableSqlParameter> params, StatementType statementType)
       throws SQLException {
@@ -770,6 +780,16 @@ public class DatabricksStatement implements IDatabricksStatement, IDatabricksSta
         this);
   }
 
+  private DatabricksBatchExecutor createBatchExecutor(
+      IDatabricksConnectionContext connectionContext) {
+    return new DatabricksBatchExecutor(
+        this,
+        connectionContext.getMaxBatchSize(),
+        connectionContext.getBatchParallelism(),
+        connectionContext.isBatchContinueOnErrorEnabled(),
+        connection::getBatchExecutor);
+  }
+
   void checkIfClosed() throws DatabricksSQLException {
     if (isClosed) {
       throw new DatabricksSQLException(
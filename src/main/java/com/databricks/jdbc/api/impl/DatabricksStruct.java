@@ -15,7 +15,8 @@ import java.util.Map;
 public class DatabricksStruct implements Struct {
 
   private static final JdbcLogger LOGGER = JdbcLoggerFactory.getLogger(DatabricksStruct.class);
-  private final Object[] attributes;
+  private Object[] attributes;
+  private ComplexElementSource attributeSource;
   private final String typeName;
 
   // Field names to preserve ordering and allow mapping back in toString().
@@ -41,6 +42,51 @@ public class DatabricksStruct implements Struct {
     this.typeName = metadata;
   }
 
+  private DatabricksStruct(List<String> fieldNames, Object[] attributes, String metadata) {
+    this.fieldNames = fieldNames;
+    this.attributes = attributes;
+    this.typeName = metadata;
+  }
+
+  /**
+   * Creates a DatabricksStruct from attributes that already hold the Java values of the field
+   * types, so that neither the metadata nor the attributes are parsed again.
+   *
+   * @param fieldNames the field names in declaration order
+   * @param attributes the converted attributes, in the order of the field names
+   * @param metadata the metadata describing types of struct fields
+   * @return the struct backed by the given attributes
+   */
+  public static DatabricksStruct fromConvertedAttributes(
+      List<String> fieldNames, Object[] attributes, String metadata) {
+    return new DatabricksStruct(fieldNames, attributes, metadata);
+  }
+
+  /**
+   * Creates a DatabricksStruct whose attributes are decoded from the given source when they are
+   * accessed. Reading a single attribute only decodes that attribute.
+   *
+   * @param fieldNames the field names in declaration order
+   * @param attributeSource source of the converted attributes, in the order of the field names
+   * @param metadata the metadata describing types of struct fields
+   * @return the struct reading from the given source
+   */
+  public static DatabricksStruct fromAttributeSource(
+      List<String> fieldNames, ComplexElementSource attributeSource, String metadata) {
+    DatabricksStruct struct = new DatabricksStruct(fieldNames, null, metadata);
+    struct.attributeSource = attributeSource;
+    return struct;
+  }
+
+  /** Returns all attributes, decoding the ones of a lazy struct that were not accessed yet. */
+  private synchronized Object[] getAttributeValues() throws SQLException {
+    if (attributes == null) {
+      attributes = attributeSource.toArray();
+      attributeSource = null;
+    }
+    return attributes;
+  }
+
   /**
    * Converts the provided attributes based on specified type metadata.
    *
@@ -156,7 +202,26 @@ public class DatabricksStruct implements Struct {
    */
   @Override
   public Object[] getAttributes() throws SQLException {
-    return this.attributes;
+    return getAttributeValues();
+  }
+
+  /**
+   * Retrieves a single attribute of this Struct by field name.
+   *
+   * @param fieldName the name of the field
+   * @return the value of the field, or null if the struct has no such field
+   * @throws SQLException if the attribute cannot be converted
+   */
+  public Object getAttribute(String fieldName) throws SQLException {
+    int index = fieldNames.indexOf(fieldName);
+    if (index < 0) {
+      return null;
+    }
+    ComplexElementSource source;
+    synchronized (this) {
+      source = this.attributeSource;
+    }
+    return source != null ? source.get(index) : getAttributeValues()[index];
   }
 
   /**
@@ -174,6 +239,15 @@ public class DatabricksStruct implements Struct {
   /** Returns a JSON-like string with field names. */
   @Override
   public String toString() {
+    Object[] attributes;
+    try {
+      attributes = getAttributeValues();
+    } catch (SQLException e) {
+      throw new DatabricksDriverException(
+          "Error converting attributes",
+          e,
+          DatabricksDriverErrorCode.COMPLEX_DATA_TYPE_STRUCT_CONVERSION_ERROR);
+    }
     StringBuilder sb = new StringBuilder("{");
     for (int i = 0; i < fieldNames.size(); i++) {
       if (i > 0) {
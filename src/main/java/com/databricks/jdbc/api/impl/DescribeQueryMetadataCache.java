@@ -0,0 +1,86 @@
+package com.databricks.jdbc.api.impl;
+
+import com.databricks.jdbc.api.MetadataCacheStats;
+import com.databricks.jdbc.log.JdbcLogger;
+import com.databricks.jdbc.log.JdbcLoggerFactory;
+import java.sql.ResultSetMetaData;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Size-bounded LRU cache of the result set metadata that {@code DESCRIBE QUERY} returns for
+ * prepared statements of a connection, so that {@code PreparedStatement.getMetaData()} does not run
+ * a query on every prepare.
+ *
+ * <p>Entries are keyed by the SQL text together with the current catalog and schema of the session,
+ * and the whole cache is cleared when the connection changes its catalog or schema or runs a
+ * statement that may change table definitions. Changes made by other connections are not seen until
+ * the entry is evicted.
+ */
+class DescribeQueryMetadataCache {
+
+  private static final JdbcLogger LOGGER =
+      JdbcLoggerFactory.getLogger(DescribeQueryMetadataCache.class);
+  private final int maxSize;
+  private final Map<List<String>, ResultSetMetaData> entries;
+  private long hitCount;
+  private long missCount;
+
+  DescribeQueryMetadataCache(int maxSize) {
+    this.maxSize = Math.max(0, maxSize);
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<List<String>, ResultSetMetaData> eldest) {
+            return size() > DescribeQueryMetadataCache.this.maxSize;
+          }
+        };
+  }
+
+  boolean isEnabled() {
+    return maxSize > 0;
+  }
+
+  /** Returns the cached metadata of the query, or null, and counts the hit or miss. */
+  synchronized ResultSetMetaData get(String sql, String catalog, String schema) {
+    ResultSetMetaData metaData = entries.get(key(sql, catalog, schema));
+    if (metaData != null) {
+      hitCount++;
+    } else {
+      missCount++;
+    }
+    return metaData;
+  }
+
+  synchronized void put(String sql, String catalog, String schema, ResultSetMetaData metaData) {
+    if (isEnabled()) {
+      entries.put(key(sql, catalog, schema), metaData);
+    }
+  }
+
+  synchronized boolean isEmpty() {
+    return entries.isEmpty();
+  }
+
+  synchronized void invalidateAll() {
+    if (!entries.isEmpty()) {
+      LOGGER.debug("Invalidating {} cached query metadata entries", entries.size());
+      entries.clear();
+    }
+  }
+
+  synchronized MetadataCacheStats getStats() {
+    return new MetadataCacheStats(hitCount, missCount, entries.size(), maxSize);
+  }
+
+  /** Statements differing only in surrounding whitespace or a trailing semicolon share an entry. */
+  private static List<String> key(String sql, String catalog, String schema) {
+    String normalizedSql = sql.trim();
+    while (normalizedSql.endsWith(";")) {
+      normalizedSql = normalizedSql.substring(0, normalizedSql.length() - 1).trim();
+    }
+    return Arrays.asList(normalizedSql, catalog, schema);
+  }
+}
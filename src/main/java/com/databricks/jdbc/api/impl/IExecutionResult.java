@@ -1,6 +1,7 @@
 package com.databricks.jdbc.api.impl;
 
 import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
 
 /** Interface to provide methods over an underlying statement result */
 public interface IExecutionResult {
@@ -14,6 +15,70 @@ public interface IExecutionResult {
    */
   Object getObject(int columnIndex) throws DatabricksSQLException;
 
+  /**
+   * Returns true if the value of the given column in the current row can be read losslessly through
+   * the typed accessors ({@link #getLong}, {@link #getDouble}, {@link #getBoolean}) as the given
+   * {@link java.sql.Types} type, without boxing. Here index starts with 0.
+   *
+   * @param columnIndex index of column starting with 0
+   * @param targetSqlType {@link java.sql.Types} constant of the requested primitive
+   * @return true if the typed accessors can serve the read
+   */
+  default boolean supportsPrimitiveRead(int columnIndex, int targetSqlType) {
+    return false;
+  }
+
+  /**
+   * Checks whether the value of the given column in the current row is null. Here index starts with
+   * 0.
+   *
+   * @param columnIndex index of column starting with 0
+   * @return true if value at given index is null
+   * @throws DatabricksSQLException if there is any error in reading the value
+   */
+  default boolean isNull(int columnIndex) throws DatabricksSQLException {
+    return getObject(columnIndex) == null;
+  }
+
+  /**
+   * Reads the given column of the current row as a long. Only valid when {@link
+   * #supportsPrimitiveRead} returns true and the value is not null.
+   *
+   * @param columnIndex index of column starting with 0
+   * @return long value at given index
+   * @throws DatabricksSQLException if the column cannot be read as a long
+   */
+  default long getLong(int columnIndex) throws DatabricksSQLException {
+    throw new DatabricksSQLException(
+        "Primitive long read is not supported", DatabricksDriverErrorCode.UNSUPPORTED_OPERATION);
+  }
+
+  /**
+   * Reads the given column of the current row as a double. Only valid when {@link
+   * #supportsPrimitiveRead} returns true and the value is not null.
+   *
+   * @param columnIndex index of column starting with 0
+   * @return double value at given index
+   * @throws DatabricksSQLException if the column cannot be read as a double
+   */
+  default double getDouble(int columnIndex) throws DatabricksSQLException {
+    throw new DatabricksSQLException(
+        "Primitive double read is not supported", DatabricksDriverErrorCode.UNSUPPORTED_OPERATION);
+  }
+
+  /**
+   * Reads the given column of the current row as a boolean. Only valid when {@link
+   * #supportsPrimitiveRead} returns true and the value is not null.
+   *
+   * @param columnIndex index of column starting with 0
+   * @return boolean value at given index
+   * @throws DatabricksSQLException if the column cannot be read as a boolean
+   */
+  default boolean getBoolean(int columnIndex) throws DatabricksSQLException {
+    throw new DatabricksSQLException(
+        "Primitive boolean read is not supported", DatabricksDriverErrorCode.UNSUPPORTED_OPERATION);
+  }
+
   /**
    * Gets the current row position, starting with 0.
    *
@@ -36,5 +101,17 @@ public interface IExecutionResult {
 
   long getRowCount();
 
+  /**
+   * Returns true if {@link #getRowCount()} is the number of rows of the whole result. Results that
+   * are read page by page only count the rows of the pages fetched so far; they may fetch the next
+   * page with rows ahead of the cursor to answer, without moving the cursor.
+   *
+   * @return true if no rows follow the ones counted by {@link #getRowCount()}
+   * @throws DatabricksSQLException if fetching ahead fails
+   */
+  default boolean isRowCountFinal() throws DatabricksSQLException {
+    return true;
+  }
+
   long getChunkCount();
 }
@@ -0,0 +1,64 @@
+package com.databricks.jdbc.api.impl;
+
+import com.databricks.jdbc.api.impl.batch.MultiRowInsertStatement;
+import com.databricks.jdbc.common.util.SQLTemplate;
+
+/**
+ * The client-side parsed form of a prepared statement's SQL: its interpolation template and the
+ * classification of the statement. Instances are immutable once parsed, so they can be kept in the
+ * {@link PreparedStatementCache} of a connection and reused by later statements of the same SQL.
+ *
+ * <p>The classification is parsed on first use, so that statements which never need it do not pay
+ * for it and invalid SQL fails on execution as before.
+ */
+class ParsedStatement {
+  private final String sql;
+  // Parsed once when parameters are interpolated, null otherwise
+  private final SQLTemplate sqlTemplate;
+  private volatile Boolean returnsResultSet;
+  private volatile Boolean selectQuery;
+  private volatile MultiRowInsertStatement multiRowInsertStatement;
+  private volatile boolean multiRowInsertParsed;
+
+  private ParsedStatement(String sql, SQLTemplate sqlTemplate) {
+    this.sql = sql;
+    this.sqlTemplate = sqlTemplate;
+  }
+
+  static ParsedStatement parse(String sql, boolean interpolateParameters) {
+    SQLTemplate sqlTemplate =
+        interpolateParameters && sql != null ? SQLTemplate.compile(sql) : null;
+    return new ParsedStatement(sql, sqlTemplate);
+  }
+
+  String getSql() {
+    return sql;
+  }
+
+  SQLTemplate getSqlTemplate() {
+    return sqlTemplate;
+  }
+
+  boolean returnsResultSet() {
+    if (returnsResultSet == null) {
+      returnsResultSet = DatabricksStatement.shouldReturnResultSet(sql);
+    }
+    return returnsResultSet;
+  }
+
+  boolean isSelectQuery() {
+    if (selectQuery == null) {
+      selectQuery = DatabricksStatement.isSelectQuery(sql);
+    }
+    return selectQuery;
+  }
+
+  /** Returns the statement to coalesce batches into, or null if the SQL cannot be coalesced. */
+  MultiRowInsertStatement getMultiRowInsertStatement() {
+    if (!multiRowInsertParsed) {
+      multiRowInsertStatement = MultiRowInsertStatement.parse(sql);
+      multiRowInsertParsed = true;
+    }
+    return multiRowInsertStatement;
+  }
+}
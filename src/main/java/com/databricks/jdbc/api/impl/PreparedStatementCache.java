@@ -0,0 +1,62 @@
+package com.databricks.jdbc.api.impl;
+
+import com.databricks.jdbc.api.PreparedStatementCacheStats;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size-bounded LRU cache of the parsed form of the prepared statements of a connection, keyed by
+ * SQL text. Prepared statements only support forward-only, read-only result sets, so the SQL text
+ * alone identifies the parsed form.
+ *
+ * <p>A statement borrows the parsed form of its SQL when it is prepared and returns it to the cache
+ * when it is closed, so the cache holds the statements that are not currently open and the least
+ * recently closed one is evicted first.
+ */
+class PreparedStatementCache {
+  private final int maxSize;
+  private final Map<String, ParsedStatement> entries;
+  private long hitCount;
+  private long missCount;
+
+  PreparedStatementCache(int maxSize) {
+    this.maxSize = Math.max(0, maxSize);
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, ParsedStatement> eldest) {
+            return size() > PreparedStatementCache.this.maxSize;
+          }
+        };
+  }
+
+  boolean isEnabled() {
+    return maxSize > 0;
+  }
+
+  /** Removes and returns the cached parsed form of the SQL, or null, and counts the hit or miss. */
+  synchronized ParsedStatement borrow(String sql) {
+    ParsedStatement parsedStatement = entries.remove(sql);
+    if (parsedStatement != null) {
+      hitCount++;
+    } else {
+      missCount++;
+    }
+    return parsedStatement;
+  }
+
+  /** Puts the parsed form of a closed statement back into the cache. */
+  synchronized void release(ParsedStatement parsedStatement) {
+    if (isEnabled() && parsedStatement.getSql() != null) {
+      entries.put(parsedStatement.getSql(), parsedStatement);
+    }
+  }
+
+  synchronized void clear() {
+    entries.clear();
+  }
+
+  synchronized PreparedStatementCacheStats getStats() {
+    return new PreparedStatementCacheStats(hitCount, missCount, entries.size(), maxSize);
+  }
+}
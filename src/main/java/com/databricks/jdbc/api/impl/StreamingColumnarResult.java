@@ -0,0 +1,243 @@
+package com.databricks.jdbc.api.impl;
+
+import com.databricks.jdbc.api.internal.IDatabricksSession;
+import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
+import com.databricks.jdbc.common.util.DatabricksThriftUtil;
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.log.JdbcLogger;
+import com.databricks.jdbc.log.JdbcLoggerFactory;
+import com.databricks.jdbc.model.client.thrift.generated.TColumn;
+import com.databricks.jdbc.model.client.thrift.generated.TFetchResultsResp;
+import com.databricks.jdbc.model.client.thrift.generated.TRowSet;
+import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a Thrift {@code COLUMN_BASED_SET} response that is read one page at a time.
+ *
+ * <p>Each page is kept in the columnar form it arrives in and cells are read by row index from the
+ * columns of the current page, without transposing them into rows. The next page is only fetched
+ * once the cursor moves past the last row of the current one, and the previous page is dropped.
+ * Whether the row count is final may need the next page to be fetched ahead; it is then kept in its
+ * wire form until the cursor reaches it.
+ */
+public class StreamingColumnarResult implements IExecutionResult {
+
+  private static final JdbcLogger LOGGER =
+      JdbcLoggerFactory.getLogger(StreamingColumnarResult.class);
+  private final IDatabricksStatementInternal parentStatement;
+  private final IDatabricksSession session;
+  // Maximum number of rows returned by next(), 0 if the result is not limited
+  private final long maxRows;
+  private List<ColumnValues> columns;
+  private int pageRowCount;
+  private int rowIndexInPage;
+  private long currentRow;
+  private long rowsFetched;
+  private boolean hasMorePages;
+  // Page fetched ahead of the cursor by isRowCountFinal(), not yet counted in rowsFetched
+  private TFetchResultsResp readAheadPage;
+  private int readAheadRowCount;
+  private boolean isClosed;
+
+  public StreamingColumnarResult(
+      TFetchResultsResp resultsResp,
+      IDatabricksStatementInternal parentStatement,
+      IDatabricksSession session)
+      throws DatabricksSQLException {
+    this.parentStatement = parentStatement;
+    this.session = session;
+    this.maxRows = DatabricksThriftUtil.getRowLimit(parentStatement);
+    this.currentRow = -1;
+    this.isClosed = false;
+    setPage(resultsResp);
+  }
+
+  @Override
+  public Object getObject(int columnIndex) throws DatabricksSQLException {
+    if (isClosed) {
+      throw new DatabricksSQLException(
+          "Result is already closed", DatabricksDriverErrorCode.STATEMENT_CLOSED);
+    }
+    if (currentRow == -1) {
+      throw new DatabricksSQLException(
+          "Cursor is before first row", DatabricksDriverErrorCode.INVALID_STATE);
+    }
+    if (columnIndex < columns.size()) {
+      return columns.get(columnIndex).get(rowIndexInPage);
+    }
+    throw new DatabricksSQLException(
+        "Column index out of bounds " + columnIndex, DatabricksDriverErrorCode.INVALID_STATE);
+  }
+
+  @Override
+  public long getCurrentRow() {
+    return currentRow;
+  }
+
+  @Override
+  public boolean next() throws DatabricksSQLException {
+    if (isClosed || isRowLimitReached()) {
+      return false;
+    }
+    while (rowIndexInPage >= pageRowCount - 1) {
+      if (readAheadPage == null && !hasMorePages) {
+        return false;
+      }
+      fetchNextPage();
+    }
+    rowIndexInPage++;
+    currentRow++;
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Does not fetch the next page, hence it may return true for a last page that turns out empty.
+   */
+  @Override
+  public boolean hasNext() {
+    if (isClosed || isRowLimitReached()) {
+      return false;
+    }
+    if (rowIndexInPage < pageRowCount - 1) {
+      return true;
+    }
+    return readAheadPage != null ? readAheadRowCount > 0 : hasMorePages;
+  }
+
+  @Override
+  public void close() {
+    this.isClosed = true;
+    this.columns = null;
+    this.readAheadPage = null;
+  }
+
+  /** Returns the number of rows fetched so far, as later pages are only fetched on demand. */
+  @Override
+  public long getRowCount() {
+    return maxRows > 0 ? Math.min(rowsFetched, maxRows) : rowsFetched;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Once the cursor is on the last row of the fetched pages, fetches the next page with rows, or
+   * the last page, ahead of the cursor to tell whether more rows follow.
+   */
+  @Override
+  public boolean isRowCountFinal() throws DatabricksSQLException {
+    if (isClosed || (maxRows > 0 && rowsFetched >= maxRows)) {
+      return true;
+    }
+    while (readAheadPage == null && hasMorePages) {
+      TFetchResultsResp page = session.getDatabricksClient().getMoreResults(parentStatement);
+      int rowCount = getPageRowCount(page);
+      this.hasMorePages = page.hasMoreRows;
+      if (rowCount > 0 || !hasMorePages) {
+        this.readAheadPage = page;
+        this.readAheadRowCount = rowCount;
+      }
+    }
+    return readAheadPage == null || readAheadRowCount == 0;
+  }
+
+  @Override
+  public long getChunkCount() {
+    return 0;
+  }
+
+  private boolean isRowLimitReached() {
+    return maxRows > 0 && currentRow + 1 >= maxRows;
+  }
+
+  private void fetchNextPage() throws DatabricksSQLException {
+    LOGGER.debug(
+        "Fetching next columnar page after {} rows for statement {}",
+        rowsFetched,
+        parentStatement.getStatementId());
+    if (readAheadPage != null) {
+      TFetchResultsResp page = readAheadPage;
+      this.readAheadPage = null;
+      setPage(page);
+    } else {
+      setPage(session.getDatabricksClient().getMoreResults(parentStatement));
+    }
+  }
+
+  private static int getPageRowCount(TFetchResultsResp resultsResp) throws DatabricksSQLException {
+    TRowSet rowSet = resultsResp.getResults();
+    if (rowSet == null || rowSet.getColumns() == null || rowSet.getColumns().isEmpty()) {
+      return 0;
+    }
+    return ColumnValues.of(rowSet.getColumns().get(0)).size();
+  }
+
+  private void setPage(TFetchResultsResp resultsResp) throws DatabricksSQLException {
+    TRowSet rowSet = resultsResp.getResults();
+    List<ColumnValues> pageColumns = new ArrayList<>();
+    if (rowSet != null && rowSet.getColumns() != null) {
+      for (TColumn column : rowSet.getColumns()) {
+        pageColumns.add(ColumnValues.of(column));
+      }
+    }
+    this.columns = pageColumns;
+    this.pageRowCount = pageColumns.isEmpty() ? 0 : pageColumns.get(0).size();
+    this.rowIndexInPage = -1;
+    this.rowsFetched += pageRowCount;
+    this.hasMorePages = resultsResp.hasMoreRows;
+  }
+
+  /** Values of one column of a page, read through the null bitmap sent by the server. */
+  private static class ColumnValues {
+    private final List<?> values;
+    private final BitSet nulls;
+
+    private ColumnValues(List<?> values, byte[] nulls) {
+      this.values = values != null ? values : Collections.emptyList();
+      this.nulls = nulls != null && nulls.length > 0 ? BitSet.valueOf(nulls) : null;
+    }
+
+    static ColumnValues of(TColumn column) throws DatabricksSQLException {
+      if (column.getSetField() != null) {
+        switch (column.getSetField()) {
+          case BOOL_VAL:
+            return new ColumnValues(
+                column.getBoolVal().getValues(), column.getBoolVal().getNulls());
+          case BYTE_VAL:
+            return new ColumnValues(
+                column.getByteVal().getValues(), column.getByteVal().getNulls());
+          case I16_VAL:
+            return new ColumnValues(column.getI16Val().getValues(), column.getI16Val().getNulls());
+          case I32_VAL:
+            return new ColumnValues(column.getI32Val().getValues(), column.getI32Val().getNulls());
+          case I64_VAL:
+            return new ColumnValues(column.getI64Val().getValues(), column.getI64Val().getNulls());
+          case DOUBLE_VAL:
+            return new ColumnValues(
+                column.getDoubleVal().getValues(), column.getDoubleVal().getNulls());
+          case STRING_VAL:
+            return new ColumnValues(
+                column.getStringVal().getValues(), column.getStringVal().getNulls());
+          case BINARY_VAL:
+            return new ColumnValues(
+                column.getBinaryVal().getValues(), column.getBinaryVal().getNulls());
+        }
+      }
+      throw new DatabricksSQLException(
+          "Unsupported column type: " + column, DatabricksDriverErrorCode.UNSUPPORTED_OPERATION);
+    }
+
+    int size() {
+      return values.size();
+    }
+
+    Object get(int rowIndex) {
+      return nulls != null && nulls.get(rowIndex) ? null : values.get(rowIndex);
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import com.databricks.jdbc.api.ArrowMemoryUsage;
+import com.databricks.jdbc.log.JdbcLogger;
+import com.databricks.jdbc.log.JdbcLoggerFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.arrow.memory.BufferAllocator;
+
+/**
+ * Off-heap memory budget shared by all cloud fetch chunks of a connection.
+ *
+ * <p>Every chunk allocates from a child of one connection-level allocator, so the configured limit
+ * bounds the Arrow memory of all result sets on the connection. Prefetch reserves bytes against the
+ * same limit before a download is submitted, see {@link #tryReserve(long)}. A result set with
+ * nothing in memory waits for the others to release memory, see {@link #reserve(long, long)}.
+ */
+public class ArrowMemoryBudget {
+
+  private static final JdbcLogger LOGGER = JdbcLoggerFactory.getLogger(ArrowMemoryBudget.class);
+  private final BufferAllocator allocator;
+  private final long limit;
+  private final AtomicLong reservedBytes = new AtomicLong();
+  // Notified whenever reserved bytes are released
+  private final Object releaseLock = new Object();
+
+  ArrowMemoryBudget(BufferAllocator allocator) {
+    this.allocator = allocator;
+    this.limit = allocator.getLimit();
+  }
+
+  /** Returns the connection-level allocator that chunk allocators are created from. */
+  BufferAllocator getAllocator() {
+    return allocator;
+  }
+
+  /**
+   * Reserves the given bytes if they fit into the limit together with existing reservations.
+   *
+   * @return true if the bytes were reserved
+   */
+  boolean tryReserve(long bytes) {
+    while (true) {
+      long reserved = reservedBytes.get();
+      if (reserved + bytes > limit) {
+        return false;
+      }
+      if (reservedBytes.compareAndSet(reserved, reserved + bytes)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Reserves the given bytes once they fit into the limit, waiting for other result sets of the
+   * connection to release memory. Used when a result set has nothing in flight, so that it waits
+   * for memory instead of allocating past the limit of the connection allocator. Bytes exceeding
+   * the whole limit are reserved once nothing else is.
+   *
+   * @param bytes bytes to reserve
+   * @param timeoutMillis maximum time to wait
+   * @return true if the bytes were reserved, false if the timeout elapsed first
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  boolean reserve(long bytes, long timeoutMillis) throws InterruptedException {
+    long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    synchronized (releaseLock) {
+      while (!tryReserve(bytes) && !reservedBytes.compareAndSet(0, bytes)) {
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        if (remainingNanos <= 0) {
+          return false;
+        }
+        TimeUnit.NANOSECONDS.timedWait(releaseLock, remainingNanos);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Changes the reservation by the given bytes regardless of the limit. Used to account for what a
+   * downloaded chunk actually allocated instead of its estimated size.
+   */
+  void reserve(long bytes) {
+    if (bytes < 0) {
+      release(-bytes);
+    } else {
+      reservedBytes.addAndGet(bytes);
+    }
+  }
+
+  void release(long bytes) {
+    reservedBytes.addAndGet(-bytes);
+    synchronized (releaseLock) {
+      releaseLock.notifyAll();
+    }
+  }
+
+  public ArrowMemoryUsage getUsage() {
+    return new ArrowMemoryUsage(
+        allocator.getAllocatedMemory(),
+        allocator.getPeakMemoryAllocation(),
+        reservedBytes.get(),
+        limit);
+  }
+
+  void close() {
+    try {
+      allocator.close();
+    } catch (IllegalStateException e) {
+      // Chunks that are still being downloaded release their memory when their task finishes
+      LOGGER.debug("Arrow memory still in use while closing budget. Error {}", e.getMessage());
+    }
+  }
+}
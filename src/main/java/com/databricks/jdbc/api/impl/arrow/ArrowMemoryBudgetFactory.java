@@ -0,0 +1,53 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import com.databricks.jdbc.api.ArrowMemoryUsage;
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+
+/**
+ * Holds the driver-wide Arrow root allocator and one {@link ArrowMemoryBudget} per connection,
+ * limited by {@link IDatabricksConnectionContext#getCloudFetchMemoryLimit()}.
+ */
+public class ArrowMemoryBudgetFactory {
+  private static final ArrowMemoryBudgetFactory INSTANCE = new ArrowMemoryBudgetFactory();
+  private final BufferAllocator rootAllocator = new RootAllocator();
+  private final ConcurrentHashMap<String, ArrowMemoryBudget> instances = new ConcurrentHashMap<>();
+
+  private ArrowMemoryBudgetFactory() {
+    // Private constructor to prevent instantiation
+  }
+
+  public static ArrowMemoryBudgetFactory getInstance() {
+    return INSTANCE;
+  }
+
+  public ArrowMemoryBudget getBudget(IDatabricksConnectionContext context) {
+    return instances.computeIfAbsent(
+        context.getConnectionUuid(),
+        uuid -> {
+          long limit = context.getCloudFetchMemoryLimit();
+          return new ArrowMemoryBudget(
+              rootAllocator.newChildAllocator(
+                  "connection-" + uuid, 0, limit > 0 ? limit : Long.MAX_VALUE));
+        });
+  }
+
+  /** Returns the Arrow memory usage of the connection, all zeros if nothing was fetched yet. */
+  public ArrowMemoryUsage getUsage(IDatabricksConnectionContext context) {
+    ArrowMemoryBudget budget = instances.get(context.getConnectionUuid());
+    if (budget == null) {
+      long limit = context.getCloudFetchMemoryLimit();
+      return new ArrowMemoryUsage(0, 0, 0, limit > 0 ? limit : Long.MAX_VALUE);
+    }
+    return budget.getUsage();
+  }
+
+  public void removeBudget(IDatabricksConnectionContext context) {
+    ArrowMemoryBudget budget = instances.remove(context.getConnectionUuid());
+    if (budget != null) {
+      budget.close();
+    }
+  }
+}
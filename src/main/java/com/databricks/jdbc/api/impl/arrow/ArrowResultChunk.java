@@ -4,7 +4,9 @@ import static com.databricks.jdbc.common.DatabricksJdbcConstants.ARROW_METADATA_
 import static com.databricks.jdbc.common.util.DatabricksThriftUtil.createExternalLink;
 import static com.databricks.jdbc.common.util.ValidationUtil.checkHTTPError;
 
-import com.databricks.jdbc.api.impl.converters.ArrowToJavaObjectConverter;
+import com.databricks.jdbc.api.impl.converters.ArrowColumnAccessor;
+import com.databricks.jdbc.api.impl.converters.ArrowToJavaPrimitiveConverter;
+import com.databricks.jdbc.api.impl.converters.ArrowVectorScope;
 import com.databricks.jdbc.common.CompressionCodec;
 import com.databricks.jdbc.common.util.DecompressionUtil;
 import com.databricks.jdbc.common.util.DriverUtil;
@@ -18,7 +20,6 @@ import com.databricks.jdbc.model.client.thrift.generated.TSparkArrowResultLink;
 import com.databricks.jdbc.model.core.ExternalLink;
 import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
 import com.databricks.sdk.service.sql.BaseChunkInfo;
-import com.databricks.sdk.service.sql.ColumnInfo;
 import com.databricks.sdk.service.sql.ColumnInfoTypeName;
 import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
@@ -29,13 +30,20 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.OutOfMemoryException;
 import org.apache.arrow.memory.RootAllocator;
 import org.apache.arrow.vector.ValueVector;
 import org.apache.arrow.vector.VectorSchemaRoot;
 import org.apache.arrow.vector.ipc.ArrowStreamReader;
 import org.apache.arrow.vector.util.TransferPair;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.nio.support.AsyncRequestBuilder;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.utils.URIBuilder;
@@ -95,8 +103,14 @@ public class ArrowResultChunk {
   private Instant expiryTime;
   private ChunkStatus status;
   private final BufferAllocator rootAllocator;
+  private final long estimatedBytes;
+  private long reservedBytes;
+  private volatile Future<InputStream> pendingDownload;
+  private volatile long decodeNanos;
+  private volatile int lastHttpStatusCode;
   private String errorMessage;
   private boolean isDataInitialized;
+  private final ArrowVectorScope vectorScope = new ArrowVectorScope();
   private static boolean injectError = false;
   private static int errorInjectionCountMaxValue = 0;
   private int errorInjectionCount = 0;
@@ -111,13 +125,17 @@ public class ArrowResultChunk {
     this.statementId = builder.statementId;
     this.expiryTime = builder.expiryTime;
     this.status = builder.status;
-    this.rootAllocator = new RootAllocator(/* limit= */ Integer.MAX_VALUE);
+    this.estimatedBytes = builder.estimatedBytes;
+    this.rootAllocator =
+        builder.parentAllocator != null
+            ? builder.parentAllocator.newChildAllocator("chunk-" + chunkIndex, 0, Long.MAX_VALUE)
+            : new RootAllocator(/* limit= */ Integer.MAX_VALUE);
     if (builder.inputStream != null) {
       // Data is already available
       try {
         initializeData(builder.inputStream);
         this.status = ChunkStatus.EXTRACT_SUCCEEDED;
-      } catch (DatabricksSQLException | IOException e) {
+      } catch (DatabricksSQLException | IOException | OutOfMemoryException e) {
         handleFailure(e, ChunkStatus.EXTRACT_FAILED);
       }
     }
@@ -194,21 +212,59 @@ public class ArrowResultChunk {
           || (recordBatchCursorInChunk < recordBatchesInChunk - 1);
     }
 
-    /** Returns object in the current row at the specified columnIndex. */
-    Object getColumnObjectAtCurrentRow(
-        int columnIndex,
-        ColumnInfoTypeName requiredType,
-        String arrowMetadata,
-        ColumnInfo columnInfo)
+    /**
+     * Returns object in the current row at the specified columnIndex, converted by the resolved
+     * accessor of the column.
+     */
+    Object getColumnObjectAtCurrentRow(int columnIndex, ArrowColumnAccessor columnAccessor)
         throws DatabricksSQLException {
-      ValueVector columnVector =
-          this.resultChunk.getColumnVector(this.recordBatchCursorInChunk, columnIndex);
-      return ArrowToJavaObjectConverter.convert(
-          columnVector, this.rowCursorInRecordBatch, requiredType, arrowMetadata, columnInfo);
+      return columnAccessor.getObject(
+          getCurrentColumnVector(columnIndex),
+          this.rowCursorInRecordBatch,
+          resultChunk.vectorScope);
+    }
+
+    /**
+     * Returns true if the value in the current row at the specified columnIndex can be read as the
+     * given {@link java.sql.Types} primitive without boxing.
+     */
+    boolean supportsPrimitiveRead(
+        int columnIndex, ColumnInfoTypeName requiredType, int targetSqlType) {
+      return ArrowToJavaPrimitiveConverter.canRead(
+          getCurrentColumnVector(columnIndex), requiredType, targetSqlType);
+    }
+
+    /** Returns whether the value in the current row at the specified columnIndex is null. */
+    boolean isNullAtCurrentRow(int columnIndex) {
+      return ArrowToJavaPrimitiveConverter.isNull(
+          getCurrentColumnVector(columnIndex), this.rowCursorInRecordBatch);
+    }
+
+    /** Returns long in the current row at the specified columnIndex. */
+    long getLongAtCurrentRow(int columnIndex) throws DatabricksSQLException {
+      return ArrowToJavaPrimitiveConverter.getLong(
+          getCurrentColumnVector(columnIndex), this.rowCursorInRecordBatch);
+    }
+
+    /** Returns double in the current row at the specified columnIndex. */
+    double getDoubleAtCurrentRow(int columnIndex) throws DatabricksSQLException {
+      return ArrowToJavaPrimitiveConverter.getDouble(
+          getCurrentColumnVector(columnIndex), this.rowCursorInRecordBatch);
     }
 
-    String getType(int columnIndex) {
-      return this.resultChunk.getArrowMetadata().get(columnIndex);
+    /** Returns boolean in the current row at the specified columnIndex. */
+    boolean getBooleanAtCurrentRow(int columnIndex) throws DatabricksSQLException {
+      return ArrowToJavaPrimitiveConverter.getBoolean(
+          getCurrentColumnVector(columnIndex), this.rowCursorInRecordBatch);
+    }
+
+    private ValueVector getCurrentColumnVector(int columnIndex) {
+      return this.resultChunk.getColumnVector(this.recordBatchCursorInChunk, columnIndex);
+    }
+
+    /** Returns the arrow metadata of the columns in the chunk. */
+    List<String> getArrowMetadata() {
+      return this.resultChunk.getArrowMetadata();
     }
   }
 
@@ -236,6 +292,28 @@ public class ArrowResultChunk {
             && expiryTime.minusSeconds(SECONDS_BUFFER_FOR_EXPIRY).isBefore(Instant.now()));
   }
 
+  /** Returns true if the link of the chunk is no longer valid after the given number of millis. */
+  boolean isChunkLinkExpiringWithin(long millis) {
+    return status != ChunkStatus.PENDING
+        && !DriverUtil.isRunningAgainstFake()
+        && expiryTime != null
+        && expiryTime
+            .minusSeconds(SECONDS_BUFFER_FOR_EXPIRY)
+            .isBefore(Instant.now().plusMillis(millis));
+  }
+
+  ExternalLink getChunkLink() {
+    return chunkLink;
+  }
+
+  /**
+   * Returns the HTTP status code of the last download attempt, 0 if the attempt failed before a
+   * response was received.
+   */
+  int getLastHttpStatusCode() {
+    return lastHttpStatusCode;
+  }
+
   /** Returns the status for the chunk */
   ChunkStatus getStatus() {
     return this.status;
@@ -256,8 +334,50 @@ public class ArrowResultChunk {
     return this.errorMessage;
   }
 
+  /**
+   * Marks the download as failed because no valid link could be obtained for the chunk, and keeps
+   * the cause as the error reported to the reader of the chunk.
+   */
+  void setLinkFailure(Throwable cause) {
+    this.errorMessage =
+        String.format(
+            "Failed to obtain a link for chunk index [%d] and statement [%s]. %s",
+            this.chunkIndex, this.statementId, cause.getMessage());
+    LOGGER.error(this.errorMessage);
+    setStatus(ChunkStatus.DOWNLOAD_FAILED);
+  }
+
+  /**
+   * Marks the chunk as failed without downloading it because its memory could not be reserved in
+   * the memory budget of the connection, and keeps the reason as the error reported to the reader.
+   */
+  void setMemoryFailure(String reason) {
+    this.errorMessage =
+        String.format(
+            "Failed to reserve memory for chunk index [%d] and statement [%s]. %s",
+            this.chunkIndex, this.statementId, reason);
+    LOGGER.error(this.errorMessage);
+    setStatus(ChunkStatus.DOWNLOAD_FAILED);
+  }
+
   void downloadData(IDatabricksHttpClient httpClient, CompressionCodec compressionCodec)
       throws DatabricksParsingException, IOException {
+    downloadData(httpClient, compressionCodec, null);
+  }
+
+  /**
+   * Downloads the chunk, as concurrent byte ranges if it is larger than one range of the given
+   * downloader.
+   *
+   * @param httpClient client used for the download
+   * @param compressionCodec compression of the chunk
+   * @param rangeDownloader downloader of large chunks, null to download with a single request
+   */
+  void downloadData(
+      IDatabricksHttpClient httpClient,
+      CompressionCodec compressionCodec,
+      ChunkRangeDownloader rangeDownloader)
+      throws DatabricksParsingException, IOException {
     // Inject error if enabled for testing
     if (injectError && errorInjectionCount < errorInjectionCountMaxValue) {
       errorInjectionCount++;
@@ -267,23 +387,38 @@ public class ArrowResultChunk {
     }
 
     CloseableHttpResponse response = null;
+    this.lastHttpStatusCode = 0;
     try {
       URIBuilder uriBuilder = new URIBuilder(chunkLink.getExternalLink());
       HttpGet getRequest = new HttpGet(uriBuilder.build());
       addHeaders(getRequest, chunkLink.getHttpHeaders());
+      String firstRange =
+          rangeDownloader != null ? rangeDownloader.getFirstRangeHeader(estimatedBytes) : null;
+      if (firstRange != null) {
+        getRequest.addHeader("Range", firstRange);
+      }
       // Retry would be done in http client, we should not bother about that here
       response = httpClient.execute(getRequest, true);
+      this.lastHttpStatusCode = response.getStatusLine().getStatusCode();
       checkHTTPError(response);
       String decompressionContext =
           String.format(
               "Data decompression for chunk index [%d] and statement [%s]",
               this.chunkIndex, this.statementId);
+      InputStream body =
+          rangeDownloader != null
+              ? rangeDownloader.readChunk(
+                  httpClient,
+                  chunkLink,
+                  response,
+                  statusCode -> this.lastHttpStatusCode = statusCode)
+              : response.getEntity().getContent();
       InputStream uncompressedStream =
-          DecompressionUtil.decompress(
-              response.getEntity().getContent(), compressionCodec, decompressionContext);
+          DecompressionUtil.decompress(body, compressionCodec, decompressionContext);
       initializeData(uncompressedStream);
       setStatus(ChunkStatus.DOWNLOAD_SUCCEEDED);
-    } catch (IOException | DatabricksSQLException | URISyntaxException e) {
+    } catch (IOException | DatabricksSQLException | URISyntaxException | OutOfMemoryException e) {
+      // Arrow fails with OutOfMemoryException once the connection memory limit is reached
       handleFailure(e, ChunkStatus.DOWNLOAD_FAILED);
     } finally {
       if (response != null) {
@@ -303,8 +438,10 @@ public class ArrowResultChunk {
   void initializeData(InputStream inputStream) throws DatabricksSQLException, IOException {
     LOGGER.debug(
         "Parsing data for chunk index {} and statement {}", this.chunkIndex, this.statementId);
+    long decodeStartNanos = System.nanoTime();
     ArrowData arrowData =
         getRecordBatchList(inputStream, this.rootAllocator, this.statementId, this.chunkIndex);
+    this.decodeNanos = System.nanoTime() - decodeStartNanos;
     this.recordBatchList = arrowData.getValueVectors();
     this.arrowMetadata = arrowData.getMetadata();
     LOGGER.debug(
@@ -312,15 +449,98 @@ public class ArrowResultChunk {
     this.isDataInitialized = true;
   }
 
+  /**
+   * Downloads the chunk with non-blocking I/O. The response body is collected by the I/O reactor of
+   * the async http client and decoded on the given executor, so no thread waits on the network.
+   *
+   * @param httpClient client used to send the request
+   * @param compressionCodec codec the chunk is compressed with
+   * @param decodeExecutor executor that decompresses and parses the arrow data
+   * @return future completed once the chunk is ready for consumption, or failed with a {@link
+   *     DatabricksParsingException}
+   */
+  CompletableFuture<Void> downloadDataAsync(
+      IDatabricksHttpClient httpClient,
+      CompressionCodec compressionCodec,
+      Executor decodeExecutor) {
+    CompletableFuture<Void> downloadFuture = new CompletableFuture<>();
+    this.lastHttpStatusCode = 0;
+    if (injectError && errorInjectionCount < errorInjectionCountMaxValue) {
+      errorInjectionCount++;
+      setStatus(ChunkStatus.DOWNLOAD_FAILED);
+      downloadFuture.completeExceptionally(
+          new DatabricksParsingException(
+              "Injected connection reset", DatabricksDriverErrorCode.CHUNK_DOWNLOAD_ERROR));
+      return downloadFuture;
+    }
+    AsyncRequestBuilder requestBuilder;
+    try {
+      requestBuilder = AsyncRequestBuilder.get(new URIBuilder(chunkLink.getExternalLink()).build());
+    } catch (URISyntaxException e) {
+      downloadFuture.completeExceptionally(recordFailure(e, ChunkStatus.DOWNLOAD_FAILED));
+      return downloadFuture;
+    }
+    if (chunkLink.getHttpHeaders() != null) {
+      chunkLink.getHttpHeaders().forEach(requestBuilder::addHeader);
+    }
+    ChunkResponseConsumer responseConsumer = new ChunkResponseConsumer();
+    this.pendingDownload =
+        httpClient.executeAsync(
+            requestBuilder.build(),
+            responseConsumer,
+            new FutureCallback<InputStream>() {
+              @Override
+              public void completed(InputStream body) {
+                try {
+                  decodeExecutor.execute(() -> decode(body, compressionCodec, downloadFuture));
+                } catch (RejectedExecutionException e) {
+                  downloadFuture.completeExceptionally(
+                      recordFailure(e, ChunkStatus.DOWNLOAD_FAILED));
+                }
+              }
+
+              @Override
+              public void failed(Exception e) {
+                lastHttpStatusCode = responseConsumer.getStatusCode();
+                downloadFuture.completeExceptionally(recordFailure(e, ChunkStatus.DOWNLOAD_FAILED));
+              }
+
+              @Override
+              public void cancelled() {
+                downloadFuture.cancel(false);
+              }
+            });
+    return downloadFuture;
+  }
+
+  private void decode(
+      InputStream body, CompressionCodec compressionCodec, CompletableFuture<Void> downloadFuture) {
+    String decompressionContext =
+        String.format(
+            "Data decompression for chunk index [%d] and statement [%s]",
+            this.chunkIndex, this.statementId);
+    try {
+      initializeData(DecompressionUtil.decompress(body, compressionCodec, decompressionContext));
+      setStatus(ChunkStatus.DOWNLOAD_SUCCEEDED);
+      downloadFuture.complete(null);
+    } catch (IOException | DatabricksSQLException | OutOfMemoryException e) {
+      downloadFuture.completeExceptionally(recordFailure(e, ChunkStatus.DOWNLOAD_FAILED));
+    }
+  }
+
   void handleFailure(Exception exception, ChunkStatus failedStatus)
       throws DatabricksParsingException {
+    throw recordFailure(exception, failedStatus);
+  }
+
+  private DatabricksParsingException recordFailure(Exception exception, ChunkStatus failedStatus) {
     this.errorMessage =
         String.format(
             "Data parsing failed for chunk index [%d] and statement [%s]. Exception [%s]",
             this.chunkIndex, this.statementId, exception);
     LOGGER.error(this.errorMessage);
     setStatus(failedStatus);
-    throw new DatabricksParsingException(this.errorMessage, exception, failedStatus.toString());
+    return new DatabricksParsingException(this.errorMessage, exception, failedStatus.toString());
   }
 
   /**
@@ -332,15 +552,46 @@ public class ArrowResultChunk {
     if (status == ChunkStatus.CHUNK_RELEASED) {
       return false;
     }
+    if (pendingDownload != null) {
+      pendingDownload.cancel(true);
+    }
     if (isDataInitialized) {
       logAllocatorStats("BeforeRelease");
+      // complex values handed out from this chunk must not read the vectors once they are closed
+      vectorScope.release();
       purgeArrowData(this.recordBatchList);
-      rootAllocator.close();
     }
+    closeAllocator();
     setStatus(ChunkStatus.CHUNK_RELEASED);
     return true;
   }
 
+  /**
+   * Returns the time spent decompressing and parsing the arrow data, 0 before it is initialized.
+   */
+  long getDecodeNanos() {
+    return decodeNanos;
+  }
+
+  /** Returns the expected size of the chunk in bytes as reported by the server, 0 if unknown. */
+  long getEstimatedBytes() {
+    return estimatedBytes;
+  }
+
+  /** Returns the bytes currently allocated by the vectors of the chunk. */
+  long getAllocatedMemory() {
+    return rootAllocator.getAllocatedMemory();
+  }
+
+  /** Returns the bytes reserved for the chunk in the connection memory budget. */
+  long getReservedBytes() {
+    return reservedBytes;
+  }
+
+  void setReservedBytes(long reservedBytes) {
+    this.reservedBytes = reservedBytes;
+  }
+
   /** Returns number of recordBatches in the chunk. */
   int getRecordBatchCountInChunk() {
     return this.isDataInitialized ? this.recordBatchList.size() : 0;
@@ -410,7 +661,7 @@ public class ArrowResultChunk {
           statementId,
           e.getMessage());
       purgeArrowData(recordBatchList);
-    } catch (IOException e) {
+    } catch (IOException | OutOfMemoryException e) {
       LOGGER.error(
           "Error while reading arrow data, purging the local list and rethrowing the exception.");
       purgeArrowData(recordBatchList);
@@ -443,6 +694,19 @@ public class ArrowResultChunk {
     recordBatchList.clear();
   }
 
+  private void closeAllocator() {
+    try {
+      rootAllocator.close();
+    } catch (IllegalStateException e) {
+      // A download that is still running may hold buffers of the allocator
+      LOGGER.debug(
+          "Arrow memory still in use while releasing chunk index {} and statement {}. Error {}",
+          chunkIndex,
+          statementId,
+          e.getMessage());
+    }
+  }
+
   private void logAllocatorStats(String event) {
     long allocatedMemory = rootAllocator.getAllocatedMemory();
     long peakMemory = rootAllocator.getPeakMemoryAllocation();
@@ -467,6 +731,8 @@ public class ArrowResultChunk {
     private Instant expiryTime;
     private ChunkStatus status;
     private InputStream inputStream;
+    private long estimatedBytes;
+    private BufferAllocator parentAllocator;
 
     public Builder withStatementId(StatementId statementId) {
       this.statementId = statementId;
@@ -477,6 +743,7 @@ public class ArrowResultChunk {
       this.chunkIndex = baseChunkInfo.getChunkIndex();
       this.numRows = baseChunkInfo.getRowCount();
       this.rowOffset = baseChunkInfo.getRowOffset();
+      this.estimatedBytes = baseChunkInfo.getByteCount() != null ? baseChunkInfo.getByteCount() : 0;
       this.status = ChunkStatus.PENDING;
       return this;
     }
@@ -493,11 +760,21 @@ public class ArrowResultChunk {
       this.numRows = chunkInfo.getRowCount();
       this.rowOffset = chunkInfo.getStartRowOffset();
       this.expiryTime = Instant.ofEpochMilli(chunkInfo.getExpiryTime());
+      this.estimatedBytes = chunkInfo.getBytesNum();
       this.status = ChunkStatus.URL_FETCHED; // URL has always been fetched in case of thrift
       this.chunkLink = createExternalLink(chunkInfo, chunkIndex);
       return this;
     }
 
+    /**
+     * Allocates the chunk from a child of the given allocator instead of a standalone root
+     * allocator, so that its memory counts against the limit of the parent.
+     */
+    public Builder withParentAllocator(BufferAllocator parentAllocator) {
+      this.parentAllocator = parentAllocator;
+      return this;
+    }
+
     public ArrowResultChunk build() throws DatabricksParsingException {
       return new ArrowResultChunk(this);
     }
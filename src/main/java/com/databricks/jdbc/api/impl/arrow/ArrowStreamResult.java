@@ -1,9 +1,12 @@
 package com.databricks.jdbc.api.impl.arrow;
 
 import static com.databricks.jdbc.common.util.DatabricksThriftUtil.getColumnInfoFromTColumnDesc;
+import static com.databricks.jdbc.common.util.DatabricksThriftUtil.getRowLimit;
 
 import com.databricks.jdbc.api.impl.ComplexDataTypeParser;
 import com.databricks.jdbc.api.impl.IExecutionResult;
+import com.databricks.jdbc.api.impl.converters.ArrowColumnAccessor;
+import com.databricks.jdbc.api.impl.converters.ArrowToJavaObjectConverter;
 import com.databricks.jdbc.api.internal.IDatabricksSession;
 import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
 import com.databricks.jdbc.common.CompressionCodec;
@@ -23,6 +26,7 @@ import com.databricks.sdk.service.sql.ColumnInfoTypeName;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /** Result container for Arrow-based query results. */
 public class ArrowStreamResult implements IExecutionResult {
@@ -32,7 +36,11 @@ public class ArrowStreamResult implements IExecutionResult {
   private boolean isClosed;
   private ArrowResultChunk.ArrowResultChunkIterator chunkIterator;
   private List<ColumnInfo> columnInfos;
+  private ArrowColumnAccessor[] columnAccessors;
+  private List<String> accessorArrowMetadata;
   private final IDatabricksSession session;
+  // Maximum number of rows returned by next(), 0 if the result is not limited
+  private final long maxRows;
 
   public ArrowStreamResult(
       ResultManifest resultManifest,
@@ -40,11 +48,22 @@ public class ArrowStreamResult implements IExecutionResult {
       StatementId statementId,
       IDatabricksSession session)
       throws DatabricksSQLException {
+    this(resultManifest, resultData, statementId, session, (IDatabricksStatementInternal) null);
+  }
+
+  public ArrowStreamResult(
+      ResultManifest resultManifest,
+      ResultData resultData,
+      StatementId statementId,
+      IDatabricksSession session,
+      IDatabricksStatementInternal parentStatement)
+      throws DatabricksSQLException {
     this(
         resultManifest,
         resultData,
         statementId,
         session,
+        parentStatement,
         DatabricksHttpClientFactory.getInstance().getClient(session.getConnectionContext()));
   }
 
@@ -56,7 +75,20 @@ public class ArrowStreamResult implements IExecutionResult {
       IDatabricksSession session,
       IDatabricksHttpClient httpClient)
       throws DatabricksSQLException {
+    this(resultManifest, resultData, statementId, session, null, httpClient);
+  }
+
+  @VisibleForTesting
+  ArrowStreamResult(
+      ResultManifest resultManifest,
+      ResultData resultData,
+      StatementId statementId,
+      IDatabricksSession session,
+      IDatabricksStatementInternal parentStatement,
+      IDatabricksHttpClient httpClient)
+      throws DatabricksSQLException {
     this.session = session;
+    this.maxRows = getRowLimit(parentStatement);
     // Check if the result data contains the arrow data inline
     boolean isInlineArrow = resultData.getAttachment() != null;
 
@@ -70,7 +102,8 @@ public class ArrowStreamResult implements IExecutionResult {
               resultData,
               session,
               httpClient,
-              session.getConnectionContext().getCloudFetchThreadPoolSize());
+              session.getConnectionContext().getCloudFetchThreadPoolSize(),
+              maxRows);
     }
     this.columnInfos =
         resultManifest.getSchema().getColumnCount() == 0
@@ -101,9 +134,10 @@ public class ArrowStreamResult implements IExecutionResult {
       IDatabricksHttpClient httpClient)
       throws DatabricksSQLException {
     this.session = session;
+    this.maxRows = getRowLimit(parentStatement);
     setColumnInfo(resultsResp.getResultSetMetadata());
     if (isInlineArrow) {
-      this.chunkProvider = new InlineChunkProvider(resultsResp, parentStatement, session);
+      this.chunkProvider = new InlineChunkProvider(resultsResp, parentStatement, session, maxRows);
     } else {
       CompressionCodec compressionCodec =
           CompressionCodec.getCompressionMapping(resultsResp.getResultSetMetadata());
@@ -114,7 +148,8 @@ public class ArrowStreamResult implements IExecutionResult {
               session,
               httpClient,
               session.getConnectionContext().getCloudFetchThreadPoolSize(),
-              compressionCodec);
+              compressionCodec,
+              maxRows);
     }
   }
 
@@ -128,27 +163,39 @@ public class ArrowStreamResult implements IExecutionResult {
   /** {@inheritDoc} */
   @Override
   public Object getObject(int columnIndex) throws DatabricksSQLException {
-    ColumnInfoTypeName requiredType = columnInfos.get(columnIndex).getTypeName();
-    String arrowMetadata = chunkIterator.getType(columnIndex);
-    if (arrowMetadata == null) {
-      arrowMetadata = columnInfos.get(columnIndex).getTypeText();
-    }
+    return chunkIterator.getColumnObjectAtCurrentRow(columnIndex, columnAccessors[columnIndex]);
+  }
 
-    // Handle complex type conversion when complex datatype support is disabled
-    boolean isComplexDatatypeSupportEnabled =
-        this.session.getConnectionContext().isComplexDatatypeSupportEnabled();
-    if (!isComplexDatatypeSupportEnabled && isComplexType(requiredType)) {
-      LOGGER.debug("Complex datatype support is disabled, converting complex type to STRING");
+  /** {@inheritDoc} */
+  @Override
+  public boolean supportsPrimitiveRead(int columnIndex, int targetSqlType) {
+    return chunkIterator != null
+        && chunkIterator.supportsPrimitiveRead(
+            columnIndex, columnInfos.get(columnIndex).getTypeName(), targetSqlType);
+  }
 
-      Object result =
-          chunkIterator.getColumnObjectAtCurrentRow(
-              columnIndex, ColumnInfoTypeName.STRING, "STRING", columnInfos.get(columnIndex));
-      ComplexDataTypeParser parser = new ComplexDataTypeParser();
-      return parser.formatComplexTypeString(result.toString(), requiredType.name(), arrowMetadata);
-    }
+  /** {@inheritDoc} */
+  @Override
+  public boolean isNull(int columnIndex) {
+    return chunkIterator.isNullAtCurrentRow(columnIndex);
+  }
 
-    return chunkIterator.getColumnObjectAtCurrentRow(
-        columnIndex, requiredType, arrowMetadata, columnInfos.get(columnIndex));
+  /** {@inheritDoc} */
+  @Override
+  public long getLong(int columnIndex) throws DatabricksSQLException {
+    return chunkIterator.getLongAtCurrentRow(columnIndex);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double getDouble(int columnIndex) throws DatabricksSQLException {
+    return chunkIterator.getDoubleAtCurrentRow(columnIndex);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean getBoolean(int columnIndex) throws DatabricksSQLException {
+    return chunkIterator.getBooleanAtCurrentRow(columnIndex);
   }
 
   /**
@@ -181,6 +228,7 @@ public class ArrowStreamResult implements IExecutionResult {
     if (chunkIterator == null || !chunkIterator.hasNextRow()) {
       chunkProvider.next();
       chunkIterator = chunkProvider.getChunk().getChunkIterator();
+      resolveColumnAccessors(chunkIterator.getArrowMetadata());
     }
 
     return chunkIterator.nextRow();
@@ -193,6 +241,11 @@ public class ArrowStreamResult implements IExecutionResult {
       return false;
     }
 
+    // Stop at the row limit of the statement even if the current chunk has more rows
+    if (maxRows > 0 && currentRowIndex + 1 >= maxRows) {
+      return false;
+    }
+
     // Check if there are any more rows available in the current chunk
     if (chunkIterator != null && chunkIterator.hasNextRow()) {
       return true;
@@ -212,7 +265,16 @@ public class ArrowStreamResult implements IExecutionResult {
 
   @Override
   public long getRowCount() {
-    return chunkProvider.getRowCount();
+    long rowCount = chunkProvider.getRowCount();
+    return maxRows > 0 ? Math.min(rowCount, maxRows) : rowCount;
+  }
+
+  @Override
+  public boolean isRowCountFinal() throws DatabricksSQLException {
+    if (maxRows > 0 && chunkProvider.getRowCount() >= maxRows) {
+      return true;
+    }
+    return isClosed || chunkProvider.isRowCountFinal();
   }
 
   @Override
@@ -220,6 +282,55 @@ public class ArrowStreamResult implements IExecutionResult {
     return chunkProvider.getChunkCount();
   }
 
+  /**
+   * Builds the per-column accessor plan the first time an arrow schema is seen, so that reading a
+   * cell is a single accessor call without re-inspecting the column types. Chunks of a result share
+   * the same schema, hence the plan is only rebuilt if the arrow metadata changes.
+   */
+  private void resolveColumnAccessors(List<String> arrowMetadata) {
+    if (columnAccessors != null && Objects.equals(arrowMetadata, accessorArrowMetadata)) {
+      return;
+    }
+    boolean isComplexDatatypeSupportEnabled =
+        this.session.getConnectionContext().isComplexDatatypeSupportEnabled();
+    ArrowColumnAccessor[] accessors = new ArrowColumnAccessor[columnInfos.size()];
+    for (int columnIndex = 0; columnIndex < accessors.length; columnIndex++) {
+      String columnArrowMetadata =
+          arrowMetadata != null && columnIndex < arrowMetadata.size()
+              ? arrowMetadata.get(columnIndex)
+              : null;
+      accessors[columnIndex] =
+          createColumnAccessor(
+              columnInfos.get(columnIndex), columnArrowMetadata, isComplexDatatypeSupportEnabled);
+    }
+    this.columnAccessors = accessors;
+    this.accessorArrowMetadata = arrowMetadata;
+  }
+
+  private static ArrowColumnAccessor createColumnAccessor(
+      ColumnInfo columnInfo, String arrowMetadata, boolean isComplexDatatypeSupportEnabled) {
+    ColumnInfoTypeName requiredType = columnInfo.getTypeName();
+    String typeMetadata = arrowMetadata != null ? arrowMetadata : columnInfo.getTypeText();
+
+    // Handle complex type conversion when complex datatype support is disabled
+    if (!isComplexDatatypeSupportEnabled && isComplexType(requiredType)) {
+      LOGGER.debug(
+          "Complex datatype support is disabled, converting complex column {} to STRING",
+          columnInfo.getName());
+      ArrowColumnAccessor stringAccessor =
+          ArrowToJavaObjectConverter.createAccessor(
+              ColumnInfoTypeName.STRING, "STRING", columnInfo);
+      ComplexDataTypeParser parser = new ComplexDataTypeParser();
+      String complexType = requiredType.name();
+      return (columnVector, vectorIndex) -> {
+        Object result = stringAccessor.getObject(columnVector, vectorIndex);
+        return parser.formatComplexTypeString(
+            result == null ? null : result.toString(), complexType, typeMetadata);
+      };
+    }
+    return ArrowToJavaObjectConverter.createAccessor(requiredType, typeMetadata, columnInfo);
+  }
+
   private void setColumnInfo(TGetResultSetMetadataResp resultManifest) {
     columnInfos = new ArrayList<>();
     if (resultManifest.getSchema() == null) {
@@ -0,0 +1,196 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import static com.databricks.jdbc.telemetry.TelemetryHelper.exportLatencyLog;
+
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.common.util.DatabricksThreadContextHolder;
+import com.databricks.jdbc.dbclient.IDatabricksHttpClient;
+import com.databricks.jdbc.log.JdbcLogger;
+import com.databricks.jdbc.log.JdbcLoggerFactory;
+import com.databricks.jdbc.model.core.ExternalLink;
+import com.databricks.jdbc.telemetry.latency.LatencyOperation;
+import com.databricks.jdbc.telemetry.latency.LatencyRecorder;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Downloads a single chunk on the shared async http client instead of a blocking download thread.
+ *
+ * <p>The request runs on the I/O reactor of the async client. Once the body has arrived, the chunk
+ * is decompressed and parsed on a small process-wide decode pool. Failed attempts are retried with
+ * the same budget, delays and link refresh as {@link ChunkDownloadTask}, without holding a thread
+ * while waiting.
+ */
+class AsyncChunkDownloadTask {
+
+  private static final JdbcLogger LOGGER =
+      JdbcLoggerFactory.getLogger(AsyncChunkDownloadTask.class);
+  private static final String DECODER_THREAD_POOL_PREFIX = "databricks-jdbc-arrow-decoder-";
+  private static final int DECODER_THREAD_COUNT =
+      Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+  private static final ExecutorService DECODE_EXECUTOR = createDecodeExecutor();
+  private final ArrowResultChunk chunk;
+  private final IDatabricksHttpClient httpClient;
+  private final ChunkDownloadCallback chunkDownloader;
+  private final ChunkLinkDownloadService linkDownloadService;
+  private final IDatabricksConnectionContext connectionContext;
+  private final String statementId;
+  private final LatencyRecorder latencyRecorder;
+  private long startNanos;
+  private int retries;
+  // Link requested for the next attempt, null if the current link of the chunk is used
+  private volatile CompletableFuture<ExternalLink> refreshedLink;
+
+  AsyncChunkDownloadTask(
+      ArrowResultChunk chunk,
+      IDatabricksHttpClient httpClient,
+      ChunkDownloadCallback chunkDownloader,
+      ChunkLinkDownloadService linkDownloadService,
+      LatencyRecorder latencyRecorder) {
+    this.chunk = chunk;
+    this.httpClient = httpClient;
+    this.chunkDownloader = chunkDownloader;
+    this.linkDownloadService = linkDownloadService;
+    this.connectionContext = DatabricksThreadContextHolder.getConnectionContext();
+    this.statementId = DatabricksThreadContextHolder.getStatementId();
+    this.latencyRecorder = latencyRecorder;
+  }
+
+  /** Starts the download and returns without waiting for it. */
+  void start() {
+    startNanos = System.nanoTime();
+    attempt();
+  }
+
+  private void attempt() {
+    CompletableFuture<ExternalLink> link = refreshedLink;
+    refreshedLink = null;
+    try {
+      if (link == null && chunk.isChunkLinkInvalid()) {
+        link = linkDownloadService.getLinkForChunk(chunk.getChunkIndex());
+      }
+    } catch (Exception e) {
+      link = CompletableFuture.failedFuture(e);
+    }
+    CompletableFuture<ExternalLink> chunkLink = link;
+    CompletableFuture<Void> download =
+        (chunkLink != null
+                ? chunkLink.thenAccept(chunk::setChunkLink)
+                : CompletableFuture.<Void>completedFuture(null))
+            .thenCompose(
+                ignored ->
+                    chunk.downloadDataAsync(
+                        httpClient, chunkDownloader.getCompressionCodec(), DECODE_EXECUTOR));
+    // Completion is handled on the decode pool, never on the reactor or the caller thread, since
+    // it sets and clears the thread context
+    download.whenCompleteAsync(
+        (result, throwable) -> {
+          if (throwable == null) {
+            latencyRecorder.recordNanos(LatencyOperation.DECODE, chunk.getDecodeNanos());
+            finish();
+          } else {
+            handleFailure(
+                unwrap(throwable), chunkLink != null && chunkLink.isCompletedExceptionally());
+          }
+        },
+        DECODE_EXECUTOR);
+  }
+
+  private void handleFailure(Throwable throwable, boolean isLinkFailure) {
+    if (throwable instanceof CancellationException
+        || chunk.getStatus() == ArrowResultChunk.ChunkStatus.CHUNK_RELEASED) {
+      // The result set was closed while the chunk was in flight
+      finish();
+      return;
+    }
+    if (isLinkFailure) {
+      // The link service keeps reporting the same failure, so retrying cannot succeed
+      chunk.setLinkFailure(throwable);
+      finish();
+      return;
+    }
+    retries++;
+    if (retries >= ChunkDownloadRetryPolicy.MAX_RETRIES) {
+      LOGGER.error(
+          throwable,
+          "Failed to download chunk after %d attempts. Chunk index: %d, Error: %s",
+          ChunkDownloadRetryPolicy.MAX_RETRIES,
+          chunk.getChunkIndex(),
+          throwable.getMessage());
+      chunk.setStatus(ArrowResultChunk.ChunkStatus.DOWNLOAD_FAILED);
+      finish();
+      return;
+    }
+    ChunkDownloadRetryPolicy.FailureKind failureKind =
+        ChunkDownloadRetryPolicy.classify(chunk.getLastHttpStatusCode());
+    long retryDelayMillis = ChunkDownloadRetryPolicy.getRetryDelayMillis(failureKind, retries);
+    if (ChunkDownloadRetryPolicy.requiresLinkRefresh(failureKind, chunk, retryDelayMillis)) {
+      // The new link is fetched while the retry waits
+      refreshedLink =
+          linkDownloadService.refreshLinkForChunk(chunk.getChunkIndex(), chunk.getChunkLink());
+    }
+    LOGGER.warn(
+        "Retry attempt {} for chunk index: {} in {} ms, Failure: {}, Error: {}",
+        retries,
+        chunk.getChunkIndex(),
+        retryDelayMillis,
+        failureKind,
+        throwable.getMessage());
+    chunk.setStatus(ArrowResultChunk.ChunkStatus.DOWNLOAD_RETRY);
+    CompletableFuture.delayedExecutor(retryDelayMillis, TimeUnit.MILLISECONDS, DECODE_EXECUTOR)
+        .execute(this::attempt);
+  }
+
+  private void finish() {
+    DatabricksThreadContextHolder.setChunkId(chunk.getChunkIndex());
+    DatabricksThreadContextHolder.setConnectionContext(connectionContext);
+    DatabricksThreadContextHolder.setStatementId(statementId);
+    DatabricksThreadContextHolder.setRetryCount(retries);
+    try {
+      exportLatencyLog(
+          TimeUnit.NANOSECONDS.toMillis(
+              latencyRecorder.record(LatencyOperation.CHUNK_DOWNLOAD, startNanos)));
+      chunkDownloader.downloadProcessed(chunk.getChunkIndex());
+    } finally {
+      DatabricksThreadContextHolder.clearAllContext();
+    }
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    while (throwable instanceof CompletionException && throwable.getCause() != null) {
+      throwable = throwable.getCause();
+    }
+    return throwable;
+  }
+
+  private static ExecutorService createDecodeExecutor() {
+    ThreadFactory threadFactory =
+        new ThreadFactory() {
+          private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+          public Thread newThread(final Runnable r) {
+            final Thread thread = new Thread(r);
+            thread.setName(DECODER_THREAD_POOL_PREFIX + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+          }
+        };
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            DECODER_THREAD_COUNT,
+            DECODER_THREAD_COUNT,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            threadFactory);
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+}
@@ -15,6 +15,21 @@ interface ChunkDownloadCallback {
    */
   void downloadProcessed(long chunkIndex);
 
+  /**
+   * Runs a failed download task again after the given delay. No download thread is held while
+   * waiting, so other chunks can be downloaded in the meantime.
+   *
+   * @param task the download task to run again
+   * @param delayMillis delay before the task is queued again
+   */
+  void retryDownload(DatabricksCallableTask task, long delayMillis);
+
   /** Returns the compression type of chunks that are to be downloaded from pre-signed URLs. */
   CompressionCodec getCompressionCodec();
+
+  /**
+   * Returns the downloader of chunks too large for a single request, null if chunks are always
+   * downloaded with a single request.
+   */
+  ChunkRangeDownloader getRangeDownloader();
 }
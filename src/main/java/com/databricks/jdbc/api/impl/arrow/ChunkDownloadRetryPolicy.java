@@ -0,0 +1,88 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides when a failed chunk download is attempted again.
+ *
+ * <p>Retries wait for a random delay between zero and an exponentially growing ceiling ("full
+ * jitter"), so that downloads failing at the same time do not retry in lockstep. Throttling by the
+ * cloud storage (HTTP 429 and 503, e.g. S3 {@code SlowDown}) backs off from a higher base and up to
+ * a higher ceiling than other failures. A link rejected by the storage (HTTP 403) is not a storage
+ * problem, hence it is retried right away with a refreshed link.
+ */
+final class ChunkDownloadRetryPolicy {
+
+  /** Maximum number of download attempts of a chunk. */
+  static final int MAX_RETRIES = 5;
+
+  static final long BASE_DELAY_MILLIS = 500;
+  static final long MAX_DELAY_MILLIS = 10_000;
+  static final long THROTTLED_BASE_DELAY_MILLIS = 1_000;
+  static final long THROTTLED_MAX_DELAY_MILLIS = 30_000;
+
+  /** Reason a download attempt failed. */
+  enum FailureKind {
+    /** Connection errors, server errors and corrupt responses. */
+    TRANSIENT,
+    /** The cloud storage asked the client to slow down. */
+    THROTTLED,
+    /** The cloud storage rejected the pre-signed link, usually because it has expired. */
+    LINK_EXPIRED
+  }
+
+  private ChunkDownloadRetryPolicy() {}
+
+  /**
+   * Classifies a failed attempt by the HTTP status code of its response.
+   *
+   * @param httpStatusCode status code of the response, 0 if no response was received
+   * @return the kind of the failure
+   */
+  static FailureKind classify(int httpStatusCode) {
+    switch (httpStatusCode) {
+      case 429:
+      case 503:
+        return FailureKind.THROTTLED;
+      case 403:
+        return FailureKind.LINK_EXPIRED;
+      default:
+        return FailureKind.TRANSIENT;
+    }
+  }
+
+  /**
+   * Returns the delay before the given retry.
+   *
+   * @param failureKind kind of the failure of the previous attempt
+   * @param retry number of the retry, starting at 1
+   * @return the delay in milliseconds
+   */
+  static long getRetryDelayMillis(FailureKind failureKind, int retry) {
+    long baseDelay;
+    long maxDelay;
+    switch (failureKind) {
+      case LINK_EXPIRED:
+        return 0;
+      case THROTTLED:
+        baseDelay = THROTTLED_BASE_DELAY_MILLIS;
+        maxDelay = THROTTLED_MAX_DELAY_MILLIS;
+        break;
+      default:
+        baseDelay = BASE_DELAY_MILLIS;
+        maxDelay = MAX_DELAY_MILLIS;
+    }
+    long ceiling = baseDelay << Math.min(Math.max(retry - 1, 0), 20);
+    return ThreadLocalRandom.current().nextLong(Math.min(ceiling, maxDelay) + 1);
+  }
+
+  /**
+   * Returns true if the link of the chunk is to be refreshed before the next attempt, because the
+   * storage rejected it or because it expires before the attempt starts.
+   */
+  static boolean requiresLinkRefresh(
+      FailureKind failureKind, ArrowResultChunk chunk, long retryDelayMillis) {
+    return failureKind == FailureKind.LINK_EXPIRED
+        || chunk.isChunkLinkExpiringWithin(retryDelayMillis);
+  }
+}
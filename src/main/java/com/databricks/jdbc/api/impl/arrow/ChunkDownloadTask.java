@@ -11,42 +11,60 @@ import com.databricks.jdbc.log.JdbcLogger;
 import com.databricks.jdbc.log.JdbcLoggerFactory;
 import com.databricks.jdbc.model.core.ExternalLink;
 import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
+import com.databricks.jdbc.telemetry.latency.LatencyOperation;
+import com.databricks.jdbc.telemetry.latency.LatencyRecorder;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
-/** Task class to manage download for a single chunk. */
+/**
+ * Task class to manage download for a single chunk.
+ *
+ * <p>Each call makes one download attempt. A failed attempt is handed back to the chunk provider to
+ * be run again after the delay chosen by {@link ChunkDownloadRetryPolicy}, so the download thread
+ * is free for other chunks while the task waits. Links that the storage rejected or that expire
+ * before the retry are refreshed while waiting.
+ */
 class ChunkDownloadTask implements DatabricksCallableTask {
 
   private static final JdbcLogger LOGGER = JdbcLoggerFactory.getLogger(ChunkDownloadTask.class);
-  public static final int MAX_RETRIES = 5;
-  private static final long RETRY_DELAY_MS = 1500; // 1.5 seconds
   private final ArrowResultChunk chunk;
   private final IDatabricksHttpClient httpClient;
   private final ChunkDownloadCallback chunkDownloader;
   private final IDatabricksConnectionContext connectionContext;
   private final String statementId;
   private final ChunkLinkDownloadService linkDownloadService;
+  private final LatencyRecorder latencyRecorder;
+  private long startNanos;
+  private int retries;
+  // Link requested for the next attempt, null if the current link of the chunk is used
+  private CompletableFuture<ExternalLink> refreshedLink;
   Throwable uncaughtException = null;
 
   ChunkDownloadTask(
       ArrowResultChunk chunk,
       IDatabricksHttpClient httpClient,
       ChunkDownloadCallback chunkDownloader,
-      ChunkLinkDownloadService linkDownloadService) {
+      ChunkLinkDownloadService linkDownloadService,
+      LatencyRecorder latencyRecorder) {
     this.chunk = chunk;
     this.httpClient = httpClient;
     this.chunkDownloader = chunkDownloader;
     this.connectionContext = DatabricksThreadContextHolder.getConnectionContext();
     this.statementId = DatabricksThreadContextHolder.getStatementId();
     this.linkDownloadService = linkDownloadService;
+    this.latencyRecorder = latencyRecorder;
   }
 
   @Override
   public Void call() throws DatabricksSQLException, ExecutionException, InterruptedException {
-    long startTime = System.currentTimeMillis();
-    int retries = 0;
+    if (retries == 0) {
+      startNanos = System.nanoTime();
+    }
     boolean downloadSuccessful = false;
+    boolean isRetryScheduled = false;
 
     // Sets context in the newly spawned thread
     DatabricksThreadContextHolder.setChunkId(chunk.getChunkIndex());
@@ -55,66 +73,95 @@ class ChunkDownloadTask implements DatabricksCallableTask {
 
     try {
       DatabricksThreadContextHolder.setRetryCount(retries);
-      while (!downloadSuccessful) {
-        try {
-          if (chunk.isChunkLinkInvalid()) {
-            ExternalLink link =
-                linkDownloadService
-                    .getLinkForChunk(chunk.getChunkIndex())
-                    .get(); // Block until link is available
-            chunk.setChunkLink(link);
-          }
-
-          chunk.downloadData(httpClient, chunkDownloader.getCompressionCodec());
-          downloadSuccessful = true;
-        } catch (DatabricksParsingException | IOException e) {
-          retries++;
-          if (retries >= MAX_RETRIES) {
-            LOGGER.error(
-                e,
-                "Failed to download chunk after %d attempts. Chunk index: %d, Error: %s",
-                MAX_RETRIES,
-                chunk.getChunkIndex(),
-                e.getMessage());
-            chunk.setStatus(ArrowResultChunk.ChunkStatus.DOWNLOAD_FAILED);
-            throw new DatabricksSQLException(
-                "Failed to download chunk after multiple attempts",
-                e,
-                DatabricksDriverErrorCode.CHUNK_DOWNLOAD_ERROR);
-          } else {
-            LOGGER.warn(
-                String.format(
-                    "Retry attempt %d for chunk index: %d, Error: %s",
-                    retries, chunk.getChunkIndex(), e.getMessage()));
-            chunk.setStatus(ArrowResultChunk.ChunkStatus.DOWNLOAD_RETRY);
-            try {
-              Thread.sleep(RETRY_DELAY_MS);
-            } catch (InterruptedException ie) {
-              Thread.currentThread().interrupt();
-              throw new DatabricksSQLException(
-                  "Chunk download was interrupted",
-                  ie,
-                  DatabricksDriverErrorCode.THREAD_INTERRUPTED_ERROR);
-            }
-          }
+      try {
+        updateChunkLink();
+        chunk.downloadData(
+            httpClient,
+            chunkDownloader.getCompressionCodec(),
+            chunkDownloader.getRangeDownloader());
+        latencyRecorder.recordNanos(LatencyOperation.DECODE, chunk.getDecodeNanos());
+        downloadSuccessful = true;
+      } catch (DatabricksParsingException | IOException e) {
+        retries++;
+        if (retries >= ChunkDownloadRetryPolicy.MAX_RETRIES) {
+          LOGGER.error(
+              e,
+              "Failed to download chunk after %d attempts. Chunk index: %d, Error: %s",
+              ChunkDownloadRetryPolicy.MAX_RETRIES,
+              chunk.getChunkIndex(),
+              e.getMessage());
+          chunk.setStatus(ArrowResultChunk.ChunkStatus.DOWNLOAD_FAILED);
+          throw new DatabricksSQLException(
+              "Failed to download chunk after multiple attempts",
+              e,
+              DatabricksDriverErrorCode.CHUNK_DOWNLOAD_ERROR);
         }
+        scheduleRetry(e);
+        isRetryScheduled = true;
       }
     } catch (Throwable t) {
       uncaughtException = t;
       throw t;
     } finally {
-      if (!downloadSuccessful) {
-        LOGGER.info(
-            "Uncaught exception during chunk download. Chunk index: %d, Error: %s",
-            chunk.getChunkIndex(), Arrays.toString(uncaughtException.getStackTrace()));
-        chunk.setStatus(ArrowResultChunk.ChunkStatus.DOWNLOAD_FAILED);
-      }
+      if (!isRetryScheduled) {
+        if (!downloadSuccessful) {
+          LOGGER.info(
+              "Uncaught exception during chunk download. Chunk index: %d, Error: %s",
+              chunk.getChunkIndex(), Arrays.toString(uncaughtException.getStackTrace()));
+          chunk.setStatus(ArrowResultChunk.ChunkStatus.DOWNLOAD_FAILED);
+        }
 
-      exportLatencyLog(System.currentTimeMillis() - startTime);
-      chunkDownloader.downloadProcessed(chunk.getChunkIndex());
+        exportLatencyLog(
+            TimeUnit.NANOSECONDS.toMillis(
+                latencyRecorder.record(LatencyOperation.CHUNK_DOWNLOAD, startNanos)));
+        chunkDownloader.downloadProcessed(chunk.getChunkIndex());
+      }
       DatabricksThreadContextHolder.clearAllContext();
     }
 
     return null;
   }
+
+  /**
+   * Sets a refreshed link, or a new one if the current link expired. Failing to obtain a link fails
+   * the chunk without retries, as the link service keeps reporting the same failure.
+   */
+  private void updateChunkLink() throws ExecutionException, InterruptedException {
+    try {
+      if (refreshedLink != null) {
+        CompletableFuture<ExternalLink> link = refreshedLink;
+        refreshedLink = null;
+        chunk.setChunkLink(link.get()); // Block until link is available
+      } else if (chunk.isChunkLinkInvalid()) {
+        ExternalLink link =
+            linkDownloadService
+                .getLinkForChunk(chunk.getChunkIndex())
+                .get(); // Block until link is available
+        chunk.setChunkLink(link);
+      }
+    } catch (ExecutionException e) {
+      chunk.setLinkFailure(e.getCause());
+      throw e;
+    }
+  }
+
+  private void scheduleRetry(Exception e) {
+    ChunkDownloadRetryPolicy.FailureKind failureKind =
+        ChunkDownloadRetryPolicy.classify(chunk.getLastHttpStatusCode());
+    long retryDelayMillis = ChunkDownloadRetryPolicy.getRetryDelayMillis(failureKind, retries);
+    if (ChunkDownloadRetryPolicy.requiresLinkRefresh(failureKind, chunk, retryDelayMillis)) {
+      // The new link is fetched while the retry waits
+      refreshedLink =
+          linkDownloadService.refreshLinkForChunk(chunk.getChunkIndex(), chunk.getChunkLink());
+    }
+    LOGGER.warn(
+        "Retry attempt {} for chunk index: {} in {} ms, Failure: {}, Error: {}",
+        retries,
+        chunk.getChunkIndex(),
+        retryDelayMillis,
+        failureKind,
+        e.getMessage());
+    chunk.setStatus(ArrowResultChunk.ChunkStatus.DOWNLOAD_RETRY);
+    chunkDownloader.retryDownload(this, retryDelayMillis);
+  }
 }
@@ -4,15 +4,18 @@ import static com.databricks.jdbc.api.impl.arrow.ArrowResultChunk.SECONDS_BUFFER
 
 import com.databricks.jdbc.api.internal.IDatabricksSession;
 import com.databricks.jdbc.common.DatabricksClientType;
+import com.databricks.jdbc.common.DatabricksJdbcUrlParams;
 import com.databricks.jdbc.dbclient.impl.common.StatementId;
 import com.databricks.jdbc.exception.DatabricksSQLException;
 import com.databricks.jdbc.exception.DatabricksValidationException;
 import com.databricks.jdbc.log.JdbcLogger;
 import com.databricks.jdbc.log.JdbcLoggerFactory;
 import com.databricks.jdbc.model.core.ExternalLink;
+import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
@@ -58,6 +61,13 @@ import java.util.concurrent.atomic.AtomicLong;
  *
  * <p>This design ensures that no chunks are missed and links remain valid during the download
  * process.
+ *
+ * <h4>4. Lazily paginated Thrift links:</h4>
+ *
+ * <p>Links of a Thrift result whose link pages are fetched lazily are read from the same forward
+ * only result cursor as the pages themselves, so they cannot be fetched again. The service is then
+ * created without link refresh, and requests for a new link fail with an error naming the chunk and
+ * the connection property to disable instead of an index error.
  */
 public class ChunkLinkDownloadService {
   private static final JdbcLogger LOGGER =
@@ -66,6 +76,7 @@ public class ChunkLinkDownloadService {
   private final IDatabricksSession session;
   private final StatementId statementId;
   private final long totalChunks;
+  private final boolean isLinkRefreshSupported;
   private final Map<Long, CompletableFuture<ExternalLink>> chunkIndexToLinkFuture;
   private final AtomicLong nextBatchStartIndex;
   private final AtomicBoolean isDownloadInProgress;
@@ -90,6 +101,22 @@ public class ChunkLinkDownloadService {
       long totalChunks,
       Map<Long, ArrowResultChunk> chunkIndexToChunksMap,
       long nextBatchStartIndex) {
+    this(session, statementId, totalChunks, chunkIndexToChunksMap, nextBatchStartIndex, true);
+  }
+
+  /**
+   * Creates the service for a result whose links may not be fetchable again.
+   *
+   * @param isLinkRefreshSupported false if links of the result cannot be fetched once consumed, in
+   *     which case expired or rejected links fail the chunk download with a descriptive error
+   */
+  public ChunkLinkDownloadService(
+      IDatabricksSession session,
+      StatementId statementId,
+      long totalChunks,
+      Map<Long, ArrowResultChunk> chunkIndexToChunksMap,
+      long nextBatchStartIndex,
+      boolean isLinkRefreshSupported) {
     LOGGER.info(
         "Initializing ChunkLinkDownloadService for statement {} with total chunks: {}, starting at index: {}",
         statementId,
@@ -99,6 +126,7 @@ public class ChunkLinkDownloadService {
     this.session = session;
     this.statementId = statementId;
     this.totalChunks = totalChunks;
+    this.isLinkRefreshSupported = isLinkRefreshSupported;
     this.nextBatchStartIndex = new AtomicLong(nextBatchStartIndex);
     this.isDownloadInProgress = new AtomicBoolean(false);
     this.isDownloadChainStarted = new AtomicBoolean(false);
@@ -145,6 +173,10 @@ public class ChunkLinkDownloadService {
           new DatabricksValidationException("Chunk Link Download Service is shutdown"));
     }
 
+    if (!isLinkRefreshSupported) {
+      return createLinkRefreshUnsupportedFuture(chunkIndex);
+    }
+
     if (chunkIndex >= totalChunks) {
       LOGGER.error("Requested chunk index {} exceeds total chunks {}", chunkIndex, totalChunks);
       return createExceptionalFuture(
@@ -163,6 +195,56 @@ public class ChunkLinkDownloadService {
     return chunkIndexToLinkFuture.get(chunkIndex);
   }
 
+  /**
+   * Fetches a new link for the specified chunk even if its current link has not expired yet. Used
+   * for links that the cloud storage rejected, or that expire before the chunk is downloaded.
+   *
+   * <p>The download chain is restarted from the chunk only if its known link is still the given
+   * stale one, so chunks refreshing their links at the same time share a single restart.
+   *
+   * @param chunkIndex The index of the chunk for which to refresh the link
+   * @param staleLink The link the chunk currently holds
+   * @return A CompletableFuture containing the new ExternalLink for the requested chunk
+   */
+  public CompletableFuture<ExternalLink> refreshLinkForChunk(
+      long chunkIndex, ExternalLink staleLink) {
+    if (isShutdown) {
+      LOGGER.warn(
+          "Attempt to refresh link for chunk {} while chunk download service is shutdown",
+          chunkIndex);
+      return createExceptionalFuture(
+          new DatabricksValidationException("Chunk Link Download Service is shutdown"));
+    }
+
+    if (!isLinkRefreshSupported) {
+      return createLinkRefreshUnsupportedFuture(chunkIndex);
+    }
+
+    if (chunkIndex >= totalChunks) {
+      LOGGER.error("Requested chunk index {} exceeds total chunks {}", chunkIndex, totalChunks);
+      return createExceptionalFuture(
+          new DatabricksValidationException("Chunk index exceeds total chunks"));
+    }
+
+    synchronized (resetLock) {
+      CompletableFuture<ExternalLink> chunkFuture = chunkIndexToLinkFuture.get(chunkIndex);
+      if (chunkFuture.isDone()
+          && (chunkFuture.isCompletedExceptionally()
+              || isSameLink(chunkFuture.join(), staleLink))) {
+        LOGGER.info("Refreshing link for chunk {}, re-triggering batch download", chunkIndex);
+        cancelCurrentDownloadTask();
+        resetFuturesFromIndex(chunkIndex);
+        prepareNewBatchDownload(chunkIndex);
+      }
+    }
+
+    if (isDownloadChainStarted.compareAndSet(false, true)) {
+      triggerNextBatchDownload();
+    }
+
+    return chunkIndexToLinkFuture.get(chunkIndex);
+  }
+
   /** Shuts down the service and cancels all pending operations. */
   public void shutdown() {
     LOGGER.info("Shutting down ChunkLinkDownloadService for statement {}", statementId);
@@ -284,6 +366,20 @@ public class ChunkLinkDownloadService {
     isDownloadInProgress.set(false);
   }
 
+  private CompletableFuture<ExternalLink> createLinkRefreshUnsupportedFuture(long chunkIndex) {
+    String errorMessage =
+        String.format(
+            "The result link of chunk %d of statement %s expired or was rejected by the cloud"
+                + " storage, and links of a lazily paginated result cannot be fetched again."
+                + " Set %s=0 to fetch all result links upfront so that they can be refreshed.",
+            chunkIndex,
+            statementId,
+            DatabricksJdbcUrlParams.CLOUD_FETCH_LAZY_RESULT_LINKS.getParamName());
+    LOGGER.error(errorMessage);
+    return createExceptionalFuture(
+        new DatabricksSQLException(errorMessage, DatabricksDriverErrorCode.CHUNK_DOWNLOAD_ERROR));
+  }
+
   /**
    * Creates a CompletableFuture that is already completed exceptionally with the given exception.
    */
@@ -410,6 +506,12 @@ public class ChunkLinkDownloadService {
     isDownloadChainStarted.set(false);
   }
 
+  private static boolean isSameLink(ExternalLink link, ExternalLink staleLink) {
+    return staleLink == null
+        || link == null
+        || Objects.equals(link.getExternalLink(), staleLink.getExternalLink());
+  }
+
   private boolean isChunkLinkExpired(ExternalLink link) {
     if (link == null || link.getExpiration() == null) {
       LOGGER.warn("Link or expiration is null, assuming link is expired");
@@ -40,5 +40,16 @@ public interface ChunkProvider {
 
   long getRowCount();
 
+  /**
+   * Returns true if {@link #getRowCount()} is the number of rows of the whole result. Providers
+   * that fetch the result page by page may fetch the next page with rows ahead to answer.
+   *
+   * @return true if no rows follow the ones counted by {@link #getRowCount()}
+   * @throws DatabricksSQLException if fetching ahead fails
+   */
+  default boolean isRowCountFinal() throws DatabricksSQLException {
+    return true;
+  }
+
   long getChunkCount();
 }
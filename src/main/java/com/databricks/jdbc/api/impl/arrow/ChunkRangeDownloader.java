@@ -0,0 +1,304 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.dbclient.IDatabricksHttpClient;
+import com.databricks.jdbc.log.JdbcLogger;
+import com.databricks.jdbc.log.JdbcLoggerFactory;
+import com.databricks.jdbc.model.core.ExternalLink;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.hc.client5.http.async.methods.AbstractBinResponseConsumer;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.AsyncRequestProducer;
+import org.apache.hc.core5.http.nio.support.AsyncRequestBuilder;
+import org.apache.http.Header;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
+
+/**
+ * Downloads large cloud fetch chunks as concurrent HTTP byte ranges.
+ *
+ * <p>A single connection to the cloud storage caps the throughput of a chunk download, so a result
+ * made of a few large chunks downloads slowly however many download threads are configured. For
+ * chunks larger than one range, the first request of the chunk asks for the first range only. If
+ * the storage answers with a partial response, its {@code Content-Range} header announces the full
+ * size of the chunk. The remaining ranges are then downloaded on the async http client, a bounded
+ * number at a time, into one buffer of that size, which is decoded once complete. A storage that
+ * ignores the range header returns the whole chunk in the first response, which is read as before.
+ *
+ * <p>The buffer is allocated on the heap rather than from the Arrow memory budget of the
+ * connection, hence ranged downloads are only enabled when a range size is configured.
+ */
+class ChunkRangeDownloader {
+
+  private static final JdbcLogger LOGGER = JdbcLoggerFactory.getLogger(ChunkRangeDownloader.class);
+  private static final Pattern CONTENT_RANGE_PATTERN =
+      Pattern.compile("bytes\\s+(\\d+)-(\\d+)/(\\d+)");
+  private static final int MAX_CHUNK_SIZE = Integer.MAX_VALUE - 8;
+
+  private final long rangeSize;
+  private final int parallelism;
+
+  ChunkRangeDownloader(long rangeSize, int parallelism) {
+    this.rangeSize = rangeSize;
+    this.parallelism = Math.max(1, parallelism);
+  }
+
+  /**
+   * Returns the downloader configured for the connection, or null if chunks are to be downloaded
+   * with a single request.
+   */
+  static ChunkRangeDownloader forConnection(IDatabricksConnectionContext connectionContext) {
+    long rangeSize = connectionContext.getCloudFetchRangeDownloadSize();
+    return rangeSize > 0
+        ? new ChunkRangeDownloader(
+            rangeSize, connectionContext.getCloudFetchRangeDownloadParallelism())
+        : null;
+  }
+
+  /**
+   * Returns the value of the {@code Range} header of the first request of a chunk, or null if the
+   * chunk is downloaded with a single request.
+   *
+   * @param estimatedBytes size of the chunk as reported by the server, 0 if unknown
+   */
+  String getFirstRangeHeader(long estimatedBytes) {
+    return estimatedBytes > rangeSize ? formatRange(0, rangeSize - 1) : null;
+  }
+
+  /**
+   * Returns the body of the chunk. For a partial response to the first range request, the remaining
+   * ranges are downloaded concurrently and the whole chunk is returned.
+   *
+   * @param httpClient client used for the requests of the remaining ranges
+   * @param chunkLink link of the chunk
+   * @param firstResponse response to the first request of the chunk, already checked for errors
+   * @param failedStatusListener receives the HTTP status code of a range request that failed
+   * @return stream of the complete chunk
+   * @throws IOException if a range cannot be downloaded or the storage sent inconsistent ranges
+   */
+  InputStream readChunk(
+      IDatabricksHttpClient httpClient,
+      ExternalLink chunkLink,
+      CloseableHttpResponse firstResponse,
+      IntConsumer failedStatusListener)
+      throws IOException {
+    InputStream firstBody = firstResponse.getEntity().getContent();
+    if (firstResponse.getStatusLine().getStatusCode() != HttpStatus.SC_PARTIAL_CONTENT) {
+      return firstBody;
+    }
+    Header contentRange = firstResponse.getFirstHeader("Content-Range");
+    long[] range = parseContentRange(contentRange != null ? contentRange.getValue() : null);
+    long totalSize = range[2];
+    if (range[0] != 0 || totalSize > MAX_CHUNK_SIZE) {
+      throw new IOException("Unexpected range in chunk response: " + contentRange.getValue());
+    }
+    byte[] body = new byte[(int) totalSize];
+    int firstLength = (int) (range[1] + 1);
+    if (firstBody.readNBytes(body, 0, firstLength) != firstLength) {
+      throw new IOException("Chunk response ended before the end of its first range");
+    }
+    List<long[]> remainingRanges = new ArrayList<>();
+    for (long start = firstLength; start < totalSize; start += rangeSize) {
+      remainingRanges.add(new long[] {start, Math.min(start + rangeSize, totalSize) - 1});
+    }
+    LOGGER.debug(
+        "Downloading remaining {} ranges of {} bytes chunk index {}",
+        remainingRanges.size(),
+        totalSize,
+        chunkLink.getChunkIndex());
+    downloadRanges(httpClient, chunkLink, remainingRanges, body, failedStatusListener);
+    return new ByteArrayInputStream(body);
+  }
+
+  /** Downloads the given ranges into the body, at most {@link #parallelism} at a time. */
+  private void downloadRanges(
+      IDatabricksHttpClient httpClient,
+      ExternalLink chunkLink,
+      List<long[]> ranges,
+      byte[] body,
+      IntConsumer failedStatusListener)
+      throws IOException {
+    if (ranges.isEmpty()) {
+      return;
+    }
+    CompletableFuture<Void> allRanges = new CompletableFuture<>();
+    AtomicInteger nextRange = new AtomicInteger();
+    AtomicInteger pendingRanges = new AtomicInteger(ranges.size());
+    List<Future<Integer>> requests = new ArrayList<>();
+    Runnable startNextRange =
+        new Runnable() {
+          @Override
+          public void run() {
+            int rangeIndex = nextRange.getAndIncrement();
+            if (rangeIndex >= ranges.size() || allRanges.isDone()) {
+              return;
+            }
+            long[] range = ranges.get(rangeIndex);
+            Future<Integer> request =
+                httpClient.executeAsync(
+                    buildRangeRequest(chunkLink, range),
+                    new RangeResponseConsumer(body, range[0], range[1], failedStatusListener),
+                    new FutureCallback<Integer>() {
+                      @Override
+                      public void completed(Integer receivedBytes) {
+                        if (receivedBytes != range[1] - range[0] + 1) {
+                          allRanges.completeExceptionally(
+                              new IOException(
+                                  String.format(
+                                      "Range %d-%d of chunk ended after %d bytes",
+                                      range[0], range[1], receivedBytes)));
+                        } else if (pendingRanges.decrementAndGet() == 0) {
+                          allRanges.complete(null);
+                        } else {
+                          run();
+                        }
+                      }
+
+                      @Override
+                      public void failed(Exception e) {
+                        allRanges.completeExceptionally(e);
+                      }
+
+                      @Override
+                      public void cancelled() {
+                        allRanges.cancel(false);
+                      }
+                    });
+            synchronized (requests) {
+              requests.add(request);
+            }
+          }
+        };
+    for (int i = 0; i < Math.min(parallelism, ranges.size()); i++) {
+      startNextRange.run();
+    }
+    try {
+      allRanges.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Ranged chunk download was interrupted", e);
+    } catch (ExecutionException | CancellationException e) {
+      Throwable cause = e.getCause() != null ? e.getCause() : e;
+      throw cause instanceof IOException
+          ? (IOException) cause
+          : new IOException("Ranged chunk download failed", cause);
+    } finally {
+      synchronized (requests) {
+        requests.forEach(request -> request.cancel(true));
+      }
+    }
+  }
+
+  private static AsyncRequestProducer buildRangeRequest(ExternalLink chunkLink, long[] range) {
+    AsyncRequestBuilder requestBuilder =
+        AsyncRequestBuilder.get(URI.create(chunkLink.getExternalLink()))
+            .addHeader("Range", formatRange(range[0], range[1]));
+    if (chunkLink.getHttpHeaders() != null) {
+      chunkLink.getHttpHeaders().forEach(requestBuilder::addHeader);
+    }
+    return requestBuilder.build();
+  }
+
+  private static String formatRange(long start, long end) {
+    return "bytes=" + start + "-" + end;
+  }
+
+  /** Parses a {@code Content-Range} header into its first byte, last byte and total size. */
+  static long[] parseContentRange(String contentRange) throws IOException {
+    Matcher matcher =
+        contentRange != null ? CONTENT_RANGE_PATTERN.matcher(contentRange.trim()) : null;
+    if (matcher == null || !matcher.matches()) {
+      throw new IOException("Missing or invalid Content-Range in chunk response: " + contentRange);
+    }
+    long[] range = {
+      Long.parseLong(matcher.group(1)),
+      Long.parseLong(matcher.group(2)),
+      Long.parseLong(matcher.group(3))
+    };
+    if (range[0] > range[1] || range[1] >= range[2]) {
+      throw new IOException("Invalid Content-Range in chunk response: " + contentRange);
+    }
+    return range;
+  }
+
+  /**
+   * Writes the body of a range response into its slice of the chunk buffer, and returns the number
+   * of bytes received. The status code of a response that is not partial content is reported to the
+   * listener, so that the retry policy of the chunk sees the failing range.
+   */
+  private static class RangeResponseConsumer extends AbstractBinResponseConsumer<Integer> {
+    private static final int CAPACITY_INCREMENT = 1024 * 1024;
+    private final byte[] body;
+    private final int start;
+    private final int end;
+    private final IntConsumer failedStatusListener;
+    private int position;
+
+    RangeResponseConsumer(byte[] body, long start, long end, IntConsumer failedStatusListener) {
+      this.body = body;
+      this.start = (int) start;
+      this.end = (int) end;
+      this.failedStatusListener = failedStatusListener;
+      this.position = this.start;
+    }
+
+    @Override
+    protected void start(HttpResponse response, ContentType contentType) throws IOException {
+      int statusCode = response.getCode();
+      if (statusCode != HttpStatus.SC_PARTIAL_CONTENT) {
+        failedStatusListener.accept(statusCode);
+        throw new IOException(
+            String.format(
+                "HTTP request failed by code: %d, status line: %s.",
+                statusCode, response.getReasonPhrase()));
+      }
+      org.apache.hc.core5.http.Header contentRange = response.getFirstHeader("Content-Range");
+      long[] range = parseContentRange(contentRange != null ? contentRange.getValue() : null);
+      if (range[0] != start || range[1] != end || range[2] != body.length) {
+        throw new IOException("Unexpected range in chunk response: " + contentRange.getValue());
+      }
+    }
+
+    @Override
+    protected int capacityIncrement() {
+      return CAPACITY_INCREMENT;
+    }
+
+    @Override
+    protected void data(ByteBuffer src, boolean endOfStream) throws IOException {
+      int length = src.remaining();
+      if (position + length > end + 1) {
+        throw new IOException(
+            String.format("Received more than the requested range %d-%d", start, end));
+      }
+      src.get(body, position, length);
+      position += length;
+    }
+
+    @Override
+    protected Integer buildResult() {
+      return position - start;
+    }
+
+    @Override
+    public void releaseResources() {
+      // The buffer is owned by the chunk download
+    }
+  }
+}
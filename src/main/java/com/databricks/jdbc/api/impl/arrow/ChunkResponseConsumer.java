@@ -0,0 +1,96 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.hc.client5.http.async.methods.AbstractBinResponseConsumer;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpResponse;
+
+/**
+ * Collects the body of a chunk download on the I/O reactor thread as it streams in, so that no
+ * thread blocks on the network. When the server announces the content length the body is copied
+ * into a single array, otherwise it is kept as the list of received segments.
+ */
+class ChunkResponseConsumer extends AbstractBinResponseConsumer<InputStream> {
+  private static final int CAPACITY_INCREMENT = 1024 * 1024;
+  private byte[] body;
+  private int bodyLength;
+  private List<byte[]> segments;
+  private volatile int statusCode;
+
+  @Override
+  protected void start(HttpResponse response, ContentType contentType) throws IOException {
+    statusCode = response.getCode();
+    if (statusCode < 200 || statusCode >= 300) {
+      throw new IOException(
+          String.format(
+              "HTTP request failed by code: %d, status line: %s.",
+              statusCode, response.getReasonPhrase()));
+    }
+    Header contentLength = response.getFirstHeader(HttpHeaders.CONTENT_LENGTH);
+    long expectedLength = -1;
+    if (contentLength != null) {
+      try {
+        expectedLength = Long.parseLong(contentLength.getValue().trim());
+      } catch (NumberFormatException e) {
+        // Fall back to collecting segments
+      }
+    }
+    if (expectedLength >= 0 && expectedLength < Integer.MAX_VALUE) {
+      body = new byte[(int) expectedLength];
+    } else {
+      segments = new ArrayList<>();
+    }
+  }
+
+  /** Returns the status code of the response, 0 if no response has been received. */
+  int getStatusCode() {
+    return statusCode;
+  }
+
+  @Override
+  protected int capacityIncrement() {
+    return CAPACITY_INCREMENT;
+  }
+
+  @Override
+  protected void data(ByteBuffer src, boolean endOfStream) throws IOException {
+    int length = src.remaining();
+    if (segments != null) {
+      byte[] segment = new byte[length];
+      src.get(segment);
+      segments.add(segment);
+    } else {
+      if (bodyLength + length > body.length) {
+        throw new IOException(
+            String.format(
+                "Received more than the announced content length of %d bytes", body.length));
+      }
+      src.get(body, bodyLength, length);
+      bodyLength += length;
+    }
+  }
+
+  @Override
+  protected InputStream buildResult() {
+    if (segments == null) {
+      return new ByteArrayInputStream(body, 0, bodyLength);
+    }
+    List<InputStream> streams = new ArrayList<>(segments.size());
+    segments.forEach(segment -> streams.add(new ByteArrayInputStream(segment)));
+    return new SequenceInputStream(Collections.enumeration(streams));
+  }
+
+  @Override
+  public void releaseResources() {
+    // The buffered body is owned by the result stream
+  }
+}
@@ -0,0 +1,223 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import com.databricks.jdbc.dbclient.impl.common.StatementId;
+import com.databricks.jdbc.log.JdbcLogger;
+import com.databricks.jdbc.log.JdbcLoggerFactory;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Process-wide scheduler for cloud fetch chunk downloads, shared by all {@link RemoteChunkProvider}
+ * instances.
+ *
+ * <p>Downloads run on one bounded pool of daemon threads instead of a pool per result set. Each
+ * result set registers a {@link StatementQueue} with its own concurrency cap. Free threads are
+ * handed out round-robin across the queues that have pending downloads and are below their cap, so
+ * a result with thousands of chunks cannot starve the others.
+ *
+ * <p>The number of threads is read from the system property {@value #THREAD_COUNT_PROPERTY} and
+ * defaults to {@link #DEFAULT_THREAD_COUNT}.
+ */
+public class CloudFetchDownloadScheduler {
+
+  private static final JdbcLogger LOGGER =
+      JdbcLoggerFactory.getLogger(CloudFetchDownloadScheduler.class);
+  public static final String THREAD_COUNT_PROPERTY =
+      "com.databricks.jdbc.cloudFetchDownloaderThreads";
+  public static final int DEFAULT_THREAD_COUNT =
+      Math.max(16, 4 * Runtime.getRuntime().availableProcessors());
+  private static final String THREAD_NAME_PREFIX = "databricks-jdbc-chunks-downloader-";
+  private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60;
+  private static volatile CloudFetchDownloadScheduler instance;
+
+  private final int threadCount;
+  private final ThreadPoolExecutor workers;
+  // Queues that have pending downloads and are below their concurrency cap, in round-robin order
+  private final ArrayDeque<StatementQueue> readyQueues = new ArrayDeque<>();
+  private int runningTasks;
+
+  @VisibleForTesting
+  CloudFetchDownloadScheduler(int threadCount) {
+    this.threadCount = threadCount;
+    ThreadFactory threadFactory =
+        new ThreadFactory() {
+          private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+          public Thread newThread(final Runnable r) {
+            final Thread thread = new Thread(r);
+            thread.setName(THREAD_NAME_PREFIX + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+          }
+        };
+    // Tasks are only handed to the pool while fewer than threadCount are running, so the queue of
+    // the pool itself never grows
+    this.workers =
+        new ThreadPoolExecutor(
+            threadCount,
+            threadCount,
+            IDLE_THREAD_KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            threadFactory);
+    this.workers.allowCoreThreadTimeOut(true);
+  }
+
+  public static CloudFetchDownloadScheduler getInstance() {
+    if (instance == null) {
+      synchronized (CloudFetchDownloadScheduler.class) {
+        if (instance == null) {
+          instance = new CloudFetchDownloadScheduler(resolveThreadCount());
+        }
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * Registers a result set with the scheduler.
+   *
+   * @param statementId the statement the downloads belong to, used for logging
+   * @param maxConcurrency maximum number of downloads of the result set running at once
+   * @return the queue to submit downloads of the result set to
+   */
+  StatementQueue register(StatementId statementId, int maxConcurrency) {
+    return new StatementQueue(statementId, Math.max(1, maxConcurrency));
+  }
+
+  int getThreadCount() {
+    return threadCount;
+  }
+
+  private synchronized void dispatch() {
+    while (runningTasks < threadCount && !readyQueues.isEmpty()) {
+      StatementQueue queue = readyQueues.pollFirst();
+      DatabricksCallableTask task = queue.pendingTasks.pollFirst();
+      queue.runningTasks++;
+      runningTasks++;
+      queue.isReady = false;
+      queue.enqueueIfReady();
+      workers.execute(() -> queue.run(task));
+    }
+  }
+
+  private static int resolveThreadCount() {
+    String threadCount = System.getProperty(THREAD_COUNT_PROPERTY);
+    if (threadCount != null) {
+      try {
+        return Math.max(1, Integer.parseInt(threadCount.trim()));
+      } catch (NumberFormatException e) {
+        LOGGER.warn(
+            "Invalid value {} for {}, using {} threads",
+            threadCount,
+            THREAD_COUNT_PROPERTY,
+            DEFAULT_THREAD_COUNT);
+      }
+    }
+    return DEFAULT_THREAD_COUNT;
+  }
+
+  /** Downloads of a single result set. All state is guarded by the enclosing scheduler. */
+  class StatementQueue {
+    private final StatementId statementId;
+    private final int maxConcurrency;
+    private final ArrayDeque<DatabricksCallableTask> pendingTasks = new ArrayDeque<>();
+    private final Set<Thread> runningThreads = new HashSet<>();
+    private int runningTasks;
+    private boolean isReady;
+    private boolean isClosed;
+
+    private StatementQueue(StatementId statementId, int maxConcurrency) {
+      this.statementId = statementId;
+      this.maxConcurrency = maxConcurrency;
+    }
+
+    /** Queues the task behind the other downloads of this result set. */
+    void submit(DatabricksCallableTask task) {
+      synchronized (CloudFetchDownloadScheduler.this) {
+        if (isClosed) {
+          return;
+        }
+        pendingTasks.addLast(task);
+        enqueueIfReady();
+        dispatch();
+      }
+    }
+
+    /**
+     * Queues the task behind the other downloads of this result set once the given delay has
+     * passed. The task is dropped if the queue is closed in the meantime.
+     */
+    void submitAfter(DatabricksCallableTask task, long delayMillis) {
+      if (delayMillis <= 0) {
+        submit(task);
+        return;
+      }
+      CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS)
+          .execute(() -> submit(task));
+    }
+
+    /** Drops pending downloads and interrupts the running ones. */
+    void close() {
+      synchronized (CloudFetchDownloadScheduler.this) {
+        isClosed = true;
+        pendingTasks.clear();
+        readyQueues.remove(this);
+        isReady = false;
+        runningThreads.forEach(Thread::interrupt);
+      }
+    }
+
+    int getPendingTaskCount() {
+      synchronized (CloudFetchDownloadScheduler.this) {
+        return pendingTasks.size();
+      }
+    }
+
+    private void enqueueIfReady() {
+      if (!isReady && !isClosed && !pendingTasks.isEmpty() && runningTasks < maxConcurrency) {
+        readyQueues.addLast(this);
+        isReady = true;
+      }
+    }
+
+    private void run(DatabricksCallableTask task) {
+      synchronized (CloudFetchDownloadScheduler.this) {
+        if (isClosed) {
+          finish();
+          return;
+        }
+        runningThreads.add(Thread.currentThread());
+      }
+      try {
+        task.call();
+      } catch (Exception e) {
+        // The task reports its own failure to the chunk provider
+        LOGGER.debug(
+            "Chunk download task failed for statement {}. Error {}", statementId, e.getMessage());
+      } finally {
+        synchronized (CloudFetchDownloadScheduler.this) {
+          runningThreads.remove(Thread.currentThread());
+          finish();
+        }
+        // Do not leak an interrupt meant for this result set into the next download on the thread
+        Thread.interrupted();
+      }
+    }
+
+    private void finish() {
+      runningTasks--;
+      CloudFetchDownloadScheduler.this.runningTasks--;
+      enqueueIfReady();
+      dispatch();
+    }
+  }
+}
@@ -3,9 +3,11 @@ package com.databricks.jdbc.api.impl.arrow;
 import static com.databricks.jdbc.common.util.DatabricksTypeUtil.*;
 import static com.databricks.jdbc.common.util.DecompressionUtil.decompress;
 
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
 import com.databricks.jdbc.api.internal.IDatabricksSession;
 import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
 import com.databricks.jdbc.common.CompressionCodec;
+import com.databricks.jdbc.common.util.DatabricksThreadContextHolder;
 import com.databricks.jdbc.exception.DatabricksParsingException;
 import com.databricks.jdbc.exception.DatabricksSQLException;
 import com.databricks.jdbc.log.JdbcLogger;
@@ -16,39 +18,86 @@ import com.databricks.jdbc.model.core.ResultManifest;
 import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
 import com.google.common.annotations.VisibleForTesting;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.arrow.vector.types.pojo.ArrowType;
 import org.apache.arrow.vector.types.pojo.Field;
 import org.apache.arrow.vector.types.pojo.FieldType;
 import org.apache.arrow.vector.types.pojo.Schema;
 import org.apache.arrow.vector.util.SchemaUtility;
 
-/** Class to manage inline Arrow chunks */
+/**
+ * Class to manage inline Arrow chunks.
+ *
+ * <p>For Thrift results every page of arrow batches returned by the server becomes its own chunk. A
+ * page is only decoded into Arrow memory once the result moves to it, the previous chunk is
+ * released at that point, and the next page is fetched in the background while the current chunk is
+ * read. Prefetches of all results share a small bounded pool, and closing the provider waits for a
+ * prefetch in flight so that it never runs against a closed statement.
+ */
 public class InlineChunkProvider implements ChunkProvider {
 
   private static final JdbcLogger LOGGER = JdbcLoggerFactory.getLogger(InlineChunkProvider.class);
+  private static final String PAGE_FETCH_THREAD_POOL_PREFIX = "databricks-jdbc-inline-fetch-";
+  private static final int PAGE_FETCH_THREAD_COUNT = 8;
+  private static final ExecutorService PAGE_FETCH_EXECUTOR = createPageFetchExecutor();
+  private final IDatabricksStatementInternal parentStatement;
+  private final IDatabricksSession session;
+  private final CompressionCodec compressionCodec;
+  private final byte[] serializedSchema;
+  // Maximum number of rows of the result, 0 if the result is not limited
+  private final long maxRows;
   private long totalRows;
   private long currentChunkIndex;
+  private Future<TFetchResultsResp> nextPage;
+  // Page after the current one, read ahead by isRowCountFinal() and not decoded yet
+  private TFetchResultsResp readAheadPage;
+  // Held by a prefetch while it fetches, so that close() waits for it
+  private final Object pageFetchLock = new Object();
+  private final IDatabricksConnectionContext connectionContext;
+  private final String statementId;
+  private volatile boolean isClosed;
 
-  ArrowResultChunk arrowResultChunk; // There is only one packet of data in case of inline arrow
+  ArrowResultChunk arrowResultChunk; // Chunk of the current page, decoded on first access
 
   InlineChunkProvider(
       TFetchResultsResp resultsResp,
       IDatabricksStatementInternal parentStatement,
       IDatabricksSession session)
-      throws DatabricksParsingException {
+      throws DatabricksSQLException {
+    this(resultsResp, parentStatement, session, 0);
+  }
+
+  InlineChunkProvider(
+      TFetchResultsResp resultsResp,
+      IDatabricksStatementInternal parentStatement,
+      IDatabricksSession session,
+      long maxRows)
+      throws DatabricksSQLException {
+    this.parentStatement = parentStatement;
+    this.session = session;
+    this.maxRows = maxRows;
+    this.connectionContext = DatabricksThreadContextHolder.getConnectionContext();
+    this.statementId = DatabricksThreadContextHolder.getStatementId();
     this.currentChunkIndex = -1;
     this.totalRows = 0;
-    ByteArrayInputStream byteStream = initializeByteStream(resultsResp, session, parentStatement);
-    arrowResultChunk =
-        ArrowResultChunk.builder()
-            .withInputStream(byteStream, totalRows)
-            .withStatementId(parentStatement.getStatementId())
-            .build();
+    this.compressionCodec =
+        CompressionCodec.getCompressionMapping(resultsResp.getResultSetMetadata());
+    this.serializedSchema = getSerializedSchema(resultsResp.getResultSetMetadata());
+    this.arrowResultChunk = readChunk(resultsResp);
   }
 
   /**
@@ -60,16 +109,22 @@ public class InlineChunkProvider implements ChunkProvider {
    */
   InlineChunkProvider(ResultData resultData, ResultManifest resultManifest)
       throws DatabricksSQLException {
+    this.parentStatement = null;
+    this.session = null;
+    this.connectionContext = null;
+    this.statementId = null;
+    this.serializedSchema = null;
+    this.maxRows = 0;
     this.currentChunkIndex = -1;
     this.totalRows = resultManifest.getTotalRowCount();
 
     // Decompress the inline data if applicable and create an ArrowResultChunk
-    CompressionCodec compressionType = resultManifest.getResultCompression();
+    this.compressionCodec = resultManifest.getResultCompression();
     byte[] decompressedBytes =
         decompress(
             resultData.getAttachment(),
-            compressionType,
-            "Data fetch for inline arrow batch with decompression algorithm : " + compressionType);
+            compressionCodec,
+            "Data fetch for inline arrow batch with decompression algorithm : " + compressionCodec);
     this.arrowResultChunk =
         ArrowResultChunk.builder()
             .withInputStream(new ByteArrayInputStream(decompressedBytes), totalRows)
@@ -79,7 +134,14 @@ public class InlineChunkProvider implements ChunkProvider {
   /** {@inheritDoc} */
   @Override
   public boolean hasNextChunk() {
-    return this.currentChunkIndex == -1;
+    if (isClosed) {
+      return false;
+    }
+    if (readAheadPage != null) {
+      // A page read ahead without rows is the last page of the result
+      return getPageRowCount(readAheadPage) > 0;
+    }
+    return this.currentChunkIndex == -1 || nextPage != null;
   }
 
   /** {@inheritDoc} */
@@ -88,65 +150,164 @@ public class InlineChunkProvider implements ChunkProvider {
     if (!hasNextChunk()) {
       return false;
     }
+    if (this.currentChunkIndex >= 0) {
+      // The next page is decoded on demand by getChunk()
+      arrowResultChunk.releaseChunk();
+      arrowResultChunk = null;
+    }
     this.currentChunkIndex++;
     return true;
   }
 
   /** {@inheritDoc} */
   @Override
-  public ArrowResultChunk getChunk() {
+  public ArrowResultChunk getChunk() throws DatabricksSQLException {
+    if (arrowResultChunk == null && !isClosed) {
+      TFetchResultsResp page =
+          readAheadPage != null ? readAheadPage : skipEmptyPages(awaitNextPage());
+      readAheadPage = null;
+      arrowResultChunk = createChunk(getArrowBatches(page));
+    }
     return arrowResultChunk;
   }
 
   /** {@inheritDoc} */
   @Override
   public void close() {
-    arrowResultChunk.releaseChunk();
+    // A prefetch that has not started yet sees the flag and skips the fetch, one in flight is
+    // waited for
+    synchronized (pageFetchLock) {
+      isClosed = true;
+    }
+    nextPage = null;
+    readAheadPage = null;
+    if (arrowResultChunk != null) {
+      arrowResultChunk.releaseChunk();
+    }
   }
 
+  /**
+   * Returns the number of rows fetched so far. For Thrift results later pages are only fetched as
+   * the result is read.
+   */
   @Override
   public long getRowCount() {
     return totalRows;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Waits for the page after the current one, which is then kept undecoded until the result
+   * moves to it.
+   */
+  @Override
+  public boolean isRowCountFinal() throws DatabricksSQLException {
+    if (isClosed) {
+      return true;
+    }
+    getChunk();
+    if (readAheadPage == null && nextPage != null) {
+      readAheadPage = skipEmptyPages(awaitNextPage());
+    }
+    return nextPage == null;
+  }
+
   @Override
   public long getChunkCount() {
     return 0;
   }
 
-  private ByteArrayInputStream initializeByteStream(
-      TFetchResultsResp resultsResp,
-      IDatabricksSession session,
-      IDatabricksStatementInternal parentStatement)
-      throws DatabricksParsingException {
-    ByteArrayOutputStream baos = new ByteArrayOutputStream();
-    CompressionCodec compressionType =
-        CompressionCodec.getCompressionMapping(resultsResp.getResultSetMetadata());
+  /** Decodes the given page into a chunk and starts fetching the page after it. */
+  private ArrowResultChunk readChunk(TFetchResultsResp page) throws DatabricksSQLException {
+    return createChunk(getArrowBatches(skipEmptyPages(page)));
+  }
+
+  /**
+   * Returns the first page with rows starting at the given one, or the last page of the result if
+   * no page has rows. Rows of the returned page are counted and the page after it is prefetched.
+   */
+  private TFetchResultsResp skipEmptyPages(TFetchResultsResp page) throws DatabricksSQLException {
+    while (prefetchNextPage(page) == 0 && nextPage != null) {
+      page = awaitNextPage();
+    }
+    return page;
+  }
+
+  /** Starts fetching the page after the given one if needed, returns the rows of the given page. */
+  private long prefetchNextPage(TFetchResultsResp page) {
+    long pageRows = getPageRowCount(page);
+    totalRows += pageRows;
+    // Pages past the row limit are never read, so there is no need to fetch them
+    if (!page.hasMoreRows || (maxRows > 0 && totalRows >= maxRows)) {
+      nextPage = null;
+      return pageRows;
+    }
+    LOGGER.debug(
+        "Prefetching inline arrow page after {} rows for statement {}",
+        totalRows,
+        parentStatement.getStatementId());
+    nextPage = PAGE_FETCH_EXECUTOR.submit(this::fetchNextPage);
+    return pageRows;
+  }
+
+  /** Fetches the next page on a prefetch thread, unless the provider has been closed. */
+  private TFetchResultsResp fetchNextPage() throws DatabricksSQLException {
+    DatabricksThreadContextHolder.setConnectionContext(connectionContext);
+    DatabricksThreadContextHolder.setStatementId(statementId);
     try {
-      byte[] serializedSchema = getSerializedSchema(resultsResp.getResultSetMetadata());
-      if (serializedSchema != null) {
-        baos.write(serializedSchema);
+      synchronized (pageFetchLock) {
+        return isClosed ? null : session.getDatabricksClient().getMoreResults(parentStatement);
       }
-      writeToByteOutputStream(
-          compressionType, parentStatement, resultsResp.getResults().getArrowBatches(), baos);
-      while (resultsResp.hasMoreRows) {
-        resultsResp = session.getDatabricksClient().getMoreResults(parentStatement);
-        writeToByteOutputStream(
-            compressionType, parentStatement, resultsResp.getResults().getArrowBatches(), baos);
+    } finally {
+      DatabricksThreadContextHolder.clearAllContext();
+    }
+  }
+
+  private static long getPageRowCount(TFetchResultsResp page) {
+    long pageRows = 0;
+    for (TSparkArrowBatch arrowBatch : getArrowBatches(page)) {
+      pageRows += arrowBatch.getRowCount();
+    }
+    return pageRows;
+  }
+
+  private static List<TSparkArrowBatch> getArrowBatches(TFetchResultsResp page) {
+    TRowSet rowSet = page.getResults();
+    return rowSet == null || rowSet.getArrowBatches() == null
+        ? Collections.emptyList()
+        : rowSet.getArrowBatches();
+  }
+
+  private TFetchResultsResp awaitNextPage() throws DatabricksSQLException {
+    Future<TFetchResultsResp> page = nextPage;
+    nextPage = null;
+    try {
+      return page.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      handleError(e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof DatabricksSQLException) {
+        throw (DatabricksSQLException) e.getCause();
       }
-      return new ByteArrayInputStream(baos.toByteArray());
-    } catch (DatabricksSQLException | IOException e) {
       handleError(e);
     }
+    // should never reach here;
     return null;
   }
 
-  void writeToByteOutputStream(
-      CompressionCodec compressionCodec,
-      IDatabricksStatementInternal parentStatement,
-      List<TSparkArrowBatch> arrowBatchList,
-      ByteArrayOutputStream baos)
-      throws DatabricksSQLException, IOException {
+  /**
+   * Creates the chunk of one page. The arrow stream of the page is the serialized schema followed
+   * by the decompressed batches of the page, read in sequence without being concatenated.
+   */
+  private ArrowResultChunk createChunk(List<TSparkArrowBatch> arrowBatchList)
+      throws DatabricksSQLException {
+    List<InputStream> streams = new ArrayList<>(arrowBatchList.size() + 1);
+    if (serializedSchema != null) {
+      streams.add(new ByteArrayInputStream(serializedSchema));
+    }
+    long rowCount = 0;
     for (TSparkArrowBatch arrowBatch : arrowBatchList) {
       byte[] decompressedBytes =
           decompress(
@@ -155,9 +316,37 @@ public class InlineChunkProvider implements ChunkProvider {
               String.format(
                   "Data fetch for inline arrow batch [%d] and statement [%s] with decompression algorithm : [%s]",
                   arrowBatch.getRowCount(), parentStatement, compressionCodec));
-      totalRows += arrowBatch.getRowCount();
-      baos.write(decompressedBytes);
+      rowCount += arrowBatch.getRowCount();
+      streams.add(new ByteArrayInputStream(decompressedBytes));
     }
+    return ArrowResultChunk.builder()
+        .withInputStream(new SequenceInputStream(Collections.enumeration(streams)), rowCount)
+        .withStatementId(parentStatement.getStatementId())
+        .build();
+  }
+
+  private static ExecutorService createPageFetchExecutor() {
+    ThreadFactory threadFactory =
+        new ThreadFactory() {
+          private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+          public Thread newThread(final Runnable r) {
+            final Thread thread = new Thread(r);
+            thread.setName(PAGE_FETCH_THREAD_POOL_PREFIX + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+          }
+        };
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            PAGE_FETCH_THREAD_COUNT,
+            PAGE_FETCH_THREAD_COUNT,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            threadFactory);
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
   }
 
   private byte[] getSerializedSchema(TGetResultSetMetadataResp metadata)
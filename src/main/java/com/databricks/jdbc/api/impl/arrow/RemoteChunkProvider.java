@@ -18,26 +18,24 @@ import com.databricks.jdbc.model.core.ExternalLink;
 import com.databricks.jdbc.model.core.ResultData;
 import com.databricks.jdbc.model.core.ResultManifest;
 import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
+import com.databricks.jdbc.telemetry.latency.LatencyRecorder;
 import com.databricks.sdk.service.sql.BaseChunkInfo;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
 
 /** Class to manage Arrow chunks and fetch them on proactive basis. */
 public class RemoteChunkProvider implements ChunkProvider, ChunkDownloadCallback {
 
   private static final JdbcLogger LOGGER = JdbcLoggerFactory.getLogger(RemoteChunkProvider.class);
-  private static final String CHUNKS_DOWNLOADER_THREAD_POOL_PREFIX =
-      "databricks-jdbc-chunks-downloader-";
-  private static int chunksDownloaderThreadPoolSize;
   private final StatementId statementId;
   private long chunkCount;
   private long rowCount;
-  private final ExecutorService chunkDownloaderExecutorService;
+  private final int chunksDownloaderThreadPoolSize;
+  private final CloudFetchDownloadScheduler.StatementQueue downloadQueue;
+  private final boolean isAsyncDownload;
   private final IDatabricksHttpClient httpClient;
+  private final ChunkRangeDownloader rangeDownloader;
   private Long currentChunkIndex;
   private long nextChunkToDownload;
   private Long totalChunksInMemory;
@@ -46,6 +44,16 @@ public class RemoteChunkProvider implements ChunkProvider, ChunkDownloadCallback
   private final CompressionCodec compressionCodec;
   private final ConcurrentHashMap<Long, ArrowResultChunk> chunkIndexToChunksMap;
   private final ChunkLinkDownloadService linkDownloadService;
+  private final ArrowMemoryBudget memoryBudget;
+  private final long memoryWaitTimeoutMillis;
+  // Maximum number of rows the caller reads, 0 if the result is not limited
+  private final long maxRows;
+  private final IDatabricksSession session;
+  private final IDatabricksStatementInternal parentStatement;
+  private final LatencyRecorder latencyRecorder;
+  // Whether the server has more Thrift result link pages that were not fetched yet
+  private boolean hasMoreLinks;
+  private DatabricksSQLException linkFetchError;
 
   RemoteChunkProvider(
       StatementId statementId,
@@ -55,13 +63,51 @@ public class RemoteChunkProvider implements ChunkProvider, ChunkDownloadCallback
       IDatabricksHttpClient httpClient,
       int chunksDownloaderThreadPoolSize)
       throws DatabricksParsingException {
-    RemoteChunkProvider.chunksDownloaderThreadPoolSize = chunksDownloaderThreadPoolSize;
-    this.chunkDownloaderExecutorService = createChunksDownloaderExecutorService();
+    this(
+        statementId,
+        resultManifest,
+        resultData,
+        session,
+        httpClient,
+        chunksDownloaderThreadPoolSize,
+        0);
+  }
+
+  /**
+   * Creates a provider that only downloads the chunks holding the first {@code maxRows} rows of the
+   * result, based on the row offset of each chunk in the manifest.
+   */
+  RemoteChunkProvider(
+      StatementId statementId,
+      ResultManifest resultManifest,
+      ResultData resultData,
+      IDatabricksSession session,
+      IDatabricksHttpClient httpClient,
+      int chunksDownloaderThreadPoolSize,
+      long maxRows)
+      throws DatabricksParsingException {
+    this.chunksDownloaderThreadPoolSize = chunksDownloaderThreadPoolSize;
+    this.maxRows = maxRows;
+    this.session = session;
+    this.latencyRecorder = getLatencyRecorder(session);
+    this.parentStatement = null;
+    this.hasMoreLinks = false;
     this.httpClient = httpClient;
     this.statementId = statementId;
+    this.downloadQueue =
+        CloudFetchDownloadScheduler.getInstance()
+            .register(statementId, chunksDownloaderThreadPoolSize);
+    this.isAsyncDownload = session.getConnectionContext().isCloudFetchAsyncDownloadEnabled();
+    this.rangeDownloader = ChunkRangeDownloader.forConnection(session.getConnectionContext());
     this.chunkCount = resultManifest.getTotalChunkCount();
     this.rowCount = resultManifest.getTotalRowCount();
-    this.chunkIndexToChunksMap = initializeChunksMap(resultManifest, resultData, statementId);
+    this.memoryBudget =
+        ArrowMemoryBudgetFactory.getInstance().getBudget(session.getConnectionContext());
+    this.memoryWaitTimeoutMillis =
+        TimeUnit.SECONDS.toMillis(session.getConnectionContext().getCloudFetchMemoryWaitTimeout());
+    this.chunkIndexToChunksMap =
+        initializeChunksMap(resultManifest, resultData, statementId, memoryBudget);
+    applyRowLimit();
     this.compressionCodec = resultManifest.getResultCompression();
     this.linkDownloadService =
         new ChunkLinkDownloadService(
@@ -82,16 +128,62 @@ public class RemoteChunkProvider implements ChunkProvider, ChunkDownloadCallback
       int chunksDownloaderThreadPoolSize,
       CompressionCodec compressionCodec)
       throws DatabricksSQLException {
-    RemoteChunkProvider.chunksDownloaderThreadPoolSize = chunksDownloaderThreadPoolSize;
-    this.chunkDownloaderExecutorService = createChunksDownloaderExecutorService();
+    this(
+        parentStatement,
+        resultsResp,
+        session,
+        httpClient,
+        chunksDownloaderThreadPoolSize,
+        compressionCodec,
+        0);
+  }
+
+  RemoteChunkProvider(
+      IDatabricksStatementInternal parentStatement,
+      TFetchResultsResp resultsResp,
+      IDatabricksSession session,
+      IDatabricksHttpClient httpClient,
+      int chunksDownloaderThreadPoolSize,
+      CompressionCodec compressionCodec,
+      long maxRows)
+      throws DatabricksSQLException {
+    this.chunksDownloaderThreadPoolSize = chunksDownloaderThreadPoolSize;
+    this.maxRows = maxRows;
+    this.session = session;
+    this.latencyRecorder = getLatencyRecorder(session);
+    this.parentStatement = parentStatement;
     this.httpClient = httpClient;
     this.compressionCodec = compressionCodec;
-    this.rowCount = 0;
     this.statementId = parentStatement.getStatementId();
-    this.chunkIndexToChunksMap = initializeChunksMap(resultsResp, parentStatement, session);
+    this.downloadQueue =
+        CloudFetchDownloadScheduler.getInstance()
+            .register(statementId, chunksDownloaderThreadPoolSize);
+    this.isAsyncDownload = session.getConnectionContext().isCloudFetchAsyncDownloadEnabled();
+    this.rangeDownloader = ChunkRangeDownloader.forConnection(session.getConnectionContext());
+    this.memoryBudget =
+        ArrowMemoryBudgetFactory.getInstance().getBudget(session.getConnectionContext());
+    this.memoryWaitTimeoutMillis =
+        TimeUnit.SECONDS.toMillis(session.getConnectionContext().getCloudFetchMemoryWaitTimeout());
+    this.chunkIndexToChunksMap = new ConcurrentHashMap<>();
+    this.chunkCount = 0;
+    this.rowCount = 0;
+    populateChunkIndexMap(resultsResp);
+    boolean isLazyResultLinks = session.getConnectionContext().isCloudFetchLazyResultLinksEnabled();
+    if (!isLazyResultLinks) {
+      while (hasMoreLinks) {
+        fetchNextLinkPage();
+      }
+    }
+    // Thrift links are refetched through the same forward only result cursor that lazy pagination
+    // reads from, so links of a lazily paginated result cannot be refreshed once they expire
     this.linkDownloadService =
         new ChunkLinkDownloadService(
-            session, statementId, chunkCount, chunkIndexToChunksMap, chunkCount);
+            session,
+            statementId,
+            isLazyResultLinks ? 0 : chunkCount,
+            chunkIndexToChunksMap,
+            chunkCount,
+            !isLazyResultLinks);
     initializeData();
   }
 
@@ -100,10 +192,22 @@ public class RemoteChunkProvider implements ChunkProvider, ChunkDownloadCallback
   public void downloadProcessed(long chunkIndex) {
     ArrowResultChunk chunk = chunkIndexToChunksMap.get(chunkIndex);
     synchronized (chunk) {
+      if (!isClosed && chunk.getStatus() == ArrowResultChunk.ChunkStatus.DOWNLOAD_SUCCEEDED) {
+        // Replace the estimated size with what the chunk actually allocated
+        long allocatedMemory = chunk.getAllocatedMemory();
+        memoryBudget.reserve(allocatedMemory - chunk.getReservedBytes());
+        chunk.setReservedBytes(allocatedMemory);
+      }
       chunk.notify();
     }
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public void retryDownload(DatabricksCallableTask task, long delayMillis) {
+    downloadQueue.submitAfter(task, delayMillis);
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -117,6 +221,9 @@ public class RemoteChunkProvider implements ChunkProvider, ChunkDownloadCallback
     if (currentChunkIndex < 0) {
       return null;
     }
+    if (currentChunkIndex >= chunkCount && linkFetchError != null) {
+      throw linkFetchError;
+    }
     ArrowResultChunk chunk = chunkIndexToChunksMap.get(currentChunkIndex);
     synchronized (chunk) {
       try {
@@ -145,10 +252,16 @@ public class RemoteChunkProvider implements ChunkProvider, ChunkDownloadCallback
     return compressionCodec;
   }
 
+  @Override
+  public ChunkRangeDownloader getRangeDownloader() {
+    return rangeDownloader;
+  }
+
   /** {@inheritDoc} */
   @Override
   public boolean hasNextChunk() {
-    return currentChunkIndex < chunkCount - 1;
+    // A failed link fetch is reported by getChunk() rather than silently ending the result
+    return isChunkKnown(currentChunkIndex + 1) || linkFetchError != null;
   }
 
   /** {@inheritDoc} */
@@ -175,8 +288,14 @@ public class RemoteChunkProvider implements ChunkProvider, ChunkDownloadCallback
   public void close() {
     this.isClosed = true;
     this.linkDownloadService.shutdown();
-    this.chunkDownloaderExecutorService.shutdownNow();
-    this.chunkIndexToChunksMap.values().forEach(ArrowResultChunk::releaseChunk);
+    this.downloadQueue.close();
+    this.chunkIndexToChunksMap
+        .values()
+        .forEach(
+            chunk -> {
+              chunk.releaseChunk();
+              releaseReservation(chunk);
+            });
     DatabricksThreadContextHolder.clearStatementInfo();
   }
 
@@ -190,28 +309,110 @@ public class RemoteChunkProvider implements ChunkProvider, ChunkDownloadCallback
     return chunkCount;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>With lazy result links, fetches link pages until one adds rows or the server has no more.
+   */
+  @Override
+  public boolean isRowCountFinal() throws DatabricksSQLException {
+    long knownRowCount = rowCount;
+    isChunkKnown(chunkCount);
+    if (linkFetchError != null) {
+      throw linkFetchError;
+    }
+    return rowCount == knownRowCount && !hasMoreLinks;
+  }
+
   /** Release the memory for previous chunk since it is already consumed */
   void releaseChunk() {
-    if (chunkIndexToChunksMap.get(currentChunkIndex).releaseChunk()) {
+    ArrowResultChunk chunk = chunkIndexToChunksMap.get(currentChunkIndex);
+    if (chunk.releaseChunk()) {
+      releaseReservation(chunk);
       totalChunksInMemory--;
       downloadNextChunks();
     }
   }
 
+  /**
+   * Submits downloads for the next chunks while download threads are available and the chunks fit
+   * into the memory budget of the connection. When this result set has nothing in memory, the chunk
+   * following the current one waits for other result sets of the connection to release memory, and
+   * fails once {@code cloudFetchMemoryWaitTimeout} elapses. With lazy result links, the next link
+   * page is only fetched once a download slot is free for the first chunk past the known links.
+   */
   void downloadNextChunks() {
     while (!this.isClosed
-        && nextChunkToDownload < chunkCount
-        && totalChunksInMemory < allowedChunksInMemory) {
+        && totalChunksInMemory < allowedChunksInMemory
+        && isChunkKnown(nextChunkToDownload)) {
       ArrowResultChunk chunk = chunkIndexToChunksMap.get(nextChunkToDownload);
       if (chunk.getStatus() != ArrowResultChunk.ChunkStatus.DOWNLOAD_SUCCEEDED) {
-        this.chunkDownloaderExecutorService.submit(
-            new ChunkDownloadTask(chunk, httpClient, this, linkDownloadService));
+        long estimatedBytes = chunk.getEstimatedBytes();
+        if (totalChunksInMemory == 0) {
+          if (!awaitReservation(chunk, estimatedBytes)) {
+            return;
+          }
+        } else if (!memoryBudget.tryReserve(estimatedBytes)) {
+          LOGGER.debug(
+              "Memory budget exhausted, deferring download of chunk index {} for statement {}",
+              nextChunkToDownload,
+              statementId);
+          return;
+        }
+        synchronized (chunk) {
+          chunk.setReservedBytes(estimatedBytes);
+        }
+        if (isAsyncDownload) {
+          new AsyncChunkDownloadTask(chunk, httpClient, this, linkDownloadService, latencyRecorder)
+              .start();
+        } else {
+          this.downloadQueue.submit(
+              new ChunkDownloadTask(chunk, httpClient, this, linkDownloadService, latencyRecorder));
+        }
         totalChunksInMemory++;
       }
       nextChunkToDownload++;
     }
   }
 
+  /**
+   * Waits until the estimated bytes of the chunk are reserved. Fails the chunk if the wait times
+   * out or is interrupted, so that its reader gets the error instead of an allocation failure.
+   *
+   * @return true if the bytes were reserved
+   */
+  private boolean awaitReservation(ArrowResultChunk chunk, long estimatedBytes) {
+    String reason;
+    try {
+      if (memoryBudget.reserve(estimatedBytes, memoryWaitTimeoutMillis)) {
+        return true;
+      }
+      reason =
+          String.format(
+              "Other result sets of the connection held the cloudFetchMemoryLimit for %d ms. Read"
+                  + " or close them, or increase cloudFetchMemoryLimit or"
+                  + " cloudFetchMemoryWaitTimeout",
+              memoryWaitTimeoutMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      reason = "Interrupted while waiting for other result sets to release memory";
+    }
+    chunk.setMemoryFailure(reason);
+    return false;
+  }
+
+  private static LatencyRecorder getLatencyRecorder(IDatabricksSession session) {
+    LatencyRecorder latencyRecorder = session.getLatencyRecorder();
+    return latencyRecorder != null ? latencyRecorder : new LatencyRecorder();
+  }
+
+  private void releaseReservation(ArrowResultChunk chunk) {
+    synchronized (chunk) {
+      memoryBudget.release(chunk.getReservedBytes());
+      chunk.setReservedBytes(0);
+    }
+  }
+
   void initializeData() {
     DatabricksThreadContextHolder.setStatementId(statementId);
     // No chunks are downloaded, we need to start from first one
@@ -220,76 +421,114 @@ public class RemoteChunkProvider implements ChunkProvider, ChunkDownloadCallback
     this.currentChunkIndex = -1L;
     // We don't have any chunk in downloaded yet
     this.totalChunksInMemory = 0L;
-    // Number of worker threads are directly linked to allowed chunks in memory
-    this.allowedChunksInMemory = Math.min(chunksDownloaderThreadPoolSize, chunkCount);
+    // The per statement download concurrency is directly linked to allowed chunks in memory
+    this.allowedChunksInMemory =
+        hasMoreLinks
+            ? chunksDownloaderThreadPoolSize
+            : Math.min(chunksDownloaderThreadPoolSize, chunkCount);
     this.isClosed = false;
     // The first link is available
     this.downloadNextChunks();
   }
 
-  private ConcurrentHashMap<Long, ArrowResultChunk> initializeChunksMap(
-      TFetchResultsResp resultsResp,
-      IDatabricksStatementInternal parentStatement,
-      IDatabricksSession session)
-      throws DatabricksSQLException {
-    ConcurrentHashMap<Long, ArrowResultChunk> chunkIndexMap = new ConcurrentHashMap<>();
-    this.chunkCount = 0;
-    this.rowCount = 0;
-    populateChunkIndexMap(resultsResp.getResults(), chunkIndexMap);
-    while (resultsResp.hasMoreRows) {
-      resultsResp = session.getDatabricksClient().getMoreResults(parentStatement);
-      populateChunkIndexMap(resultsResp.getResults(), chunkIndexMap);
+  /**
+   * Restricts the result to the chunks that start before the row limit. Chunks past the limit are
+   * neither downloaded nor have their links refreshed.
+   */
+  private void applyRowLimit() {
+    if (maxRows <= 0) {
+      return;
     }
-    return chunkIndexMap;
+    long chunksWithinLimit = 0;
+    while (chunksWithinLimit < chunkCount
+        && chunkIndexToChunksMap.get(chunksWithinLimit).rowOffset < maxRows) {
+      chunksWithinLimit++;
+    }
+    if (chunksWithinLimit < chunkCount) {
+      LOGGER.debug(
+          "Row limit {} reached at chunk index {}, skipping the remaining {} chunks for statement {}",
+          maxRows,
+          chunksWithinLimit,
+          chunkCount - chunksWithinLimit,
+          statementId);
+    }
+    this.chunkCount = chunksWithinLimit;
+    this.rowCount = Math.min(rowCount, maxRows);
   }
 
-  private void populateChunkIndexMap(
-      TRowSet resultData, ConcurrentHashMap<Long, ArrowResultChunk> chunkIndexMap)
-      throws DatabricksSQLException {
+  private boolean isRowLimitReached(long rows) {
+    return maxRows > 0 && rows >= maxRows;
+  }
+
+  /**
+   * Returns whether the link of the given chunk is known, fetching further Thrift result link pages
+   * if needed. A failed fetch is kept in {@link #linkFetchError} and surfaced by {@link
+   * #getChunk()}.
+   */
+  private boolean isChunkKnown(long chunkIndex) {
+    while (chunkIndex >= chunkCount && hasMoreLinks && linkFetchError == null && !isClosed) {
+      try {
+        fetchNextLinkPage();
+      } catch (DatabricksSQLException e) {
+        LOGGER.error(
+            e,
+            "Failed to fetch result links after chunk index %s for statement %s. Error %s",
+            chunkCount,
+            statementId,
+            e.getMessage());
+        linkFetchError = e;
+      }
+    }
+    return chunkIndex < chunkCount;
+  }
+
+  private void fetchNextLinkPage() throws DatabricksSQLException {
+    TFetchResultsResp resultsResp = session.getDatabricksClient().getMoreResults(parentStatement);
+    populateChunkIndexMap(resultsResp);
+  }
+
+  private void populateChunkIndexMap(TFetchResultsResp resultsResp) throws DatabricksSQLException {
+    TRowSet resultData = resultsResp.getResults();
     rowCount += DatabricksThriftUtil.getRowCount(resultData);
     for (TSparkArrowResultLink resultLink : resultData.getResultLinks()) {
-      String chunkInformationLog =
-          String.format(
-              "Chunk information log - Row Offset: %s, Row Count: %s, Expiry Time: %s",
-              resultLink.getStartRowOffset(), resultLink.getRowCount(), resultLink.getExpiryTime());
-      LOGGER.debug(chunkInformationLog);
-      chunkIndexMap.put(
+      LOGGER.debug(
+          "Chunk information log - Row Offset: {}, Row Count: {}, Expiry Time: {}",
+          resultLink.getStartRowOffset(),
+          resultLink.getRowCount(),
+          resultLink.getExpiryTime());
+      chunkIndexToChunksMap.put(
           chunkCount,
           ArrowResultChunk.builder()
               .withStatementId(statementId)
               .withThriftChunkInfo(chunkCount, resultLink)
+              .withParentAllocator(memoryBudget.getAllocator())
               .build());
       this.chunkCount++;
     }
-  }
-
-  private static ExecutorService createChunksDownloaderExecutorService() {
-    ThreadFactory threadFactory =
-        new ThreadFactory() {
-          private final AtomicInteger threadCount = new AtomicInteger(1);
-
-          public Thread newThread(final Runnable r) {
-            final Thread thread = new Thread(r);
-            thread.setName(CHUNKS_DOWNLOADER_THREAD_POOL_PREFIX + threadCount.getAndIncrement());
-            thread.setDaemon(true);
-            return thread;
-          }
-        };
-    return Executors.newFixedThreadPool(chunksDownloaderThreadPoolSize, threadFactory);
+    // Links past the row limit are never downloaded, so there is no need to fetch them
+    this.hasMoreLinks = resultsResp.hasMoreRows && !isRowLimitReached(rowCount);
+    applyRowLimit();
   }
 
   private static ConcurrentHashMap<Long, ArrowResultChunk> initializeChunksMap(
-      ResultManifest resultManifest, ResultData resultData, StatementId statementId)
+      ResultManifest resultManifest,
+      ResultData resultData,
+      StatementId statementId,
+      ArrowMemoryBudget memoryBudget)
       throws DatabricksParsingException {
     ConcurrentHashMap<Long, ArrowResultChunk> chunkIndexMap = new ConcurrentHashMap<>();
     if (resultManifest.getTotalChunkCount() == 0) {
       return chunkIndexMap;
     }
     for (BaseChunkInfo chunkInfo : resultManifest.getChunks()) {
-      LOGGER.debug("Manifest chunk information: " + chunkInfo.toString());
+      LOGGER.debug("Manifest chunk information: {}", chunkInfo);
       chunkIndexMap.put(
           chunkInfo.getChunkIndex(),
-          ArrowResultChunk.builder().withStatementId(statementId).withChunkInfo(chunkInfo).build());
+          ArrowResultChunk.builder()
+              .withStatementId(statementId)
+              .withChunkInfo(chunkInfo)
+              .withParentAllocator(memoryBudget.getAllocator())
+              .build());
     }
 
     for (ExternalLink externalLink : resultData.getExternalLinks()) {
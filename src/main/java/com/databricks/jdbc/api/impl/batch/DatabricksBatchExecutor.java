@@ -1,6 +1,9 @@
 package com.databricks.jdbc.api.impl.batch;
 
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.common.util.DatabricksThreadContextHolder;
 import com.databricks.jdbc.exception.DatabricksBatchUpdateException;
+import com.databricks.jdbc.exception.DatabricksSQLException;
 import com.databricks.jdbc.exception.DatabricksValidationException;
 import com.databricks.jdbc.log.JdbcLogger;
 import com.databricks.jdbc.log.JdbcLoggerFactory;
@@ -12,6 +15,15 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * The {@code DatabricksBatchExecutor} class handles the execution of batch SQL commands. It
@@ -26,26 +38,82 @@ import java.util.List;
  *   <li>Tracking telemetry such as execution time for each command and total batch execution time.
  *   <li>Enforcing a maximum batch size limit.
  * </ul>
+ *
+ * <p>By default commands are executed one after another on the parent statement and execution stops
+ * at the first failure. With a parallelism above one, commands are executed concurrently on
+ * separate statements of the same connection, on the batch executor shared by the statements of the
+ * connection. With continue-on-error, the remaining commands are executed after a failure and the
+ * failure is reported once all of them have completed.
  */
 public class DatabricksBatchExecutor {
 
   private static final JdbcLogger LOGGER =
       JdbcLoggerFactory.getLogger(DatabricksBatchExecutor.class);
 
+  private static final String BATCH_THREAD_POOL_PREFIX = "databricks-jdbc-batch-";
+
   final Statement parentStatement;
   final List<BatchCommand> commands = new ArrayList<>();
   final int maxBatchSize;
+  final int parallelism;
+  final boolean continueOnError;
+  private final Supplier<ExecutorService> executorSupplier;
 
   /**
    * Constructs a {@code DatabricksBatchExecutor} with the specified parent {@code Statement} and
-   * maximum batch size.
+   * maximum batch size, which executes commands in order and stops at the first failure.
    *
    * @param parentStatement the parent {@code Statement} that will execute the commands
    * @param maxBatchSize the maximum number of commands allowed in the batch
    */
   public DatabricksBatchExecutor(Statement parentStatement, int maxBatchSize) {
+    this(parentStatement, maxBatchSize, 1, false, null);
+  }
+
+  /**
+   * Constructs a {@code DatabricksBatchExecutor} with the specified parent {@code Statement},
+   * maximum batch size and execution mode.
+   *
+   * @param parentStatement the parent {@code Statement} that will execute the commands
+   * @param maxBatchSize the maximum number of commands allowed in the batch
+   * @param parallelism the maximum number of commands executed concurrently
+   * @param continueOnError whether the remaining commands are executed after a command fails
+   * @param executorSupplier supplies the executor of concurrent commands, which is owned by the
+   *     connection; only called when commands are executed concurrently
+   */
+  public DatabricksBatchExecutor(
+      Statement parentStatement,
+      int maxBatchSize,
+      int parallelism,
+      boolean continueOnError,
+      Supplier<ExecutorService> executorSupplier) {
     this.parentStatement = parentStatement;
     this.maxBatchSize = maxBatchSize;
+    this.parallelism = Math.max(1, parallelism);
+    this.continueOnError = continueOnError;
+    this.executorSupplier = executorSupplier;
+  }
+
+  /**
+   * Creates the executor of the concurrent batch commands of a connection. Its threads are bounded
+   * by the batch parallelism of the connection and time out when idle, so that batches reuse them
+   * instead of each starting a pool of its own.
+   *
+   * @param connectionContext context of the connection that owns the executor
+   * @return a new executor, to be shut down when the connection is closed
+   */
+  public static ExecutorService createExecutor(IDatabricksConnectionContext connectionContext) {
+    int threadCount = connectionContext.getBatchParallelism();
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            threadCount,
+            threadCount,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            createThreadFactory());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
   }
 
   /**
@@ -88,6 +156,9 @@ public class DatabricksBatchExecutor {
       LOGGER.warn("No commands to execute in the batch");
       return new long[0];
     }
+    if (parallelism > 1 || continueOnError) {
+      return executeBatchCollectingFailures();
+    }
 
     long[] updateCounts = new long[commands.size()];
     Instant batchStartTime = Instant.now();
@@ -140,6 +211,168 @@ public class DatabricksBatchExecutor {
     }
   }
 
+  /**
+   * Executes the commands of the batch, concurrently when the parallelism is above one, and
+   * collects the failures instead of stopping at the first one.
+   *
+   * <p>Concurrent commands are executed on separate statements of the parent connection, since a
+   * statement tracks a single execution. Once a command fails, later commands that have not started
+   * yet are skipped unless continue-on-error is enabled, while earlier commands are still executed.
+   * Commands that already started run to completion.
+   *
+   * <p>As commands after a failed one may already have been executed, the update counts of the
+   * thrown exception cover every command of the batch, in batch order. Failed and skipped commands
+   * report {@link Statement#EXECUTE_FAILED}.
+   *
+   * @return an array of update counts for each command in the batch
+   * @throws DatabricksBatchUpdateException if any command of the batch fails
+   */
+  long[] executeBatchCollectingFailures() throws DatabricksBatchUpdateException {
+    int commandCount = commands.size();
+    long[] updateCounts = new long[commandCount];
+    // Commands that never complete did not execute successfully
+    Arrays.fill(updateCounts, Statement.EXECUTE_FAILED);
+    SQLException[] failures = new SQLException[commandCount];
+    AtomicInteger firstFailedIndex = new AtomicInteger(Integer.MAX_VALUE);
+    Instant batchStartTime = Instant.now();
+    int threadCount = Math.min(parallelism, commandCount);
+
+    if (threadCount == 1) {
+      for (int i = 0; i < commandCount; i++) {
+        executeCollectingFailure(parentStatement, i, updateCounts, failures, firstFailedIndex);
+      }
+    } else {
+      LOGGER.debug(
+          "Executing {} batch commands with up to {} concurrent statements",
+          commandCount,
+          threadCount);
+      ExecutorService executor = executorSupplier.get();
+      IDatabricksConnectionContext connectionContext =
+          DatabricksThreadContextHolder.getConnectionContext();
+      List<Future<?>> futures = new ArrayList<>(commandCount);
+      try {
+        for (int i = 0; i < commandCount; i++) {
+          int commandIndex = i;
+          futures.add(
+              executor.submit(
+                  () ->
+                      executeOnChildStatement(
+                          connectionContext,
+                          commandIndex,
+                          updateCounts,
+                          failures,
+                          firstFailedIndex)));
+        }
+        for (Future<?> future : futures) {
+          future.get();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        futures.forEach(future -> future.cancel(true));
+        throw batchFailure(updateCounts, batchStartTime, "Batch execution was interrupted", null);
+      } catch (ExecutionException e) {
+        // Tasks record their failures, so this only happens on unexpected errors
+        futures.forEach(future -> future.cancel(true));
+        throw batchFailure(
+            updateCounts, batchStartTime, "Batch execution failed: " + e.getCause(), null);
+      }
+    }
+
+    for (int i = 0; i < commandCount; i++) {
+      if (failures[i] != null) {
+        String message =
+            String.format("Batch execution failed at command %d: %s", i, failures[i].getMessage());
+        throw batchFailure(updateCounts, batchStartTime, message, failures[i]);
+      }
+    }
+    clearCommands();
+    Duration batchDuration = Duration.between(batchStartTime, Instant.now());
+    LOGGER.debug("Total batch execution time: {} ms", batchDuration.toMillis());
+    return updateCounts;
+  }
+
+  private void executeOnChildStatement(
+      IDatabricksConnectionContext connectionContext,
+      int commandIndex,
+      long[] updateCounts,
+      SQLException[] failures,
+      AtomicInteger firstFailedIndex) {
+    if (!continueOnError && commandIndex > firstFailedIndex.get()) {
+      return;
+    }
+    // Threads of the executor are shared with other batches of the connection
+    DatabricksThreadContextHolder.setConnectionContext(connectionContext);
+    try (Statement statement = parentStatement.getConnection().createStatement()) {
+      statement.setQueryTimeout(parentStatement.getQueryTimeout());
+      executeCollectingFailure(statement, commandIndex, updateCounts, failures, firstFailedIndex);
+    } catch (SQLException e) {
+      LOGGER.error(e, "Error creating statement for batch command {}", commandIndex);
+      failures[commandIndex] = e;
+      firstFailedIndex.accumulateAndGet(commandIndex, Math::min);
+    } finally {
+      DatabricksThreadContextHolder.clearAllContext();
+    }
+  }
+
+  private void executeCollectingFailure(
+      Statement statement,
+      int commandIndex,
+      long[] updateCounts,
+      SQLException[] failures,
+      AtomicInteger firstFailedIndex) {
+    if (!continueOnError && commandIndex > firstFailedIndex.get()) {
+      return;
+    }
+    BatchCommand command = commands.get(commandIndex);
+    Instant commandStartTime = Instant.now();
+    try {
+      LOGGER.debug("Executing batch command {}: {}", commandIndex, command.getSql());
+      boolean hasResultSet = statement.execute(command.getSql());
+      long updateCount = statement.getLargeUpdateCount();
+      logCommandExecutionTime(commandIndex, commandStartTime, true);
+      if (hasResultSet) {
+        // According to JDBC spec, a command of a batch must not return a ResultSet
+        failures[commandIndex] =
+            new DatabricksSQLException(
+                String.format(
+                    "Command %d in the batch attempted to return a ResultSet", commandIndex),
+                DatabricksDriverErrorCode.BATCH_EXECUTE_EXCEPTION);
+        firstFailedIndex.accumulateAndGet(commandIndex, Math::min);
+        return;
+      }
+      updateCounts[commandIndex] = updateCount != -1 ? updateCount : Statement.SUCCESS_NO_INFO;
+    } catch (SQLException e) {
+      logCommandExecutionTime(commandIndex, commandStartTime, false);
+      LOGGER.error(
+          e, "Error executing batch command at index {}: {}", commandIndex, e.getMessage());
+      failures[commandIndex] = e;
+      firstFailedIndex.accumulateAndGet(commandIndex, Math::min);
+    }
+  }
+
+  private DatabricksBatchUpdateException batchFailure(
+      long[] updateCounts, Instant batchStartTime, String message, SQLException cause) {
+    clearCommands();
+    Duration batchDuration = Duration.between(batchStartTime, Instant.now());
+    LOGGER.debug("Total batch execution time until failure: {} ms", batchDuration.toMillis());
+    if (cause != null) {
+      return new DatabricksBatchUpdateException(
+          message, cause.getSQLState(), cause.getErrorCode(), updateCounts, cause);
+    }
+    return new DatabricksBatchUpdateException(
+        message, DatabricksDriverErrorCode.BATCH_EXECUTE_EXCEPTION, updateCounts);
+  }
+
+  private static ThreadFactory createThreadFactory() {
+    AtomicInteger threadNumber = new AtomicInteger(1);
+    return runnable -> {
+      Thread thread = new Thread(runnable);
+      thread.setName(BATCH_THREAD_POOL_PREFIX + threadNumber.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
   /**
    * Logs the execution time of a batch command.
    *
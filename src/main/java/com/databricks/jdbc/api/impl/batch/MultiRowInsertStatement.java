@@ -0,0 +1,225 @@
+package com.databricks.jdbc.api.impl.batch;
+
+import com.databricks.jdbc.api.impl.ImmutableSqlParameter;
+import com.databricks.jdbc.common.util.SQLTemplate;
+import com.databricks.jdbc.exception.DatabricksValidationException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites a batch of a single-row {@code INSERT INTO ... VALUES (?, ...)} statement into multi-row
+ * {@code VALUES} statements, so that a batch needs one round-trip per group of rows instead of one
+ * per row.
+ *
+ * <p>Only a plain insert into a table, with an optional column list and exactly one values tuple,
+ * is rewritten. Other statements, such as {@code INSERT OVERWRITE} or {@code REPLACE WHERE}, change
+ * meaning when their rows are merged and are executed row by row.
+ *
+ * <p>Rows are grouped so that a statement stays below {@link #MAX_STATEMENT_BYTES} and, when
+ * parameters are sent to the server, below {@link #MAX_PARAMETERS} parameters.
+ */
+public class MultiRowInsertStatement {
+
+  /** Maximum number of parameters bound to one statement when parameters are not interpolated. */
+  public static final int MAX_PARAMETERS = 256;
+
+  /** Approximate maximum size of the SQL text and parameter values of one statement. */
+  public static final int MAX_STATEMENT_BYTES = 1024 * 1024;
+
+  private static final Pattern INSERT_VALUES_PATTERN =
+      Pattern.compile(
+          "^\\s*(INSERT\\s+INTO\\s+(?:TABLE\\s+)?[\\w.`]+\\s*(?:\\([^()?'\"]*\\))?\\s*VALUES)\\s*(\\(.*\\))\\s*;?\\s*$",
+          Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+  private final String insertPrefix;
+  private final String valuesTuple;
+  private final SQLTemplate valuesTemplate;
+  private final int parametersPerRow;
+
+  private MultiRowInsertStatement(String insertPrefix, String valuesTuple, int parametersPerRow) {
+    this.insertPrefix = insertPrefix;
+    this.valuesTuple = valuesTuple;
+    this.valuesTemplate = SQLTemplate.compile(valuesTuple);
+    this.parametersPerRow = parametersPerRow;
+  }
+
+  /**
+   * Parses the given SQL.
+   *
+   * @return the statement to coalesce rows into, or null if the SQL is not a single-row insert of
+   *     placeholders that can safely be merged
+   */
+  public static MultiRowInsertStatement parse(String sql) {
+    if (sql == null) {
+      return null;
+    }
+    Matcher matcher = INSERT_VALUES_PATTERN.matcher(sql);
+    if (!matcher.matches()) {
+      return null;
+    }
+    String valuesTuple = matcher.group(2);
+    int parametersPerRow = countPlaceholdersOfSingleTuple(valuesTuple);
+    if (parametersPerRow <= 0) {
+      return null;
+    }
+    return new MultiRowInsertStatement(matcher.group(1), valuesTuple, parametersPerRow);
+  }
+
+  /** Returns the number of placeholders of a single row. */
+  public int getParametersPerRow() {
+    return parametersPerRow;
+  }
+
+  /**
+   * Groups the rows of a batch into multi-row statements.
+   *
+   * @param rows parameter bindings of each row, keyed by the 1-based placeholder index. Every row
+   *     must bind exactly {@link #getParametersPerRow()} parameters.
+   * @param interpolateParameters whether parameter values are inlined into the SQL text
+   * @return the statements to execute, in row order
+   * @throws DatabricksValidationException if the parameters of a row cannot be interpolated
+   */
+  public List<Group> group(
+      List<Map<Integer, ImmutableSqlParameter>> rows, boolean interpolateParameters)
+      throws DatabricksValidationException {
+    List<Group> groups = new ArrayList<>();
+    GroupBuilder current = new GroupBuilder(0);
+    for (int rowIndex = 0; rowIndex < rows.size(); rowIndex++) {
+      Map<Integer, ImmutableSqlParameter> row = rows.get(rowIndex);
+      String rowTuple = interpolateParameters ? valuesTemplate.render(row) : valuesTuple;
+      long rowBytes = rowTuple.length() + (interpolateParameters ? 0 : estimateParameterBytes(row));
+      boolean exceedsParameters =
+          !interpolateParameters && current.parameters.size() + parametersPerRow > MAX_PARAMETERS;
+      boolean exceedsBytes = current.bytes + rowBytes > MAX_STATEMENT_BYTES;
+      if (current.rowCount > 0 && (exceedsParameters || exceedsBytes)) {
+        groups.add(current.build());
+        current = new GroupBuilder(rowIndex);
+      }
+      current.addRow(rowTuple, row, interpolateParameters);
+      current.bytes += rowBytes;
+    }
+    if (current.rowCount > 0) {
+      groups.add(current.build());
+    }
+    return groups;
+  }
+
+  private static long estimateParameterBytes(Map<Integer, ImmutableSqlParameter> row) {
+    long bytes = 0;
+    for (ImmutableSqlParameter parameter : row.values()) {
+      bytes += parameter.value() == null ? 4 : String.valueOf(parameter.value()).length();
+    }
+    return bytes;
+  }
+
+  /**
+   * Returns the number of placeholders in the tuple, or -1 if the text is not exactly one
+   * parenthesized tuple or contains a comment. Quoted strings and identifiers are skipped, and a
+   * single {@code -} or {@code /} is a sign or an operator, as in {@code (-1, ? / 2)}.
+   */
+  private static int countPlaceholdersOfSingleTuple(String tuple) {
+    int depth = 0;
+    int placeholders = 0;
+    char quote = 0;
+    for (int i = 0; i < tuple.length(); i++) {
+      char c = tuple.charAt(i);
+      if (quote != 0) {
+        if (c == '\\' && quote != '`') {
+          i++;
+        } else if (c == quote) {
+          quote = 0;
+        }
+        continue;
+      }
+      if (c == '\'' || c == '"' || c == '`') {
+        quote = c;
+      } else if (c == '(') {
+        depth++;
+      } else if (c == ')') {
+        depth--;
+        if (depth == 0 && i != tuple.length() - 1) {
+          // A second tuple or trailing clause follows the first tuple
+          return -1;
+        }
+      } else if (c == '?') {
+        placeholders++;
+      } else if (i + 1 < tuple.length()
+          && ((c == '-' && tuple.charAt(i + 1) == '-')
+              || (c == '/' && tuple.charAt(i + 1) == '*'))) {
+        // Comments could hide placeholders or parentheses
+        return -1;
+      }
+    }
+    return quote == 0 && depth == 0 ? placeholders : -1;
+  }
+
+  /** A multi-row statement covering consecutive rows of the batch. */
+  public static class Group {
+    private final int firstRowIndex;
+    private final int rowCount;
+    private final String sql;
+    private final Map<Integer, ImmutableSqlParameter> parameters;
+
+    private Group(
+        int firstRowIndex,
+        int rowCount,
+        String sql,
+        Map<Integer, ImmutableSqlParameter> parameters) {
+      this.firstRowIndex = firstRowIndex;
+      this.rowCount = rowCount;
+      this.sql = sql;
+      this.parameters = parameters;
+    }
+
+    public int getFirstRowIndex() {
+      return firstRowIndex;
+    }
+
+    public int getRowCount() {
+      return rowCount;
+    }
+
+    public String getSql() {
+      return sql;
+    }
+
+    public Map<Integer, ImmutableSqlParameter> getParameters() {
+      return parameters;
+    }
+  }
+
+  private class GroupBuilder {
+    private final int firstRowIndex;
+    private final StringBuilder sql = new StringBuilder(insertPrefix).append(' ');
+    private final Map<Integer, ImmutableSqlParameter> parameters = new HashMap<>();
+    private int rowCount;
+    private long bytes = insertPrefix.length();
+
+    private GroupBuilder(int firstRowIndex) {
+      this.firstRowIndex = firstRowIndex;
+    }
+
+    private void addRow(
+        String rowTuple, Map<Integer, ImmutableSqlParameter> row, boolean interpolateParameters) {
+      if (rowCount > 0) {
+        sql.append(", ");
+      }
+      sql.append(rowTuple);
+      if (!interpolateParameters) {
+        int offset = rowCount * parametersPerRow;
+        row.forEach(
+            (index, parameter) ->
+                parameters.put(index + offset, parameter.withCardinal(index + offset)));
+      }
+      rowCount++;
+    }
+
+    private Group build() {
+      return new Group(firstRowIndex, rowCount, sql.toString(), parameters);
+    }
+  }
+}
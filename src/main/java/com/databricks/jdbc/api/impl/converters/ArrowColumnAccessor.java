@@ -0,0 +1,38 @@
+package com.databricks.jdbc.api.impl.converters;
+
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import org.apache.arrow.vector.ValueVector;
+
+/**
+ * Reads a single column of an Arrow result as Java objects. Accessors are resolved once per column
+ * from the column type and arrow metadata, see {@link ArrowToJavaObjectConverter#createAccessor}.
+ */
+@FunctionalInterface
+public interface ArrowColumnAccessor {
+
+  /**
+   * Returns the Java object for the value at the given index of the column vector.
+   *
+   * @param columnVector vector holding the values of the column
+   * @param vectorIndex index of the value within the vector
+   * @return converted value, or null if the value is null
+   * @throws DatabricksSQLException if the value cannot be converted
+   */
+  Object getObject(ValueVector columnVector, int vectorIndex) throws DatabricksSQLException;
+
+  /**
+   * Returns the Java object for the value at the given index of a column vector whose lifetime is
+   * tracked by the given scope. Complex values may defer decoding their elements until they are
+   * accessed or the scope is released.
+   *
+   * @param columnVector vector holding the values of the column
+   * @param vectorIndex index of the value within the vector
+   * @param vectorScope lifetime of the column vector
+   * @return converted value, or null if the value is null
+   * @throws DatabricksSQLException if the value cannot be converted
+   */
+  default Object getObject(ValueVector columnVector, int vectorIndex, ArrowVectorScope vectorScope)
+      throws DatabricksSQLException {
+    return getObject(columnVector, vectorIndex);
+  }
+}
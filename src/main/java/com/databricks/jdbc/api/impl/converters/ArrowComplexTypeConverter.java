@@ -0,0 +1,474 @@
+package com.databricks.jdbc.api.impl.converters;
+
+import com.databricks.jdbc.api.impl.ComplexDataTypeParser;
+import com.databricks.jdbc.api.impl.ComplexElementSource;
+import com.databricks.jdbc.api.impl.DatabricksArray;
+import com.databricks.jdbc.api.impl.DatabricksMap;
+import com.databricks.jdbc.api.impl.DatabricksStruct;
+import com.databricks.jdbc.api.impl.MetadataParser;
+import com.databricks.jdbc.common.util.DatabricksTypeUtil;
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.exception.DatabricksValidationException;
+import com.databricks.jdbc.log.JdbcLogger;
+import com.databricks.jdbc.log.JdbcLoggerFactory;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.arrow.vector.TimeStampMicroTZVector;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.MapVector;
+import org.apache.arrow.vector.complex.StructVector;
+
+/**
+ * Converts ARRAY, MAP and STRUCT values of an Arrow column to {@link DatabricksArray}, {@link
+ * DatabricksMap} and {@link DatabricksStruct}.
+ *
+ * <p>The Databricks type text of the column is parsed once into a type tree when the converter is
+ * created. Values held in native {@link ListVector}, {@link MapVector} and {@link StructVector}
+ * vectors are then read element by element from the child vectors. Values sent as JSON text, or
+ * nested vectors that do not match the declared type, fall back to {@link ComplexDataTypeParser}.
+ * Primitive elements are converted to the same Java types as on the JSON path.
+ *
+ * <p>Values read within an {@link ArrowVectorScope} are views that decode their elements on access
+ * and are copied out when the scope is released; otherwise all elements are decoded up front.
+ */
+final class ArrowComplexTypeConverter {
+  private static final JdbcLogger LOGGER =
+      JdbcLoggerFactory.getLogger(ArrowComplexTypeConverter.class);
+
+  private final TypeNode rootType;
+  private final ComplexDataTypeParser jsonParser = new ComplexDataTypeParser();
+
+  /**
+   * Creates a converter for a complex column.
+   *
+   * @param typeMetadata the Databricks type text of the column, e.g. {@code ARRAY<STRUCT<a: INT>>}
+   */
+  ArrowComplexTypeConverter(String typeMetadata) {
+    this.rootType = TypeNode.parse(typeMetadata);
+  }
+
+  /**
+   * Converts the non-null value at the given index of the column vector, decoding all nested
+   * elements up front.
+   *
+   * @param columnVector vector holding the values of the column
+   * @param vectorIndex index of the value within the vector
+   * @return the converted complex value
+   * @throws DatabricksSQLException if the value cannot be converted
+   */
+  Object convert(ValueVector columnVector, int vectorIndex) throws DatabricksSQLException {
+    return convertValue(rootType, columnVector, vectorIndex, null);
+  }
+
+  /**
+   * Converts the non-null value at the given index of the column vector into a view that decodes
+   * nested elements when they are accessed. The view reads from the vectors until the scope is
+   * released.
+   *
+   * @param columnVector vector holding the values of the column
+   * @param vectorIndex index of the value within the vector
+   * @param vectorScope lifetime of the column vector
+   * @return the converted complex value
+   * @throws DatabricksSQLException if the value cannot be converted
+   */
+  Object convert(ValueVector columnVector, int vectorIndex, ArrowVectorScope vectorScope)
+      throws DatabricksSQLException {
+    return convertValue(rootType, columnVector, vectorIndex, vectorScope);
+  }
+
+  /** Converts a value, lazily if a scope is given and eagerly otherwise. */
+  private Object convertValue(
+      TypeNode type, ValueVector vector, int index, ArrowVectorScope vectorScope)
+      throws DatabricksSQLException {
+    if (vector.isNull(index)) {
+      return null;
+    }
+    switch (type.kind) {
+      case ARRAY:
+        if (vector instanceof ListVector && !(vector instanceof MapVector)) {
+          return convertArray(type, (ListVector) vector, index, vectorScope);
+        }
+        return jsonParser.parseJsonStringToDbArray(
+            vector.getObject(index).toString(), type.typeText);
+      case MAP:
+        if (vector instanceof MapVector) {
+          return convertMap(type, (MapVector) vector, index, vectorScope);
+        }
+        return jsonParser.parseJsonStringToDbMap(vector.getObject(index).toString(), type.typeText);
+      case STRUCT:
+        if (vector instanceof StructVector) {
+          return convertStruct(type, (StructVector) vector, index, vectorScope);
+        }
+        return jsonParser.parseJsonStringToDbStruct(
+            vector.getObject(index).toString(), type.typeText);
+      default:
+        return convertPrimitive(type.typeText, vector, index);
+    }
+  }
+
+  private DatabricksArray convertArray(
+      TypeNode type, ListVector vector, int index, ArrowVectorScope vectorScope)
+      throws DatabricksSQLException {
+    ValueVector dataVector = vector.getDataVector();
+    int start = vector.getElementStartIndex(index);
+    int end = vector.getElementEndIndex(index);
+    if (vectorScope != null) {
+      return DatabricksArray.fromElementSource(
+          vectorScope.register(
+              new ArrayElementSource(
+                  type.children[0], dataVector, start, end - start, vectorScope)),
+          type.typeText);
+    }
+    Object[] elements = new Object[end - start];
+    for (int i = start; i < end; i++) {
+      elements[i - start] = convertValue(type.children[0], dataVector, i, null);
+    }
+    return DatabricksArray.fromConvertedElements(elements, type.typeText);
+  }
+
+  private DatabricksMap<Object, Object> convertMap(
+      TypeNode type, MapVector vector, int index, ArrowVectorScope vectorScope)
+      throws DatabricksSQLException {
+    StructVector entries = (StructVector) vector.getDataVector();
+    ValueVector keyVector = entries.getChildByOrdinal(0);
+    ValueVector valueVector = entries.getChildByOrdinal(1);
+    int start = vector.getElementStartIndex(index);
+    int end = vector.getElementEndIndex(index);
+    if (vectorScope != null) {
+      return DatabricksMap.fromEntrySource(
+          vectorScope.register(
+              new MapEntrySource(type, keyVector, valueVector, start, end - start, vectorScope)));
+    }
+    LinkedHashMap<Object, Object> map = new LinkedHashMap<>();
+    for (int i = start; i < end; i++) {
+      map.put(
+          convertValue(type.children[0], keyVector, i, null),
+          convertValue(type.children[1], valueVector, i, null));
+    }
+    return DatabricksMap.fromConvertedEntries(map);
+  }
+
+  private DatabricksStruct convertStruct(
+      TypeNode type, StructVector vector, int index, ArrowVectorScope vectorScope)
+      throws DatabricksSQLException {
+    ValueVector[] fieldVectors = new ValueVector[type.children.length];
+    for (int i = 0; i < fieldVectors.length; i++) {
+      fieldVectors[i] = vector.getChild(type.fieldNames.get(i));
+      if (fieldVectors[i] == null && i < vector.size()) {
+        fieldVectors[i] = vector.getChildByOrdinal(i);
+      }
+    }
+    if (vectorScope != null) {
+      return DatabricksStruct.fromAttributeSource(
+          type.fieldNames,
+          vectorScope.register(new StructAttributeSource(type, fieldVectors, index, vectorScope)),
+          type.typeText);
+    }
+    Object[] attributes = new Object[fieldVectors.length];
+    for (int i = 0; i < attributes.length; i++) {
+      attributes[i] =
+          fieldVectors[i] == null
+              ? null
+              : convertValue(type.children[i], fieldVectors[i], index, null);
+    }
+    return DatabricksStruct.fromConvertedAttributes(type.fieldNames, attributes, type.typeText);
+  }
+
+  /**
+   * Elements of a complex value read from the vectors of a scope. Each element is decoded once, on
+   * first access; nested complex elements are views themselves. On {@link #copyOut()} the remaining
+   * elements are decoded eagerly and the vectors are dropped.
+   */
+  private abstract static class VectorElementSource implements ComplexElementSource {
+    private static final Object NOT_DECODED = new Object();
+
+    private final Object[] elements;
+    private ArrowVectorScope vectorScope;
+    private DatabricksSQLException copyOutFailure;
+
+    VectorElementSource(int size, ArrowVectorScope vectorScope) {
+      this.elements = new Object[size];
+      Arrays.fill(elements, NOT_DECODED);
+      this.vectorScope = vectorScope;
+    }
+
+    /** Decodes the element at the given index, lazily if a scope is given. */
+    abstract Object decode(int index, ArrowVectorScope vectorScope) throws DatabricksSQLException;
+
+    /** Drops the references to the vectors once all elements are decoded. */
+    abstract void releaseVectors();
+
+    @Override
+    public int size() {
+      return elements.length;
+    }
+
+    @Override
+    public synchronized Object get(int index) throws DatabricksSQLException {
+      if (elements[index] == NOT_DECODED) {
+        if (vectorScope == null) {
+          throw new DatabricksValidationException(
+              "Complex type element could not be copied out of the released Arrow chunk",
+              copyOutFailure);
+        }
+        elements[index] = decode(index, vectorScope);
+      }
+      return elements[index];
+    }
+
+    @Override
+    public synchronized void copyOut() {
+      if (vectorScope == null) {
+        return;
+      }
+      for (int i = 0; i < elements.length; i++) {
+        if (elements[i] == NOT_DECODED) {
+          try {
+            elements[i] = decode(i, null);
+          } catch (DatabricksSQLException e) {
+            LOGGER.error(e, "Failed to copy out complex type element {}", i);
+            copyOutFailure = e;
+          }
+        }
+      }
+      vectorScope = null;
+      releaseVectors();
+    }
+  }
+
+  private final class ArrayElementSource extends VectorElementSource {
+    private final TypeNode elementType;
+    private final int start;
+    private ValueVector dataVector;
+
+    ArrayElementSource(
+        TypeNode elementType,
+        ValueVector dataVector,
+        int start,
+        int size,
+        ArrowVectorScope vectorScope) {
+      super(size, vectorScope);
+      this.elementType = elementType;
+      this.dataVector = dataVector;
+      this.start = start;
+    }
+
+    @Override
+    Object decode(int index, ArrowVectorScope vectorScope) throws DatabricksSQLException {
+      return convertValue(elementType, dataVector, start + index, vectorScope);
+    }
+
+    @Override
+    void releaseVectors() {
+      dataVector = null;
+    }
+  }
+
+  private final class MapEntrySource extends VectorElementSource {
+    private final TypeNode mapType;
+    private final int start;
+    private ValueVector keyVector;
+    private ValueVector valueVector;
+
+    MapEntrySource(
+        TypeNode mapType,
+        ValueVector keyVector,
+        ValueVector valueVector,
+        int start,
+        int size,
+        ArrowVectorScope vectorScope) {
+      super(size, vectorScope);
+      this.mapType = mapType;
+      this.keyVector = keyVector;
+      this.valueVector = valueVector;
+      this.start = start;
+    }
+
+    @Override
+    Object decode(int index, ArrowVectorScope vectorScope) throws DatabricksSQLException {
+      return new AbstractMap.SimpleImmutableEntry<>(
+          convertValue(mapType.children[0], keyVector, start + index, vectorScope),
+          convertValue(mapType.children[1], valueVector, start + index, vectorScope));
+    }
+
+    @Override
+    void releaseVectors() {
+      keyVector = null;
+      valueVector = null;
+    }
+  }
+
+  private final class StructAttributeSource extends VectorElementSource {
+    private final TypeNode structType;
+    private final int row;
+    private ValueVector[] fieldVectors;
+
+    StructAttributeSource(
+        TypeNode structType, ValueVector[] fieldVectors, int row, ArrowVectorScope vectorScope) {
+      super(fieldVectors.length, vectorScope);
+      this.structType = structType;
+      this.fieldVectors = fieldVectors;
+      this.row = row;
+    }
+
+    @Override
+    Object decode(int index, ArrowVectorScope vectorScope) throws DatabricksSQLException {
+      ValueVector fieldVector = fieldVectors[index];
+      return fieldVector == null
+          ? null
+          : convertValue(structType.children[index], fieldVector, row, vectorScope);
+    }
+
+    @Override
+    void releaseVectors() {
+      fieldVectors = null;
+    }
+  }
+
+  /** Mirrors the primitive conversion of {@link ComplexDataTypeParser} on native values. */
+  private static Object convertPrimitive(String type, ValueVector vector, int index)
+      throws DatabricksSQLException {
+    Object value = vector.getObject(index);
+    if (value == null) {
+      return null;
+    }
+    try {
+      switch (type.toUpperCase()) {
+        case DatabricksTypeUtil.INT:
+          return value instanceof Number
+              ? ((Number) value).intValue()
+              : Integer.parseInt(value.toString());
+        case DatabricksTypeUtil.BIGINT:
+          return value instanceof Number
+              ? ((Number) value).longValue()
+              : Long.parseLong(value.toString());
+        case DatabricksTypeUtil.SMALLINT:
+          return value instanceof Number
+              ? ((Number) value).shortValue()
+              : Short.parseShort(value.toString());
+        case DatabricksTypeUtil.FLOAT:
+          return value instanceof Number
+              ? ((Number) value).floatValue()
+              : Float.parseFloat(value.toString());
+        case DatabricksTypeUtil.DOUBLE:
+          return value instanceof Number
+              ? ((Number) value).doubleValue()
+              : Double.parseDouble(value.toString());
+        case DatabricksTypeUtil.DECIMAL:
+          return value instanceof BigDecimal ? value : new BigDecimal(value.toString());
+        case DatabricksTypeUtil.BOOLEAN:
+          return value instanceof Boolean ? value : Boolean.parseBoolean(value.toString());
+        case DatabricksTypeUtil.DATE:
+          return convertToDate(value);
+        case DatabricksTypeUtil.TIMESTAMP:
+          return convertToTimestamp(value, vector);
+        case DatabricksTypeUtil.TIME:
+          return Time.valueOf(value.toString());
+        case DatabricksTypeUtil.BINARY:
+          return value instanceof byte[]
+              ? value
+              : value.toString().getBytes(StandardCharsets.UTF_8);
+        case DatabricksTypeUtil.STRING:
+        default:
+          return value instanceof byte[]
+              ? new String((byte[]) value, StandardCharsets.UTF_8)
+              : value.toString();
+      }
+    } catch (RuntimeException e) {
+      String errorMessage =
+          String.format("Failed to convert complex type element %s to type %s", value, type);
+      LOGGER.error(e, errorMessage);
+      throw new DatabricksValidationException(errorMessage, e);
+    }
+  }
+
+  private static Date convertToDate(Object value) {
+    if (value instanceof Integer) {
+      return Date.valueOf(LocalDate.ofEpochDay((Integer) value));
+    }
+    if (value instanceof LocalDateTime) {
+      return Date.valueOf(((LocalDateTime) value).toLocalDate());
+    }
+    return Date.valueOf(value.toString());
+  }
+
+  private static Timestamp convertToTimestamp(Object value, ValueVector vector)
+      throws DatabricksSQLException {
+    if (value instanceof LocalDateTime || value instanceof Number) {
+      Optional<String> timeZone =
+          vector instanceof TimeStampMicroTZVector
+              ? Optional.of(((TimeStampMicroTZVector) vector).getTimeZone())
+              : Optional.empty();
+      return (Timestamp) ArrowToJavaObjectConverter.convertToTimestamp(value, timeZone);
+    }
+    return Timestamp.valueOf(value.toString());
+  }
+
+  private enum Kind {
+    ARRAY,
+    MAP,
+    STRUCT,
+    PRIMITIVE
+  }
+
+  /** Databricks type of a column or nested element, parsed once per column. */
+  private static final class TypeNode {
+    private final Kind kind;
+    private final String typeText;
+    private final TypeNode[] children;
+    private final List<String> fieldNames;
+
+    private TypeNode(Kind kind, String typeText, TypeNode[] children, List<String> fieldNames) {
+      this.kind = kind;
+      this.typeText = typeText;
+      this.children = children;
+      this.fieldNames = fieldNames;
+    }
+
+    private static TypeNode parse(String typeText) {
+      if (typeText.startsWith(DatabricksTypeUtil.ARRAY)) {
+        return new TypeNode(
+            Kind.ARRAY,
+            typeText,
+            new TypeNode[] {parse(MetadataParser.parseArrayMetadata(typeText))},
+            Collections.emptyList());
+      }
+      if (typeText.startsWith(DatabricksTypeUtil.MAP)) {
+        String[] keyValue = MetadataParser.parseMapMetadata(typeText).split(",", 2);
+        return new TypeNode(
+            Kind.MAP,
+            typeText,
+            new TypeNode[] {parse(keyValue[0].trim()), parse(keyValue[1].trim())},
+            Collections.emptyList());
+      }
+      if (typeText.startsWith(DatabricksTypeUtil.STRUCT)) {
+        Map<String, String> fieldTypes = MetadataParser.parseStructMetadata(typeText);
+        TypeNode[] fields = new TypeNode[fieldTypes.size()];
+        int i = 0;
+        for (String fieldType : fieldTypes.values()) {
+          fields[i++] = parse(fieldType);
+        }
+        return new TypeNode(
+            Kind.STRUCT,
+            typeText,
+            fields,
+            Collections.unmodifiableList(new ArrayList<>(fieldTypes.keySet())));
+      }
+      return new TypeNode(Kind.PRIMITIVE, typeText, null, Collections.emptyList());
+    }
+  }
+}
@@ -16,6 +16,7 @@ import com.databricks.sdk.service.sql.ColumnInfo;
 import com.databricks.sdk.service.sql.ColumnInfoTypeName;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.sql.Date;
 import java.sql.Timestamp;
 import java.time.*;
@@ -27,6 +28,7 @@ import java.util.Optional;
 import java.util.function.Function;
 import org.apache.arrow.vector.TimeStampMicroTZVector;
 import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.VarCharVector;
 import org.apache.arrow.vector.util.Text;
 
 public class ArrowToJavaObjectConverter {
@@ -65,11 +67,100 @@ public class ArrowToJavaObjectConverter {
       String arrowMetadata,
       ColumnInfo columnInfo)
       throws DatabricksSQLException {
-    // check isNull before getting the object from the vector
+    return createAccessor(requiredType, arrowMetadata, columnInfo)
+        .getObject(columnVector, vectorIndex);
+  }
+
+  /**
+   * Creates an accessor for a column with the type dispatch resolved once, so that reading a cell
+   * does not re-inspect the arrow metadata or the column type.
+   *
+   * @param requiredType the column type reported by the server
+   * @param arrowMetadata the Databricks type text stored in the arrow field metadata
+   * @param columnInfo the column information of the result manifest
+   * @return accessor converting values of the column to Java objects
+   */
+  public static ArrowColumnAccessor createAccessor(
+      ColumnInfoTypeName requiredType, String arrowMetadata, ColumnInfo columnInfo) {
+    ColumnInfoTypeName resolvedType = resolveRequiredType(requiredType, arrowMetadata);
+    if (resolvedType == ColumnInfoTypeName.STRING) {
+      return ArrowToJavaObjectConverter::getString;
+    }
+    ArrowComplexTypeConverter complexTypeConverter =
+        createComplexTypeConverter(resolvedType, arrowMetadata);
+    if (complexTypeConverter != null) {
+      return new ArrowColumnAccessor() {
+        @Override
+        public Object getObject(ValueVector columnVector, int vectorIndex)
+            throws DatabricksSQLException {
+          return complexTypeConverter.convert(columnVector, vectorIndex);
+        }
+
+        @Override
+        public Object getObject(
+            ValueVector columnVector, int vectorIndex, ArrowVectorScope vectorScope)
+            throws DatabricksSQLException {
+          return complexTypeConverter.convert(columnVector, vectorIndex, vectorScope);
+        }
+      };
+    }
+    ValueConverter valueConverter = createValueConverter(resolvedType, arrowMetadata, columnInfo);
+    return (columnVector, vectorIndex) -> {
+      // check isNull before getting the object from the vector
+      if (columnVector.isNull(vectorIndex)) {
+        return null;
+      }
+      Object object = columnVector.getObject(vectorIndex);
+      if (object == null) {
+        return null;
+      }
+      return valueConverter.convert(object, columnVector);
+    };
+  }
+
+  /**
+   * Creates the converter reading ARRAY, MAP and STRUCT values from native Arrow vectors, or
+   * returns null if the column is not complex or its type metadata cannot be parsed, in which case
+   * values are parsed from their JSON text.
+   */
+  private static ArrowComplexTypeConverter createComplexTypeConverter(
+      ColumnInfoTypeName resolvedType, String arrowMetadata) {
+    if (arrowMetadata == null
+        || (resolvedType != ColumnInfoTypeName.ARRAY
+            && resolvedType != ColumnInfoTypeName.MAP
+            && resolvedType != ColumnInfoTypeName.STRUCT)) {
+      return null;
+    }
+    try {
+      return new ArrowComplexTypeConverter(arrowMetadata);
+    } catch (RuntimeException e) {
+      LOGGER.debug("Falling back to JSON parsing for complex type {}: {}", arrowMetadata, e);
+      return null;
+    }
+  }
+
+  /**
+   * Reads strings without materializing the intermediate arrow {@link Text} for varchar vectors.
+   */
+  private static String getString(ValueVector columnVector, int vectorIndex) {
     if (columnVector.isNull(vectorIndex)) {
       return null;
     }
+    if (columnVector instanceof VarCharVector) {
+      return new String(((VarCharVector) columnVector).get(vectorIndex), StandardCharsets.UTF_8);
+    }
     Object object = columnVector.getObject(vectorIndex);
+    return object == null ? null : convertToString(object);
+  }
+
+  /** Converts a non-null value read from an arrow vector to the Java object of a resolved type. */
+  @FunctionalInterface
+  private interface ValueConverter {
+    Object convert(Object object, ValueVector columnVector) throws DatabricksSQLException;
+  }
+
+  private static ColumnInfoTypeName resolveRequiredType(
+      ColumnInfoTypeName requiredType, String arrowMetadata) {
     if (arrowMetadata != null) {
       if (arrowMetadata.startsWith(ARRAY)) {
         requiredType = ColumnInfoTypeName.ARRAY;
@@ -87,62 +178,82 @@ public class ArrowToJavaObjectConverter {
         requiredType = ColumnInfoTypeName.TIMESTAMP;
       }
     }
-    if (object == null) {
-      return null;
+    return requiredType;
+  }
+
+  private static ValueConverter createValueConverter(
+      ColumnInfoTypeName requiredType, String arrowMetadata, ColumnInfo columnInfo) {
+    if (requiredType == null) {
+      return unsupportedConversion(null);
     }
     switch (requiredType) {
       case BYTE:
-        return convertToNumber(object, Byte::parseByte, Number::byteValue);
+        return (object, vector) -> convertToNumber(object, Byte::parseByte, Number::byteValue);
       case SHORT:
-        return convertToNumber(object, Short::parseShort, Number::shortValue);
+        return (object, vector) -> convertToNumber(object, Short::parseShort, Number::shortValue);
       case INT:
-        return convertToNumber(object, Integer::parseInt, Number::intValue);
+        return (object, vector) -> convertToNumber(object, Integer::parseInt, Number::intValue);
       case LONG:
-        return convertToNumber(object, Long::parseLong, Number::longValue);
+        return (object, vector) -> convertToNumber(object, Long::parseLong, Number::longValue);
       case FLOAT:
-        return convertToNumber(object, Float::parseFloat, Number::floatValue);
+        return (object, vector) -> convertToNumber(object, Float::parseFloat, Number::floatValue);
       case DOUBLE:
-        return convertToNumber(object, Double::parseDouble, Number::doubleValue);
+        return (object, vector) ->
+            convertToNumber(object, Double::parseDouble, Number::doubleValue);
       case DECIMAL:
-        return convertToDecimal(object, columnInfo);
+        return (object, vector) -> convertToDecimal(object, columnInfo);
       case BINARY:
-        return convertToByteArray(object);
+        return (object, vector) -> convertToByteArray(object);
       case BOOLEAN:
-        return convertToBoolean(object);
+        return (object, vector) -> convertToBoolean(object);
       case CHAR:
-        return convertToChar(object);
+        return (object, vector) -> convertToChar(object);
       case STRUCT:
-        return convertToStruct(object, arrowMetadata);
+        return (object, vector) -> convertToStruct(object, arrowMetadata);
       case ARRAY:
-        return convertToArray(object, arrowMetadata);
+        return (object, vector) -> convertToArray(object, arrowMetadata);
       case MAP:
-        return convertToMap(object, arrowMetadata);
+        return (object, vector) -> convertToMap(object, arrowMetadata);
       case STRING:
-        return convertToString(object);
+        return (object, vector) -> convertToString(object);
       case DATE:
-        return convertToDate(object);
+        return (object, vector) -> convertToDate(object);
       case TIMESTAMP:
-        Optional<String> timeZone = Optional.empty();
-        if (columnVector instanceof TimeStampMicroTZVector) {
-          timeZone = Optional.of(((TimeStampMicroTZVector) columnVector).getTimeZone());
-        }
-        return convertToTimestamp(object, timeZone);
+        return (object, vector) -> {
+          Optional<String> timeZone = Optional.empty();
+          if (vector instanceof TimeStampMicroTZVector) {
+            timeZone = Optional.of(((TimeStampMicroTZVector) vector).getTimeZone());
+          }
+          return convertToTimestamp(object, timeZone);
+        };
       case INTERVAL:
-        if (arrowMetadata == null) {
-          String errorMessage =
-              String.format("Failed to read INTERVAL %s with null metadata.", object);
-          LOGGER.error(errorMessage);
-          throw new DatabricksValidationException(errorMessage);
-        }
-        IntervalConverter ic = new IntervalConverter(arrowMetadata);
-        return ic.toLiteral(object);
+        return createIntervalConverter(arrowMetadata);
       case NULL:
-        return null;
+        return (object, vector) -> null;
       default:
-        String errorMessage = String.format("Unsupported conversion type %s", requiredType);
+        return unsupportedConversion(requiredType);
+    }
+  }
+
+  private static ValueConverter createIntervalConverter(String arrowMetadata) {
+    if (arrowMetadata == null) {
+      return (object, vector) -> {
+        String errorMessage =
+            String.format("Failed to read INTERVAL %s with null metadata.", object);
         LOGGER.error(errorMessage);
         throw new DatabricksValidationException(errorMessage);
+      };
     }
+    IntervalConverter intervalConverter = new IntervalConverter(arrowMetadata);
+    return (object, vector) -> intervalConverter.toLiteral(object);
+  }
+
+  private static ValueConverter unsupportedConversion(ColumnInfoTypeName requiredType) {
+    return (object, vector) -> {
+      String errorMessage = String.format("Unsupported conversion type %s", requiredType);
+      LOGGER.error(errorMessage);
+      throw new DatabricksValidationException(errorMessage);
+    };
   }
 
   private static DatabricksMap convertToMap(Object object, String arrowMetadata)
@@ -163,7 +274,7 @@ public class ArrowToJavaObjectConverter {
     return parser.parseJsonStringToDbStruct(object.toString(), arrowMetadata);
   }
 
-  private static Object convertToTimestamp(Object object, Optional<String> timeZoneOpt)
+  static Object convertToTimestamp(Object object, Optional<String> timeZoneOpt)
       throws DatabricksSQLException {
     if (object instanceof Text) {
       return convertArrowTextToTimestamp(object.toString());
@@ -0,0 +1,130 @@
+package com.databricks.jdbc.api.impl.converters;
+
+import com.databricks.jdbc.exception.DatabricksValidationException;
+import com.databricks.sdk.service.sql.ColumnInfoTypeName;
+import java.sql.Types;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.SmallIntVector;
+import org.apache.arrow.vector.TinyIntVector;
+import org.apache.arrow.vector.ValueVector;
+
+/**
+ * Reads fixed-width Arrow vectors directly into Java primitives, bypassing {@link
+ * ValueVector#getObject(int)} and the boxed {@link ObjectConverter} round trip.
+ *
+ * <p>Only reads that give the same result as the object path are served here, without boxing. These
+ * are the integral widenings and the primitive casts to {@code float} and {@code double}, which
+ * round large integers exactly as the boxed conversion does. Anything that needs parsing or range
+ * checks must go through {@link ArrowToJavaObjectConverter} so that conversion semantics and error
+ * messages stay the same.
+ */
+public class ArrowToJavaPrimitiveConverter {
+
+  /**
+   * Returns true if the value in the given vector can be read as the given {@link Types} type
+   * without boxing, with the same result as the object path.
+   *
+   * @param columnVector the vector holding the column values
+   * @param requiredType the column type reported by the server
+   * @param targetSqlType the {@link Types} constant of the requested primitive
+   * @return true if the typed accessors of this class can serve the read
+   */
+  public static boolean canRead(
+      ValueVector columnVector, ColumnInfoTypeName requiredType, int targetSqlType) {
+    int sourceWidth = getIntegralWidth(columnVector, requiredType);
+    switch (targetSqlType) {
+      case Types.TINYINT:
+        return sourceWidth > 0 && sourceWidth <= Byte.SIZE;
+      case Types.SMALLINT:
+        return sourceWidth > 0 && sourceWidth <= Short.SIZE;
+      case Types.INTEGER:
+        return sourceWidth > 0 && sourceWidth <= Integer.SIZE;
+      case Types.BIGINT:
+        return sourceWidth > 0;
+      case Types.REAL:
+        return (sourceWidth > 0 && sourceWidth <= Integer.SIZE)
+            || isFloat4(columnVector, requiredType);
+      case Types.DOUBLE:
+        return sourceWidth > 0
+            || isFloat4(columnVector, requiredType)
+            || (columnVector instanceof Float8Vector && requiredType == ColumnInfoTypeName.DOUBLE);
+      case Types.BOOLEAN:
+        return columnVector instanceof BitVector && requiredType == ColumnInfoTypeName.BOOLEAN;
+      default:
+        return false;
+    }
+  }
+
+  public static boolean isNull(ValueVector columnVector, int vectorIndex) {
+    return columnVector.isNull(vectorIndex);
+  }
+
+  public static long getLong(ValueVector columnVector, int vectorIndex)
+      throws DatabricksValidationException {
+    if (columnVector instanceof BigIntVector) {
+      return ((BigIntVector) columnVector).get(vectorIndex);
+    }
+    if (columnVector instanceof IntVector) {
+      return ((IntVector) columnVector).get(vectorIndex);
+    }
+    if (columnVector instanceof SmallIntVector) {
+      return ((SmallIntVector) columnVector).get(vectorIndex);
+    }
+    if (columnVector instanceof TinyIntVector) {
+      return ((TinyIntVector) columnVector).get(vectorIndex);
+    }
+    throw unsupported(columnVector, "long");
+  }
+
+  public static double getDouble(ValueVector columnVector, int vectorIndex)
+      throws DatabricksValidationException {
+    if (columnVector instanceof Float8Vector) {
+      return ((Float8Vector) columnVector).get(vectorIndex);
+    }
+    if (columnVector instanceof Float4Vector) {
+      return ((Float4Vector) columnVector).get(vectorIndex);
+    }
+    return getLong(columnVector, vectorIndex);
+  }
+
+  public static boolean getBoolean(ValueVector columnVector, int vectorIndex)
+      throws DatabricksValidationException {
+    if (columnVector instanceof BitVector) {
+      return ((BitVector) columnVector).get(vectorIndex) != 0;
+    }
+    throw unsupported(columnVector, "boolean");
+  }
+
+  /** Returns the bit width of an integral vector matching its column type, or 0 otherwise. */
+  private static int getIntegralWidth(ValueVector columnVector, ColumnInfoTypeName requiredType) {
+    if (columnVector instanceof BigIntVector && requiredType == ColumnInfoTypeName.LONG) {
+      return Long.SIZE;
+    }
+    if (columnVector instanceof IntVector && requiredType == ColumnInfoTypeName.INT) {
+      return Integer.SIZE;
+    }
+    if (columnVector instanceof SmallIntVector && requiredType == ColumnInfoTypeName.SHORT) {
+      return Short.SIZE;
+    }
+    if (columnVector instanceof TinyIntVector && requiredType == ColumnInfoTypeName.BYTE) {
+      return Byte.SIZE;
+    }
+    return 0;
+  }
+
+  private static boolean isFloat4(ValueVector columnVector, ColumnInfoTypeName requiredType) {
+    return columnVector instanceof Float4Vector && requiredType == ColumnInfoTypeName.FLOAT;
+  }
+
+  private static DatabricksValidationException unsupported(
+      ValueVector columnVector, String targetType) {
+    return new DatabricksValidationException(
+        String.format(
+            "Unsupported primitive %s read from vector %s",
+            targetType, columnVector.getClass().getSimpleName()));
+  }
+}
@@ -0,0 +1,59 @@
+package com.databricks.jdbc.api.impl.converters;
+
+import com.databricks.jdbc.api.impl.ComplexElementSource;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lifetime of the vectors of an Arrow result chunk, as seen by the complex values read from it.
+ *
+ * <p>ARRAY, MAP and STRUCT values read within a scope keep a reference to the chunk vectors and
+ * decode their elements on access. The scope tracks them weakly, and {@link #release()} copies the
+ * elements of every value that is still reachable out of the vectors before the chunk frees them.
+ */
+public final class ArrowVectorScope {
+  private static final int MIN_PURGE_THRESHOLD = 1024;
+
+  private final List<WeakReference<ComplexElementSource>> sources = new ArrayList<>();
+  private int purgeThreshold = MIN_PURGE_THRESHOLD;
+  private boolean released;
+
+  /**
+   * Tracks a source reading from the vectors of this scope.
+   *
+   * @param source the source to copy out on release
+   * @return the given source
+   */
+  synchronized <T extends ComplexElementSource> T register(T source) {
+    if (sources.size() >= purgeThreshold) {
+      sources.removeIf(reference -> reference.get() == null);
+      purgeThreshold = Math.max(MIN_PURGE_THRESHOLD, sources.size() * 2);
+    }
+    sources.add(new WeakReference<>(source));
+    return source;
+  }
+
+  /**
+   * Copies out the elements of all complex values still reachable from the application. Must be
+   * called before the vectors of the scope are closed.
+   */
+  public synchronized void release() {
+    if (released) {
+      return;
+    }
+    released = true;
+    for (WeakReference<ComplexElementSource> reference : sources) {
+      ComplexElementSource source = reference.get();
+      if (source != null) {
+        source.copyOut();
+      }
+    }
+    sources.clear();
+  }
+
+  /** Returns the number of tracked sources, including ones that were garbage collected. */
+  synchronized int getTrackedCount() {
+    return sources.size();
+  }
+}
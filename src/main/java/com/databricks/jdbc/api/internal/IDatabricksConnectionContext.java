@@ -132,6 +132,30 @@ public interface IDatabricksConnectionContext {
   /** Returns the number of threads to be used for fetching data from cloud storage */
   int getCloudFetchThreadPoolSize();
 
+  /** Returns the off-heap memory limit in bytes for cloud fetch results, 0 if unlimited */
+  long getCloudFetchMemoryLimit();
+
+  /**
+   * Returns the seconds a result set with no chunk in memory waits for other result sets of the
+   * connection to release cloud fetch memory before its next chunk fails
+   */
+  int getCloudFetchMemoryWaitTimeout();
+
+  /** Returns whether cloud fetch chunks are downloaded with non-blocking I/O */
+  boolean isCloudFetchAsyncDownloadEnabled();
+
+  /** Returns whether Thrift cloud fetch result links are fetched lazily, one page at a time */
+  boolean isCloudFetchLazyResultLinksEnabled();
+
+  /**
+   * Returns the size in bytes of the byte ranges large cloud fetch chunks are downloaded in, 0 if
+   * chunks are downloaded with a single request
+   */
+  long getCloudFetchRangeDownloadSize();
+
+  /** Returns the maximum number of byte ranges of a cloud fetch chunk downloaded at once */
+  int getCloudFetchRangeDownloadParallelism();
+
   Boolean getDirectResultMode();
 
   Boolean shouldRetryTemporarilyUnavailableError();
@@ -230,6 +254,30 @@ public interface IDatabricksConnectionContext {
   /** Returns the maximum number of commands that can be executed in a single batch. */
   int getMaxBatchSize();
 
+  /** Returns whether prepared INSERT batches are coalesced into multi-row INSERT statements. */
+  boolean isBatchedInsertsEnabled();
+
+  /** Returns the maximum number of cached parsed prepared statements, 0 if they are not cached. */
+  int getPreparedStatementCacheSize();
+
+  /** Returns the maximum number of cached DESCRIBE QUERY results, 0 if they are not cached. */
+  int getDescribeQueryCacheSize();
+
+  /** Returns whether statement status is polled with backoff instead of a fixed interval. */
+  boolean isAdaptivePollingEnabled();
+
+  /** Returns the first delay in milliseconds between status polls with adaptive polling. */
+  int getAdaptivePollMinInterval();
+
+  /** Returns the maximum delay in milliseconds between status polls with adaptive polling. */
+  int getAdaptivePollMaxInterval();
+
+  /** Returns the maximum number of Statement batch commands executed concurrently. */
+  int getBatchParallelism();
+
+  /** Returns whether a Statement batch executes its remaining commands after a command fails. */
+  boolean isBatchContinueOnErrorEnabled();
+
   /** Checks if Telemetry is enabled */
   boolean isTelemetryEnabled();
 
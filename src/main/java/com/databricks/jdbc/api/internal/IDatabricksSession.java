@@ -6,6 +6,7 @@ import com.databricks.jdbc.common.IDatabricksComputeResource;
 import com.databricks.jdbc.dbclient.IDatabricksClient;
 import com.databricks.jdbc.dbclient.IDatabricksMetadataClient;
 import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.telemetry.latency.LatencyRecorder;
 import java.util.Map;
 import javax.annotation.Nullable;
 
@@ -49,6 +50,9 @@ public interface IDatabricksSession {
   /** Returns the metadata client */
   IDatabricksMetadataClient getDatabricksMetadataClient();
 
+  /** Returns the recorder for the operation latencies of this session */
+  LatencyRecorder getLatencyRecorder();
+
   /** Returns default catalog associated with the session */
   String getCatalog();
 
@@ -148,6 +148,11 @@ public final class DatabricksJdbcConstants {
       Pattern.compile("^(\\s*\\()*\\s*REMOVE", Pattern.CASE_INSENSITIVE);
   public static final Pattern LIST_PATTERN =
       Pattern.compile("^(\\s*\\()*\\s*LIST", Pattern.CASE_INSENSITIVE);
+  // Statements after which cached query metadata of the connection may be stale
+  public static final Pattern METADATA_CHANGING_PATTERN =
+      Pattern.compile(
+          "^(\\s*\\()*\\s*(CREATE|ALTER|DROP|REPLACE|TRUNCATE|COMMENT|MSCK|REFRESH|USE|SET\\s+(CATALOG|SCHEMA|DATABASE))\\b",
+          Pattern.CASE_INSENSITIVE);
   public static final String DEFAULT_USERNAME =
       "token"; // This is for PAT. We do not support Basic Auth.
 }
@@ -67,6 +67,28 @@ public enum DatabricksJdbcUrlParams {
   IDLE_HTTP_CONNECTION_EXPIRY("IdleHttpConnectionExpiry", "Idle HTTP connection expiry", "60"),
   SUPPORT_MANY_PARAMETERS("supportManyParameters", "Support many parameters", "0"),
   CLOUD_FETCH_THREAD_POOL_SIZE("cloudFetchThreadPoolSize", "Cloud fetch thread pool size", "16"),
+  CLOUD_FETCH_MEMORY_LIMIT(
+      "cloudFetchMemoryLimit",
+      "Maximum off-heap memory in bytes for cloud fetch results of a connection, 0 for no limit",
+      "0"),
+  CLOUD_FETCH_MEMORY_WAIT_TIMEOUT(
+      "cloudFetchMemoryWaitTimeout",
+      "Seconds a result set waits for other result sets of the connection to release cloud fetch memory",
+      "300"),
+  CLOUD_FETCH_ASYNC_DOWNLOAD(
+      "cloudFetchAsyncDownload", "Download cloud fetch chunks with non-blocking I/O", "0"),
+  CLOUD_FETCH_LAZY_RESULT_LINKS(
+      "cloudFetchLazyResultLinks",
+      "Fetch Thrift cloud fetch result links page by page while chunks are downloaded",
+      "0"),
+  CLOUD_FETCH_RANGE_DOWNLOAD_SIZE(
+      "cloudFetchRangeDownloadSize",
+      "Size in bytes of the byte ranges large cloud fetch chunks are downloaded in, 0 to download every chunk with a single request",
+      "0"),
+  CLOUD_FETCH_RANGE_DOWNLOAD_PARALLELISM(
+      "cloudFetchRangeDownloadParallelism",
+      "Maximum number of byte ranges of a cloud fetch chunk downloaded at once",
+      "4"),
   OAUTH_ENDPOINT("OAuth2ConnAuthAuthorizeEndpoint", "OAuth2 authorization endpoint"),
   AUTH_ENDPOINT(
       "OAuth2AuthorizationEndPoint", "OAuth2 authorization endpoint"), // Same as OAUTH_ENDPOINT
@@ -90,6 +112,38 @@ public enum DatabricksJdbcUrlParams {
   ENABLE_TELEMETRY("EnableTelemetry", "flag to enable telemetry", "0"), // Disabled for now
   TELEMETRY_BATCH_SIZE("TelemetryBatchSize", "Batch size for telemetry", "200"),
   MAX_BATCH_SIZE("MaxBatchSize", "Maximum batch size", "500"),
+  ENABLE_BATCHED_INSERTS(
+      "EnableBatchedInserts",
+      "Execute prepared INSERT batches as multi-row INSERT statements",
+      "0"),
+  BATCH_PARALLELISM(
+      "BatchParallelism",
+      "Maximum number of Statement batch commands executed concurrently, 1 to execute them in order",
+      "1"),
+  PREPARED_STATEMENT_CACHE_SIZE(
+      "PreparedStatementCacheSize",
+      "Maximum number of parsed prepared statements cached per connection, 0 to disable",
+      "0"),
+  DESCRIBE_QUERY_CACHE_SIZE(
+      "DescribeQueryCacheSize",
+      "Maximum number of prepared statement metadata entries cached per connection, 0 to disable",
+      "0"),
+  BATCH_CONTINUE_ON_ERROR(
+      "BatchContinueOnError",
+      "Execute the remaining Statement batch commands after a command fails",
+      "0"),
+  ADAPTIVE_POLLING(
+      "EnableAdaptivePolling",
+      "Poll statement status with jittered exponential backoff instead of a fixed interval",
+      "0"),
+  ADAPTIVE_POLL_MIN_INTERVAL(
+      "AdaptivePollMinInterval",
+      "Delay in milliseconds before the second status poll when adaptive polling is enabled",
+      "5"),
+  ADAPTIVE_POLL_MAX_INTERVAL(
+      "AdaptivePollMaxInterval",
+      "Maximum delay in milliseconds between status polls when adaptive polling is enabled",
+      "1000"),
   ALLOWED_VOLUME_INGESTION_PATHS("VolumeOperationAllowedLocalPaths", ""),
   ALLOWED_STAGING_INGESTION_PATHS("StagingAllowedLocalPaths", ""),
   UC_INGESTION_RETRIABLE_HTTP_CODE(
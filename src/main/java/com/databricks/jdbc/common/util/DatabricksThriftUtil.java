@@ -259,6 +259,19 @@ public class DatabricksThriftUtil {
     return result;
   }
 
+  /**
+   * Returns the row limit set on the statement, or 0 if the result is not limited. Both the default
+   * limit and a limit of 0 mean that all rows are returned.
+   */
+  public static long getRowLimit(IDatabricksStatementInternal parentStatement)
+      throws DatabricksSQLException {
+    if (parentStatement == null) {
+      return 0;
+    }
+    int statementMaxRows = parentStatement.getMaxRows();
+    return statementMaxRows == DEFAULT_RESULT_ROW_LIMIT ? 0 : Math.max(0, statementMaxRows);
+  }
+
   public static List<List<Object>> convertColumnarToRowBased(
       TFetchResultsResp resultsResp,
       IDatabricksStatementInternal parentStatement,
@@ -313,6 +326,37 @@ public class DatabricksThriftUtil {
     return 0;
   }
 
+  /**
+   * Estimates how long to wait before polling the operation again from the progress reported by the
+   * server. The remaining time is extrapolated from the elapsed time and the completed fraction,
+   * and half of it is suggested so that the estimate is refined before the operation is expected to
+   * end.
+   *
+   * <p>As in HiveServer2, {@code progressedPercentage} is the completed fraction between 0 and 1,
+   * which clients multiply by 100 for display. Values outside that range carry no usable progress.
+   *
+   * @param resp operation status response, requested with progress updates
+   * @param nowMillis current time in milliseconds since the epoch
+   * @return suggested wait in milliseconds, 0 if the response carries no usable progress
+   */
+  public static long getPollHintMillis(TGetOperationStatusResp resp, long nowMillis) {
+    if (resp == null || !resp.isSetProgressUpdateResponse()) {
+      return 0;
+    }
+    TProgressUpdateResp progress = resp.getProgressUpdateResponse();
+    double completed = progress.getProgressedPercentage();
+    long startMillis =
+        progress.isSetStartTime() && progress.getStartTime() > 0
+            ? progress.getStartTime()
+            : resp.getOperationStarted();
+    long elapsedMillis = nowMillis - startMillis;
+    if (completed <= 0 || completed >= 1 || startMillis <= 0 || elapsedMillis <= 0) {
+      return 0;
+    }
+    long remainingMillis = Math.round(elapsedMillis * (1 - completed) / completed);
+    return Math.max(1, remainingMillis / 2);
+  }
+
   public static void checkDirectResultsForErrorStatus(
       TSparkDirectResults directResults, String context) throws DatabricksHttpException {
     if (directResults.isSetOperationStatus()) {
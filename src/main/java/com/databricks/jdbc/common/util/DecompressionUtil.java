@@ -9,12 +9,16 @@ import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.Arrays;
 import net.jpountz.lz4.LZ4FrameInputStream;
 import org.apache.commons.io.IOUtils;
 
 public class DecompressionUtil {
 
   private static final JdbcLogger LOGGER = JdbcLoggerFactory.getLogger(DecompressionUtil.class);
+  // Little-endian magic number 0x184D2204 that starts every LZ4 frame
+  private static final byte[] LZ4_FRAME_MAGIC = {0x04, 0x22, 0x4D, 0x18};
 
   private static byte[] decompressLZ4Frame(byte[] compressedInput, String context)
       throws DatabricksSQLException {
@@ -53,18 +57,50 @@ public class DecompressionUtil {
     }
   }
 
+  /**
+   * Returns a stream that decompresses the given stream while it is read. For LZ4 frames only one
+   * block of the frame is held on heap at a time, so the caller can decode the data without
+   * materializing the compressed or the decompressed chunk.
+   */
   public static InputStream decompress(
       InputStream compressedStream, CompressionCodec compressionCodec, String context)
       throws IOException, DatabricksSQLException {
     if (compressionCodec == null
         || compressionCodec.equals(CompressionCodec.NONE)
         || compressedStream == null) {
-      // Save the time to convert to byte array if compression type is none.
       LOGGER.debug("Compression is NONE /InputStream is `NULL`. Skipping compression.");
       return compressedStream;
     }
-    byte[] compressedBytes = IOUtils.toByteArray(compressedStream);
-    byte[] uncompressedBytes = decompress(compressedBytes, compressionCodec, context);
-    return new ByteArrayInputStream(uncompressedBytes);
+    if (compressionCodec == CompressionCodec.LZ4_FRAME) {
+      return decompressLZ4FrameStream(compressedStream, context);
+    }
+    String errorMessage =
+        String.format("Unknown compression type: %s. Context : %s", compressionCodec, context);
+    LOGGER.error(errorMessage);
+    throw new DatabricksSQLException(errorMessage, DatabricksDriverErrorCode.DECOMPRESSION_ERROR);
+  }
+
+  private static InputStream decompressLZ4FrameStream(InputStream compressedStream, String context)
+      throws DatabricksSQLException {
+    LOGGER.debug("Decompressing using streaming LZ4 Frame algorithm. Context: {}", context);
+    String errorMessage =
+        String.format("Unable to de-compress LZ4 Frame compressed result %s", context);
+    try {
+      // Fail fast on data that is not an LZ4 frame, the blocks are only decompressed when read
+      PushbackInputStream frameStream =
+          new PushbackInputStream(compressedStream, LZ4_FRAME_MAGIC.length);
+      byte[] magic = frameStream.readNBytes(LZ4_FRAME_MAGIC.length);
+      if (!Arrays.equals(magic, LZ4_FRAME_MAGIC)) {
+        LOGGER.error(errorMessage);
+        throw new DatabricksParsingException(
+            errorMessage, DatabricksDriverErrorCode.DECOMPRESSION_ERROR);
+      }
+      frameStream.unread(magic);
+      return new LZ4FrameInputStream(frameStream);
+    } catch (IOException e) {
+      LOGGER.error(e, errorMessage);
+      throw new DatabricksParsingException(
+          errorMessage, e, DatabricksDriverErrorCode.DECOMPRESSION_ERROR);
+    }
   }
 }
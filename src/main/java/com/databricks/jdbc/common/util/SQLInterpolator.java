@@ -15,7 +15,7 @@ public class SQLInterpolator {
     return input.replace("'", "''");
   }
 
-  private static String formatObject(ImmutableSqlParameter object) {
+  static String formatObject(ImmutableSqlParameter object) {
     if (object == null || object.value() == null) {
       return NULL_STRING;
     } else if (object.type() == ColumnInfoTypeName.BINARY) {
@@ -28,22 +28,12 @@ public class SQLInterpolator {
     }
   }
 
-  private static int countPlaceholders(String sql) {
-    int count = 0;
-    for (char c : sql.toCharArray()) {
-      if (c == '?') {
-        count++;
-      }
-    }
-    return count;
-  }
-
   /**
    * Interpolates the given SQL string by replacing placeholders with the provided parameters.
    *
-   * <p>This method splits the SQL string by placeholders (question marks) and replaces each
-   * placeholder with the corresponding parameter from the provided map. The map keys are 1-based
-   * indexes, aligning with the SQL parameter positions.
+   * <p>The map keys are 1-based indexes, aligning with the SQL parameter positions. Question marks
+   * inside string literals, quoted identifiers and comments are not placeholders. Statements that
+   * are executed repeatedly should compile a {@link SQLTemplate} once instead.
    *
    * @param sql the SQL string containing placeholders ('?') to be replaced.
    * @param params a map of parameters where the key is the 1-based index of the placeholder in the
@@ -54,20 +44,7 @@ public class SQLInterpolator {
    */
   public static String interpolateSQL(String sql, Map<Integer, ImmutableSqlParameter> params)
       throws DatabricksValidationException {
-    String[] parts = sql.split("\\?");
-    if (countPlaceholders(sql) != params.size()) {
-      throw new DatabricksValidationException(
-          "Parameter count does not match. Provide equal number of parameters as placeholders. SQL "
-              + sql);
-    }
-    StringBuilder sb = new StringBuilder();
-    for (int i = 0; i < parts.length; i++) {
-      sb.append(parts[i]);
-      if (i < params.size()) {
-        sb.append(formatObject(params.get(i + 1))); // because we have 1 based index in params
-      }
-    }
-    return sb.toString();
+    return SQLTemplate.compile(sql).render(params);
   }
 
   /**
@@ -0,0 +1,134 @@
+package com.databricks.jdbc.common.util;
+
+import com.databricks.jdbc.api.impl.ImmutableSqlParameter;
+import com.databricks.jdbc.exception.DatabricksValidationException;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * A SQL string parsed once into the positions of its {@code ?} placeholders, so that parameters can
+ * be interpolated repeatedly without re-scanning the SQL.
+ *
+ * <p>Question marks inside string literals, quoted identifiers and comments are not placeholders.
+ * Each rendering formats the parameters first and then writes the SQL into a single buffer of the
+ * exact final size.
+ */
+public class SQLTemplate {
+  private final String sql;
+  // Offsets of the placeholders in the SQL, in increasing order
+  private final int[] placeholderOffsets;
+
+  private SQLTemplate(String sql, int[] placeholderOffsets) {
+    this.sql = sql;
+    this.placeholderOffsets = placeholderOffsets;
+  }
+
+  /** Parses the given SQL into a template. */
+  public static SQLTemplate compile(String sql) {
+    int[] offsets = new int[8];
+    int count = 0;
+    int length = sql.length();
+    int i = 0;
+    while (i < length) {
+      char c = sql.charAt(i);
+      if (c == '\'' || c == '"') {
+        i = skipQuoted(sql, i, c, true);
+      } else if (c == '`') {
+        i = skipQuoted(sql, i, c, false);
+      } else if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+        int end = sql.indexOf('\n', i);
+        i = end < 0 ? length : end + 1;
+      } else if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+        i = skipBlockComment(sql, i);
+      } else {
+        if (c == '?') {
+          if (count == offsets.length) {
+            offsets = Arrays.copyOf(offsets, count * 2);
+          }
+          offsets[count++] = i;
+        }
+        i++;
+      }
+    }
+    return new SQLTemplate(sql, Arrays.copyOf(offsets, count));
+  }
+
+  /** Returns the number of placeholders in the SQL. */
+  public int getPlaceholderCount() {
+    return placeholderOffsets.length;
+  }
+
+  /**
+   * Replaces the placeholders with the given parameters.
+   *
+   * @param params a map of parameters where the key is the 1-based index of the placeholder
+   * @return the SQL with its placeholders replaced by the formatted parameters
+   * @throws DatabricksValidationException if the number of parameters does not match the number of
+   *     placeholders
+   */
+  public String render(Map<Integer, ImmutableSqlParameter> params)
+      throws DatabricksValidationException {
+    if (placeholderOffsets.length != params.size()) {
+      throw new DatabricksValidationException(
+          "Parameter count does not match. Provide equal number of parameters as placeholders. SQL "
+              + sql);
+    }
+    String[] values = new String[placeholderOffsets.length];
+    int length = sql.length() - placeholderOffsets.length;
+    for (int i = 0; i < values.length; i++) {
+      values[i] = SQLInterpolator.formatObject(params.get(i + 1));
+      length += values[i].length();
+    }
+    StringBuilder sb = new StringBuilder(length);
+    int start = 0;
+    for (int i = 0; i < values.length; i++) {
+      sb.append(sql, start, placeholderOffsets[i]).append(values[i]);
+      start = placeholderOffsets[i] + 1;
+    }
+    return sb.append(sql, start, sql.length()).toString();
+  }
+
+  /**
+   * Returns the index after the literal or identifier starting at {@code start}. A doubled quote
+   * stands for the quote itself, and string literals also accept backslash escapes.
+   */
+  private static int skipQuoted(String sql, int start, char quote, boolean backslashEscapes) {
+    int i = start + 1;
+    while (i < sql.length()) {
+      char c = sql.charAt(i);
+      if (backslashEscapes && c == '\\') {
+        i += 2;
+      } else if (c == quote) {
+        if (i + 1 < sql.length() && sql.charAt(i + 1) == quote) {
+          i += 2;
+        } else {
+          return i + 1;
+        }
+      } else {
+        i++;
+      }
+    }
+    return sql.length();
+  }
+
+  /** Returns the index after the bracketed comment starting at {@code start}, which may nest. */
+  private static int skipBlockComment(String sql, int start) {
+    int depth = 0;
+    int i = start;
+    while (i < sql.length()) {
+      if (sql.startsWith("/*", i)) {
+        depth++;
+        i += 2;
+      } else if (sql.startsWith("*/", i)) {
+        depth--;
+        i += 2;
+        if (depth == 0) {
+          return i;
+        }
+      } else {
+        i++;
+      }
+    }
+    return sql.length();
+  }
+}
@@ -10,7 +10,7 @@ import com.databricks.jdbc.dbclient.impl.common.StatementId;
 import com.databricks.jdbc.exception.DatabricksSQLException;
 import com.databricks.jdbc.model.client.thrift.generated.TFetchResultsResp;
 import com.databricks.jdbc.model.core.ExternalLink;
-import com.databricks.jdbc.telemetry.latency.DatabricksMetricsTimed;
+import com.databricks.jdbc.telemetry.latency.LatencyRecorder;
 import com.databricks.sdk.core.DatabricksConfig;
 import java.sql.SQLException;
 import java.util.Collection;
@@ -53,7 +53,6 @@ public interface IDatabricksClient {
    * @param parentStatement statement instance if called from a statement
    * @return response for statement execution
    */
-  @DatabricksMetricsTimed
   DatabricksResultSet executeStatement(
       String sql,
       IDatabricksComputeResource computeResource,
@@ -131,4 +130,7 @@ public interface IDatabricksClient {
 
   /** Retrieves underlying DatabricksConfig */
   DatabricksConfig getDatabricksConfig();
+
+  /** Retrieves the recorder holding the operation latencies of this client */
+  LatencyRecorder getLatencyRecorder();
 }
@@ -0,0 +1,165 @@
+package com.databricks.jdbc.dbclient.impl.common;
+
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.model.telemetry.latency.OperationDetail;
+import com.databricks.jdbc.model.telemetry.latency.OperationType;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides how long to wait between status polls of a running statement and keeps count of the polls
+ * for telemetry.
+ *
+ * <p>With adaptive polling the first wait is the minimum interval and every following wait is drawn
+ * between the minimum interval and three times the previous wait, capped at the maximum interval
+ * (decorrelated jitter). Short statements are therefore noticed within milliseconds, while long
+ * running ones settle at the maximum interval without polling in lockstep. A delay suggested by the
+ * server replaces the drawn wait. Without adaptive polling every wait is the fixed {@code
+ * asyncexecpollinterval}.
+ */
+public class StatementPollingBackoff {
+
+  private final boolean adaptive;
+  private final long minIntervalMillis;
+  private final long maxIntervalMillis;
+  private long previousWaitMillis;
+  private int pollCount;
+  private long pollLatencyNanos;
+  private long totalWaitMillis;
+  private long lastWaitMillis;
+
+  StatementPollingBackoff(boolean adaptive, long minIntervalMillis, long maxIntervalMillis) {
+    this.adaptive = adaptive;
+    this.minIntervalMillis = minIntervalMillis;
+    this.maxIntervalMillis = maxIntervalMillis;
+  }
+
+  /**
+   * Creates the polling backoff configured for the given connection.
+   *
+   * @param connectionContext context holding the polling connection properties
+   * @return a new backoff for a single statement
+   */
+  public static StatementPollingBackoff forConnection(
+      IDatabricksConnectionContext connectionContext) {
+    if (connectionContext.isAdaptivePollingEnabled()) {
+      return new StatementPollingBackoff(
+          true,
+          connectionContext.getAdaptivePollMinInterval(),
+          connectionContext.getAdaptivePollMaxInterval());
+    }
+    int pollInterval = connectionContext.getAsyncExecPollInterval();
+    return new StatementPollingBackoff(false, pollInterval, pollInterval);
+  }
+
+  /**
+   * Creates the polling backoff of a metadata operation. Metadata operations typically finish
+   * within a few milliseconds, so without adaptive polling they are re-polled without waiting
+   * instead of after the fixed {@code asyncexecpollinterval}.
+   *
+   * @param connectionContext context holding the polling connection properties
+   * @return a new backoff for a single metadata operation
+   */
+  public static StatementPollingBackoff forMetadataOperation(
+      IDatabricksConnectionContext connectionContext) {
+    if (connectionContext.isAdaptivePollingEnabled()) {
+      return forConnection(connectionContext);
+    }
+    return new StatementPollingBackoff(false, 0, 0);
+  }
+
+  /** Returns whether waits adapt to the statement instead of using the fixed interval. */
+  public boolean isAdaptive() {
+    return adaptive;
+  }
+
+  /**
+   * Counts a status poll sent to the server.
+   *
+   * @param latencyNanos time the status request took
+   */
+  public void onPoll(long latencyNanos) {
+    pollCount++;
+    pollLatencyNanos += latencyNanos;
+  }
+
+  /** Returns the wait before the next poll when the server gave no hint. */
+  public long nextWaitMillis() {
+    return nextWaitMillis(0);
+  }
+
+  /**
+   * Returns the wait before the next poll.
+   *
+   * @param serverHintMillis delay until the next poll suggested by the server, 0 if there is none
+   * @return the wait in milliseconds
+   */
+  public long nextWaitMillis(long serverHintMillis) {
+    long waitMillis;
+    if (!adaptive) {
+      waitMillis = minIntervalMillis;
+    } else if (serverHintMillis > 0) {
+      waitMillis = Math.min(maxIntervalMillis, Math.max(minIntervalMillis, serverHintMillis));
+    } else if (previousWaitMillis == 0) {
+      waitMillis = minIntervalMillis;
+    } else {
+      long upperBound = Math.min(maxIntervalMillis, previousWaitMillis * 3);
+      waitMillis =
+          upperBound <= minIntervalMillis
+              ? minIntervalMillis
+              : ThreadLocalRandom.current().nextLong(minIntervalMillis, upperBound + 1);
+    }
+    previousWaitMillis = waitMillis;
+    return waitMillis;
+  }
+
+  /**
+   * Sleeps for the given wait and accounts for it.
+   *
+   * @param waitMillis wait returned by {@link #nextWaitMillis(long)}
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  public void await(long waitMillis) throws InterruptedException {
+    TimeUnit.MILLISECONDS.sleep(waitMillis);
+    totalWaitMillis += waitMillis;
+    lastWaitMillis = waitMillis;
+  }
+
+  /** Sleeps until the next poll is due when the server gave no hint. */
+  public void awaitNextPoll() throws InterruptedException {
+    await(nextWaitMillis());
+  }
+
+  /** Returns the number of status polls sent so far. */
+  public int getPollCount() {
+    return pollCount;
+  }
+
+  /** Returns the total time spent sleeping between polls. */
+  public long getTotalWaitMillis() {
+    return totalWaitMillis;
+  }
+
+  /**
+   * Returns the time a completed statement may have waited before a poll noticed it. This is the
+   * last wait before the final poll, an upper bound of the latency added by polling.
+   */
+  public long getWastedWaitMillis() {
+    return lastWaitMillis;
+  }
+
+  /**
+   * Returns the poll statistics as telemetry details of the given operation.
+   *
+   * @param operationType the polled operation
+   * @return operation details with the poll count, status request latency and wait times
+   */
+  public OperationDetail toOperationDetail(OperationType operationType) {
+    return new OperationDetail()
+        .setOperationType(operationType)
+        .setNOperationStatusCalls(pollCount)
+        .setOperationStatusLatencyMillis(TimeUnit.NANOSECONDS.toMillis(pollLatencyNanos))
+        .setPollWaitMillis(totalWaitMillis)
+        .setWastedPollWaitMillis(getWastedWaitMillis());
+  }
+}
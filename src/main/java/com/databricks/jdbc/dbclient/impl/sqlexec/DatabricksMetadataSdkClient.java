@@ -76,7 +76,7 @@ public class DatabricksMetadataSdkClient implements IDatabricksMetadataClient {
             .setTablePattern(tableNamePattern);
     String SQL = commandBuilder.getSQLString(CommandName.LIST_TABLES);
     LOGGER.debug("SQL command to fetch tables: {}", SQL);
-    LOGGER.debug(String.format("SQL command to fetch tables: {%s}", SQL));
+    LOGGER.debug("SQL command to fetch tables: {}", SQL);
     try {
       return metadataResultSetBuilder.getTablesResult(
           getResultSet(SQL, session), validatedTableTypes);
@@ -7,6 +7,7 @@ import static com.databricks.jdbc.common.util.DatabricksTypeUtil.DECIMAL;
 import static com.databricks.jdbc.common.util.DatabricksTypeUtil.getDecimalTypeString;
 import static com.databricks.jdbc.dbclient.impl.sqlexec.PathConstants.*;
 import static com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode.TEMPORARY_REDIRECT_EXCEPTION;
+import static com.databricks.jdbc.telemetry.TelemetryHelper.exportLatencyLog;
 
 import com.databricks.jdbc.api.impl.*;
 import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
@@ -19,6 +20,7 @@ import com.databricks.jdbc.common.util.DatabricksThreadContextHolder;
 import com.databricks.jdbc.dbclient.IDatabricksClient;
 import com.databricks.jdbc.dbclient.impl.common.ClientConfigurator;
 import com.databricks.jdbc.dbclient.impl.common.StatementId;
+import com.databricks.jdbc.dbclient.impl.common.StatementPollingBackoff;
 import com.databricks.jdbc.dbclient.impl.common.TimeoutHandler;
 import com.databricks.jdbc.dbclient.impl.common.TracingUtil;
 import com.databricks.jdbc.exception.*;
@@ -33,6 +35,9 @@ import com.databricks.jdbc.model.core.Disposition;
 import com.databricks.jdbc.model.core.ExternalLink;
 import com.databricks.jdbc.model.core.ResultData;
 import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
+import com.databricks.jdbc.model.telemetry.latency.OperationType;
+import com.databricks.jdbc.telemetry.latency.LatencyOperation;
+import com.databricks.jdbc.telemetry.latency.LatencyRecorder;
 import com.databricks.sdk.WorkspaceClient;
 import com.databricks.sdk.core.ApiClient;
 import com.databricks.sdk.core.DatabricksConfig;
@@ -43,8 +48,8 @@ import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.sql.SQLException;
-import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /** Implementation of IDatabricksClient interface using Databricks Java SDK. */
@@ -55,6 +60,7 @@ public class DatabricksSdkClient implements IDatabricksClient {
   private static final String ASYNC_TIMEOUT_VALUE = "0s";
   private final IDatabricksConnectionContext connectionContext;
   private final ClientConfigurator clientConfigurator;
+  private final LatencyRecorder latencyRecorder = new LatencyRecorder();
   private volatile WorkspaceClient workspaceClient;
   private volatile ApiClient apiClient;
 
@@ -174,8 +180,7 @@ public class DatabricksSdkClient implements IDatabricksClient {
         session,
         parentStatement);
     DatabricksThreadContextHolder.setSessionId(session.getSessionId());
-    long pollCount = 0;
-    long executionStartTime = Instant.now().toEpochMilli();
+    long executionStartNanos = System.nanoTime();
     DatabricksThreadContextHolder.setStatementType(statementType);
     ExecuteStatementRequest request =
         getRequest(
@@ -224,14 +229,18 @@ public class DatabricksSdkClient implements IDatabricksClient {
     TimeoutHandler timeoutHandler =
         TimeoutHandler.forStatement(timeoutInSeconds, typedStatementId, this);
 
+    // The first poll is sent right away, as the execute request already waited on the server for up
+    // to SYNC_TIMEOUT_VALUE. Only the waits between the following polls come from the backoff
+    StatementPollingBackoff pollingBackoff =
+        StatementPollingBackoff.forConnection(connectionContext);
     StatementState responseState = response.getStatus().getState();
     while (responseState == StatementState.PENDING || responseState == StatementState.RUNNING) {
       // Check for timeout
       timeoutHandler.checkTimeout();
 
-      if (pollCount > 0) { // First poll happens without a delay
+      if (pollingBackoff.getPollCount() > 0) { // First poll happens without a delay
         try {
-          Thread.sleep(connectionContext.getAsyncExecPollInterval());
+          pollingBackoff.awaitNextPoll();
         } catch (InterruptedException e) {
           String timeoutErrorMessage =
               String.format(
@@ -241,10 +250,12 @@ public class DatabricksSdkClient implements IDatabricksClient {
         }
       }
       String getStatusPath = String.format(STATEMENT_PATH_WITH_ID, statementId);
+      long pollStartNanos = System.nanoTime();
       try {
         Request req = new Request(Request.GET, getStatusPath, apiClient.serialize(request));
         req.withHeaders(getHeaders("getStatement"));
         response = wrapGetStatementResponse(apiClient.execute(req, GetStatementResponse.class));
+        pollingBackoff.onPoll(latencyRecorder.record(LatencyOperation.POLL, pollStartNanos));
       } catch (IOException e) {
         String errorMessage = "Error while processing the get statement response";
         LOGGER.error(errorMessage, e);
@@ -253,19 +264,26 @@ public class DatabricksSdkClient implements IDatabricksClient {
       }
       responseState = response.getStatus().getState();
       LOGGER.debug(
-          "Executed sql {} with status {} with retry count {}", sql, responseState, pollCount);
-      pollCount++;
+          "Executed sql {} with status {} with retry count {}",
+          sql,
+          responseState,
+          pollingBackoff.getPollCount() - 1);
     }
-    long executionEndTime = Instant.now().toEpochMilli();
+    long executionMillis =
+        TimeUnit.NANOSECONDS.toMillis(
+            latencyRecorder.record(LatencyOperation.EXECUTE, executionStartNanos));
     LOGGER.debug(
-        "Executed sql {} with status {}, total time taken {} and pollCount {}",
+        "Executed sql {} with status {}, total time taken {}, pollCount {} and poll wait {}",
         sql,
         responseState,
-        (executionEndTime - executionStartTime),
-        pollCount);
+        executionMillis,
+        pollingBackoff.getPollCount(),
+        pollingBackoff.getTotalWaitMillis());
     if (responseState != StatementState.SUCCEEDED) {
       handleFailedExecution(response, statementId, sql);
     }
+    exportLatencyLog(
+        executionMillis, pollingBackoff.toOperationDetail(OperationType.EXECUTE_STATEMENT));
     return new DatabricksResultSet(
         response.getStatus(),
         typedStatementId,
@@ -344,10 +362,12 @@ public class DatabricksSdkClient implements IDatabricksClient {
     GetStatementRequest request = new GetStatementRequest().setStatementId(statementId);
     String getStatusPath = String.format(STATEMENT_PATH_WITH_ID, statementId);
     GetStatementResponse response;
+    long pollStartNanos = System.nanoTime();
     try {
       Request req = new Request(Request.GET, getStatusPath, apiClient.serialize(request));
       req.withHeaders(getHeaders("getStatement"));
       response = apiClient.execute(req, GetStatementResponse.class);
+      latencyRecorder.record(LatencyOperation.POLL, pollStartNanos);
     } catch (IOException e) {
       String errorMessage = "Error while processing the get statement result request";
       LOGGER.error(errorMessage, e);
@@ -367,13 +387,15 @@ public class DatabricksSdkClient implements IDatabricksClient {
   public void closeStatement(StatementId typedStatementId) throws DatabricksSQLException {
     String statementId = typedStatementId.toSQLExecStatementId();
     DatabricksThreadContextHolder.setStatementId(typedStatementId);
-    LOGGER.debug(String.format("public void closeStatement(String statementId = {})", statementId));
+    LOGGER.debug("public void closeStatement(String statementId = {})", statementId);
     CloseStatementRequest request = new CloseStatementRequest().setStatementId(statementId);
     String path = String.format(STATEMENT_PATH_WITH_ID, request.getStatementId());
+    long closeStartNanos = System.nanoTime();
     try {
       Request req = new Request(Request.DELETE, path, apiClient.serialize(request));
       req.withHeaders(getHeaders("closeStatement"));
       apiClient.execute(req, Void.class);
+      latencyRecorder.record(LatencyOperation.CLOSE, closeStartNanos);
     } catch (IOException e) {
       String errorMessage = "Error while processing the close statement request";
       LOGGER.error(errorMessage, e);
@@ -411,10 +433,12 @@ public class DatabricksSdkClient implements IDatabricksClient {
     GetStatementResultChunkNRequest request =
         new GetStatementResultChunkNRequest().setStatementId(statementId).setChunkIndex(chunkIndex);
     String path = String.format(RESULT_CHUNK_PATH, statementId, chunkIndex);
+    long fetchStartNanos = System.nanoTime();
     try {
       Request req = new Request(Request.GET, path, apiClient.serialize(request));
       req.withHeaders(getHeaders("getStatementResultN"));
       ResultData resultData = apiClient.execute(req, ResultData.class);
+      latencyRecorder.record(LatencyOperation.FETCH_LINKS, fetchStartNanos);
       return resultData.getExternalLinks();
     } catch (IOException e) {
       String errorMessage = "Error while processing the get result chunk request";
@@ -441,6 +465,11 @@ public class DatabricksSdkClient implements IDatabricksClient {
     return clientConfigurator.getDatabricksConfig();
   }
 
+  @Override
+  public LatencyRecorder getLatencyRecorder() {
+    return latencyRecorder;
+  }
+
   private boolean useCloudFetchForResult(StatementType statementType) {
     return this.connectionContext.shouldEnableArrow()
         && (statementType == StatementType.QUERY
@@ -112,7 +112,7 @@ public class DatabricksHttpTTransport extends TTransport {
 
     if (connectionContext.isRequestTracingEnabled()) {
       String traceHeader = TracingUtil.getTraceHeader();
-      LOGGER.debug("Thrift tracing header: " + traceHeader);
+      LOGGER.debug("Thrift tracing header: {}", traceHeader);
 
       request.addHeader(TracingUtil.TRACE_HEADER, traceHeader);
     }
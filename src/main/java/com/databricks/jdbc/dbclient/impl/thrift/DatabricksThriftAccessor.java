@@ -2,6 +2,7 @@ package com.databricks.jdbc.dbclient.impl.thrift;
 
 import static com.databricks.jdbc.common.EnvironmentVariables.*;
 import static com.databricks.jdbc.common.util.DatabricksThriftUtil.*;
+import static com.databricks.jdbc.telemetry.TelemetryHelper.exportLatencyLog;
 
 import com.databricks.jdbc.api.impl.*;
 import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
@@ -13,6 +14,7 @@ import com.databricks.jdbc.common.util.DatabricksThreadContextHolder;
 import com.databricks.jdbc.common.util.DriverUtil;
 import com.databricks.jdbc.common.util.ProtocolFeatureUtil;
 import com.databricks.jdbc.dbclient.impl.common.StatementId;
+import com.databricks.jdbc.dbclient.impl.common.StatementPollingBackoff;
 import com.databricks.jdbc.dbclient.impl.common.TimeoutHandler;
 import com.databricks.jdbc.dbclient.impl.http.DatabricksHttpClientFactory;
 import com.databricks.jdbc.exception.DatabricksHttpException;
@@ -24,12 +26,14 @@ import com.databricks.jdbc.log.JdbcLoggerFactory;
 import com.databricks.jdbc.model.client.thrift.generated.*;
 import com.databricks.jdbc.model.core.StatementStatus;
 import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
+import com.databricks.jdbc.model.telemetry.latency.OperationType;
+import com.databricks.jdbc.telemetry.latency.LatencyOperation;
+import com.databricks.jdbc.telemetry.latency.LatencyRecorder;
 import com.databricks.sdk.core.DatabricksConfig;
 import com.databricks.sdk.service.sql.StatementState;
 import com.google.common.annotations.VisibleForTesting;
 import java.sql.SQLException;
 import java.util.Arrays;
-import java.util.concurrent.TimeUnit;
 import org.apache.http.HttpException;
 import org.apache.thrift.TBase;
 import org.apache.thrift.TException;
@@ -53,20 +57,23 @@ final class DatabricksThriftAccessor {
   private final ThreadLocal<TCLIService.Client> thriftClient;
   private final DatabricksConfig databricksConfig;
   private final boolean enableDirectResults;
-  private final int asyncPollIntervalMillis;
+  private final IDatabricksConnectionContext connectionContext;
   private final int maxRowsPerBlock;
   private final String connectionUuid;
+  private final LatencyRecorder latencyRecorder;
   private TProtocolVersion serverProtocolVersion = JDBC_THRIFT_VERSION;
 
-  DatabricksThriftAccessor(IDatabricksConnectionContext connectionContext)
+  DatabricksThriftAccessor(
+      IDatabricksConnectionContext connectionContext, LatencyRecorder latencyRecorder)
       throws DatabricksParsingException {
+    this.latencyRecorder = latencyRecorder;
     this.enableDirectResults = connectionContext.getDirectResultMode();
     this.databricksConfig =
         DatabricksClientConfiguratorManager.getInstance()
             .getConfigurator(connectionContext)
             .getDatabricksConfig();
     String endPointUrl = connectionContext.getEndpointURL();
-    this.asyncPollIntervalMillis = connectionContext.getAsyncExecPollInterval();
+    this.connectionContext = connectionContext;
     this.maxRowsPerBlock = connectionContext.getRowsFetchedPerBlock();
     this.connectionUuid = connectionContext.getConnectionUuid();
 
@@ -87,9 +94,10 @@ final class DatabricksThriftAccessor {
   DatabricksThriftAccessor(
       TCLIService.Client client, IDatabricksConnectionContext connectionContext) {
     this.databricksConfig = null;
+    this.latencyRecorder = new LatencyRecorder();
     this.thriftClient = ThreadLocal.withInitial(() -> client);
     this.enableDirectResults = connectionContext.getDirectResultMode();
-    this.asyncPollIntervalMillis = connectionContext.getAsyncExecPollInterval();
+    this.connectionContext = connectionContext;
     this.maxRowsPerBlock = connectionContext.getRowsFetchedPerBlock();
     this.connectionUuid = connectionContext.getConnectionUuid();
   }
@@ -131,7 +139,6 @@ final class DatabricksThriftAccessor {
         throw new DatabricksSQLFeatureNotSupportedException(errorMessage);
       }
 
-      // TODO (PECOBLR-389): remove these latency logs once DatabricksMetricsTimedProcessor is ready
       long thriftRequestEndTime = System.currentTimeMillis();
       long thriftRequestLatency = thriftRequestEndTime - thriftRequestStartTime;
       LOGGER.debug(
@@ -233,6 +240,21 @@ final class DatabricksThriftAccessor {
       IDatabricksSession session,
       StatementType statementType)
       throws SQLException {
+    return execute(
+        request,
+        parentStatement,
+        session,
+        statementType,
+        StatementPollingBackoff.forConnection(connectionContext));
+  }
+
+  DatabricksResultSet execute(
+      TExecuteStatementReq request,
+      IDatabricksStatementInternal parentStatement,
+      IDatabricksSession session,
+      StatementType statementType,
+      StatementPollingBackoff pollingBackoff)
+      throws SQLException {
 
     long executeStartTime = System.currentTimeMillis();
 
@@ -278,23 +300,31 @@ final class DatabricksThriftAccessor {
       TGetOperationStatusReq statusReq =
           new TGetOperationStatusReq()
               .setOperationHandle(response.getOperationHandle())
-              .setGetProgressUpdate(false);
+              .setGetProgressUpdate(pollingBackoff.isAdaptive());
       while (shouldContinuePolling(statusResp)) {
+        // The first poll is sent right away, later ones wait for the backoff
+        if (pollingBackoff.getPollCount() > 0) {
+          try {
+            pollingBackoff.await(
+                pollingBackoff.nextWaitMillis(
+                    getPollHintMillis(statusResp, System.currentTimeMillis())));
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // Restore interrupt flag
+            cancelOperation(
+                new TCancelOperationReq().setOperationHandle(response.getOperationHandle()));
+            throw new DatabricksSQLException(
+                "Query execution interrupted",
+                e,
+                DatabricksDriverErrorCode.THREAD_INTERRUPTED_ERROR);
+          }
+        }
+
         // Check for timeout before continuing
         timeoutHandler.checkTimeout();
 
         // Polling for operation status
-        statusResp = getThriftClient().GetOperationStatus(statusReq);
+        statusResp = getOperationStatus(statusReq, pollingBackoff);
         checkOperationStatusForErrors(statusResp);
-        try {
-          TimeUnit.MILLISECONDS.sleep(asyncPollIntervalMillis);
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt(); // Restore interrupt flag
-          cancelOperation(
-              new TCancelOperationReq().setOperationHandle(response.getOperationHandle()));
-          throw new DatabricksSQLException(
-              "Query execution interrupted", e, DatabricksDriverErrorCode.THREAD_INTERRUPTED_ERROR);
-        }
       }
       long pollingEndTime = System.currentTimeMillis();
       long pollingLatency = pollingEndTime - pollingStartTime;
@@ -308,6 +338,10 @@ final class DatabricksThriftAccessor {
               + sessionInfo
               + "] Thrift polling latency: "
               + pollingLatency
+              + "ms, polls: "
+              + pollingBackoff.getPollCount()
+              + ", wait: "
+              + pollingBackoff.getTotalWaitMillis()
               + "ms");
 
       if (hasResultDataInDirectResults(response)) {
@@ -472,7 +506,7 @@ final class DatabricksThriftAccessor {
     TGetOperationStatusResp response;
     TFetchResultsResp resultSet = null;
     try {
-      response = getThriftClient().GetOperationStatus(request);
+      response = getOperationStatus(request);
       TOperationState operationState = response.getOperationState();
       if (operationState == TOperationState.FINISHED_STATE) {
         long fetchStartTime = System.currentTimeMillis();
@@ -556,6 +590,26 @@ final class DatabricksThriftAccessor {
     return thriftClient.get();
   }
 
+  LatencyRecorder getLatencyRecorder() {
+    return latencyRecorder;
+  }
+
+  private TGetOperationStatusResp getOperationStatus(TGetOperationStatusReq request)
+      throws TException {
+    long pollStartNanos = System.nanoTime();
+    TGetOperationStatusResp response = getThriftClient().GetOperationStatus(request);
+    latencyRecorder.record(LatencyOperation.POLL, pollStartNanos);
+    return response;
+  }
+
+  private TGetOperationStatusResp getOperationStatus(
+      TGetOperationStatusReq request, StatementPollingBackoff pollingBackoff) throws TException {
+    long pollStartNanos = System.nanoTime();
+    TGetOperationStatusResp response = getThriftClient().GetOperationStatus(request);
+    pollingBackoff.onPoll(latencyRecorder.record(LatencyOperation.POLL, pollStartNanos));
+    return response;
+  }
+
   DatabricksConfig getDatabricksConfig() {
     return databricksConfig;
   }
@@ -602,63 +656,63 @@ final class DatabricksThriftAccessor {
       throws TException, DatabricksSQLException {
     if (enableDirectResults) request.setGetDirectResults(DEFAULT_DIRECT_RESULTS);
     TGetFunctionsResp response = getThriftClient().GetFunctions(request);
-    return fetchMetadataResults(response, response.toString());
+    return fetchMetadataResults(response, response.toString(), OperationType.LIST_FUNCTIONS);
   }
 
   private TFetchResultsResp listPrimaryKeys(TGetPrimaryKeysReq request)
       throws TException, DatabricksSQLException {
     if (enableDirectResults) request.setGetDirectResults(DEFAULT_DIRECT_RESULTS);
     TGetPrimaryKeysResp response = getThriftClient().GetPrimaryKeys(request);
-    return fetchMetadataResults(response, response.toString());
+    return fetchMetadataResults(response, response.toString(), OperationType.LIST_PRIMARY_KEYS);
   }
 
   private TFetchResultsResp listCrossReferences(TGetCrossReferenceReq request)
       throws TException, DatabricksSQLException {
     if (enableDirectResults) request.setGetDirectResults(DEFAULT_DIRECT_RESULTS);
     TGetCrossReferenceResp response = getThriftClient().GetCrossReference(request);
-    return fetchMetadataResults(response, response.toString());
+    return fetchMetadataResults(response, response.toString(), OperationType.LIST_CROSS_REFERENCES);
   }
 
   private TFetchResultsResp getTables(TGetTablesReq request)
       throws TException, DatabricksSQLException {
     if (enableDirectResults) request.setGetDirectResults(DEFAULT_DIRECT_RESULTS);
     TGetTablesResp response = getThriftClient().GetTables(request);
-    return fetchMetadataResults(response, response.toString());
+    return fetchMetadataResults(response, response.toString(), OperationType.LIST_TABLES);
   }
 
   private TFetchResultsResp getTableTypes(TGetTableTypesReq request)
       throws TException, DatabricksSQLException {
     if (enableDirectResults) request.setGetDirectResults(DEFAULT_DIRECT_RESULTS);
     TGetTableTypesResp response = getThriftClient().GetTableTypes(request);
-    return fetchMetadataResults(response, response.toString());
+    return fetchMetadataResults(response, response.toString(), OperationType.LIST_TABLE_TYPES);
   }
 
   private TFetchResultsResp getCatalogs(TGetCatalogsReq request)
       throws TException, DatabricksSQLException {
     if (enableDirectResults) request.setGetDirectResults(DEFAULT_DIRECT_RESULTS);
     TGetCatalogsResp response = getThriftClient().GetCatalogs(request);
-    return fetchMetadataResults(response, response.toString());
+    return fetchMetadataResults(response, response.toString(), OperationType.LIST_CATALOGS);
   }
 
   private TFetchResultsResp listSchemas(TGetSchemasReq request)
       throws TException, DatabricksSQLException {
     if (enableDirectResults) request.setGetDirectResults(DEFAULT_DIRECT_RESULTS);
     TGetSchemasResp response = getThriftClient().GetSchemas(request);
-    return fetchMetadataResults(response, response.toString());
+    return fetchMetadataResults(response, response.toString(), OperationType.LIST_SCHEMAS);
   }
 
   private TFetchResultsResp getTypeInfo(TGetTypeInfoReq request)
       throws TException, DatabricksSQLException {
     if (enableDirectResults) request.setGetDirectResults(DEFAULT_DIRECT_RESULTS);
     TGetTypeInfoResp response = getThriftClient().GetTypeInfo(request);
-    return fetchMetadataResults(response, response.toString());
+    return fetchMetadataResults(response, response.toString(), OperationType.LIST_TYPE_INFO);
   }
 
   private TFetchResultsResp listColumns(TGetColumnsReq request)
       throws TException, DatabricksSQLException {
     if (enableDirectResults) request.setGetDirectResults(DEFAULT_DIRECT_RESULTS);
     TGetColumnsResp response = getThriftClient().GetColumns(request);
-    return fetchMetadataResults(response, response.toString());
+    return fetchMetadataResults(response, response.toString(), OperationType.LIST_COLUMNS);
   }
 
   /**
@@ -689,6 +743,7 @@ final class DatabricksThriftAccessor {
    *
    * @param response Thrift response object
    * @param contextDescription description of the context in which the response was received
+   * @param operationType the metadata operation, for the poll statistics
    * @return metadata results {@link TFetchResultsResp}
    * @param <TResp> Thrift response type
    * @param <FResp> Thrift response field type
@@ -696,7 +751,8 @@ final class DatabricksThriftAccessor {
    * @throws DatabricksSQLException if an error occurs while fetching the metadata results
    */
   private <TResp extends TBase<TResp, FResp>, FResp extends TFieldIdEnum>
-      TFetchResultsResp fetchMetadataResults(TResp response, String contextDescription)
+      TFetchResultsResp fetchMetadataResults(
+          TResp response, String contextDescription, OperationType operationType)
           throws TException, DatabricksSQLException {
     checkResponseForErrors(response);
 
@@ -716,15 +772,47 @@ final class DatabricksThriftAccessor {
     TOperationHandle operationHandle =
         (TOperationHandle) response.getFieldValue(operationHandleField);
 
-    // Polling until query operation state is finished
+    // Polling until query operation state is finished. The first poll is sent right away, later
+    // ones follow the adaptive backoff, or are sent without waiting when it is disabled
+    StatementPollingBackoff pollingBackoff =
+        StatementPollingBackoff.forMetadataOperation(connectionContext);
+    long pollingStartTime = System.currentTimeMillis();
     TGetOperationStatusReq statusReq =
         new TGetOperationStatusReq()
             .setOperationHandle(operationHandle)
-            .setGetProgressUpdate(false);
+            .setGetProgressUpdate(pollingBackoff.isAdaptive());
     while (shouldContinuePolling(statusResp)) {
-      statusResp = getThriftClient().GetOperationStatus(statusReq);
+      if (pollingBackoff.getPollCount() > 0) {
+        long waitMillis =
+            pollingBackoff.nextWaitMillis(
+                getPollHintMillis(statusResp, System.currentTimeMillis()));
+        if (waitMillis > 0) {
+          try {
+            pollingBackoff.await(waitMillis);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // Restore interrupt flag
+            cancelOperation(new TCancelOperationReq().setOperationHandle(operationHandle));
+            throw new DatabricksSQLException(
+                "Metadata operation interrupted",
+                e,
+                DatabricksDriverErrorCode.THREAD_INTERRUPTED_ERROR);
+          }
+        }
+      }
+      statusResp = getOperationStatus(statusReq, pollingBackoff);
       checkOperationStatusForErrors(statusResp);
     }
+    if (pollingBackoff.getPollCount() > 0) {
+      long pollingLatency = System.currentTimeMillis() - pollingStartTime;
+      LOGGER.debug(
+          "Connection [{}] {} polling latency: {}ms, polls: {}, wait: {}ms",
+          connectionUuid,
+          operationType,
+          pollingLatency,
+          pollingBackoff.getPollCount(),
+          pollingBackoff.getTotalWaitMillis());
+      exportLatencyLog(pollingLatency, pollingBackoff.toOperationDetail(operationType));
+    }
 
     if (hasResultDataInDirectResults(response)) {
       // The first response has result data
@@ -6,6 +6,7 @@ import static com.databricks.jdbc.common.util.DatabricksThriftUtil.*;
 import static com.databricks.jdbc.common.util.DatabricksTypeUtil.DECIMAL;
 import static com.databricks.jdbc.common.util.DatabricksTypeUtil.getDecimalTypeString;
 import static com.databricks.jdbc.dbclient.impl.sqlexec.ResultConstants.TYPE_INFO_RESULT;
+import static com.databricks.jdbc.telemetry.TelemetryHelper.exportLatencyLog;
 
 import com.databricks.jdbc.api.impl.*;
 import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
@@ -20,6 +21,7 @@ import com.databricks.jdbc.dbclient.IDatabricksClient;
 import com.databricks.jdbc.dbclient.IDatabricksMetadataClient;
 import com.databricks.jdbc.dbclient.impl.common.MetadataResultSetBuilder;
 import com.databricks.jdbc.dbclient.impl.common.StatementId;
+import com.databricks.jdbc.dbclient.impl.common.StatementPollingBackoff;
 import com.databricks.jdbc.exception.DatabricksHttpException;
 import com.databricks.jdbc.exception.DatabricksParsingException;
 import com.databricks.jdbc.exception.DatabricksSQLException;
@@ -28,11 +30,15 @@ import com.databricks.jdbc.log.JdbcLoggerFactory;
 import com.databricks.jdbc.model.client.thrift.generated.*;
 import com.databricks.jdbc.model.core.ExternalLink;
 import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
+import com.databricks.jdbc.model.telemetry.latency.OperationType;
+import com.databricks.jdbc.telemetry.latency.LatencyOperation;
+import com.databricks.jdbc.telemetry.latency.LatencyRecorder;
 import com.databricks.sdk.core.DatabricksConfig;
 import com.google.common.annotations.VisibleForTesting;
 import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -44,11 +50,13 @@ public class DatabricksThriftServiceClient implements IDatabricksClient, IDatabr
   private final IDatabricksConnectionContext connectionContext;
   private TProtocolVersion serverProtocolVersion = JDBC_THRIFT_VERSION;
   private final MetadataResultSetBuilder metadataResultSetBuilder;
+  private final LatencyRecorder latencyRecorder;
 
   public DatabricksThriftServiceClient(IDatabricksConnectionContext connectionContext)
       throws DatabricksParsingException, DatabricksHttpException {
     this.connectionContext = connectionContext;
-    this.thriftAccessor = new DatabricksThriftAccessor(connectionContext);
+    this.latencyRecorder = new LatencyRecorder();
+    this.thriftAccessor = new DatabricksThriftAccessor(connectionContext, latencyRecorder);
     this.metadataResultSetBuilder = new MetadataResultSetBuilder(connectionContext);
   }
 
@@ -57,6 +65,7 @@ public class DatabricksThriftServiceClient implements IDatabricksClient, IDatabr
       DatabricksThriftAccessor thriftAccessor, IDatabricksConnectionContext connectionContext) {
     this.thriftAccessor = thriftAccessor;
     this.connectionContext = connectionContext;
+    this.latencyRecorder = new LatencyRecorder();
     this.metadataResultSetBuilder = new MetadataResultSetBuilder(connectionContext);
   }
 
@@ -84,9 +93,11 @@ public class DatabricksThriftServiceClient implements IDatabricksClient, IDatabr
       Map<String, String> sessionConf)
       throws DatabricksSQLException {
     LOGGER.debug(
-        String.format(
-            "public Session createSession(Compute cluster = {%s}, String catalog = {%s}, String schema = {%s}, Map<String, String> sessionConf = {%s})",
-            cluster.toString(), catalog, schema, sessionConf));
+        "public Session createSession(Compute cluster = {}, String catalog = {}, String schema = {}, Map<String, String> sessionConf = {})",
+        cluster,
+        catalog,
+        schema,
+        sessionConf);
     TOpenSessionReq openSessionReq =
         new TOpenSessionReq()
             .setConfiguration(sessionConf)
@@ -121,9 +132,7 @@ public class DatabricksThriftServiceClient implements IDatabricksClient, IDatabr
 
   @Override
   public void deleteSession(ImmutableSessionInfo sessionInfo) throws DatabricksSQLException {
-    LOGGER.debug(
-        String.format(
-            "public void deleteSession(Session session = {%s}))", sessionInfo.toString()));
+    LOGGER.debug("public void deleteSession(Session session = {}))", sessionInfo);
     DatabricksThreadContextHolder.setSessionId(sessionInfo.sessionId());
     TCloseSessionReq closeSessionReq =
         new TCloseSessionReq().setSessionHandle(sessionInfo.sessionHandle());
@@ -143,15 +152,26 @@ public class DatabricksThriftServiceClient implements IDatabricksClient, IDatabr
       throws SQLException {
 
     LOGGER.debug(
-        String.format(
-            "public DatabricksResultSet executeStatement(String sql = {%s}, Compute cluster = {%s}, Map<Integer, ImmutableSqlParameter> parameters = {%s}, StatementType statementType = {%s}, IDatabricksSession session)",
-            sql, computeResource.toString(), parameters.toString(), statementType));
+        "public DatabricksResultSet executeStatement(String sql = {}, Compute cluster = {}, Map<Integer, ImmutableSqlParameter> parameters = {}, StatementType statementType = {}, IDatabricksSession session)",
+        sql,
+        computeResource,
+        parameters,
+        statementType);
 
     DatabricksThreadContextHolder.setStatementType(statementType);
 
     TExecuteStatementReq request = getRequest(sql, parameters, session, parentStatement, false);
 
-    return thriftAccessor.execute(request, parentStatement, session, statementType);
+    StatementPollingBackoff pollingBackoff =
+        StatementPollingBackoff.forConnection(connectionContext);
+    long executionStartNanos = System.nanoTime();
+    DatabricksResultSet resultSet =
+        thriftAccessor.execute(request, parentStatement, session, statementType, pollingBackoff);
+    exportLatencyLog(
+        TimeUnit.NANOSECONDS.toMillis(
+            latencyRecorder.record(LatencyOperation.EXECUTE, executionStartNanos)),
+        pollingBackoff.toOperationDetail(OperationType.EXECUTE_STATEMENT));
+    return resultSet;
   }
 
   @Override
@@ -164,9 +184,10 @@ public class DatabricksThriftServiceClient implements IDatabricksClient, IDatabr
       throws SQLException {
 
     LOGGER.debug(
-        String.format(
-            "public DatabricksResultSet executeStatementAsync(String sql = {%s}, Compute cluster = {%s}, Map<Integer, ImmutableSqlParameter> parameters = {%s})",
-            sql, computeResource.toString(), parameters.toString()));
+        "public DatabricksResultSet executeStatementAsync(String sql = {}, Compute cluster = {}, Map<Integer, ImmutableSqlParameter> parameters = {})",
+        sql,
+        computeResource,
+        parameters);
 
     TExecuteStatementReq request = getRequest(sql, parameters, session, parentStatement, true);
 
@@ -246,22 +267,20 @@ public class DatabricksThriftServiceClient implements IDatabricksClient, IDatabr
   @Override
   public void closeStatement(StatementId statementId) throws DatabricksSQLException {
     LOGGER.debug(
-        String.format(
-            "public void closeStatement(String statementId = {%s}) using Thrift client",
-            statementId));
+        "public void closeStatement(String statementId = {}) using Thrift client", statementId);
     DatabricksThreadContextHolder.setStatementId(statementId);
     TCloseOperationReq request =
         new TCloseOperationReq().setOperationHandle(getOperationHandle(statementId));
+    long closeStartNanos = System.nanoTime();
     TCloseOperationResp resp = thriftAccessor.closeOperation(request);
+    latencyRecorder.record(LatencyOperation.CLOSE, closeStartNanos);
     LOGGER.debug("Statement {} closed with status {}", statementId, resp.getStatus());
   }
 
   @Override
   public void cancelStatement(StatementId statementId) throws DatabricksSQLException {
     LOGGER.debug(
-        String.format(
-            "public void cancelStatement(String statementId = {%s}) using Thrift client",
-            statementId));
+        "public void cancelStatement(String statementId = {}) using Thrift client", statementId);
     DatabricksThreadContextHolder.setStatementId(statementId);
     TCancelOperationReq request =
         new TCancelOperationReq().setOperationHandle(getOperationHandle(statementId));
@@ -276,9 +295,8 @@ public class DatabricksThriftServiceClient implements IDatabricksClient, IDatabr
       IDatabricksStatementInternal parentStatement)
       throws SQLException {
     LOGGER.debug(
-        String.format(
-            "public DatabricksResultSet getStatementResult(String statementId = {%s}) using Thrift client",
-            statementId));
+        "public DatabricksResultSet getStatementResult(String statementId = {}) using Thrift client",
+        statementId);
     DatabricksThreadContextHolder.setStatementId(statementId);
     DatabricksThreadContextHolder.setSessionId(session.getSessionId());
     return thriftAccessor.getStatementResult(
@@ -297,6 +315,7 @@ public class DatabricksThriftServiceClient implements IDatabricksClient, IDatabr
     TFetchResultsResp fetchResultsResp;
     List<ExternalLink> externalLinks = new ArrayList<>();
     AtomicInteger index = new AtomicInteger(0);
+    long fetchStartNanos = System.nanoTime();
     do {
       fetchResultsResp = thriftAccessor.getResultSetResp(getOperationHandle(statementId), context);
       fetchResultsResp
@@ -306,6 +325,7 @@ public class DatabricksThriftServiceClient implements IDatabricksClient, IDatabr
               resultLink ->
                   externalLinks.add(createExternalLink(resultLink, index.getAndIncrement())));
     } while (fetchResultsResp.hasMoreRows);
+    latencyRecorder.record(LatencyOperation.FETCH_LINKS, fetchStartNanos);
     if (chunkIndex < 0 || externalLinks.size() <= chunkIndex) {
       String error = String.format("Out of bounds error for chunkIndex. Context: %s", context);
       LOGGER.error(error);
@@ -394,9 +414,7 @@ public class DatabricksThriftServiceClient implements IDatabricksClient, IDatabr
 
   @Override
   public DatabricksResultSet listTableTypes(IDatabricksSession session) {
-    LOGGER.debug(
-        String.format(
-            "Fetching table types using Thrift client. Session {%s}", session.toString()));
+    LOGGER.debug("Fetching table types using Thrift client. Session {}", session);
     DatabricksThreadContextHolder.setSessionId(session.getSessionId());
     return metadataResultSetBuilder.getTableTypesResult();
   }
@@ -575,6 +593,11 @@ public class DatabricksThriftServiceClient implements IDatabricksClient, IDatabr
     return thriftAccessor.getDatabricksConfig();
   }
 
+  @Override
+  public LatencyRecorder getLatencyRecorder() {
+    return latencyRecorder;
+  }
+
   private TNamespace getNamespace(String catalog, String schema) {
     final TNamespace namespace = new TNamespace();
     if (catalog != null) {
@@ -1,18 +1,36 @@
 package com.databricks.jdbc.log;
 
+import java.util.function.Supplier;
+
 /**
  * The interface defines logging methods for various levels of importance. Implementations of this
  * interface can be used to integrate with different logging frameworks.
+ *
+ * <p>Implementations check the level before formatting a message, so parameterized messages and
+ * message suppliers cost nothing beyond the level check when the level is disabled. Prefer them to
+ * building the message with {@code String.format} or string concatenation at the call site.
  */
 public interface JdbcLogger {
+  /** Returns whether trace messages are logged. */
+  boolean isTraceEnabled();
+
+  /** Returns whether debug messages are logged. */
+  boolean isDebugEnabled();
+
   void trace(String message);
 
   void trace(String format, Object... arguments);
 
+  /** Logs the message at trace level, building it only if trace messages are logged. */
+  void trace(Supplier<String> messageSupplier);
+
   void debug(String message);
 
   void debug(String format, Object... arguments);
 
+  /** Logs the message at debug level, building it only if debug messages are logged. */
+  void debug(Supplier<String> messageSupplier);
+
   void info(String message);
 
   void info(String format, Object... arguments);
@@ -5,8 +5,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.logging.*;
-import java.util.stream.Stream;
 
 /**
  * The {@code JulLogger} class provides an implementation of the {@link JdbcLogger} interface using
@@ -20,6 +20,9 @@ import java.util.stream.Stream;
  * <p>Log messages include the name of the class and method from where the logging request was made,
  * providing a clear context for the log messages. This is achieved by analyzing the stack trace to
  * find the caller information.
+ *
+ * <p>The level is checked before a message is formatted or its caller is looked up, so disabled log
+ * statements only cost the level check.
  */
 public class JulLogger implements JdbcLogger {
 
@@ -46,6 +49,18 @@ public class JulLogger implements JdbcLogger {
     this.logger = Logger.getLogger(name);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public boolean isTraceEnabled() {
+    return logger.isLoggable(Level.FINEST);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isDebugEnabled() {
+    return logger.isLoggable(Level.FINE);
+  }
+
   /** {@inheritDoc} */
   @Override
   public void trace(String message) {
@@ -54,7 +69,15 @@ public class JulLogger implements JdbcLogger {
 
   @Override
   public void trace(String format, Object... arguments) {
-    trace(String.format(slf4jToJavaFormat(format), arguments));
+    log(Level.FINEST, format, arguments, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void trace(Supplier<String> messageSupplier) {
+    if (logger.isLoggable(Level.FINEST)) {
+      log(Level.FINEST, messageSupplier.get(), null);
+    }
   }
 
   /** {@inheritDoc} */
@@ -65,7 +88,15 @@ public class JulLogger implements JdbcLogger {
 
   @Override
   public void debug(String format, Object... arguments) {
-    debug(String.format(slf4jToJavaFormat(format), arguments));
+    log(Level.FINE, format, arguments, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void debug(Supplier<String> messageSupplier) {
+    if (logger.isLoggable(Level.FINE)) {
+      log(Level.FINE, messageSupplier.get(), null);
+    }
   }
 
   /** {@inheritDoc} */
@@ -76,7 +107,7 @@ public class JulLogger implements JdbcLogger {
 
   @Override
   public void info(String format, Object... arguments) {
-    info(String.format(slf4jToJavaFormat(format), arguments));
+    log(Level.INFO, format, arguments, null);
   }
 
   /** {@inheritDoc} */
@@ -87,7 +118,7 @@ public class JulLogger implements JdbcLogger {
 
   @Override
   public void warn(String format, Object... arguments) {
-    warn(String.format(slf4jToJavaFormat(format), arguments));
+    log(Level.WARNING, format, arguments, null);
   }
 
   /** {@inheritDoc} */
@@ -98,7 +129,7 @@ public class JulLogger implements JdbcLogger {
 
   @Override
   public void error(String format, Object... arguments) {
-    error(String.format(slf4jToJavaFormat(format), arguments));
+    log(Level.SEVERE, format, arguments, null);
   }
 
   /** {@inheritDoc} */
@@ -109,7 +140,7 @@ public class JulLogger implements JdbcLogger {
 
   @Override
   public void error(Throwable throwable, String format, Object... arguments) {
-    error(String.format(slf4jToJavaFormat(format), arguments), throwable);
+    log(Level.SEVERE, format, arguments, throwable);
   }
 
   /**
@@ -156,6 +187,10 @@ public class JulLogger implements JdbcLogger {
   }
 
   private void log(Level level, String message, Throwable throwable) {
+    // Checked before looking up the caller, which walks the stack
+    if (!logger.isLoggable(level)) {
+      return;
+    }
     String[] callerClassMethod = getCaller();
     if (throwable == null) {
       logger.logp(level, callerClassMethod[0], callerClassMethod[1], message);
@@ -164,6 +199,12 @@ public class JulLogger implements JdbcLogger {
     }
   }
 
+  private void log(Level level, String format, Object[] arguments, Throwable throwable) {
+    if (logger.isLoggable(level)) {
+      log(level, String.format(slf4jToJavaFormat(format), arguments), throwable);
+    }
+  }
+
   /**
    * Retrieves the class name and method name of the caller that initiated the logging request. This
    * method navigates the stack trace to find the first method outside the known logging methods,
@@ -180,11 +221,14 @@ public class JulLogger implements JdbcLogger {
    * </ol>
    */
   protected static String[] getCaller() {
-    return Stream.of(Thread.currentThread().getStackTrace())
-        .dropWhile(stackTrace -> !logMethods.contains(stackTrace.getMethodName()))
-        .dropWhile(stackTrace -> logMethods.contains(stackTrace.getMethodName()))
-        .findFirst()
-        .map(stackTrace -> new String[] {stackTrace.getClassName(), stackTrace.getMethodName()})
+    return StackWalker.getInstance()
+        .walk(
+            frames ->
+                frames
+                    .dropWhile(frame -> !logMethods.contains(frame.getMethodName()))
+                    .dropWhile(frame -> logMethods.contains(frame.getMethodName()))
+                    .findFirst())
+        .map(frame -> new String[] {frame.getClassName(), frame.getMethodName()})
         .orElse(
             new String[] {
               "unknownClass", "unknownMethod"
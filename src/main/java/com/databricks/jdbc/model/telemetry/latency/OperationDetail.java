@@ -11,6 +11,12 @@ public class OperationDetail {
   @JsonProperty("operation_status_latency_millis")
   private Long operationStatusLatencyMillis;
 
+  @JsonProperty("poll_wait_millis")
+  private Long pollWaitMillis;
+
+  @JsonProperty("wasted_poll_wait_millis")
+  private Long wastedPollWaitMillis;
+
   @JsonProperty("operation_type")
   private OperationType operationType;
 
@@ -27,6 +33,16 @@ public class OperationDetail {
     return this;
   }
 
+  public OperationDetail setPollWaitMillis(Long pollWaitMillis) {
+    this.pollWaitMillis = pollWaitMillis;
+    return this;
+  }
+
+  public OperationDetail setWastedPollWaitMillis(Long wastedPollWaitMillis) {
+    this.wastedPollWaitMillis = wastedPollWaitMillis;
+    return this;
+  }
+
   public OperationDetail setOperationType(OperationType operationType) {
     this.operationType = operationType;
     return this;
@@ -42,6 +58,8 @@ public class OperationDetail {
     return new ToStringer(OperationDetail.class)
         .add("nOperationStatusCalls", nOperationStatusCalls)
         .add("operationLatencyMillis", operationStatusLatencyMillis)
+        .add("pollWaitMillis", pollWaitMillis)
+        .add("wastedPollWaitMillis", wastedPollWaitMillis)
         .add("operationName", operationType)
         .add("isInternalCall", isInternalCall)
         .toString();
@@ -0,0 +1,611 @@
+package com.databricks.jdbc.pooling;
+
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.exception.DatabricksSQLFeatureNotSupportedException;
+import com.databricks.jdbc.exception.DatabricksTimeoutException;
+import com.databricks.jdbc.exception.DatabricksValidationException;
+import com.databricks.jdbc.log.JdbcLogger;
+import com.databricks.jdbc.log.JdbcLoggerFactory;
+import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+import javax.sql.ConnectionPoolDataSource;
+import javax.sql.DataSource;
+import javax.sql.PooledConnection;
+
+/**
+ * A {@link DataSource} that keeps open Databricks sessions in a pool, so that borrowing a
+ * connection does not pay for a session open, authentication and feature flag fetch.
+ *
+ * <p>Physical connections are obtained from a {@link ConnectionPoolDataSource}, usually {@link
+ * com.databricks.client.jdbc.DataSource}, and handed out as the logical connections of their {@link
+ * PooledConnection}. Closing a logical connection returns it to the pool.
+ *
+ * <p>Borrowing is lock-free: a semaphore bounds the number of borrowed connections, and idle
+ * connections are taken from a LIFO deque by moving their state from idle to in use with a
+ * compare-and-set. A connection idle for longer than the ping interval is checked with {@link
+ * Connection#isValid} and a {@code SELECT 1} before it is handed out, so that an expired session is
+ * replaced instead of failing the first statement.
+ *
+ * <p>A background housekeeper closes connections past their maximum lifetime or idle timeout, pings
+ * idle connections at the keep-alive interval so that their sessions do not expire, and opens
+ * connections up to the minimum idle count.
+ */
+public class DatabricksConnectionPool implements DataSource, AutoCloseable {
+
+  private static final JdbcLogger LOGGER =
+      JdbcLoggerFactory.getLogger(DatabricksConnectionPool.class);
+  private static final String HOUSEKEEPER_THREAD_NAME = "databricks-jdbc-pool-housekeeper";
+  private static final String PING_QUERY = "SELECT 1";
+  private static final int IDLE = 0;
+  private static final int IN_USE = 1;
+  // Taken out of the pool by the housekeeper for keep-alive or eviction
+  private static final int RESERVED = 2;
+  private static final int REMOVED = 3;
+
+  private final ConnectionPoolDataSource dataSource;
+  private final int minIdle;
+  private final int maxPoolSize;
+  private final long borrowTimeoutNanos;
+  private final int validationTimeoutSeconds;
+  private final long pingIntervalNanos;
+  private final long keepAliveIntervalNanos;
+  private final long maxLifetimeNanos;
+  private final long idleTimeoutNanos;
+
+  private final Set<PoolEntry> entries = ConcurrentHashMap.newKeySet();
+  private final ConcurrentLinkedDeque<PoolEntry> idleEntries = new ConcurrentLinkedDeque<>();
+  // One permit per connection that may still be borrowed
+  private final Semaphore borrowPermits;
+  private final AtomicInteger totalConnections = new AtomicInteger();
+  private final AtomicInteger pendingThreads = new AtomicInteger();
+  private final LongAdder borrowCount = new LongAdder();
+  private final LongAdder borrowTimeoutCount = new LongAdder();
+  private final LongAdder totalWaitNanos = new LongAdder();
+  private final AtomicLong maxWaitNanos = new AtomicLong();
+  private final LongAdder createdCount = new LongAdder();
+  private final LongAdder destroyedCount = new LongAdder();
+  private final ScheduledExecutorService housekeeper;
+  private volatile boolean closed;
+
+  private DatabricksConnectionPool(Builder builder) {
+    this.dataSource = builder.dataSource;
+    this.minIdle = builder.minIdle;
+    this.maxPoolSize = builder.maxPoolSize;
+    this.borrowTimeoutNanos = builder.borrowTimeout.toNanos();
+    this.validationTimeoutSeconds = (int) Math.max(1, builder.validationTimeout.getSeconds());
+    this.pingIntervalNanos = builder.pingInterval.toNanos();
+    this.keepAliveIntervalNanos = builder.keepAliveInterval.toNanos();
+    this.maxLifetimeNanos = builder.maxLifetime.toNanos();
+    this.idleTimeoutNanos = builder.idleTimeout.toNanos();
+    this.borrowPermits = new Semaphore(maxPoolSize);
+    this.housekeeper =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, HOUSEKEEPER_THREAD_NAME);
+              thread.setDaemon(true);
+              return thread;
+            });
+    long housekeepingIntervalMillis = builder.housekeepingInterval.toMillis();
+    housekeeper.scheduleWithFixedDelay(
+        this::runHousekeeping, 0, housekeepingIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  public static Builder builder(ConnectionPoolDataSource dataSource) {
+    return new Builder(dataSource);
+  }
+
+  /**
+   * Borrows a connection, waiting up to the borrow timeout for one to be returned when the pool is
+   * exhausted.
+   *
+   * @throws DatabricksTimeoutException if no connection became available within the borrow timeout
+   * @throws DatabricksSQLException if the pool is closed or a new connection cannot be opened
+   */
+  @Override
+  public Connection getConnection() throws SQLException {
+    long startNanos = System.nanoTime();
+    long deadlineNanos = startNanos + borrowTimeoutNanos;
+    checkIfClosed();
+    acquirePermit(startNanos);
+    try {
+      Connection connection = borrowConnection(deadlineNanos);
+      long waitNanos = System.nanoTime() - startNanos;
+      borrowCount.increment();
+      totalWaitNanos.add(waitNanos);
+      maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+      return connection;
+    } catch (SQLException | RuntimeException e) {
+      borrowPermits.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    throw new DatabricksSQLFeatureNotSupportedException(
+        "Not supported in DatabricksConnectionPool - getConnection(String username, String password)");
+  }
+
+  /** Returns a snapshot of the connection counts and borrow wait times of the pool. */
+  public DatabricksConnectionPoolStats getStats() {
+    int active = 0;
+    int idle = 0;
+    for (PoolEntry entry : entries) {
+      int state = entry.state.get();
+      if (state == IN_USE) {
+        active++;
+      } else if (state == IDLE) {
+        idle++;
+      }
+    }
+    return new DatabricksConnectionPoolStats(
+        active,
+        idle,
+        totalConnections.get(),
+        pendingThreads.get(),
+        borrowCount.sum(),
+        borrowTimeoutCount.sum(),
+        totalWaitNanos.sum(),
+        maxWaitNanos.get(),
+        createdCount.sum(),
+        destroyedCount.sum());
+  }
+
+  /** Closes all connections of the pool, including borrowed ones, and stops its housekeeper. */
+  @Override
+  public void close() {
+    LOGGER.debug("public void close()");
+    if (closed) {
+      return;
+    }
+    closed = true;
+    housekeeper.shutdownNow();
+    for (PoolEntry entry : entries) {
+      destroy(entry);
+    }
+    // Wake up waiting threads so that they fail fast
+    borrowPermits.release(maxPoolSize);
+  }
+
+  public boolean isClosed() {
+    return closed;
+  }
+
+  @Override
+  public PrintWriter getLogWriter() throws SQLException {
+    throw new SQLFeatureNotSupportedException("public PrintWriter getLogWriter()");
+  }
+
+  @Override
+  public void setLogWriter(PrintWriter out) throws SQLException {
+    throw new SQLFeatureNotSupportedException("public void setLogWriter(PrintWriter out)");
+  }
+
+  @Override
+  public void setLoginTimeout(int seconds) throws SQLException {
+    dataSource.setLoginTimeout(seconds);
+  }
+
+  @Override
+  public int getLoginTimeout() throws SQLException {
+    return dataSource.getLoginTimeout();
+  }
+
+  @Override
+  public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    throw new SQLFeatureNotSupportedException("public Logger getParentLogger()");
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (iface.isInstance(this)) {
+      return (T) this;
+    }
+    throw new DatabricksSQLException(
+        String.format(
+            "Class {%s} cannot be wrapped from {%s}", getClass().getName(), iface.getName()),
+        DatabricksDriverErrorCode.INPUT_VALIDATION_ERROR);
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) {
+    return iface.isInstance(this);
+  }
+
+  private void acquirePermit(long startNanos) throws SQLException {
+    pendingThreads.incrementAndGet();
+    try {
+      if (!borrowPermits.tryAcquire(borrowTimeoutNanos, TimeUnit.NANOSECONDS)) {
+        borrowTimeoutCount.increment();
+        throw borrowTimeoutException(startNanos);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new DatabricksSQLException(
+          "Interrupted while waiting for a pooled connection",
+          e,
+          DatabricksDriverErrorCode.THREAD_INTERRUPTED_ERROR);
+    } finally {
+      pendingThreads.decrementAndGet();
+    }
+    if (closed) {
+      borrowPermits.release();
+      checkIfClosed();
+    }
+  }
+
+  /** Takes a usable idle connection or opens a new one, holding a borrow permit. */
+  private Connection borrowConnection(long deadlineNanos) throws SQLException {
+    while (true) {
+      checkIfClosed();
+      PoolEntry entry = idleEntries.pollFirst();
+      if (entry != null) {
+        if (!entry.state.compareAndSet(IDLE, IN_USE)) {
+          // Taken by the housekeeper, which puts it back when done
+          continue;
+        }
+        Connection connection = getValidatedConnection(entry);
+        if (connection != null) {
+          return connection;
+        }
+        destroy(entry);
+        continue;
+      }
+      if (reserveConnectionSlot()) {
+        PoolEntry newEntry = createEntry(IN_USE);
+        try {
+          return newEntry.pooledConnection.getConnection();
+        } catch (SQLException | RuntimeException e) {
+          destroy(newEntry);
+          throw e;
+        }
+      }
+      // All slots are held by connections the housekeeper is validating or opening
+      if (System.nanoTime() - deadlineNanos > 0) {
+        borrowTimeoutCount.increment();
+        throw borrowTimeoutException(deadlineNanos - borrowTimeoutNanos);
+      }
+      LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+  }
+
+  /** Returns the logical connection of the entry, or null if the entry must be discarded. */
+  private Connection getValidatedConnection(PoolEntry entry) {
+    long now = System.nanoTime();
+    if (isExpired(entry, now)) {
+      return null;
+    }
+    try {
+      Connection connection = entry.pooledConnection.getConnection();
+      if (entry.errorOccurred || now - entry.lastValidatedNanos >= pingIntervalNanos) {
+        if (!ping(connection)) {
+          return null;
+        }
+        entry.errorOccurred = false;
+        entry.lastValidatedNanos = System.nanoTime();
+      }
+      return connection;
+    } catch (SQLException e) {
+      LOGGER.warn("Discarding pooled connection that failed to open a handle: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  /** Checks the session of the connection with a cheap local check and a round-trip. */
+  private boolean ping(Connection connection) {
+    try {
+      if (!connection.isValid(validationTimeoutSeconds)) {
+        return false;
+      }
+      try (Statement statement = connection.createStatement()) {
+        statement.setQueryTimeout(validationTimeoutSeconds);
+        statement.execute(PING_QUERY);
+      }
+      return true;
+    } catch (SQLException e) {
+      LOGGER.warn("Pooled connection failed validation: {}", e.getMessage());
+      return false;
+    }
+  }
+
+  private boolean isExpired(PoolEntry entry, long now) {
+    return maxLifetimeNanos > 0 && now - entry.createdNanos >= maxLifetimeNanos;
+  }
+
+  private boolean reserveConnectionSlot() {
+    while (true) {
+      int total = totalConnections.get();
+      if (total >= maxPoolSize) {
+        return false;
+      }
+      if (totalConnections.compareAndSet(total, total + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /** Opens a physical connection in a reserved slot, releasing the slot if that fails. */
+  private PoolEntry createEntry(int initialState) throws SQLException {
+    PooledConnection pooledConnection;
+    try {
+      pooledConnection = dataSource.getPooledConnection();
+    } catch (SQLException | RuntimeException e) {
+      totalConnections.decrementAndGet();
+      throw e;
+    }
+    PoolEntry entry = new PoolEntry(pooledConnection, initialState);
+    pooledConnection.addConnectionEventListener(entry);
+    entries.add(entry);
+    createdCount.increment();
+    if (closed) {
+      destroy(entry);
+      checkIfClosed();
+    }
+    return entry;
+  }
+
+  /** Returns a connection closed by the application to the pool. */
+  private void release(PoolEntry entry) {
+    if (entry.state.get() != IN_USE) {
+      // Closed by the housekeeper after validation, or already removed
+      return;
+    }
+    long now = System.nanoTime();
+    entry.lastReturnedNanos = now;
+    if (!entry.errorOccurred) {
+      entry.lastValidatedNanos = now;
+    }
+    if (closed || isExpired(entry, now)) {
+      destroy(entry);
+    } else if (entry.state.compareAndSet(IN_USE, IDLE)) {
+      idleEntries.offerFirst(entry);
+    }
+    borrowPermits.release();
+  }
+
+  private void destroy(PoolEntry entry) {
+    if (entry.state.getAndSet(REMOVED) == REMOVED) {
+      return;
+    }
+    idleEntries.remove(entry);
+    entries.remove(entry);
+    totalConnections.decrementAndGet();
+    destroyedCount.increment();
+    try {
+      entry.pooledConnection.close();
+    } catch (SQLException | RuntimeException e) {
+      LOGGER.warn("Failed to close pooled connection: {}", e.getMessage());
+    }
+  }
+
+  private void runHousekeeping() {
+    try {
+      long now = System.nanoTime();
+      for (PoolEntry entry : entries) {
+        if (closed) {
+          return;
+        }
+        boolean expired = isExpired(entry, now);
+        boolean idleTimedOut =
+            idleTimeoutNanos > 0
+                && now - entry.lastReturnedNanos >= idleTimeoutNanos
+                && totalConnections.get() > minIdle;
+        boolean keepAliveDue =
+            keepAliveIntervalNanos > 0 && now - entry.lastValidatedNanos >= keepAliveIntervalNanos;
+        if (!(expired || idleTimedOut || keepAliveDue)
+            || !entry.state.compareAndSet(IDLE, RESERVED)) {
+          continue;
+        }
+        idleEntries.remove(entry);
+        if (expired || idleTimedOut) {
+          destroy(entry);
+        } else {
+          keepAlive(entry);
+        }
+      }
+      fillMinIdle();
+    } catch (RuntimeException e) {
+      LOGGER.error(e, "Connection pool housekeeping failed");
+    }
+  }
+
+  /** Pings an idle connection reserved by the housekeeper and returns it to the pool. */
+  private void keepAlive(PoolEntry entry) {
+    boolean alive = false;
+    try (Connection connection = entry.pooledConnection.getConnection()) {
+      alive = ping(connection);
+    } catch (SQLException e) {
+      LOGGER.warn("Keep-alive of pooled connection failed: {}", e.getMessage());
+    }
+    if (alive && entry.state.compareAndSet(RESERVED, IDLE)) {
+      entry.errorOccurred = false;
+      entry.lastValidatedNanos = System.nanoTime();
+      idleEntries.offerLast(entry);
+    } else {
+      destroy(entry);
+    }
+  }
+
+  private void fillMinIdle() {
+    while (!closed && idleEntries.size() < minIdle && reserveConnectionSlot()) {
+      try {
+        PoolEntry entry = createEntry(IDLE);
+        idleEntries.offerLast(entry);
+      } catch (SQLException e) {
+        LOGGER.warn("Failed to open connection for the pool: {}", e.getMessage());
+        return;
+      }
+    }
+  }
+
+  private void checkIfClosed() throws DatabricksSQLException {
+    if (closed) {
+      throw new DatabricksSQLException(
+          "Connection pool has been closed.", DatabricksDriverErrorCode.CONNECTION_CLOSED);
+    }
+  }
+
+  private DatabricksTimeoutException borrowTimeoutException(long startNanos) {
+    String message =
+        String.format(
+            "Timed out after %d ms waiting for a pooled connection, %s",
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), getStats());
+    LOGGER.warn(message);
+    return new DatabricksTimeoutException(
+        message, null, DatabricksDriverErrorCode.OPERATION_TIMEOUT_ERROR);
+  }
+
+  /** A physical connection of the pool, listening for its logical connection to be closed. */
+  private class PoolEntry implements ConnectionEventListener {
+    private final PooledConnection pooledConnection;
+    private final AtomicInteger state;
+    private final long createdNanos;
+    private volatile long lastReturnedNanos;
+    private volatile long lastValidatedNanos;
+    // Set when a statement failed, so that the session is checked before it is reused
+    private volatile boolean errorOccurred;
+
+    private PoolEntry(PooledConnection pooledConnection, int initialState) {
+      this.pooledConnection = pooledConnection;
+      this.state = new AtomicInteger(initialState);
+      this.createdNanos = System.nanoTime();
+      this.lastReturnedNanos = createdNanos;
+      this.lastValidatedNanos = createdNanos;
+    }
+
+    @Override
+    public void connectionClosed(ConnectionEvent event) {
+      release(this);
+    }
+
+    @Override
+    public void connectionErrorOccurred(ConnectionEvent event) {
+      errorOccurred = true;
+    }
+  }
+
+  public static class Builder {
+    private final ConnectionPoolDataSource dataSource;
+    private int minIdle = 0;
+    private int maxPoolSize = 10;
+    private Duration borrowTimeout = Duration.ofSeconds(30);
+    private Duration validationTimeout = Duration.ofSeconds(5);
+    private Duration pingInterval = Duration.ofSeconds(30);
+    private Duration keepAliveInterval = Duration.ZERO;
+    private Duration maxLifetime = Duration.ofMinutes(30);
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    private Duration housekeepingInterval = Duration.ofSeconds(30);
+
+    private Builder(ConnectionPoolDataSource dataSource) {
+      this.dataSource = dataSource;
+    }
+
+    /** Minimum number of idle connections kept open by the housekeeper, 0 by default. */
+    public Builder withMinIdle(int minIdle) {
+      this.minIdle = minIdle;
+      return this;
+    }
+
+    /** Maximum number of open connections, idle or borrowed, 10 by default. */
+    public Builder withMaxPoolSize(int maxPoolSize) {
+      this.maxPoolSize = maxPoolSize;
+      return this;
+    }
+
+    /** Maximum time to wait for a connection when the pool is exhausted, 30 seconds by default. */
+    public Builder withBorrowTimeout(Duration borrowTimeout) {
+      this.borrowTimeout = borrowTimeout;
+      return this;
+    }
+
+    /** Timeout of the validity check and ping of a connection, 5 seconds by default. */
+    public Builder withValidationTimeout(Duration validationTimeout) {
+      this.validationTimeout = validationTimeout;
+      return this;
+    }
+
+    /**
+     * Idle time after which a connection is pinged before it is handed out, 30 seconds by default.
+     * Zero pings on every borrow.
+     */
+    public Builder withPingInterval(Duration pingInterval) {
+      this.pingInterval = pingInterval;
+      return this;
+    }
+
+    /** Interval at which idle connections are pinged to keep their sessions alive, 0 to disable. */
+    public Builder withKeepAliveInterval(Duration keepAliveInterval) {
+      this.keepAliveInterval = keepAliveInterval;
+      return this;
+    }
+
+    /** Maximum lifetime of a connection, 30 minutes by default, 0 for no limit. */
+    public Builder withMaxLifetime(Duration maxLifetime) {
+      this.maxLifetime = maxLifetime;
+      return this;
+    }
+
+    /**
+     * Time after which an idle connection above the minimum idle count is closed, 10 minutes by
+     * default, 0 to keep idle connections open.
+     */
+    public Builder withIdleTimeout(Duration idleTimeout) {
+      this.idleTimeout = idleTimeout;
+      return this;
+    }
+
+    /** Interval at which the housekeeper runs, 30 seconds by default. */
+    public Builder withHousekeepingInterval(Duration housekeepingInterval) {
+      this.housekeepingInterval = housekeepingInterval;
+      return this;
+    }
+
+    public DatabricksConnectionPool build() throws DatabricksValidationException {
+      if (dataSource == null) {
+        throw new DatabricksValidationException("Connection pool requires a data source");
+      }
+      if (maxPoolSize < 1 || minIdle < 0 || minIdle > maxPoolSize) {
+        throw new DatabricksValidationException(
+            String.format(
+                "Invalid connection pool size: minIdle %d, maxPoolSize %d", minIdle, maxPoolSize));
+      }
+      for (Duration duration :
+          new Duration[] {
+            borrowTimeout,
+            validationTimeout,
+            pingInterval,
+            keepAliveInterval,
+            maxLifetime,
+            idleTimeout
+          }) {
+        if (duration == null || duration.isNegative()) {
+          throw new DatabricksValidationException("Connection pool durations must not be negative");
+        }
+      }
+      if (housekeepingInterval == null || housekeepingInterval.toMillis() <= 0) {
+        throw new DatabricksValidationException(
+            "Connection pool housekeeping interval must be positive");
+      }
+      return new DatabricksConnectionPool(this);
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package com.databricks.jdbc.pooling;
+
+import java.time.Duration;
+
+/** Snapshot of the connections and borrow wait times of a {@link DatabricksConnectionPool}. */
+public final class DatabricksConnectionPoolStats {
+  private final int activeConnections;
+  private final int idleConnections;
+  private final int totalConnections;
+  private final int pendingThreads;
+  private final long borrowCount;
+  private final long borrowTimeoutCount;
+  private final long totalWaitNanos;
+  private final long maxWaitNanos;
+  private final long createdCount;
+  private final long destroyedCount;
+
+  DatabricksConnectionPoolStats(
+      int activeConnections,
+      int idleConnections,
+      int totalConnections,
+      int pendingThreads,
+      long borrowCount,
+      long borrowTimeoutCount,
+      long totalWaitNanos,
+      long maxWaitNanos,
+      long createdCount,
+      long destroyedCount) {
+    this.activeConnections = activeConnections;
+    this.idleConnections = idleConnections;
+    this.totalConnections = totalConnections;
+    this.pendingThreads = pendingThreads;
+    this.borrowCount = borrowCount;
+    this.borrowTimeoutCount = borrowTimeoutCount;
+    this.totalWaitNanos = totalWaitNanos;
+    this.maxWaitNanos = maxWaitNanos;
+    this.createdCount = createdCount;
+    this.destroyedCount = destroyedCount;
+  }
+
+  /** Returns the number of connections currently borrowed by the application. */
+  public int getActiveConnections() {
+    return activeConnections;
+  }
+
+  /** Returns the number of open connections waiting in the pool. */
+  public int getIdleConnections() {
+    return idleConnections;
+  }
+
+  /** Returns the number of open physical connections, including those being validated. */
+  public int getTotalConnections() {
+    return totalConnections;
+  }
+
+  /** Returns the number of threads waiting for a connection. */
+  public int getPendingThreads() {
+    return pendingThreads;
+  }
+
+  /** Returns the number of successful borrows. */
+  public long getBorrowCount() {
+    return borrowCount;
+  }
+
+  /** Returns the number of borrows that timed out waiting for a connection. */
+  public long getBorrowTimeoutCount() {
+    return borrowTimeoutCount;
+  }
+
+  /** Returns the average time a successful borrow waited, including opening connections. */
+  public Duration getAverageWaitTime() {
+    return Duration.ofNanos(borrowCount == 0 ? 0 : totalWaitNanos / borrowCount);
+  }
+
+  /** Returns the longest time a successful borrow waited. */
+  public Duration getMaxWaitTime() {
+    return Duration.ofNanos(maxWaitNanos);
+  }
+
+  /** Returns the number of physical connections opened by the pool. */
+  public long getCreatedCount() {
+    return createdCount;
+  }
+
+  /** Returns the number of physical connections closed by the pool. */
+  public long getDestroyedCount() {
+    return destroyedCount;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "DatabricksConnectionPoolStats{active=%d, idle=%d, total=%d, pending=%d, borrowCount=%d, borrowTimeoutCount=%d, averageWaitTime=%s, maxWaitTime=%s, createdCount=%d, destroyedCount=%d}",
+        activeConnections,
+        idleConnections,
+        totalConnections,
+        pendingThreads,
+        borrowCount,
+        borrowTimeoutCount,
+        getAverageWaitTime(),
+        getMaxWaitTime(),
+        createdCount,
+        destroyedCount);
+  }
+}
@@ -1,20 +1,12 @@
 package com.databricks.jdbc.pooling;
 
-import com.databricks.jdbc.api.IDatabricksStatement;
-import com.databricks.jdbc.api.internal.IDatabricksConnectionInternal;
 import com.databricks.jdbc.exception.DatabricksSQLException;
 import com.databricks.jdbc.log.JdbcLogger;
 import com.databricks.jdbc.log.JdbcLoggerFactory;
 import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.sql.*;
-import java.util.Arrays;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
-import javax.annotation.Nullable;
 import javax.sql.ConnectionEvent;
 import javax.sql.ConnectionEventListener;
 import javax.sql.PooledConnection;
@@ -26,7 +18,7 @@ public class DatabricksPooledConnection implements PooledConnection {
       JdbcLoggerFactory.getLogger(DatabricksPooledConnection.class);
   private final Set<ConnectionEventListener> listeners = new CopyOnWriteArraySet<>();
   private Connection physicalConnection;
-  private ConnectionHandler connectionHandler;
+  private PooledConnectionHandle connectionHandle;
   private final Object lock = new Object();
 
   /**
@@ -63,8 +55,9 @@ public class DatabricksPooledConnection implements PooledConnection {
   public void close() throws SQLException {
     LOGGER.debug("public void close()");
     synchronized (lock) {
-      if (connectionHandler != null && !connectionHandler.isClosed()) {
-        connectionHandler.close();
+      if (connectionHandle != null) {
+        connectionHandle.detach();
+        connectionHandle = null;
       }
       if (physicalConnection == null) {
         return;
@@ -100,11 +93,11 @@ public class DatabricksPooledConnection implements PooledConnection {
         throw sqlException;
       }
       // Only one connection can be open at a time from this PooledConnection
-      if (connectionHandler != null && !connectionHandler.isClosed()) {
-        connectionHandler.close();
+      if (connectionHandle != null) {
+        connectionHandle.detach();
       }
-      connectionHandler = new ConnectionHandler(physicalConnection);
-      return connectionHandler.getVirtualConnection();
+      connectionHandle = new PooledConnectionHandle(this, physicalConnection);
+      return connectionHandle;
     }
   }
 
@@ -112,6 +105,24 @@ public class DatabricksPooledConnection implements PooledConnection {
     return this.physicalConnection;
   }
 
+  Object getLock() {
+    return lock;
+  }
+
+  /**
+   * Called when the application closes a logical connection. No event is fired for a handle that
+   * was already replaced by a newer one, see JDBC 4.3 Optional Package spec section 11.4.
+   */
+  void logicalConnectionClosed(PooledConnectionHandle handle) {
+    synchronized (lock) {
+      if (connectionHandle != handle) {
+        return;
+      }
+      connectionHandle = null;
+    }
+    fireConnectionClosed();
+  }
+
   /** Fires a connection closed event to all listeners. */
   private void fireConnectionClosed() {
     LOGGER.debug("void fireConnectionClosed()");
@@ -125,209 +136,10 @@ public class DatabricksPooledConnection implements PooledConnection {
    *
    * @param e the SQLException to consider
    */
-  private void fireConnectionError(SQLException e) {
-    LOGGER.debug(
-        String.format("private void fireConnectionError(SQLException e = {%s})", e.toString()));
+  void fireConnectionError(SQLException e) {
+    LOGGER.debug("void fireConnectionError(SQLException e = {})", e.toString());
     for (ConnectionEventListener listener : this.listeners) {
       listener.connectionErrorOccurred(new ConnectionEvent(this, e));
     }
   }
-
-  /**
-   * Instead of declaring a class implementing Connection, use a dynamic proxy to handle all calls
-   * through the Connection interface.
-   */
-  private class ConnectionHandler implements InvocationHandler {
-    private Connection physicalConnection;
-
-    /**
-     * Connection being used by the client. This is a proxy object that wraps the physical
-     * connection.
-     */
-    private Connection virtualConnection;
-
-    ConnectionHandler(Connection physicalConnection) {
-      this.physicalConnection = physicalConnection;
-      // Use a proxy connection object as a virtual connection, so that we do not close the physical
-      // connection
-      this.virtualConnection =
-          (Connection)
-              Proxy.newProxyInstance(
-                  getClass().getClassLoader(),
-                  new Class[] {Connection.class, IDatabricksConnectionInternal.class},
-                  this);
-    }
-
-    @Override
-    public Object invoke(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
-      LOGGER.debug(
-          "public Object invoke(Object proxy, Method method = {}, Object[] args = {})",
-          method,
-          Arrays.toString(args));
-      final String methodName = method.getName();
-      if (method.getDeclaringClass() == Object.class) {
-        if (methodName.equals("toString")) {
-          return "Pooled connection wrapping physical connection " + physicalConnection;
-        }
-        if (methodName.equals("equals")) {
-          return proxy == args[0];
-        }
-        if (methodName.equals("hashCode")) {
-          return System.identityHashCode(proxy);
-        }
-        try {
-          return method.invoke(physicalConnection, args);
-        } catch (InvocationTargetException e) {
-          // throwing nullable
-          throw e.getTargetException();
-        }
-      }
-
-      if (methodName.equals("isClosed")) {
-        synchronized (DatabricksPooledConnection.this.lock) {
-          return physicalConnection == null || physicalConnection.isClosed();
-        }
-      }
-      // Do not close the physical connection, remove reference and fire close event
-      if (methodName.equals("close")) {
-        synchronized (DatabricksPooledConnection.this.lock) {
-          if (physicalConnection != null) {
-            physicalConnection = null;
-            virtualConnection = null;
-            connectionHandler = null;
-            fireConnectionClosed();
-          }
-        }
-        return null;
-      }
-      synchronized (DatabricksPooledConnection.this.lock) {
-        if (physicalConnection == null || physicalConnection.isClosed()) {
-          throw new DatabricksSQLException(
-              "Connection has been closed.", DatabricksDriverErrorCode.CONNECTION_CLOSED);
-        }
-      }
-
-      // From here on in, we invoke via reflection and catch exceptions
-      try {
-        Class statementClass;
-        switch (methodName) {
-          case "createStatement":
-            statementClass = Statement.class;
-            break;
-          case "prepareCall":
-            statementClass = CallableStatement.class;
-            break;
-          case "prepareStatement":
-            statementClass = PreparedStatement.class;
-            break;
-          default:
-            return method.invoke(physicalConnection, args);
-        }
-        Statement st = (Statement) method.invoke(physicalConnection, args);
-        return Proxy.newProxyInstance(
-            getClass().getClassLoader(),
-            new Class[] {statementClass, IDatabricksStatement.class},
-            new StatementHandler(this, st));
-      } catch (final InvocationTargetException ite) {
-        final Throwable targetException = ite.getTargetException();
-        if (targetException instanceof SQLException) {
-          fireConnectionError((SQLException) targetException);
-        }
-        throw targetException;
-      }
-    }
-
-    Connection getVirtualConnection() {
-      return virtualConnection;
-    }
-
-    public void close() {
-      LOGGER.debug("public void close()");
-      synchronized (DatabricksPooledConnection.this.lock) {
-        physicalConnection = null;
-        virtualConnection = null;
-        // No close event fired here: see JDBC 4.3 Optional Package spec section 11.4
-      }
-    }
-
-    public boolean isClosed() {
-      synchronized (DatabricksPooledConnection.this.lock) {
-        return physicalConnection == null;
-      }
-    }
-  }
-
-  /**
-   * Instead of declaring classes implementing Statement, use a dynamic proxy to handle all calls
-   * through the Statement interfaces. The StatementHandler is required in order to return the
-   * proper Connection proxy for the getConnection method.
-   */
-  private class StatementHandler implements InvocationHandler {
-    private ConnectionHandler conHandler;
-    private Statement physicalStatement;
-
-    StatementHandler(ConnectionHandler conHandler, Statement physicalStatement) {
-      this.conHandler = conHandler;
-      this.physicalStatement = physicalStatement;
-    }
-
-    @Override
-    public Object invoke(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
-      LOGGER.debug(
-          "public Object invoke(Object proxy, Method method = {}, Object[] args = {})",
-          method,
-          Arrays.toString(args));
-      final String methodName = method.getName();
-      if (method.getDeclaringClass() == Object.class) {
-        if (methodName.equals("toString")) {
-          return "Pooled statement wrapping physical statement " + physicalStatement;
-        }
-        if (methodName.equals("hashCode")) {
-          return System.identityHashCode(proxy);
-        }
-        if (methodName.equals("equals")) {
-          return proxy == args[0];
-        }
-        return method.invoke(physicalStatement, args);
-      }
-
-      if (methodName.equals("isClosed")) {
-        synchronized (this) {
-          return physicalStatement == null || physicalStatement.isClosed();
-        }
-      }
-      if (methodName.equals("close")) {
-        synchronized (this) {
-          if (physicalStatement == null || physicalStatement.isClosed()) {
-            return null;
-          }
-          conHandler = null;
-          physicalStatement.close();
-          physicalStatement = null;
-        }
-        return null;
-      }
-      synchronized (this) {
-        if (physicalStatement == null || physicalStatement.isClosed()) {
-          throw new DatabricksSQLException(
-              "Statement has been closed.", DatabricksDriverErrorCode.CONNECTION_CLOSED);
-        }
-      }
-      if (methodName.equals("getConnection")) {
-        // the virtual connection from the connection handler
-        return conHandler.getVirtualConnection();
-      }
-
-      // Delegate the call to the physical Statement.
-      try {
-        return method.invoke(physicalStatement, args);
-      } catch (final InvocationTargetException ite) {
-        final Throwable targetException = ite.getTargetException();
-        if (targetException instanceof SQLException) {
-          fireConnectionError((SQLException) targetException);
-        }
-        throw targetException;
-      }
-    }
-  }
 }
@@ -0,0 +1,1249 @@
+package com.databricks.jdbc.pooling;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.sql.*;
+import java.util.Calendar;
+import java.util.Map;
+
+/** A callable statement created through a {@link PooledConnectionHandle}. */
+final class PooledCallableStatementHandle extends PooledPreparedStatementHandle
+    implements CallableStatement {
+
+  PooledCallableStatementHandle(
+      PooledConnectionHandle connectionHandle, CallableStatement physicalStatement) {
+    super(connectionHandle, physicalStatement);
+  }
+
+  @Override
+  public void registerOutParameter(int parameterIndex, int sqlType) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.registerOutParameter(parameterIndex, sqlType);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void registerOutParameter(int parameterIndex, int sqlType, int scale) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.registerOutParameter(parameterIndex, sqlType, scale);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public boolean wasNull() throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.wasNull();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public String getString(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getString(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public boolean getBoolean(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getBoolean(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public byte getByte(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getByte(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public short getShort(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getShort(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public int getInt(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getInt(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public long getLong(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getLong(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public float getFloat(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getFloat(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public double getDouble(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getDouble(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public BigDecimal getBigDecimal(int parameterIndex, int scale) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getBigDecimal(parameterIndex, scale);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public byte[] getBytes(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getBytes(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Date getDate(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getDate(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Time getTime(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getTime(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Timestamp getTimestamp(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getTimestamp(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Object getObject(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getObject(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public BigDecimal getBigDecimal(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getBigDecimal(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Object getObject(int parameterIndex, Map<String, Class<?>> map) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getObject(parameterIndex, map);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Ref getRef(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getRef(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Blob getBlob(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getBlob(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Clob getClob(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getClob(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Array getArray(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getArray(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Date getDate(int parameterIndex, Calendar cal) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getDate(parameterIndex, cal);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Time getTime(int parameterIndex, Calendar cal) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getTime(parameterIndex, cal);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Timestamp getTimestamp(int parameterIndex, Calendar cal) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getTimestamp(parameterIndex, cal);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void registerOutParameter(int parameterIndex, int sqlType, String typeName)
+      throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.registerOutParameter(parameterIndex, sqlType, typeName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void registerOutParameter(String parameterName, int sqlType) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.registerOutParameter(parameterName, sqlType);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void registerOutParameter(String parameterName, int sqlType, int scale)
+      throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.registerOutParameter(parameterName, sqlType, scale);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void registerOutParameter(String parameterName, int sqlType, String typeName)
+      throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.registerOutParameter(parameterName, sqlType, typeName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public java.net.URL getURL(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getURL(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setURL(String parameterName, java.net.URL val) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setURL(parameterName, val);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setNull(String parameterName, int sqlType) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setNull(parameterName, sqlType);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setBoolean(String parameterName, boolean x) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setBoolean(parameterName, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setByte(String parameterName, byte x) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setByte(parameterName, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setShort(String parameterName, short x) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setShort(parameterName, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setInt(String parameterName, int x) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setInt(parameterName, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setLong(String parameterName, long x) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setLong(parameterName, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setFloat(String parameterName, float x) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setFloat(parameterName, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setDouble(String parameterName, double x) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setDouble(parameterName, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setBigDecimal(String parameterName, BigDecimal x) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setBigDecimal(parameterName, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setString(String parameterName, String x) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setString(parameterName, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setBytes(String parameterName, byte[] x) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setBytes(parameterName, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setDate(String parameterName, Date x) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setDate(parameterName, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setTime(String parameterName, Time x) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setTime(parameterName, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setTimestamp(String parameterName, Timestamp x) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setTimestamp(parameterName, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setAsciiStream(String parameterName, java.io.InputStream x, int length)
+      throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setAsciiStream(parameterName, x, length);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setBinaryStream(String parameterName, java.io.InputStream x, int length)
+      throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setBinaryStream(parameterName, x, length);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setObject(String parameterName, Object x, int targetSqlType, int scale)
+      throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setObject(parameterName, x, targetSqlType, scale);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setObject(String parameterName, Object x, int targetSqlType) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setObject(parameterName, x, targetSqlType);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setObject(String parameterName, Object x) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setObject(parameterName, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setCharacterStream(String parameterName, java.io.Reader reader, int length)
+      throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setCharacterStream(parameterName, reader, length);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setDate(String parameterName, Date x, Calendar cal) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setDate(parameterName, x, cal);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setTime(String parameterName, Time x, Calendar cal) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setTime(parameterName, x, cal);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setTimestamp(String parameterName, Timestamp x, Calendar cal) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setTimestamp(parameterName, x, cal);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setNull(String parameterName, int sqlType, String typeName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setNull(parameterName, sqlType, typeName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public String getString(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getString(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public boolean getBoolean(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getBoolean(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public byte getByte(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getByte(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public short getShort(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getShort(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public int getInt(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getInt(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public long getLong(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getLong(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public float getFloat(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getFloat(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public double getDouble(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getDouble(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public byte[] getBytes(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getBytes(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Date getDate(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getDate(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Time getTime(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getTime(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Timestamp getTimestamp(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getTimestamp(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Object getObject(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getObject(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public BigDecimal getBigDecimal(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getBigDecimal(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Object getObject(String parameterName, Map<String, Class<?>> map) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getObject(parameterName, map);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Ref getRef(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getRef(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Blob getBlob(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getBlob(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Clob getClob(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getClob(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Array getArray(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getArray(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Date getDate(String parameterName, Calendar cal) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getDate(parameterName, cal);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Time getTime(String parameterName, Calendar cal) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getTime(parameterName, cal);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Timestamp getTimestamp(String parameterName, Calendar cal) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getTimestamp(parameterName, cal);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public java.net.URL getURL(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getURL(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public RowId getRowId(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getRowId(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public RowId getRowId(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getRowId(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setRowId(String parameterName, RowId x) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setRowId(parameterName, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setNString(String parameterName, String value) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setNString(parameterName, value);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setNCharacterStream(String parameterName, Reader value, long length)
+      throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setNCharacterStream(parameterName, value, length);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setNClob(String parameterName, NClob value) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setNClob(parameterName, value);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setClob(String parameterName, Reader reader, long length) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setClob(parameterName, reader, length);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setBlob(String parameterName, InputStream inputStream, long length)
+      throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setBlob(parameterName, inputStream, length);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setNClob(String parameterName, Reader reader, long length) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setNClob(parameterName, reader, length);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public NClob getNClob(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getNClob(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public NClob getNClob(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getNClob(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setSQLXML(String parameterName, SQLXML xmlObject) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setSQLXML(parameterName, xmlObject);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public SQLXML getSQLXML(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getSQLXML(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public SQLXML getSQLXML(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getSQLXML(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public String getNString(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getNString(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public String getNString(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getNString(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public java.io.Reader getNCharacterStream(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getNCharacterStream(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public java.io.Reader getNCharacterStream(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getNCharacterStream(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public java.io.Reader getCharacterStream(int parameterIndex) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getCharacterStream(parameterIndex);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public java.io.Reader getCharacterStream(String parameterName) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getCharacterStream(parameterName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setBlob(String parameterName, Blob x) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setBlob(parameterName, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setClob(String parameterName, Clob x) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setClob(parameterName, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setAsciiStream(String parameterName, java.io.InputStream x, long length)
+      throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setAsciiStream(parameterName, x, length);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setBinaryStream(String parameterName, java.io.InputStream x, long length)
+      throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setBinaryStream(parameterName, x, length);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setCharacterStream(String parameterName, java.io.Reader reader, long length)
+      throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setCharacterStream(parameterName, reader, length);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setAsciiStream(String parameterName, java.io.InputStream x) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setAsciiStream(parameterName, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setBinaryStream(String parameterName, java.io.InputStream x) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setBinaryStream(parameterName, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setCharacterStream(String parameterName, java.io.Reader reader) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setCharacterStream(parameterName, reader);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setNCharacterStream(String parameterName, Reader value) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setNCharacterStream(parameterName, value);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setClob(String parameterName, Reader reader) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setClob(parameterName, reader);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setBlob(String parameterName, InputStream inputStream) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setBlob(parameterName, inputStream);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setNClob(String parameterName, Reader reader) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setNClob(parameterName, reader);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public <T> T getObject(int parameterIndex, Class<T> type) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getObject(parameterIndex, type);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public <T> T getObject(String parameterName, Class<T> type) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      return physical.getObject(parameterName, type);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setObject(String parameterName, Object x, SQLType targetSqlType, int scaleOrLength)
+      throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setObject(parameterName, x, targetSqlType, scaleOrLength);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setObject(String parameterName, Object x, SQLType targetSqlType) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.setObject(parameterName, x, targetSqlType);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void registerOutParameter(int parameterIndex, SQLType sqlType) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.registerOutParameter(parameterIndex, sqlType);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void registerOutParameter(int parameterIndex, SQLType sqlType, int scale)
+      throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.registerOutParameter(parameterIndex, sqlType, scale);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void registerOutParameter(int parameterIndex, SQLType sqlType, String typeName)
+      throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.registerOutParameter(parameterIndex, sqlType, typeName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void registerOutParameter(String parameterName, SQLType sqlType) throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.registerOutParameter(parameterName, sqlType);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void registerOutParameter(String parameterName, SQLType sqlType, int scale)
+      throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.registerOutParameter(parameterName, sqlType, scale);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void registerOutParameter(String parameterName, SQLType sqlType, String typeName)
+      throws SQLException {
+    CallableStatement physical = getPhysicalCallableStatement();
+    try {
+      physical.registerOutParameter(parameterName, sqlType, typeName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  private CallableStatement getPhysicalCallableStatement() throws SQLException {
+    return (CallableStatement) getPhysicalStatement();
+  }
+}
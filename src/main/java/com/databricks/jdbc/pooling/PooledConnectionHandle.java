@@ -0,0 +1,783 @@
+package com.databricks.jdbc.pooling;
+
+import com.databricks.jdbc.api.ArrowMemoryUsage;
+import com.databricks.jdbc.api.IDatabricksConnection;
+import com.databricks.jdbc.api.IDatabricksStatement;
+import com.databricks.jdbc.api.MetadataCacheStats;
+import com.databricks.jdbc.api.PreparedStatementCacheStats;
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.api.internal.IDatabricksConnectionInternal;
+import com.databricks.jdbc.api.internal.IDatabricksSession;
+import com.databricks.jdbc.exception.DatabricksDriverException;
+import com.databricks.jdbc.exception.DatabricksSQLClientInfoException;
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
+import com.databricks.jdbc.telemetry.latency.LatencyOperation;
+import com.databricks.jdbc.telemetry.latency.LatencySnapshot;
+import java.sql.*;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/**
+ * The logical connection handed out by a {@link DatabricksPooledConnection}. Every call is
+ * delegated to the physical connection, except {@link #close()}, which only detaches the handle and
+ * notifies the listeners of the pooled connection so that the physical connection can be reused.
+ *
+ * <p>A {@link SQLException} thrown by the physical connection is reported to the listeners as a
+ * connection error before it is rethrown. Statements are wrapped in handles whose {@code
+ * getConnection()} returns this handle.
+ */
+final class PooledConnectionHandle implements IDatabricksConnection, IDatabricksConnectionInternal {
+  private final DatabricksPooledConnection pooledConnection;
+  // Null once the handle is closed by the application or detached by the pooled connection
+  private volatile Connection physicalConnection;
+
+  PooledConnectionHandle(
+      DatabricksPooledConnection pooledConnection, Connection physicalConnection) {
+    this.pooledConnection = pooledConnection;
+    this.physicalConnection = physicalConnection;
+  }
+
+  /** Detaches the handle from the physical connection without notifying listeners. */
+  void detach() {
+    physicalConnection = null;
+  }
+
+  /**
+   * Detaches the handle and fires a connection closed event, leaving the physical connection open.
+   */
+  @Override
+  public void close() {
+    synchronized (pooledConnection.getLock()) {
+      if (physicalConnection == null) {
+        return;
+      }
+      physicalConnection = null;
+    }
+    pooledConnection.logicalConnectionClosed(this);
+  }
+
+  @Override
+  public boolean isClosed() throws SQLException {
+    Connection physical = physicalConnection;
+    return physical == null || physical.isClosed();
+  }
+
+  @Override
+  public IDatabricksSession getSession() {
+    return getInternalConnection().getSession();
+  }
+
+  @Override
+  public void closeStatement(IDatabricksStatement statement) {
+    getInternalConnection().closeStatement(statement);
+  }
+
+  @Override
+  public Connection getConnection() {
+    return getInternalConnection().getConnection();
+  }
+
+  @Override
+  public void open() throws DatabricksSQLException {
+    getInternalConnection().open();
+  }
+
+  @Override
+  public IDatabricksConnectionContext getConnectionContext() {
+    return getInternalConnection().getConnectionContext();
+  }
+
+  @Override
+  public Statement getStatement(String statementId) throws SQLException {
+    IDatabricksConnection physical = (IDatabricksConnection) getPhysicalConnection();
+    try {
+      Statement statement = physical.getStatement(statementId);
+      if (statement instanceof CallableStatement) {
+        return new PooledCallableStatementHandle(this, (CallableStatement) statement);
+      }
+      if (statement instanceof PreparedStatement) {
+        return new PooledPreparedStatementHandle(this, (PreparedStatement) statement);
+      }
+      return new PooledStatementHandle(this, statement);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public String getConnectionId() throws SQLException {
+    IDatabricksConnection physical = (IDatabricksConnection) getPhysicalConnection();
+    try {
+      return physical.getConnectionId();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public ArrowMemoryUsage getArrowMemoryUsage() {
+    return getDatabricksConnection().getArrowMemoryUsage();
+  }
+
+  @Override
+  public Map<LatencyOperation, LatencySnapshot> getLatencySnapshots() {
+    return getDatabricksConnection().getLatencySnapshots();
+  }
+
+  @Override
+  public MetadataCacheStats getMetadataCacheStats() {
+    return getDatabricksConnection().getMetadataCacheStats();
+  }
+
+  @Override
+  public PreparedStatementCacheStats getPreparedStatementCacheStats() {
+    return getDatabricksConnection().getPreparedStatementCacheStats();
+  }
+
+  @Override
+  public Statement createStatement() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return new PooledStatementHandle(this, physical.createStatement());
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return new PooledPreparedStatementHandle(this, physical.prepareStatement(sql));
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public CallableStatement prepareCall(String sql) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return new PooledCallableStatementHandle(this, physical.prepareCall(sql));
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public String nativeSQL(String sql) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.nativeSQL(sql);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setAutoCommit(boolean autoCommit) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      physical.setAutoCommit(autoCommit);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public boolean getAutoCommit() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.getAutoCommit();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void commit() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      physical.commit();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void rollback() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      physical.rollback();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public DatabaseMetaData getMetaData() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.getMetaData();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setReadOnly(boolean readOnly) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      physical.setReadOnly(readOnly);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public boolean isReadOnly() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.isReadOnly();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setCatalog(String catalog) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      physical.setCatalog(catalog);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public String getCatalog() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.getCatalog();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setTransactionIsolation(int level) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      physical.setTransactionIsolation(level);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public int getTransactionIsolation() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.getTransactionIsolation();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public SQLWarning getWarnings() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.getWarnings();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void clearWarnings() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      physical.clearWarnings();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Statement createStatement(int resultSetType, int resultSetConcurrency)
+      throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return new PooledStatementHandle(
+          this, physical.createStatement(resultSetType, resultSetConcurrency));
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
+      throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return new PooledPreparedStatementHandle(
+          this, physical.prepareStatement(sql, resultSetType, resultSetConcurrency));
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency)
+      throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return new PooledCallableStatementHandle(
+          this, physical.prepareCall(sql, resultSetType, resultSetConcurrency));
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Map<String, Class<?>> getTypeMap() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.getTypeMap();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      physical.setTypeMap(map);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setHoldability(int holdability) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      physical.setHoldability(holdability);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public int getHoldability() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.getHoldability();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Savepoint setSavepoint() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.setSavepoint();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Savepoint setSavepoint(String name) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.setSavepoint(name);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void rollback(Savepoint savepoint) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      physical.rollback(savepoint);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      physical.releaseSavepoint(savepoint);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Statement createStatement(
+      int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return new PooledStatementHandle(
+          this,
+          physical.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability));
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(
+      String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability)
+      throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return new PooledPreparedStatementHandle(
+          this,
+          physical.prepareStatement(
+              sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public CallableStatement prepareCall(
+      String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability)
+      throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return new PooledCallableStatementHandle(
+          this,
+          physical.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return new PooledPreparedStatementHandle(
+          this, physical.prepareStatement(sql, autoGeneratedKeys));
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return new PooledPreparedStatementHandle(this, physical.prepareStatement(sql, columnIndexes));
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return new PooledPreparedStatementHandle(this, physical.prepareStatement(sql, columnNames));
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Clob createClob() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.createClob();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Blob createBlob() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.createBlob();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public NClob createNClob() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.createNClob();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public SQLXML createSQLXML() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.createSQLXML();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public boolean isValid(int timeout) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.isValid(timeout);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setClientInfo(String name, String value) throws SQLClientInfoException {
+    Connection physical = getPhysicalConnectionForClientInfo();
+    try {
+      physical.setClientInfo(name, value);
+    } catch (SQLClientInfoException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setClientInfo(Properties properties) throws SQLClientInfoException {
+    Connection physical = getPhysicalConnectionForClientInfo();
+    try {
+      physical.setClientInfo(properties);
+    } catch (SQLClientInfoException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public String getClientInfo(String name) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.getClientInfo(name);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Properties getClientInfo() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.getClientInfo();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.createArrayOf(typeName, elements);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.createStruct(typeName, attributes);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setSchema(String schema) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      physical.setSchema(schema);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public String getSchema() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.getSchema();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void abort(Executor executor) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      physical.abort(executor);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      physical.setNetworkTimeout(executor, milliseconds);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public int getNetworkTimeout() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.getNetworkTimeout();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void beginRequest() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      physical.beginRequest();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void endRequest() throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      physical.endRequest();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public boolean setShardingKeyIfValid(
+      ShardingKey shardingKey, ShardingKey superShardingKey, int timeout) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.setShardingKeyIfValid(shardingKey, superShardingKey, timeout);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public boolean setShardingKeyIfValid(ShardingKey shardingKey, int timeout) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.setShardingKeyIfValid(shardingKey, timeout);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setShardingKey(ShardingKey shardingKey, ShardingKey superShardingKey)
+      throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      physical.setShardingKey(shardingKey, superShardingKey);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setShardingKey(ShardingKey shardingKey) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      physical.setShardingKey(shardingKey);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.unwrap(iface);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    Connection physical = getPhysicalConnection();
+    try {
+      return physical.isWrapperFor(iface);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "Pooled connection wrapping physical connection " + physicalConnection;
+  }
+
+  <E extends SQLException> E fireConnectionError(E e) {
+    pooledConnection.fireConnectionError(e);
+    return e;
+  }
+
+  private Connection getPhysicalConnection() throws SQLException {
+    Connection physical = physicalConnection;
+    if (physical == null || physical.isClosed()) {
+      throw new DatabricksSQLException(
+          "Connection has been closed.", DatabricksDriverErrorCode.CONNECTION_CLOSED);
+    }
+    return physical;
+  }
+
+  private Connection getPhysicalConnectionForClientInfo() throws SQLClientInfoException {
+    Connection physical = physicalConnection;
+    if (physical == null) {
+      throw new DatabricksSQLClientInfoException(
+          "Connection has been closed.",
+          Collections.emptyMap(),
+          DatabricksDriverErrorCode.CONNECTION_CLOSED);
+    }
+    return physical;
+  }
+
+  private IDatabricksConnectionInternal getInternalConnection() {
+    Connection physical = physicalConnection;
+    if (physical == null) {
+      throw new DatabricksDriverException(
+          "Connection has been closed.", DatabricksDriverErrorCode.CONNECTION_CLOSED);
+    }
+    return (IDatabricksConnectionInternal) physical;
+  }
+
+  private IDatabricksConnection getDatabricksConnection() {
+    return (IDatabricksConnection) getInternalConnection();
+  }
+}
@@ -0,0 +1,611 @@
+package com.databricks.jdbc.pooling;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.sql.*;
+import java.util.Calendar;
+
+/** A prepared statement created through a {@link PooledConnectionHandle}. */
+class PooledPreparedStatementHandle extends PooledStatementHandle implements PreparedStatement {
+
+  PooledPreparedStatementHandle(
+      PooledConnectionHandle connectionHandle, PreparedStatement physicalStatement) {
+    super(connectionHandle, physicalStatement);
+  }
+
+  @Override
+  public ResultSet executeQuery() throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      return physical.executeQuery();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public int executeUpdate() throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      return physical.executeUpdate();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setNull(int parameterIndex, int sqlType) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setNull(parameterIndex, sqlType);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setBoolean(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setByte(int parameterIndex, byte x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setByte(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setShort(int parameterIndex, short x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setShort(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setInt(int parameterIndex, int x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setInt(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setLong(int parameterIndex, long x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setLong(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setFloat(int parameterIndex, float x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setFloat(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setDouble(int parameterIndex, double x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setDouble(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setBigDecimal(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setString(int parameterIndex, String x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setString(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setBytes(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setDate(int parameterIndex, Date x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setDate(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setTime(int parameterIndex, Time x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setTime(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setTimestamp(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setAsciiStream(int parameterIndex, java.io.InputStream x, int length)
+      throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setAsciiStream(parameterIndex, x, length);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setUnicodeStream(int parameterIndex, java.io.InputStream x, int length)
+      throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setUnicodeStream(parameterIndex, x, length);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setBinaryStream(int parameterIndex, java.io.InputStream x, int length)
+      throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setBinaryStream(parameterIndex, x, length);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void clearParameters() throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.clearParameters();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setObject(parameterIndex, x, targetSqlType);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setObject(int parameterIndex, Object x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setObject(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public boolean execute() throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      return physical.execute();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void addBatch() throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.addBatch();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setCharacterStream(int parameterIndex, java.io.Reader reader, int length)
+      throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setCharacterStream(parameterIndex, reader, length);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setRef(int parameterIndex, Ref x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setRef(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setBlob(int parameterIndex, Blob x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setBlob(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setClob(int parameterIndex, Clob x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setClob(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setArray(int parameterIndex, Array x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setArray(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public ResultSetMetaData getMetaData() throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      return physical.getMetaData();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setDate(parameterIndex, x, cal);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setTime(parameterIndex, x, cal);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setTimestamp(parameterIndex, x, cal);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setNull(parameterIndex, sqlType, typeName);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setURL(int parameterIndex, java.net.URL x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setURL(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public ParameterMetaData getParameterMetaData() throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      return physical.getParameterMetaData();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setRowId(int parameterIndex, RowId x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setRowId(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setNString(int parameterIndex, String value) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setNString(parameterIndex, value);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setNCharacterStream(int parameterIndex, Reader value, long length)
+      throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setNCharacterStream(parameterIndex, value, length);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setNClob(int parameterIndex, NClob value) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setNClob(parameterIndex, value);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setClob(int parameterIndex, Reader reader, long length) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setClob(parameterIndex, reader, length);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setBlob(int parameterIndex, InputStream inputStream, long length)
+      throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setBlob(parameterIndex, inputStream, length);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setNClob(int parameterIndex, Reader reader, long length) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setNClob(parameterIndex, reader, length);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setSQLXML(int parameterIndex, SQLXML xmlObject) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setSQLXML(parameterIndex, xmlObject);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength)
+      throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setAsciiStream(int parameterIndex, java.io.InputStream x, long length)
+      throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setAsciiStream(parameterIndex, x, length);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setBinaryStream(int parameterIndex, java.io.InputStream x, long length)
+      throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setBinaryStream(parameterIndex, x, length);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setCharacterStream(int parameterIndex, java.io.Reader reader, long length)
+      throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setCharacterStream(parameterIndex, reader, length);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setAsciiStream(int parameterIndex, java.io.InputStream x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setAsciiStream(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setBinaryStream(int parameterIndex, java.io.InputStream x) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setBinaryStream(parameterIndex, x);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setCharacterStream(int parameterIndex, java.io.Reader reader) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setCharacterStream(parameterIndex, reader);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setNCharacterStream(int parameterIndex, Reader value) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setNCharacterStream(parameterIndex, value);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setClob(int parameterIndex, Reader reader) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setClob(parameterIndex, reader);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setBlob(int parameterIndex, InputStream inputStream) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setBlob(parameterIndex, inputStream);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setNClob(int parameterIndex, Reader reader) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setNClob(parameterIndex, reader);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setObject(int parameterIndex, Object x, SQLType targetSqlType, int scaleOrLength)
+      throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setObject(int parameterIndex, Object x, SQLType targetSqlType) throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      physical.setObject(parameterIndex, x, targetSqlType);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public long executeLargeUpdate() throws SQLException {
+    PreparedStatement physical = getPhysicalPreparedStatement();
+    try {
+      return physical.executeLargeUpdate();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  PreparedStatement getPhysicalPreparedStatement() throws SQLException {
+    return (PreparedStatement) getPhysicalStatement();
+  }
+}
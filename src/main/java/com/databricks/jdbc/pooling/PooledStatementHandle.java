@@ -0,0 +1,616 @@
+package com.databricks.jdbc.pooling;
+
+import com.databricks.jdbc.api.IDatabricksStatement;
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
+import java.sql.*;
+
+/**
+ * A statement created through a {@link PooledConnectionHandle}. Calls are delegated to the physical
+ * statement, and {@link #getConnection()} returns the logical connection instead of the physical
+ * one. A {@link SQLException} thrown by the physical statement is reported to the listeners of the
+ * pooled connection as a connection error before it is rethrown.
+ */
+class PooledStatementHandle implements IDatabricksStatement {
+  private final PooledConnectionHandle connectionHandle;
+  // Null once the statement is closed
+  private volatile Statement physicalStatement;
+
+  PooledStatementHandle(PooledConnectionHandle connectionHandle, Statement physicalStatement) {
+    this.connectionHandle = connectionHandle;
+    this.physicalStatement = physicalStatement;
+  }
+
+  @Override
+  public void close() throws SQLException {
+    Statement physical;
+    synchronized (this) {
+      physical = physicalStatement;
+      if (physical == null || physical.isClosed()) {
+        return;
+      }
+      physicalStatement = null;
+    }
+    physical.close();
+  }
+
+  @Override
+  public boolean isClosed() throws SQLException {
+    Statement physical = physicalStatement;
+    return physical == null || physical.isClosed();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    getPhysicalStatement();
+    return connectionHandle;
+  }
+
+  @Override
+  public ResultSet executeAsync(String sql) throws SQLException {
+    IDatabricksStatement physical = (IDatabricksStatement) getPhysicalStatement();
+    try {
+      return physical.executeAsync(sql);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public ResultSet getExecutionResult() throws SQLException {
+    IDatabricksStatement physical = (IDatabricksStatement) getPhysicalStatement();
+    try {
+      return physical.getExecutionResult();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public ResultSet executeQuery(String sql) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.executeQuery(sql);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public int executeUpdate(String sql) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.executeUpdate(sql);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public int getMaxFieldSize() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.getMaxFieldSize();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setMaxFieldSize(int max) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      physical.setMaxFieldSize(max);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public int getMaxRows() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.getMaxRows();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setMaxRows(int max) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      physical.setMaxRows(max);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setEscapeProcessing(boolean enable) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      physical.setEscapeProcessing(enable);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public int getQueryTimeout() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.getQueryTimeout();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setQueryTimeout(int seconds) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      physical.setQueryTimeout(seconds);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void cancel() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      physical.cancel();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public SQLWarning getWarnings() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.getWarnings();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void clearWarnings() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      physical.clearWarnings();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setCursorName(String name) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      physical.setCursorName(name);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public boolean execute(String sql) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.execute(sql);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public ResultSet getResultSet() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.getResultSet();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public int getUpdateCount() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.getUpdateCount();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public boolean getMoreResults() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.getMoreResults();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setFetchDirection(int direction) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      physical.setFetchDirection(direction);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public int getFetchDirection() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.getFetchDirection();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setFetchSize(int rows) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      physical.setFetchSize(rows);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public int getFetchSize() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.getFetchSize();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public int getResultSetConcurrency() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.getResultSetConcurrency();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public int getResultSetType() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.getResultSetType();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void addBatch(String sql) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      physical.addBatch(sql);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void clearBatch() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      physical.clearBatch();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public int[] executeBatch() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.executeBatch();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public boolean getMoreResults(int current) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.getMoreResults(current);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public ResultSet getGeneratedKeys() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.getGeneratedKeys();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.executeUpdate(sql, autoGeneratedKeys);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.executeUpdate(sql, columnIndexes);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.executeUpdate(sql, columnNames);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.execute(sql, autoGeneratedKeys);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.execute(sql, columnIndexes);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public boolean execute(String sql, String[] columnNames) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.execute(sql, columnNames);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public int getResultSetHoldability() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.getResultSetHoldability();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setPoolable(boolean poolable) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      physical.setPoolable(poolable);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public boolean isPoolable() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.isPoolable();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void closeOnCompletion() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      physical.closeOnCompletion();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public boolean isCloseOnCompletion() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.isCloseOnCompletion();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public long getLargeUpdateCount() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.getLargeUpdateCount();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public void setLargeMaxRows(long max) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      physical.setLargeMaxRows(max);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public long getLargeMaxRows() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.getLargeMaxRows();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public long[] executeLargeBatch() throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.executeLargeBatch();
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public long executeLargeUpdate(String sql) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.executeLargeUpdate(sql);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.executeLargeUpdate(sql, autoGeneratedKeys);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.executeLargeUpdate(sql, columnIndexes);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.executeLargeUpdate(sql, columnNames);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public String enquoteLiteral(String val) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.enquoteLiteral(val);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public String enquoteIdentifier(String identifier, boolean alwaysQuote) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.enquoteIdentifier(identifier, alwaysQuote);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public boolean isSimpleIdentifier(String identifier) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.isSimpleIdentifier(identifier);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public String enquoteNCharLiteral(String val) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.enquoteNCharLiteral(val);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.unwrap(iface);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    Statement physical = getPhysicalStatement();
+    try {
+      return physical.isWrapperFor(iface);
+    } catch (SQLException e) {
+      throw fireConnectionError(e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "Pooled statement wrapping physical statement " + physicalStatement;
+  }
+
+  <E extends SQLException> E fireConnectionError(E e) {
+    return connectionHandle.fireConnectionError(e);
+  }
+
+  Statement getPhysicalStatement() throws SQLException {
+    Statement physical = physicalStatement;
+    if (physical == null || physical.isClosed()) {
+      throw new DatabricksSQLException(
+          "Statement has been closed.", DatabricksDriverErrorCode.CONNECTION_CLOSED);
+    }
+    return physical;
+  }
+}
@@ -12,6 +12,7 @@ import com.databricks.jdbc.exception.DatabricksParsingException;
 import com.databricks.jdbc.log.JdbcLogger;
 import com.databricks.jdbc.log.JdbcLoggerFactory;
 import com.databricks.jdbc.model.telemetry.*;
+import com.databricks.jdbc.model.telemetry.latency.OperationDetail;
 import com.databricks.sdk.core.DatabricksConfig;
 import com.databricks.sdk.core.ProxyConfig;
 import com.databricks.sdk.core.UserAgent;
@@ -112,11 +113,16 @@ public class TelemetryHelper {
   }
 
   public static void exportLatencyLog(long executionTime) {
+    exportLatencyLog(executionTime, null);
+  }
+
+  public static void exportLatencyLog(long executionTime, OperationDetail operationDetail) {
     SqlExecutionEvent executionEvent =
         new SqlExecutionEvent()
             .setDriverStatementType(DatabricksThreadContextHolder.getStatementType())
             .setRetryCount(DatabricksThreadContextHolder.getRetryCount())
-            .setChunkId(DatabricksThreadContextHolder.getChunkId());
+            .setChunkId(DatabricksThreadContextHolder.getChunkId())
+            .setOperationDetails(operationDetail);
     exportLatencyLog(
         DatabricksThreadContextHolder.getConnectionContext(),
         executionTime,
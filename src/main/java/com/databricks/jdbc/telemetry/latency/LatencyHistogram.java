@@ -0,0 +1,76 @@
+package com.databricks.jdbc.telemetry.latency;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds.
+ *
+ * <p>In the style of HdrHistogram, values are counted in log-linear buckets: every power of two is
+ * split into {@value #SUB_BUCKET_COUNT} equal buckets, so a reported percentile is never more than
+ * 1/16 above the recorded value. Recording only updates atomic counters and never allocates.
+ */
+public final class LatencyHistogram {
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+  /** Values of 2^42 ns (about 73 minutes) and above share the last bucket. */
+  private static final int MAX_EXPONENT = 41;
+
+  static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private final AtomicLong totalCount = new AtomicLong();
+  private final AtomicLong totalNanos = new AtomicLong();
+  private final AtomicLong maxNanos = new AtomicLong();
+
+  /** Records a single latency. Negative values are counted as 0. */
+  public void record(long nanos) {
+    long value = Math.max(0, nanos);
+    counts.incrementAndGet(bucketIndex(value));
+    totalCount.incrementAndGet();
+    totalNanos.addAndGet(value);
+    maxNanos.accumulateAndGet(value, Math::max);
+  }
+
+  /**
+   * Returns a copy of the recorded values. Values recorded concurrently may be missing from some of
+   * the totals.
+   */
+  public LatencySnapshot snapshot() {
+    long[] bucketCounts = new long[BUCKET_COUNT];
+    long count = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      bucketCounts[i] = counts.get(i);
+      count += bucketCounts[i];
+    }
+    return new LatencySnapshot(bucketCounts, count, totalNanos.get(), maxNanos.get());
+  }
+
+  /** Returns the number of recorded values. */
+  public long getCount() {
+    return totalCount.get();
+  }
+
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    if (exponent > MAX_EXPONENT) {
+      return BUCKET_COUNT - 1;
+    }
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  /** Returns the largest value counted in the given bucket. */
+  static long highestValueInBucket(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = index / SUB_BUCKET_COUNT - 1;
+    long lowest = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+}
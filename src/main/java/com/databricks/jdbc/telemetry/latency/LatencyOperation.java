@@ -0,0 +1,17 @@
+package com.databricks.jdbc.telemetry.latency;
+
+/** Driver operations whose latency is recorded by a {@link LatencyRecorder}. */
+public enum LatencyOperation {
+  /** A synchronous statement execution, from submission until the final status is known. */
+  EXECUTE,
+  /** A single status request for a running statement. */
+  POLL,
+  /** A request for the external links of a cloud fetch result. */
+  FETCH_LINKS,
+  /** The download of a single cloud fetch chunk, including link refreshes and retries. */
+  CHUNK_DOWNLOAD,
+  /** The decompression and parsing of the arrow data of a downloaded chunk. */
+  DECODE,
+  /** Closing a statement on the server. */
+  CLOSE
+}
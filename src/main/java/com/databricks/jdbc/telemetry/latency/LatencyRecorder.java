@@ -0,0 +1,55 @@
+package com.databricks.jdbc.telemetry.latency;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Records the latency of driver operations into one {@link LatencyHistogram} per {@link
+ * LatencyOperation}. Each client owns a recorder, so the snapshots describe a single connection.
+ *
+ * <p>Callers take a {@link System#nanoTime()} timestamp before the operation and pass it to {@link
+ * #record(LatencyOperation, long)} once it completes.
+ */
+public final class LatencyRecorder {
+  private static final LatencyOperation[] OPERATIONS = LatencyOperation.values();
+  private final LatencyHistogram[] histograms = new LatencyHistogram[OPERATIONS.length];
+
+  public LatencyRecorder() {
+    for (int i = 0; i < histograms.length; i++) {
+      histograms[i] = new LatencyHistogram();
+    }
+  }
+
+  /**
+   * Records an operation that started at the given time.
+   *
+   * @param operation the completed operation
+   * @param startNanos value of {@link System#nanoTime()} when the operation started
+   * @return the elapsed time in nanoseconds
+   */
+  public long record(LatencyOperation operation, long startNanos) {
+    long elapsedNanos = System.nanoTime() - startNanos;
+    histograms[operation.ordinal()].record(elapsedNanos);
+    return elapsedNanos;
+  }
+
+  /** Records an operation that took the given number of nanoseconds. */
+  public void recordNanos(LatencyOperation operation, long nanos) {
+    histograms[operation.ordinal()].record(nanos);
+  }
+
+  /** Returns a snapshot of the latencies recorded for the given operation. */
+  public LatencySnapshot snapshot(LatencyOperation operation) {
+    return histograms[operation.ordinal()].snapshot();
+  }
+
+  /** Returns a snapshot of the latencies recorded for every operation. */
+  public Map<LatencyOperation, LatencySnapshot> snapshot() {
+    Map<LatencyOperation, LatencySnapshot> snapshots = new EnumMap<>(LatencyOperation.class);
+    for (LatencyOperation operation : OPERATIONS) {
+      snapshots.put(operation, snapshot(operation));
+    }
+    return Collections.unmodifiableMap(snapshots);
+  }
+}
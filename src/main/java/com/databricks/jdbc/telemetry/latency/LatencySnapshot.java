@@ -0,0 +1,73 @@
+package com.databricks.jdbc.telemetry.latency;
+
+import java.time.Duration;
+
+/** Snapshot of the latencies recorded for one operation by a {@link LatencyHistogram}. */
+public final class LatencySnapshot {
+  private final long[] bucketCounts;
+  private final long count;
+  private final long totalNanos;
+  private final long maxNanos;
+
+  LatencySnapshot(long[] bucketCounts, long count, long totalNanos, long maxNanos) {
+    this.bucketCounts = bucketCounts;
+    this.count = count;
+    this.totalNanos = totalNanos;
+    this.maxNanos = maxNanos;
+  }
+
+  /** Returns the number of recorded operations. */
+  public long getCount() {
+    return count;
+  }
+
+  /** Returns the sum of all recorded latencies. */
+  public Duration getTotalTime() {
+    return Duration.ofNanos(totalNanos);
+  }
+
+  /** Returns the average latency, 0 if nothing was recorded. */
+  public Duration getMeanTime() {
+    return Duration.ofNanos(count == 0 ? 0 : totalNanos / count);
+  }
+
+  /** Returns the highest recorded latency. */
+  public Duration getMaxTime() {
+    return Duration.ofNanos(maxNanos);
+  }
+
+  /**
+   * Returns the latency at the given percentile, rounded up to the bucket the value was counted in.
+   *
+   * @param percentile percentile between 0 and 100
+   * @return the latency at or below which the given percentage of operations completed, 0 if
+   *     nothing was recorded
+   */
+  public Duration getPercentile(double percentile) {
+    if (count == 0) {
+      return Duration.ZERO;
+    }
+    double clamped = Math.min(100, Math.max(0, percentile));
+    long rank = Math.max(1, (long) Math.ceil(clamped / 100 * count));
+    long seen = 0;
+    for (int i = 0; i < bucketCounts.length; i++) {
+      seen += bucketCounts[i];
+      if (seen >= rank) {
+        return Duration.ofNanos(Math.min(LatencyHistogram.highestValueInBucket(i), maxNanos));
+      }
+    }
+    return getMaxTime();
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "LatencySnapshot{count=%d, mean=%s, p50=%s, p90=%s, p99=%s, max=%s}",
+        count,
+        getMeanTime(),
+        getPercentile(50),
+        getPercentile(90),
+        getPercentile(99),
+        getMaxTime());
+  }
+}
@@ -7,6 +7,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import com.databricks.jdbc.api.PreparedStatementCacheStats;
 import com.databricks.jdbc.api.impl.volume.DatabricksVolumeClientFactory;
 import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
 import com.databricks.jdbc.api.internal.IDatabricksConnectionInternal;
@@ -224,6 +225,46 @@ public class DatabricksConnectionTest {
     assertEquals(connection.getSession().getSessionConfigs(), lowercaseSessionConfigs);
   }
 
+  @Test
+  public void testPreparedStatementCache() throws SQLException {
+    IDatabricksConnectionContext connectionContext =
+        DatabricksConnectionContext.parse(
+            CATALOG_SCHEMA_JDBC_URL + ";PreparedStatementCacheSize=1", new Properties());
+    DatabricksConnection connection = new DatabricksConnection(connectionContext, databricksClient);
+
+    PreparedStatement first = connection.prepareStatement("SELECT ?");
+    PreparedStatement concurrent = connection.prepareStatement("SELECT ?");
+    first.close();
+    concurrent.close();
+    // Statements prepared with the explicit default result set type share the cached entry
+    connection
+        .prepareStatement("SELECT ?", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)
+        .close();
+    connection.prepareStatement("SELECT 1").close();
+    connection.prepareStatement("SELECT ?");
+
+    PreparedStatementCacheStats stats = connection.getPreparedStatementCacheStats();
+    assertEquals(1, stats.getHitCount());
+    assertEquals(4, stats.getMissCount());
+    assertEquals(0.2, stats.getHitRatio(), 1e-9);
+    assertEquals(1, stats.getSize());
+    assertEquals(1, stats.getMaxSize());
+  }
+
+  @Test
+  public void testBatchExecutorIsSharedUntilClose() throws SQLException {
+    when(databricksClient.createSession(
+            new Warehouse(WAREHOUSE_ID), CATALOG, SCHEMA, new HashMap<>()))
+        .thenReturn(IMMUTABLE_SESSION_INFO);
+    DatabricksConnection connection = new DatabricksConnection(connectionContext, databricksClient);
+    connection.open();
+    ExecutorService batchExecutor = connection.getBatchExecutor();
+
+    assertSame(batchExecutor, connection.getBatchExecutor());
+    connection.close();
+    assertTrue(batchExecutor.isShutdown());
+  }
+
   @Test
   public void testGetUCVolumeClient() throws SQLException {
     IDatabricksConnectionContext connectionContext =
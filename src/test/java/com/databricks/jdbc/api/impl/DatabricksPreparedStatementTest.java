@@ -27,9 +27,11 @@ import java.nio.charset.StandardCharsets;
 import java.sql.*;
 import java.util.Calendar;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -264,6 +266,50 @@ public class DatabricksPreparedStatementTest {
     assertNull(statement.getMetaData());
   }
 
+  @Test
+  public void testGetMetaData_DescribeQueryIsCachedUntilDdl() throws Exception {
+    IDatabricksConnectionContext connectionContext =
+        DatabricksConnectionContext.parse(
+            JDBC_URL + "DescribeQueryCacheSize=10;", new Properties());
+    DatabricksConnection connection = new DatabricksConnection(connectionContext, client);
+    String describeQuery =
+        "DESCRIBE QUERY SELECT * FROM orders WHERE user_id = '?' AND shard = '?' AND region_code = '?' AND namespace = '?'";
+    when(client.executeStatement(
+            eq(describeQuery),
+            eq(new Warehouse(WAREHOUSE_ID)),
+            eq(new HashMap<>()),
+            eq(StatementType.QUERY),
+            any(IDatabricksSession.class),
+            any(DatabricksPreparedStatement.class)))
+        .thenReturn(resultSet);
+    when(client.executeStatement(
+            eq("ALTER TABLE orders ADD COLUMN note STRING"),
+            eq(new Warehouse(WAREHOUSE_ID)),
+            any(HashMap.class),
+            eq(StatementType.SQL),
+            any(IDatabricksSession.class),
+            any(DatabricksStatement.class)))
+        .thenReturn(resultSet);
+    when(resultSet.next()).thenReturn(true, false, true, false);
+    when(resultSet.getString(1)).thenReturn("user_id");
+    when(resultSet.getString(2)).thenReturn("int");
+
+    DatabricksPreparedStatement statement = new DatabricksPreparedStatement(connection, STATEMENT);
+    statement.setLong(1, 100);
+    ResultSetMetaData metaData = statement.getMetaData();
+    assertEquals("user_id", metaData.getColumnName(1));
+    DatabricksPreparedStatement otherStatement =
+        new DatabricksPreparedStatement(connection, STATEMENT + ";");
+    assertSame(metaData, otherStatement.getMetaData());
+    assertEquals(1, connection.getMetadataCacheStats().getHitCount());
+    assertEquals(1, connection.getMetadataCacheStats().getMissCount());
+
+    connection.createStatement().execute("ALTER TABLE orders ADD COLUMN note STRING");
+    assertEquals(0, connection.getMetadataCacheStats().getSize());
+    assertNotSame(metaData, statement.getMetaData());
+    assertEquals(2, connection.getMetadataCacheStats().getMissCount());
+  }
+
   @Test
   public void testExecuteBatchStatementThrowsError() throws Exception {
     IDatabricksConnectionContext connectionContext =
@@ -377,6 +423,102 @@ public class DatabricksPreparedStatementTest {
     }
   }
 
+  @Test
+  public void testExecuteBatchCoalescesInsertRows() throws Exception {
+    IDatabricksConnectionContext connectionContext =
+        DatabricksConnectionContext.parse(JDBC_URL + "EnableBatchedInserts=1;", new Properties());
+    DatabricksConnection connection = new DatabricksConnection(connectionContext, client);
+    DatabricksPreparedStatement statement =
+        new DatabricksPreparedStatement(connection, BATCH_STATEMENT);
+    for (int i = 1; i <= 3; i++) {
+      statement.setLong(1, i);
+      statement.setShort(2, (short) 10);
+      statement.setByte(3, (byte) 15);
+      statement.setString(4, "value" + i);
+      statement.addBatch();
+    }
+    ArgumentCaptor<Map<Integer, ImmutableSqlParameter>> parameters =
+        ArgumentCaptor.forClass(Map.class);
+    when(client.executeStatement(
+            eq(
+                "INSERT INTO orders (user_id, shard, region_code, namespace) VALUES"
+                    + " (?, ?, ?, ?), (?, ?, ?, ?), (?, ?, ?, ?)"),
+            eq(new Warehouse(WAREHOUSE_ID)),
+            parameters.capture(),
+            eq(StatementType.UPDATE),
+            any(IDatabricksSession.class),
+            eq(statement)))
+        .thenReturn(resultSet);
+    when(resultSet.getUpdateCount()).thenReturn(3L);
+
+    assertArrayEquals(new int[] {1, 1, 1}, statement.executeBatch());
+    Map<Integer, ImmutableSqlParameter> boundParameters = parameters.getValue();
+    assertEquals(12, boundParameters.size());
+    assertEquals(1L, boundParameters.get(1).value());
+    assertEquals(3L, boundParameters.get(9).value());
+    assertEquals("value3", boundParameters.get(12).value());
+    assertEquals(12, boundParameters.get(12).cardinal());
+  }
+
+  @Test
+  public void testExecuteBatchCoalescesInterpolatedInsertRows() throws Exception {
+    IDatabricksConnectionContext connectionContext =
+        DatabricksConnectionContext.parse(
+            JDBC_URL_WITH_MANY_PARAMETERS + "EnableBatchedInserts=1;", new Properties());
+    DatabricksConnection connection = new DatabricksConnection(connectionContext, client);
+    DatabricksPreparedStatement statement =
+        new DatabricksPreparedStatement(connection, "INSERT INTO orders VALUES (?, ?)");
+    for (int i = 1; i <= 2; i++) {
+      statement.setInt(1, i);
+      statement.setString(2, "value" + i);
+      statement.addBatch();
+    }
+    when(client.executeStatement(
+            eq("INSERT INTO orders VALUES (1, 'value1'), (2, 'value2')"),
+            eq(new Warehouse(WAREHOUSE_ID)),
+            eq(new HashMap<>()),
+            eq(StatementType.UPDATE),
+            any(IDatabricksSession.class),
+            eq(statement)))
+        .thenReturn(resultSet);
+    // The server does not report one inserted row per batch row
+    when(resultSet.getUpdateCount()).thenReturn(0L);
+
+    assertArrayEquals(
+        new long[] {Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO},
+        statement.executeLargeBatch());
+  }
+
+  @Test
+  public void testExecuteCoalescedBatchThrowsError() throws Exception {
+    IDatabricksConnectionContext connectionContext =
+        DatabricksConnectionContext.parse(JDBC_URL + "EnableBatchedInserts=1;", new Properties());
+    DatabricksConnection connection = new DatabricksConnection(connectionContext, client);
+    DatabricksPreparedStatement statement =
+        new DatabricksPreparedStatement(connection, BATCH_STATEMENT);
+    for (int i = 1; i <= 4; i++) {
+      statement.setLong(1, i);
+      statement.setShort(2, (short) 10);
+      statement.setByte(3, (byte) 15);
+      statement.setString(4, "value");
+      statement.addBatch();
+    }
+    when(client.executeStatement(
+            any(String.class),
+            eq(new Warehouse(WAREHOUSE_ID)),
+            any(HashMap.class),
+            eq(StatementType.UPDATE),
+            any(IDatabricksSession.class),
+            eq(statement)))
+        .thenThrow(new SQLException());
+
+    DatabricksBatchUpdateException exception =
+        assertThrows(DatabricksBatchUpdateException.class, statement::executeBatch);
+    for (int updateCount : exception.getUpdateCounts()) {
+      assertEquals(Statement.EXECUTE_FAILED, updateCount);
+    }
+  }
+
   public static ImmutableSqlParameter getSqlParam(
       int parameterIndex, Object x, String databricksType) {
     return ImmutableSqlParameter.builder()
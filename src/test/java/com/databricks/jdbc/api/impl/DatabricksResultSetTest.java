@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.databricks.jdbc.api.ExecutionState;
@@ -122,6 +124,26 @@ public class DatabricksResultSetTest {
     assertFalse(resultSet.absolute(4));
   }
 
+  @Test
+  void testHasUpdateCountRequiresFinalRowCount() throws SQLException {
+    DatabricksResultSet resultSet =
+        new DatabricksResultSet(
+            new StatementStatus().setState(StatementState.SUCCEEDED),
+            STATEMENT_ID,
+            StatementType.SQL,
+            null,
+            mockedExecutionResult,
+            mockedResultSetMetadata,
+            false);
+    when(mockedResultSetMetadata.getColumnNameIndex(AFFECTED_ROWS_COUNT)).thenReturn(0);
+    when(mockedExecutionResult.getRowCount()).thenReturn(1L);
+    // Further rows follow the first page of a result read page by page
+    when(mockedExecutionResult.isRowCountFinal()).thenReturn(false, true);
+
+    assertFalse(resultSet.hasUpdateCount());
+    assertTrue(resultSet.hasUpdateCount());
+  }
+
   @Test
   void testThriftResultSet() throws SQLException {
     when(session.getConnectionContext()).thenReturn(databricksConnectionContext);
@@ -283,6 +305,28 @@ public class DatabricksResultSetTest {
     assertEquals(100, resultSet.getLong("columnLabel"));
   }
 
+  @Test
+  void testGetPrimitiveReadBypassesGetObject() throws SQLException {
+    DatabricksResultSet resultSet = getResultSet(StatementState.SUCCEEDED, null);
+    when(mockedExecutionResult.supportsPrimitiveRead(0, Types.BIGINT)).thenReturn(true);
+    when(mockedExecutionResult.supportsPrimitiveRead(1, Types.DOUBLE)).thenReturn(true);
+    when(mockedExecutionResult.supportsPrimitiveRead(2, Types.BOOLEAN)).thenReturn(true);
+    when(mockedExecutionResult.isNull(0)).thenReturn(false);
+    when(mockedExecutionResult.isNull(1)).thenReturn(true);
+    when(mockedExecutionResult.isNull(2)).thenReturn(false);
+    when(mockedExecutionResult.getLong(0)).thenReturn(100L);
+    when(mockedExecutionResult.getBoolean(2)).thenReturn(true);
+
+    assertEquals(100L, resultSet.getLong(1));
+    assertFalse(resultSet.wasNull());
+    assertEquals(0.0, resultSet.getDouble(2));
+    assertTrue(resultSet.wasNull());
+    assertTrue(resultSet.getBoolean(3));
+    assertFalse(resultSet.wasNull());
+    verify(mockedExecutionResult, never()).getObject(anyInt());
+    verify(mockedExecutionResult, never()).getDouble(1);
+  }
+
   @Test
   void testGetFloat() throws SQLException {
     DatabricksResultSet resultSet = getResultSet(StatementState.SUCCEEDED, null);
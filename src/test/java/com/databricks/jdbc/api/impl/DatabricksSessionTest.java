@@ -19,12 +19,11 @@ import com.databricks.jdbc.exception.DatabricksParsingException;
 import com.databricks.jdbc.exception.DatabricksSQLException;
 import com.databricks.jdbc.exception.DatabricksTemporaryRedirectException;
 import com.databricks.jdbc.model.client.thrift.generated.TSessionHandle;
-import com.databricks.jdbc.telemetry.latency.DatabricksMetricsTimedProcessor;
 import java.util.Properties;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
+import org.mockito.MockedConstruction;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -90,13 +89,11 @@ public class DatabricksSessionTest {
             .build();
     when(sdkClient.createSession(eq(WAREHOUSE_COMPUTE), any(), any(), any()))
         .thenThrow(new DatabricksTemporaryRedirectException(TEMPORARY_REDIRECT_EXCEPTION));
-    when(thriftClient.createSession(any(), any(), any(), any())).thenReturn(sessionInfo);
-    try (MockedStatic<DatabricksMetricsTimedProcessor> proxyMock =
-        Mockito.mockStatic(DatabricksMetricsTimedProcessor.class)) {
-      proxyMock
-          .when(() -> DatabricksMetricsTimedProcessor.createProxy(any()))
-          .thenReturn(thriftClient);
-
+    try (MockedConstruction<DatabricksThriftServiceClient> thriftClientConstruction =
+        Mockito.mockConstruction(
+            DatabricksThriftServiceClient.class,
+            (mock, context) ->
+                when(mock.createSession(any(), any(), any(), any())).thenReturn(sessionInfo))) {
       DatabricksSession session = new DatabricksSession(connectionContext, sdkClient);
       assertEquals(DatabricksClientType.SEA, connectionContext.getClientType());
       assertInstanceOf(DatabricksMetadataSdkClient.class, session.getDatabricksMetadataClient());
@@ -108,6 +105,7 @@ public class DatabricksSessionTest {
       assertEquals(SESSION_ID, session.getSessionId());
       assertEquals(DatabricksClientType.THRIFT, connectionContext.getClientType());
       assertInstanceOf(DatabricksThriftServiceClient.class, session.getDatabricksClient());
+      assertSame(thriftClientConstruction.constructed().get(0), session.getDatabricksClient());
       assertInstanceOf(DatabricksThriftServiceClient.class, session.getDatabricksMetadataClient());
       assertEquals(WAREHOUSE_COMPUTE, session.getComputeResource());
 
@@ -0,0 +1,65 @@
+package com.databricks.jdbc.api.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import com.databricks.jdbc.api.MetadataCacheStats;
+import java.sql.ResultSetMetaData;
+import org.junit.jupiter.api.Test;
+
+public class DescribeQueryMetadataCacheTest {
+
+  @Test
+  public void testHitsAndMissesAreCounted() {
+    DescribeQueryMetadataCache cache = new DescribeQueryMetadataCache(2);
+    ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+
+    assertNull(cache.get("SELECT 1", "main", "default"));
+    cache.put("SELECT 1", "main", "default", metaData);
+
+    assertSame(metaData, cache.get("  SELECT 1 ;", "main", "default"));
+    assertNull(cache.get("SELECT 1", "main", "other"));
+    assertNull(cache.get("SELECT 1", "other", "default"));
+    MetadataCacheStats stats = cache.getStats();
+    assertEquals(1, stats.getHitCount());
+    assertEquals(3, stats.getMissCount());
+    assertEquals(1, stats.getSize());
+    assertEquals(2, stats.getMaxSize());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedEntryIsEvicted() {
+    DescribeQueryMetadataCache cache = new DescribeQueryMetadataCache(2);
+    ResultSetMetaData first = mock(ResultSetMetaData.class);
+    ResultSetMetaData second = mock(ResultSetMetaData.class);
+    cache.put("SELECT 1", null, null, first);
+    cache.put("SELECT 2", null, null, second);
+
+    assertSame(first, cache.get("SELECT 1", null, null));
+    cache.put("SELECT 3", null, null, mock(ResultSetMetaData.class));
+
+    assertSame(first, cache.get("SELECT 1", null, null));
+    assertNull(cache.get("SELECT 2", null, null));
+    assertEquals(2, cache.getStats().getSize());
+  }
+
+  @Test
+  public void testInvalidateAll() {
+    DescribeQueryMetadataCache cache = new DescribeQueryMetadataCache(2);
+    cache.put("SELECT 1", null, null, mock(ResultSetMetaData.class));
+
+    cache.invalidateAll();
+
+    assertTrue(cache.isEmpty());
+    assertNull(cache.get("SELECT 1", null, null));
+  }
+
+  @Test
+  public void testDisabledCacheStoresNothing() {
+    DescribeQueryMetadataCache cache = new DescribeQueryMetadataCache(0);
+    cache.put("SELECT 1", null, null, mock(ResultSetMetaData.class));
+
+    assertFalse(cache.isEnabled());
+    assertTrue(cache.isEmpty());
+  }
+}
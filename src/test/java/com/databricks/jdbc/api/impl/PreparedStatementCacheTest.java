@@ -0,0 +1,62 @@
+package com.databricks.jdbc.api.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class PreparedStatementCacheTest {
+
+  @Test
+  public void testBorrowedStatementIsRemovedUntilReleased() {
+    PreparedStatementCache cache = new PreparedStatementCache(2);
+    ParsedStatement parsedStatement = parse("SELECT ?");
+    cache.release(parsedStatement);
+
+    assertSame(parsedStatement, cache.borrow("SELECT ?"));
+    assertNull(cache.borrow("SELECT ?"));
+    assertNull(cache.borrow("SELECT 1"));
+    cache.release(parsedStatement);
+
+    assertEquals(1, cache.getStats().getHitCount());
+    assertEquals(2, cache.getStats().getMissCount());
+    assertEquals(1, cache.getStats().getSize());
+  }
+
+  @Test
+  public void testLeastRecentlyReleasedStatementIsEvicted() {
+    PreparedStatementCache cache = new PreparedStatementCache(2);
+    cache.release(parse("SELECT 1"));
+    cache.release(parse("SELECT 2"));
+    cache.release(parse("SELECT 3"));
+
+    assertNull(cache.borrow("SELECT 1"));
+    assertNotNull(cache.borrow("SELECT 2"));
+    assertNotNull(cache.borrow("SELECT 3"));
+  }
+
+  @Test
+  public void testDisabledCacheStoresNothing() {
+    PreparedStatementCache cache = new PreparedStatementCache(0);
+    cache.release(parse("SELECT 1"));
+
+    assertFalse(cache.isEnabled());
+    assertEquals(0, cache.getStats().getSize());
+    assertEquals(0, cache.getStats().getHitRatio());
+  }
+
+  @Test
+  public void testParsedStatementClassification() {
+    ParsedStatement parsedStatement = ParsedStatement.parse("INSERT INTO t VALUES (?, ?)", true);
+
+    assertEquals(2, parsedStatement.getSqlTemplate().getPlaceholderCount());
+    assertFalse(parsedStatement.returnsResultSet());
+    assertFalse(parsedStatement.isSelectQuery());
+    assertSame(
+        parsedStatement.getMultiRowInsertStatement(), parsedStatement.getMultiRowInsertStatement());
+    assertNull(ParsedStatement.parse("SELECT 1", false).getSqlTemplate());
+  }
+
+  private static ParsedStatement parse(String sql) {
+    return ParsedStatement.parse(sql, false);
+  }
+}
@@ -0,0 +1,178 @@
+package com.databricks.jdbc.api.impl;
+
+import static com.databricks.jdbc.TestConstants.*;
+import static com.databricks.jdbc.common.EnvironmentVariables.DEFAULT_RESULT_ROW_LIMIT;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.databricks.jdbc.api.internal.IDatabricksSession;
+import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
+import com.databricks.jdbc.common.StatementType;
+import com.databricks.jdbc.dbclient.IDatabricksClient;
+import com.databricks.jdbc.dbclient.impl.common.StatementId;
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.model.client.thrift.generated.TColumn;
+import com.databricks.jdbc.model.client.thrift.generated.TFetchResultsResp;
+import com.databricks.jdbc.model.client.thrift.generated.TI32Column;
+import com.databricks.jdbc.model.client.thrift.generated.TRowSet;
+import com.databricks.jdbc.model.client.thrift.generated.TStringColumn;
+import com.databricks.jdbc.model.core.StatementStatus;
+import com.databricks.sdk.service.sql.StatementState;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class StreamingColumnarResultTest {
+
+  @Mock IDatabricksSession session;
+  @Mock IDatabricksClient databricksClient;
+  @Mock IDatabricksStatementInternal parentStatement;
+
+  @Test
+  public void testReadsColumnarPageWithNulls() throws Exception {
+    when(parentStatement.getMaxRows()).thenReturn(DEFAULT_RESULT_ROW_LIMIT);
+    // Second row of the int column and third row of the string column are null
+    TRowSet rowSet =
+        new TRowSet()
+            .setColumns(
+                Arrays.asList(
+                    TColumn.i32Val(
+                        new TI32Column()
+                            .setValues(Arrays.asList(1, 0, 3))
+                            .setNulls(new byte[] {0b010})),
+                    TColumn.stringVal(
+                        new TStringColumn()
+                            .setValues(Arrays.asList("a", "b", ""))
+                            .setNulls(new byte[] {0b100}))));
+    StreamingColumnarResult result =
+        new StreamingColumnarResult(
+            new TFetchResultsResp().setResults(rowSet), parentStatement, session);
+
+    assertThrows(DatabricksSQLException.class, () -> result.getObject(0));
+    assertTrue(result.next());
+    assertEquals(1, result.getObject(0));
+    assertEquals("a", result.getObject(1));
+    assertTrue(result.next());
+    assertNull(result.getObject(0));
+    assertEquals("b", result.getObject(1));
+    assertTrue(result.next());
+    assertEquals(3, result.getObject(0));
+    assertNull(result.getObject(1));
+    assertThrows(DatabricksSQLException.class, () -> result.getObject(2));
+    assertFalse(result.hasNext());
+    assertFalse(result.next());
+    assertEquals(2, result.getCurrentRow());
+    assertEquals(3, result.getRowCount());
+
+    result.close();
+    assertFalse(result.hasNext());
+    assertThrows(DatabricksSQLException.class, () -> result.getObject(0));
+  }
+
+  @Test
+  public void testFetchesNextPageOnlyWhenCurrentPageIsConsumed() throws Exception {
+    when(parentStatement.getMaxRows()).thenReturn(DEFAULT_RESULT_ROW_LIMIT);
+    when(session.getDatabricksClient()).thenReturn(databricksClient);
+    when(databricksClient.getMoreResults(parentStatement))
+        .thenReturn(new TFetchResultsResp().setResults(BOOL_ROW_SET).setHasMoreRows(false));
+    StreamingColumnarResult result =
+        new StreamingColumnarResult(
+            new TFetchResultsResp().setResults(I32_ROW_SET).setHasMoreRows(true),
+            parentStatement,
+            session);
+
+    for (Integer expected : INT_ROW_SET_VALUES) {
+      assertTrue(result.next());
+      assertEquals(expected, result.getObject(0));
+    }
+    verify(databricksClient, never()).getMoreResults(parentStatement);
+    assertTrue(result.hasNext());
+
+    for (Boolean expected : BOOL_ROW_SET_VALUES) {
+      assertTrue(result.next());
+      assertEquals(expected, result.getObject(0));
+    }
+    assertFalse(result.next());
+    verify(databricksClient, times(1)).getMoreResults(parentStatement);
+    assertEquals(8, result.getRowCount());
+  }
+
+  @Test
+  public void testCursorPositionAcrossColumnarPages() throws Exception {
+    when(parentStatement.getMaxRows()).thenReturn(DEFAULT_RESULT_ROW_LIMIT);
+    when(session.getDatabricksClient()).thenReturn(databricksClient);
+    when(databricksClient.getMoreResults(parentStatement))
+        .thenReturn(
+            new TFetchResultsResp().setResults(BOOL_ROW_SET).setHasMoreRows(true),
+            new TFetchResultsResp().setResults(new TRowSet()).setHasMoreRows(false));
+    StreamingColumnarResult result =
+        new StreamingColumnarResult(
+            new TFetchResultsResp().setResults(I32_ROW_SET).setHasMoreRows(true),
+            parentStatement,
+            session);
+    DatabricksResultSet resultSet =
+        new DatabricksResultSet(
+            new StatementStatus().setState(StatementState.SUCCEEDED),
+            new StatementId("statement_id"),
+            StatementType.QUERY,
+            parentStatement,
+            result,
+            null,
+            false);
+
+    for (int i = 0; i < INT_ROW_SET_VALUES.size(); i++) {
+      assertTrue(resultSet.next());
+    }
+    // Last row of the first page, the second page is fetched ahead without moving the cursor
+    assertFalse(resultSet.isLast());
+    assertFalse(resultSet.isAfterLast());
+    assertEquals(INT_ROW_SET_VALUES.get(3), result.getObject(0));
+    verify(databricksClient, times(1)).getMoreResults(parentStatement);
+    for (Boolean expected : BOOL_ROW_SET_VALUES) {
+      assertTrue(resultSet.next());
+      assertEquals(expected, result.getObject(0));
+    }
+    // The page after the second one has no rows
+    assertTrue(resultSet.isLast());
+    assertFalse(resultSet.isAfterLast());
+    assertFalse(result.hasNext());
+    assertFalse(resultSet.next());
+    assertFalse(resultSet.isLast());
+    assertTrue(resultSet.isAfterLast());
+    assertEquals(8, result.getRowCount());
+    verify(databricksClient, times(2)).getMoreResults(parentStatement);
+    resultSet.close();
+  }
+
+  @Test
+  public void testStopsAtMaxRowsWithoutFetchingMorePages() throws Exception {
+    when(parentStatement.getMaxRows()).thenReturn(2);
+    StreamingColumnarResult result =
+        new StreamingColumnarResult(
+            new TFetchResultsResp().setResults(BOOL_ROW_SET).setHasMoreRows(true),
+            parentStatement,
+            session);
+
+    assertTrue(result.next());
+    assertTrue(result.next());
+    assertFalse(result.hasNext());
+    assertFalse(result.next());
+    assertEquals(2, result.getRowCount());
+    verify(session, never()).getDatabricksClient();
+  }
+
+  @Test
+  public void testEmptyResult() throws Exception {
+    StreamingColumnarResult result =
+        new StreamingColumnarResult(new TFetchResultsResp(), parentStatement, session);
+    assertFalse(result.hasNext());
+    assertFalse(result.next());
+    assertEquals(0, result.getRowCount());
+  }
+}
@@ -0,0 +1,102 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+import com.databricks.jdbc.api.ArrowMemoryUsage;
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.OutOfMemoryException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ArrowMemoryBudgetTest {
+
+  @Mock private IDatabricksConnectionContext connectionContext;
+
+  @AfterEach
+  public void tearDown() {
+    ArrowMemoryBudgetFactory.getInstance().removeBudget(connectionContext);
+  }
+
+  @Test
+  public void testReservationsRespectLimit() {
+    when(connectionContext.getConnectionUuid()).thenReturn("reservation-uuid");
+    when(connectionContext.getCloudFetchMemoryLimit()).thenReturn(1024L);
+    ArrowMemoryBudget budget = ArrowMemoryBudgetFactory.getInstance().getBudget(connectionContext);
+    assertSame(budget, ArrowMemoryBudgetFactory.getInstance().getBudget(connectionContext));
+
+    assertTrue(budget.tryReserve(1000));
+    assertFalse(budget.tryReserve(100));
+    // Forced reservations go over the limit
+    budget.reserve(100);
+    assertEquals(1100, budget.getUsage().getReservedBytes());
+    budget.release(1100);
+    assertTrue(budget.tryReserve(1024));
+  }
+
+  @Test
+  public void testReservationWaitsForRelease() throws Exception {
+    when(connectionContext.getConnectionUuid()).thenReturn("wait-uuid");
+    when(connectionContext.getCloudFetchMemoryLimit()).thenReturn(1024L);
+    ArrowMemoryBudget budget = ArrowMemoryBudgetFactory.getInstance().getBudget(connectionContext);
+    assertTrue(budget.tryReserve(1000));
+
+    assertFalse(budget.reserve(100, 0));
+    CompletableFuture<Boolean> waitingReservation =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return budget.reserve(100, TimeUnit.SECONDS.toMillis(30));
+              } catch (InterruptedException e) {
+                throw new CompletionException(e);
+              }
+            });
+    budget.release(1000);
+
+    assertTrue(waitingReservation.get(10, TimeUnit.SECONDS));
+    assertEquals(100, budget.getUsage().getReservedBytes());
+    budget.release(100);
+    // A reservation larger than the limit is granted once nothing else is reserved
+    assertTrue(budget.reserve(2048, 0));
+    budget.release(2048);
+  }
+
+  @Test
+  public void testUsageTracksChunkAllocators() {
+    when(connectionContext.getConnectionUuid()).thenReturn("usage-uuid");
+    when(connectionContext.getCloudFetchMemoryLimit()).thenReturn(4096L);
+    ArrowMemoryBudget budget = ArrowMemoryBudgetFactory.getInstance().getBudget(connectionContext);
+
+    try (BufferAllocator chunkAllocator =
+        budget.getAllocator().newChildAllocator("chunk", 0, Long.MAX_VALUE)) {
+      ArrowBuf buffer = chunkAllocator.buffer(2048);
+      ArrowMemoryUsage usage = ArrowMemoryBudgetFactory.getInstance().getUsage(connectionContext);
+      assertEquals(2048, usage.getAllocatedBytes());
+      assertEquals(4096, usage.getLimitBytes());
+      // The connection limit applies to all chunk allocators together
+      assertThrows(OutOfMemoryException.class, () -> chunkAllocator.buffer(4096));
+      buffer.close();
+    }
+    ArrowMemoryUsage usage = budget.getUsage();
+    assertEquals(0, usage.getAllocatedBytes());
+    assertEquals(2048, usage.getPeakAllocatedBytes());
+  }
+
+  @Test
+  public void testUsageWithoutBudget() {
+    when(connectionContext.getConnectionUuid()).thenReturn("unused-uuid");
+    when(connectionContext.getCloudFetchMemoryLimit()).thenReturn(0L);
+    ArrowMemoryUsage usage = ArrowMemoryBudgetFactory.getInstance().getUsage(connectionContext);
+    assertEquals(0, usage.getAllocatedBytes());
+    assertEquals(Long.MAX_VALUE, usage.getLimitBytes());
+  }
+}
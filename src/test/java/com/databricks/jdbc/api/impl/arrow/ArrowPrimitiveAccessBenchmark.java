@@ -0,0 +1,197 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import com.databricks.jdbc.api.impl.DatabricksConnectionContextFactory;
+import com.databricks.jdbc.api.impl.DatabricksResultSet;
+import com.databricks.jdbc.api.impl.DatabricksSession;
+import com.databricks.jdbc.api.impl.converters.ConverterHelper;
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.common.CompressionCodec;
+import com.databricks.jdbc.common.StatementType;
+import com.databricks.jdbc.dbclient.impl.common.StatementId;
+import com.databricks.jdbc.model.core.ResultData;
+import com.databricks.jdbc.model.core.ResultManifest;
+import com.databricks.jdbc.model.core.StatementStatus;
+import com.databricks.sdk.service.sql.ColumnInfo;
+import com.databricks.sdk.service.sql.ColumnInfoTypeName;
+import com.databricks.sdk.service.sql.Format;
+import com.databricks.sdk.service.sql.ResultSchema;
+import com.databricks.sdk.service.sql.StatementState;
+import java.io.ByteArrayOutputStream;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the typed primitive accessors of {@link ArrowStreamResult} against the boxed {@code
+ * getObject} + {@code ObjectConverter} path that {@link DatabricksResultSet} used before.
+ *
+ * <p>Run from the IDE through {@link #main}, or with {@code mvn test-compile} followed by the JMH
+ * runner on the test classpath. Use {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"--add-opens=java.base/java.nio=ALL-UNNAMED"})
+public class ArrowPrimitiveAccessBenchmark {
+  private static final int ROW_COUNT = 100_000;
+  private static final String JDBC_URL =
+      "jdbc:databricks://sample-host.cloud.databricks.com:443/default;transportMode=http;ssl=1;AuthMech=3;httpPath=/sql/1.0/warehouses/99999999;";
+
+  private byte[] arrowBytes;
+  private ResultManifest resultManifest;
+  private DatabricksSession session;
+  private DatabricksResultSet resultSet;
+
+  @Setup(Level.Trial)
+  public void setupTrial() throws Exception {
+    IDatabricksConnectionContext connectionContext =
+        DatabricksConnectionContextFactory.create(JDBC_URL, new Properties());
+    session = new DatabricksSession(connectionContext, null);
+    arrowBytes = createArrowBytes();
+    resultManifest =
+        new ResultManifest()
+            .setFormat(Format.ARROW_STREAM)
+            .setTotalChunkCount(1L)
+            .setTotalRowCount((long) ROW_COUNT)
+            .setResultCompression(CompressionCodec.NONE)
+            .setSchema(
+                new ResultSchema()
+                    .setColumns(
+                        Arrays.asList(
+                            column("id", ColumnInfoTypeName.LONG, "BIGINT", 0),
+                            column("amount", ColumnInfoTypeName.DOUBLE, "DOUBLE", 1),
+                            column("flag", ColumnInfoTypeName.BOOLEAN, "BOOLEAN", 2)))
+                    .setColumnCount(3L));
+  }
+
+  @Setup(Level.Invocation)
+  public void setupInvocation() throws Exception {
+    ResultData resultData = new ResultData();
+    resultData.setAttachment(arrowBytes);
+    resultSet =
+        new DatabricksResultSet(
+            new StatementStatus().setState(StatementState.SUCCEEDED),
+            new StatementId("benchmark_statement"),
+            resultData,
+            resultManifest,
+            StatementType.QUERY,
+            session,
+            null);
+  }
+
+  @TearDown(Level.Invocation)
+  public void tearDownInvocation() throws SQLException {
+    resultSet.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROW_COUNT)
+  public void primitiveGetters(Blackhole blackhole) throws SQLException {
+    while (resultSet.next()) {
+      blackhole.consume(resultSet.getLong(1));
+      blackhole.consume(resultSet.getDouble(2));
+      blackhole.consume(resultSet.getBoolean(3));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROW_COUNT)
+  public void boxedGetObject(Blackhole blackhole) throws SQLException {
+    while (resultSet.next()) {
+      blackhole.consume(
+          ConverterHelper.getConverterForSqlType(Types.BIGINT).toLong(resultSet.getObject(1)));
+      blackhole.consume(
+          ConverterHelper.getConverterForSqlType(Types.DOUBLE).toDouble(resultSet.getObject(2)));
+      blackhole.consume(
+          ConverterHelper.getConverterForSqlType(Types.BOOLEAN).toBoolean(resultSet.getObject(3)));
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(ArrowPrimitiveAccessBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+
+  private static ColumnInfo column(
+      String name, ColumnInfoTypeName typeName, String typeText, long position) {
+    return new ColumnInfo()
+        .setName(name)
+        .setTypeName(typeName)
+        .setTypeText(typeText)
+        .setPosition(position);
+  }
+
+  private static byte[] createArrowBytes() throws Exception {
+    Schema schema =
+        new Schema(
+            Arrays.asList(
+                new Field("id", FieldType.nullable(new ArrowType.Int(64, true)), null),
+                new Field(
+                    "amount",
+                    FieldType.nullable(new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE)),
+                    null),
+                new Field("flag", FieldType.nullable(ArrowType.Bool.INSTANCE), null)));
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try (BufferAllocator allocator = new RootAllocator();
+        VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator);
+        ArrowStreamWriter writer = new ArrowStreamWriter(root, null, outputStream)) {
+      BigIntVector ids = (BigIntVector) root.getVector(0);
+      Float8Vector amounts = (Float8Vector) root.getVector(1);
+      BitVector flags = (BitVector) root.getVector(2);
+      writer.start();
+      int batchSize = 10_000;
+      for (int offset = 0; offset < ROW_COUNT; offset += batchSize) {
+        ids.allocateNew(batchSize);
+        amounts.allocateNew(batchSize);
+        flags.allocateNew(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+          ids.set(i, offset + i);
+          amounts.set(i, (offset + i) * 0.5);
+          flags.set(i, i & 1);
+        }
+        root.setRowCount(batchSize);
+        writer.writeBatch();
+      }
+      writer.end();
+    }
+    return outputStream.toByteArray();
+  }
+}
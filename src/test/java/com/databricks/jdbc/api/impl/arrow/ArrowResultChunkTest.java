@@ -3,10 +3,18 @@ package com.databricks.jdbc.api.impl.arrow;
 import static com.databricks.jdbc.TestConstants.*;
 import static java.lang.Math.min;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import com.databricks.jdbc.api.impl.converters.ArrowColumnAccessor;
+import com.databricks.jdbc.api.impl.converters.ArrowToJavaObjectConverter;
+import com.databricks.jdbc.common.CompressionCodec;
+import com.databricks.jdbc.dbclient.IDatabricksHttpClient;
 import com.databricks.jdbc.exception.DatabricksParsingException;
 import com.databricks.jdbc.exception.DatabricksSQLException;
 import com.databricks.jdbc.model.client.thrift.generated.TSparkArrowResultLink;
+import com.databricks.jdbc.model.core.ExternalLink;
 import com.databricks.sdk.service.sql.BaseChunkInfo;
 import com.databricks.sdk.service.sql.ColumnInfo;
 import com.databricks.sdk.service.sql.ColumnInfoTypeName;
@@ -14,10 +22,17 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.memory.RootAllocator;
 import org.apache.arrow.vector.*;
 import org.apache.arrow.vector.dictionary.DictionaryProvider;
@@ -27,6 +42,10 @@ import org.apache.arrow.vector.types.Types;
 import org.apache.arrow.vector.types.pojo.Field;
 import org.apache.arrow.vector.types.pojo.FieldType;
 import org.apache.arrow.vector.types.pojo.Schema;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.impl.BasicEntityDetails;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
 import org.junit.jupiter.api.Test;
 
 public class ArrowResultChunkTest {
@@ -83,6 +102,85 @@ public class ArrowResultChunkTest {
     arrowResultChunk.releaseChunk(); // calling it a second time also does not throw error.
   }
 
+  @Test
+  public void testChunkAllocatesFromParentAllocator() throws Exception {
+    BaseChunkInfo chunkInfo =
+        new BaseChunkInfo()
+            .setChunkIndex(0L)
+            .setByteCount(200L)
+            .setRowOffset(0L)
+            .setRowCount(totalRows);
+    try (BufferAllocator parentAllocator = new RootAllocator()) {
+      ArrowResultChunk arrowResultChunk =
+          ArrowResultChunk.builder()
+              .withStatementId(TEST_STATEMENT_ID)
+              .withChunkInfo(chunkInfo)
+              .withParentAllocator(parentAllocator)
+              .build();
+      assertEquals(200L, arrowResultChunk.getEstimatedBytes());
+      Schema schema = createTestSchema();
+      Object[][] testData = createTestData(schema, (int) totalRows);
+      File arrowFile =
+          createTestArrowFile("TestFile", schema, testData, new RootAllocator(Integer.MAX_VALUE));
+
+      arrowResultChunk.initializeData(new FileInputStream(arrowFile));
+      assertTrue(arrowResultChunk.getAllocatedMemory() > 0);
+      assertEquals(arrowResultChunk.getAllocatedMemory(), parentAllocator.getAllocatedMemory());
+
+      arrowResultChunk.releaseChunk();
+      assertEquals(0L, parentAllocator.getAllocatedMemory());
+    }
+  }
+
+  @Test
+  public void testDownloadDataAsync() throws Exception {
+    BaseChunkInfo chunkInfo =
+        new BaseChunkInfo()
+            .setChunkIndex(0L)
+            .setByteCount(200L)
+            .setRowOffset(0L)
+            .setRowCount(totalRows);
+    ArrowResultChunk arrowResultChunk =
+        ArrowResultChunk.builder()
+            .withStatementId(TEST_STATEMENT_ID)
+            .withChunkInfo(chunkInfo)
+            .build();
+    arrowResultChunk.setChunkLink(
+        new ExternalLink()
+            .setExternalLink("https://storage.example.com/chunk0")
+            .setExpiration(Instant.now().plusSeconds(3600).toString()));
+    Schema schema = createTestSchema();
+    Object[][] testData = createTestData(schema, (int) totalRows);
+    byte[] arrowBytes =
+        Files.readAllBytes(
+            createTestArrowFile("TestFile", schema, testData, new RootAllocator(Integer.MAX_VALUE))
+                .toPath());
+    IDatabricksHttpClient httpClient = mock(IDatabricksHttpClient.class);
+    when(httpClient.executeAsync(any(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              ChunkResponseConsumer consumer = invocation.getArgument(1);
+              FutureCallback<InputStream> callback = invocation.getArgument(2);
+              consumer.consumeResponse(
+                  new BasicHttpResponse(200),
+                  new BasicEntityDetails(arrowBytes.length, ContentType.APPLICATION_OCTET_STREAM),
+                  null,
+                  callback);
+              consumer.consume(ByteBuffer.wrap(arrowBytes));
+              consumer.streamEnd(null);
+              return CompletableFuture.completedFuture(null);
+            });
+
+    arrowResultChunk
+        .downloadDataAsync(httpClient, CompressionCodec.NONE, Runnable::run)
+        .get(10, TimeUnit.SECONDS);
+
+    assertEquals(ArrowResultChunk.ChunkStatus.DOWNLOAD_SUCCEEDED, arrowResultChunk.getStatus());
+    int totalRecordBatches = (int) ((totalRows + rowsInRecordBatch) / rowsInRecordBatch);
+    assertEquals(totalRecordBatches, arrowResultChunk.getRecordBatchCountInChunk());
+    arrowResultChunk.releaseChunk();
+  }
+
   @Test
   public void testGetArrowDataFromThriftInput() throws DatabricksParsingException {
     TSparkArrowResultLink chunkInfo =
@@ -198,23 +296,20 @@ public class ArrowResultChunkTest {
     arrowResultChunk.recordBatchList =
         List.of(List.of(dummyVector), List.of(dummyVector), new ArrayList<>());
     ArrowResultChunk.ArrowResultChunkIterator iterator = arrowResultChunk.getChunkIterator();
-    ColumnInfo intColumnInfo = new ColumnInfo();
+    ArrowColumnAccessor intAccessor =
+        ArrowToJavaObjectConverter.createAccessor(ColumnInfoTypeName.INT, "INT", new ColumnInfo());
     assertTrue(iterator.hasNextRow());
     iterator.nextRow();
-    assertEquals(
-        0, iterator.getColumnObjectAtCurrentRow(0, ColumnInfoTypeName.INT, "INT", intColumnInfo));
+    assertEquals(0, iterator.getColumnObjectAtCurrentRow(0, intAccessor));
     assertTrue(iterator.hasNextRow());
     iterator.nextRow();
-    assertEquals(
-        10, iterator.getColumnObjectAtCurrentRow(0, ColumnInfoTypeName.INT, "INT", intColumnInfo));
+    assertEquals(10, iterator.getColumnObjectAtCurrentRow(0, intAccessor));
     assertTrue(iterator.hasNextRow());
     iterator.nextRow();
-    assertEquals(
-        0, iterator.getColumnObjectAtCurrentRow(0, ColumnInfoTypeName.INT, "INT", intColumnInfo));
+    assertEquals(0, iterator.getColumnObjectAtCurrentRow(0, intAccessor));
     assertTrue(iterator.hasNextRow());
     iterator.nextRow();
-    assertEquals(
-        10, iterator.getColumnObjectAtCurrentRow(0, ColumnInfoTypeName.INT, "INT", intColumnInfo));
+    assertEquals(10, iterator.getColumnObjectAtCurrentRow(0, intAccessor));
     assertFalse(iterator.hasNextRow());
   }
 
@@ -240,24 +335,21 @@ public class ArrowResultChunkTest {
     emptyVector.setValueCount(0);
     arrowResultChunk.recordBatchList =
         List.of(List.of(dummyVector), List.of(emptyVector), List.of(dummyVector));
-    ColumnInfo intColumnInfo = new ColumnInfo();
+    ArrowColumnAccessor intAccessor =
+        ArrowToJavaObjectConverter.createAccessor(ColumnInfoTypeName.INT, "INT", new ColumnInfo());
     ArrowResultChunk.ArrowResultChunkIterator iterator = arrowResultChunk.getChunkIterator();
     assertTrue(iterator.hasNextRow());
     iterator.nextRow();
-    assertEquals(
-        0, iterator.getColumnObjectAtCurrentRow(0, ColumnInfoTypeName.INT, "INT", intColumnInfo));
+    assertEquals(0, iterator.getColumnObjectAtCurrentRow(0, intAccessor));
     assertTrue(iterator.hasNextRow());
     iterator.nextRow();
-    assertEquals(
-        10, iterator.getColumnObjectAtCurrentRow(0, ColumnInfoTypeName.INT, "INT", intColumnInfo));
+    assertEquals(10, iterator.getColumnObjectAtCurrentRow(0, intAccessor));
     assertTrue(iterator.hasNextRow());
     iterator.nextRow();
-    assertEquals(
-        0, iterator.getColumnObjectAtCurrentRow(0, ColumnInfoTypeName.INT, "INT", intColumnInfo));
+    assertEquals(0, iterator.getColumnObjectAtCurrentRow(0, intAccessor));
     assertTrue(iterator.hasNextRow());
     iterator.nextRow();
-    assertEquals(
-        10, iterator.getColumnObjectAtCurrentRow(0, ColumnInfoTypeName.INT, "INT", intColumnInfo));
+    assertEquals(10, iterator.getColumnObjectAtCurrentRow(0, intAccessor));
     assertFalse(iterator.hasNextRow());
   }
 }
@@ -5,14 +5,20 @@ import static java.lang.Math.min;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.databricks.jdbc.api.impl.DatabricksConnectionContextFactory;
+import com.databricks.jdbc.api.impl.DatabricksResultSet;
 import com.databricks.jdbc.api.impl.DatabricksSession;
 import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
 import com.databricks.jdbc.api.internal.IDatabricksSession;
 import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
 import com.databricks.jdbc.common.CompressionCodec;
+import com.databricks.jdbc.common.StatementType;
+import com.databricks.jdbc.dbclient.IDatabricksClient;
 import com.databricks.jdbc.dbclient.IDatabricksHttpClient;
 import com.databricks.jdbc.dbclient.impl.common.StatementId;
 import com.databricks.jdbc.dbclient.impl.sqlexec.DatabricksSdkClient;
@@ -20,14 +26,17 @@ import com.databricks.jdbc.exception.DatabricksSQLException;
 import com.databricks.jdbc.model.client.thrift.generated.TFetchResultsResp;
 import com.databricks.jdbc.model.client.thrift.generated.TGetResultSetMetadataResp;
 import com.databricks.jdbc.model.client.thrift.generated.TRowSet;
+import com.databricks.jdbc.model.client.thrift.generated.TSparkArrowBatch;
 import com.databricks.jdbc.model.client.thrift.generated.TSparkArrowResultLink;
 import com.databricks.jdbc.model.core.ExternalLink;
 import com.databricks.jdbc.model.core.ResultData;
 import com.databricks.jdbc.model.core.ResultManifest;
+import com.databricks.jdbc.model.core.StatementStatus;
 import com.databricks.sdk.service.sql.BaseChunkInfo;
 import com.databricks.sdk.service.sql.ColumnInfo;
 import com.databricks.sdk.service.sql.ColumnInfoTypeName;
 import com.databricks.sdk.service.sql.ResultSchema;
+import com.databricks.sdk.service.sql.StatementState;
 import com.google.common.collect.ImmutableList;
 import java.io.*;
 import java.time.Instant;
@@ -62,6 +71,7 @@ public class ArrowStreamResultTest {
   @Mock TFetchResultsResp fetchResultsResp;
   @Mock IDatabricksSession session;
   @Mock IDatabricksStatementInternal parentStatement;
+  @Mock IDatabricksClient databricksClient;
   private final int numberOfChunks = 10;
   private final Random random = new Random();
   private final long rowsInChunk = 110L;
@@ -209,6 +219,133 @@ public class ArrowStreamResultTest {
     assertInstanceOf(Double.class, objectInSecondColumn);
   }
 
+  @Test
+  public void testGetPrimitive() throws Exception {
+    ResultManifest resultManifest =
+        new ResultManifest()
+            .setTotalChunkCount((long) this.numberOfChunks)
+            .setTotalRowCount(this.numberOfChunks * 110L)
+            .setTotalByteCount(1000L)
+            .setResultCompression(CompressionCodec.NONE)
+            .setChunks(this.chunkInfos)
+            .setSchema(
+                new ResultSchema()
+                    .setColumns(
+                        ImmutableList.of(
+                            new ColumnInfo().setTypeName(ColumnInfoTypeName.INT),
+                            new ColumnInfo().setTypeName(ColumnInfoTypeName.DOUBLE)))
+                    .setColumnCount(2L));
+
+    ResultData resultData = new ResultData().setExternalLinks(getChunkLinks(0L, false));
+
+    IDatabricksConnectionContext connectionContext =
+        DatabricksConnectionContextFactory.create(JDBC_URL, new Properties());
+    DatabricksSession session = new DatabricksSession(connectionContext, mockedSdkClient);
+
+    setupMockResponse();
+    when(mockHttpClient.execute(isA(HttpUriRequest.class), eq(true))).thenReturn(httpResponse);
+
+    ArrowStreamResult result =
+        new ArrowStreamResult(resultManifest, resultData, STATEMENT_ID, session, mockHttpClient);
+    assertFalse(result.supportsPrimitiveRead(0, java.sql.Types.BIGINT));
+
+    result.next();
+    assertTrue(result.supportsPrimitiveRead(0, java.sql.Types.BIGINT));
+    assertTrue(result.supportsPrimitiveRead(0, java.sql.Types.INTEGER));
+    assertTrue(result.supportsPrimitiveRead(0, java.sql.Types.DOUBLE));
+    assertFalse(result.supportsPrimitiveRead(0, java.sql.Types.SMALLINT));
+    assertTrue(result.supportsPrimitiveRead(1, java.sql.Types.DOUBLE));
+    assertFalse(result.supportsPrimitiveRead(1, java.sql.Types.BIGINT));
+    assertFalse(result.supportsPrimitiveRead(1, java.sql.Types.REAL));
+
+    assertFalse(result.isNull(0));
+    assertEquals(((Integer) result.getObject(0)).longValue(), result.getLong(0));
+    assertEquals((Double) result.getObject(1), result.getDouble(1));
+  }
+
+  @Test
+  public void testIterationStopsAtMaxRows() throws Exception {
+    ResultManifest resultManifest =
+        new ResultManifest()
+            .setTotalChunkCount((long) this.numberOfChunks)
+            .setTotalRowCount(this.numberOfChunks * 110L)
+            .setTotalByteCount(1000L)
+            .setResultCompression(CompressionCodec.NONE)
+            .setChunks(this.chunkInfos)
+            .setSchema(new ResultSchema().setColumns(new ArrayList<>()).setColumnCount(0L));
+    ResultData resultData = new ResultData().setExternalLinks(getChunkLinks(0L, false));
+    IDatabricksConnectionContext connectionContext =
+        DatabricksConnectionContextFactory.create(JDBC_URL, new Properties());
+    DatabricksSession session = new DatabricksSession(connectionContext, mockedSdkClient);
+    setupMockResponse();
+    lenient()
+        .when(mockedSdkClient.getResultChunks(STATEMENT_ID, 1L))
+        .thenReturn(getChunkLinks(1L, false));
+    when(mockHttpClient.execute(isA(HttpUriRequest.class), eq(true))).thenReturn(httpResponse);
+    when(parentStatement.getMaxRows()).thenReturn(150);
+
+    ArrowStreamResult result =
+        new ArrowStreamResult(
+            resultManifest, resultData, STATEMENT_ID, session, parentStatement, mockHttpClient);
+
+    // Only the first two chunks hold rows below the limit
+    assertEquals(2, result.getChunkCount());
+    assertEquals(150, result.getRowCount());
+    for (int i = 0; i < 150; i++) {
+      assertTrue(result.hasNext());
+      assertTrue(result.next());
+    }
+    assertFalse(result.hasNext());
+    assertFalse(result.next());
+    result.close();
+    verify(mockHttpClient, times(2)).execute(isA(HttpUriRequest.class), eq(true));
+  }
+
+  @Test
+  public void testCursorPositionAcrossInlineArrowPages() throws Exception {
+    when(session.getConnectionContext())
+        .thenReturn(DatabricksConnectionContextFactory.create(JDBC_URL, new Properties()));
+    TFetchResultsResp firstPage = createInlineArrowPage(2, true);
+    // Each batch holds a complete arrow stream, hence the schema sent before it is empty
+    firstPage.setResultSetMetadata(
+        new TGetResultSetMetadataResp().setSchema(TEST_TABLE_SCHEMA).setArrowSchema(new byte[0]));
+    when(session.getDatabricksClient()).thenReturn(databricksClient);
+    when(databricksClient.getMoreResults(parentStatement))
+        .thenReturn(
+            createInlineArrowPage(2, true),
+            new TFetchResultsResp().setResults(new TRowSet()).setHasMoreRows(false));
+    ArrowStreamResult result =
+        new ArrowStreamResult(firstPage, true, parentStatement, session, mockHttpClient);
+    DatabricksResultSet resultSet =
+        new DatabricksResultSet(
+            new StatementStatus().setState(StatementState.SUCCEEDED),
+            STATEMENT_ID,
+            StatementType.QUERY,
+            parentStatement,
+            result,
+            null,
+            false);
+
+    assertTrue(resultSet.next());
+    assertTrue(resultSet.next());
+    // Last row of the first page, the second page is still to be read
+    assertFalse(resultSet.isLast());
+    assertFalse(resultSet.isAfterLast());
+    assertTrue(resultSet.next());
+    assertFalse(resultSet.isLast());
+    assertFalse(resultSet.isAfterLast());
+    assertTrue(resultSet.next());
+    // The page after the second one has no rows
+    assertTrue(resultSet.isLast());
+    assertFalse(resultSet.isAfterLast());
+    assertFalse(resultSet.next());
+    assertFalse(resultSet.isLast());
+    assertTrue(resultSet.isAfterLast());
+    assertEquals(4, result.getRowCount());
+    verify(databricksClient, times(2)).getMoreResults(parentStatement);
+    resultSet.close();
+  }
+
   @Test
   public void testComplexTypeHandling() {
     assertTrue(ArrowStreamResult.isComplexType(ColumnInfoTypeName.ARRAY));
@@ -309,6 +446,31 @@ public class ArrowStreamResultTest {
     return file;
   }
 
+  /** Creates a Thrift page holding one arrow batch of the given number of INT rows. */
+  private static TFetchResultsResp createInlineArrowPage(int rows, boolean hasMoreRows)
+      throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (RootAllocator allocator = new RootAllocator();
+        IntVector intVector = new IntVector("numbers", allocator)) {
+      intVector.allocateNew(rows);
+      for (int i = 0; i < rows; i++) {
+        intVector.set(i, i);
+      }
+      intVector.setValueCount(rows);
+      try (ArrowStreamWriter writer =
+          new ArrowStreamWriter(VectorSchemaRoot.of(intVector), null, out)) {
+        writer.start();
+        writer.writeBatch();
+        writer.end();
+      }
+    }
+    TSparkArrowBatch arrowBatch =
+        new TSparkArrowBatch().setRowCount(rows).setBatch(out.toByteArray());
+    return new TFetchResultsResp()
+        .setResults(new TRowSet().setArrowBatches(Collections.singletonList(arrowBatch)))
+        .setHasMoreRows(hasMoreRows);
+  }
+
   private Schema createTestSchema() {
     List<Field> fieldList = new ArrayList<>();
     FieldType fieldType1 = new FieldType(false, Types.MinorType.INT.getType(), null);
@@ -0,0 +1,109 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.api.internal.IDatabricksSession;
+import com.databricks.jdbc.common.CompressionCodec;
+import com.databricks.jdbc.dbclient.IDatabricksHttpClient;
+import com.databricks.jdbc.dbclient.impl.common.StatementId;
+import com.databricks.jdbc.exception.DatabricksParsingException;
+import com.databricks.jdbc.model.core.ExternalLink;
+import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
+import com.databricks.jdbc.telemetry.latency.LatencyOperation;
+import com.databricks.jdbc.telemetry.latency.LatencyRecorder;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncChunkDownloadTaskTest {
+  @Mock ArrowResultChunk chunk;
+  @Mock IDatabricksHttpClient httpClient;
+  @Mock RemoteChunkProvider remoteChunkProvider;
+  @Mock ChunkLinkDownloadService chunkLinkDownloadService;
+  private final LatencyRecorder latencyRecorder = new LatencyRecorder();
+
+  @Test
+  void testRetriesFailedDownloadWithoutBlockingCaller() {
+    when(chunk.isChunkLinkInvalid()).thenReturn(false);
+    when(chunk.getChunkIndex()).thenReturn(7L);
+    when(chunk.getStatus()).thenReturn(ArrowResultChunk.ChunkStatus.DOWNLOAD_FAILED);
+    when(remoteChunkProvider.getCompressionCodec()).thenReturn(CompressionCodec.NONE);
+    when(chunk.downloadDataAsync(eq(httpClient), eq(CompressionCodec.NONE), any()))
+        .thenReturn(
+            CompletableFuture.failedFuture(
+                new DatabricksParsingException(
+                    "Connection reset", DatabricksDriverErrorCode.CHUNK_DOWNLOAD_ERROR)))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    new AsyncChunkDownloadTask(
+            chunk, httpClient, remoteChunkProvider, chunkLinkDownloadService, latencyRecorder)
+        .start();
+
+    verify(remoteChunkProvider, timeout(10_000)).downloadProcessed(7L);
+    verify(chunk, times(2)).downloadDataAsync(eq(httpClient), eq(CompressionCodec.NONE), any());
+    verify(chunk).setStatus(ArrowResultChunk.ChunkStatus.DOWNLOAD_RETRY);
+    assertEquals(1, latencyRecorder.snapshot(LatencyOperation.CHUNK_DOWNLOAD).getCount());
+    assertEquals(1, latencyRecorder.snapshot(LatencyOperation.DECODE).getCount());
+  }
+
+  @Test
+  void testReleasedChunkIsNotRetried() {
+    when(chunk.isChunkLinkInvalid()).thenReturn(false);
+    when(chunk.getChunkIndex()).thenReturn(3L);
+    when(chunk.getStatus()).thenReturn(ArrowResultChunk.ChunkStatus.CHUNK_RELEASED);
+    when(remoteChunkProvider.getCompressionCodec()).thenReturn(CompressionCodec.NONE);
+    when(chunk.downloadDataAsync(eq(httpClient), eq(CompressionCodec.NONE), any()))
+        .thenReturn(
+            CompletableFuture.failedFuture(
+                new DatabricksParsingException(
+                    "Allocator closed", DatabricksDriverErrorCode.CHUNK_DOWNLOAD_ERROR)));
+
+    new AsyncChunkDownloadTask(
+            chunk, httpClient, remoteChunkProvider, chunkLinkDownloadService, latencyRecorder)
+        .start();
+
+    verify(remoteChunkProvider, timeout(10_000)).downloadProcessed(3L);
+    verify(chunk, times(1)).downloadDataAsync(eq(httpClient), eq(CompressionCodec.NONE), any());
+  }
+
+  @Test
+  void testRejectedLinkOfLazilyPaginatedResultFailsChunk() {
+    IDatabricksSession session = mock(IDatabricksSession.class);
+    when(session.getConnectionContext()).thenReturn(mock(IDatabricksConnectionContext.class));
+    ChunkLinkDownloadService lazyLinkService =
+        new ChunkLinkDownloadService(
+            session, new StatementId("statement_id"), 0, new ConcurrentHashMap<>(), 8, false);
+    when(chunk.isChunkLinkInvalid()).thenReturn(false);
+    when(chunk.getChunkIndex()).thenReturn(7L);
+    when(chunk.getChunkLink()).thenReturn(new ExternalLink().setExternalLink("stale-url"));
+    when(chunk.getLastHttpStatusCode()).thenReturn(403);
+    when(remoteChunkProvider.getCompressionCodec()).thenReturn(CompressionCodec.NONE);
+    when(chunk.downloadDataAsync(eq(httpClient), eq(CompressionCodec.NONE), any()))
+        .thenReturn(
+            CompletableFuture.failedFuture(
+                new DatabricksParsingException(
+                    "HTTP request failed by code: 403",
+                    DatabricksDriverErrorCode.CHUNK_DOWNLOAD_ERROR)));
+
+    new AsyncChunkDownloadTask(
+            chunk, httpClient, remoteChunkProvider, lazyLinkService, latencyRecorder)
+        .start();
+
+    verify(remoteChunkProvider, timeout(10_000)).downloadProcessed(7L);
+    // The link cannot be fetched again, so the chunk fails with the reason instead of retrying
+    ArgumentCaptor<Throwable> failure = ArgumentCaptor.forClass(Throwable.class);
+    verify(chunk).setLinkFailure(failure.capture());
+    assertTrue(failure.getValue().getMessage().contains("cloudFetchLazyResultLinks"));
+    verify(chunk, times(1)).downloadDataAsync(eq(httpClient), eq(CompressionCodec.NONE), any());
+  }
+}
@@ -0,0 +1,52 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+import com.databricks.jdbc.api.impl.arrow.ChunkDownloadRetryPolicy.FailureKind;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ChunkDownloadRetryPolicyTest {
+  @Mock ArrowResultChunk chunk;
+
+  @Test
+  void testClassify() {
+    assertEquals(FailureKind.THROTTLED, ChunkDownloadRetryPolicy.classify(503));
+    assertEquals(FailureKind.THROTTLED, ChunkDownloadRetryPolicy.classify(429));
+    assertEquals(FailureKind.LINK_EXPIRED, ChunkDownloadRetryPolicy.classify(403));
+    assertEquals(FailureKind.TRANSIENT, ChunkDownloadRetryPolicy.classify(500));
+    assertEquals(FailureKind.TRANSIENT, ChunkDownloadRetryPolicy.classify(0));
+  }
+
+  @Test
+  void testRetryDelaysGrowWithFullJitterUpToCeiling() {
+    boolean isJittered = false;
+    for (int i = 0; i < 100; i++) {
+      long firstDelay = ChunkDownloadRetryPolicy.getRetryDelayMillis(FailureKind.TRANSIENT, 1);
+      assertTrue(firstDelay >= 0 && firstDelay <= ChunkDownloadRetryPolicy.BASE_DELAY_MILLIS);
+      isJittered |= firstDelay != ChunkDownloadRetryPolicy.BASE_DELAY_MILLIS;
+
+      long lateDelay = ChunkDownloadRetryPolicy.getRetryDelayMillis(FailureKind.TRANSIENT, 40);
+      assertTrue(lateDelay <= ChunkDownloadRetryPolicy.MAX_DELAY_MILLIS);
+
+      long throttledDelay = ChunkDownloadRetryPolicy.getRetryDelayMillis(FailureKind.THROTTLED, 3);
+      assertTrue(throttledDelay <= 4 * ChunkDownloadRetryPolicy.THROTTLED_BASE_DELAY_MILLIS);
+    }
+    assertTrue(isJittered);
+    assertEquals(0, ChunkDownloadRetryPolicy.getRetryDelayMillis(FailureKind.LINK_EXPIRED, 3));
+  }
+
+  @Test
+  void testRequiresLinkRefresh() {
+    when(chunk.isChunkLinkExpiringWithin(2_000)).thenReturn(true);
+    when(chunk.isChunkLinkExpiringWithin(100)).thenReturn(false);
+
+    assertTrue(ChunkDownloadRetryPolicy.requiresLinkRefresh(FailureKind.LINK_EXPIRED, chunk, 0));
+    assertTrue(ChunkDownloadRetryPolicy.requiresLinkRefresh(FailureKind.THROTTLED, chunk, 2_000));
+    assertFalse(ChunkDownloadRetryPolicy.requiresLinkRefresh(FailureKind.TRANSIENT, chunk, 100));
+  }
+}
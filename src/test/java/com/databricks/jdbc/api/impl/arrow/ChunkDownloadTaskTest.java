@@ -1,17 +1,30 @@
 package com.databricks.jdbc.api.impl.arrow;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.api.internal.IDatabricksSession;
 import com.databricks.jdbc.common.CompressionCodec;
 import com.databricks.jdbc.dbclient.IDatabricksHttpClient;
+import com.databricks.jdbc.dbclient.impl.common.StatementId;
 import com.databricks.jdbc.exception.DatabricksParsingException;
 import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.model.core.ExternalLink;
 import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
+import com.databricks.jdbc.telemetry.latency.LatencyRecorder;
 import java.net.SocketException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -28,7 +41,12 @@ public class ChunkDownloadTaskTest {
   void setUp() {
     MockitoAnnotations.openMocks(this);
     chunkDownloadTask =
-        new ChunkDownloadTask(chunk, httpClient, remoteChunkProvider, chunkLinkDownloadService);
+        new ChunkDownloadTask(
+            chunk,
+            httpClient,
+            remoteChunkProvider,
+            chunkLinkDownloadService,
+            new LatencyRecorder());
   }
 
   @Test
@@ -47,12 +65,18 @@ public class ChunkDownloadTaskTest {
         .doThrow(throwableError)
         .doNothing()
         .when(chunk)
-        .downloadData(httpClient, CompressionCodec.NONE);
+        .downloadData(httpClient, CompressionCodec.NONE, null);
 
+    // Each failed attempt is handed back to be retried instead of sleeping on the thread
+    chunkDownloadTask.call();
+    chunkDownloadTask.call();
+    verify(remoteChunkProvider, never()).downloadProcessed(7L);
     chunkDownloadTask.call();
 
-    verify(chunk, times(3)).downloadData(httpClient, CompressionCodec.NONE);
+    verify(chunk, times(3)).downloadData(httpClient, CompressionCodec.NONE, null);
+    verify(remoteChunkProvider, times(2)).retryDownload(eq(chunkDownloadTask), anyLong());
     verify(remoteChunkProvider, times(1)).downloadProcessed(7L);
+    verify(chunkLinkDownloadService, never()).refreshLinkForChunk(anyLong(), any());
   }
 
   @Test
@@ -68,11 +92,95 @@ public class ChunkDownloadTaskTest {
                 new SocketException("Connection reset"),
                 DatabricksDriverErrorCode.INVALID_STATE))
         .when(chunk)
-        .downloadData(httpClient, CompressionCodec.NONE);
+        .downloadData(httpClient, CompressionCodec.NONE, null);
 
+    for (int i = 1; i < ChunkDownloadRetryPolicy.MAX_RETRIES; i++) {
+      chunkDownloadTask.call();
+    }
     assertThrows(DatabricksSQLException.class, () -> chunkDownloadTask.call());
-    verify(chunk, times(ChunkDownloadTask.MAX_RETRIES))
-        .downloadData(httpClient, CompressionCodec.NONE);
+    verify(chunk, times(ChunkDownloadRetryPolicy.MAX_RETRIES))
+        .downloadData(httpClient, CompressionCodec.NONE, null);
+    verify(remoteChunkProvider, times(ChunkDownloadRetryPolicy.MAX_RETRIES - 1))
+        .retryDownload(eq(chunkDownloadTask), anyLong());
+    verify(remoteChunkProvider, times(1)).downloadProcessed(7L);
+  }
+
+  @Test
+  void testThrottledDownloadIsRetriedWithJitteredDelay() throws Exception {
+    when(chunk.isChunkLinkInvalid()).thenReturn(false);
+    when(chunk.getChunkIndex()).thenReturn(7L);
+    when(chunk.getLastHttpStatusCode()).thenReturn(503);
+    when(remoteChunkProvider.getCompressionCodec()).thenReturn(CompressionCodec.NONE);
+    doThrow(
+            new DatabricksParsingException(
+                "HTTP request failed by code: 503", DatabricksDriverErrorCode.CHUNK_DOWNLOAD_ERROR))
+        .when(chunk)
+        .downloadData(httpClient, CompressionCodec.NONE, null);
+
+    chunkDownloadTask.call();
+
+    ArgumentCaptor<Long> delayCaptor = ArgumentCaptor.forClass(Long.class);
+    verify(remoteChunkProvider).retryDownload(eq(chunkDownloadTask), delayCaptor.capture());
+    assertTrue(delayCaptor.getValue() >= 0);
+    assertTrue(delayCaptor.getValue() <= ChunkDownloadRetryPolicy.THROTTLED_BASE_DELAY_MILLIS);
+    verify(chunk).setStatus(ArrowResultChunk.ChunkStatus.DOWNLOAD_RETRY);
+    verify(chunkLinkDownloadService, never()).refreshLinkForChunk(anyLong(), any());
+  }
+
+  @Test
+  void testRejectedLinkIsRefreshedBeforeImmediateRetry() throws Exception {
+    ExternalLink staleLink = new ExternalLink().setExternalLink("stale-url");
+    ExternalLink refreshedLink = new ExternalLink().setExternalLink("refreshed-url");
+    when(chunk.isChunkLinkInvalid()).thenReturn(false);
+    when(chunk.getChunkIndex()).thenReturn(7L);
+    when(chunk.getChunkLink()).thenReturn(staleLink);
+    when(chunk.getLastHttpStatusCode()).thenReturn(403);
+    when(remoteChunkProvider.getCompressionCodec()).thenReturn(CompressionCodec.NONE);
+    when(chunkLinkDownloadService.refreshLinkForChunk(7L, staleLink))
+        .thenReturn(CompletableFuture.completedFuture(refreshedLink));
+    doThrow(
+            new DatabricksParsingException(
+                "HTTP request failed by code: 403", DatabricksDriverErrorCode.CHUNK_DOWNLOAD_ERROR))
+        .doNothing()
+        .when(chunk)
+        .downloadData(httpClient, CompressionCodec.NONE, null);
+
+    chunkDownloadTask.call();
+    verify(remoteChunkProvider).retryDownload(chunkDownloadTask, 0L);
+    chunkDownloadTask.call();
+
+    verify(chunk).setChunkLink(refreshedLink);
+    verify(remoteChunkProvider, times(1)).downloadProcessed(7L);
+  }
+
+  @Test
+  void testRejectedLinkOfLazilyPaginatedResultFailsChunk() throws Exception {
+    IDatabricksSession session = mock(IDatabricksSession.class);
+    when(session.getConnectionContext()).thenReturn(mock(IDatabricksConnectionContext.class));
+    ChunkLinkDownloadService lazyLinkService =
+        new ChunkLinkDownloadService(
+            session, new StatementId("statement_id"), 0, new ConcurrentHashMap<>(), 8, false);
+    ChunkDownloadTask task =
+        new ChunkDownloadTask(
+            chunk, httpClient, remoteChunkProvider, lazyLinkService, new LatencyRecorder());
+    when(chunk.isChunkLinkInvalid()).thenReturn(false);
+    when(chunk.getChunkIndex()).thenReturn(7L);
+    when(chunk.getChunkLink()).thenReturn(new ExternalLink().setExternalLink("stale-url"));
+    when(chunk.getLastHttpStatusCode()).thenReturn(403);
+    when(remoteChunkProvider.getCompressionCodec()).thenReturn(CompressionCodec.NONE);
+    doThrow(
+            new DatabricksParsingException(
+                "HTTP request failed by code: 403", DatabricksDriverErrorCode.CHUNK_DOWNLOAD_ERROR))
+        .when(chunk)
+        .downloadData(httpClient, CompressionCodec.NONE, null);
+
+    task.call();
+    verify(remoteChunkProvider).retryDownload(task, 0L);
+    // The link cannot be fetched again, so the retry fails the chunk with the reason
+    ExecutionException exception = assertThrows(ExecutionException.class, task::call);
+    assertTrue(exception.getCause().getMessage().contains("cloudFetchLazyResultLinks"));
+    verify(chunk).setLinkFailure(exception.getCause());
+    verify(chunk, times(1)).downloadData(httpClient, CompressionCodec.NONE, null);
     verify(remoteChunkProvider, times(1)).downloadProcessed(7L);
   }
 }
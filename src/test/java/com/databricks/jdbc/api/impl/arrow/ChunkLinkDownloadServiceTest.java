@@ -110,6 +110,21 @@ class ChunkLinkDownloadServiceTest {
     assertTrue(exception.getCause().getMessage().contains("exceeds total chunks"));
   }
 
+  @Test
+  void testLinksOfLazilyPaginatedResultAreNotRefreshed() {
+    ChunkLinkDownloadService service =
+        new ChunkLinkDownloadService(
+            mockSession, mockStatementId, 0, mockChunkMap, TOTAL_CHUNKS, false);
+
+    CompletableFuture<ExternalLink> future = service.refreshLinkForChunk(2L, linkForChunkIndex_2);
+    ExecutionException exception =
+        assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+    assertInstanceOf(DatabricksSQLException.class, exception.getCause());
+    assertTrue(exception.getCause().getMessage().contains("cloudFetchLazyResultLinks"));
+    assertFalse(exception.getCause().getMessage().contains("exceeds total chunks"));
+    verify(mockSession, never()).getDatabricksClient();
+  }
+
   @Test
   void testGetLinkForChunk_ClientError()
       throws DatabricksSQLException, ExecutionException, InterruptedException {
@@ -270,6 +285,44 @@ class ChunkLinkDownloadServiceTest {
     verify(mockClient, times(1)).getResultChunks(mockStatementId, 5L);
   }
 
+  @Test
+  void testRefreshLinkForChunk()
+      throws DatabricksSQLException, InterruptedException, ExecutionException, TimeoutException {
+    String farFutureExpiration = Instant.now().plus(10, ChronoUnit.MINUTES).toString();
+    ExternalLink rejectedLink =
+        createExternalLink("rejected-url", 1L, Collections.emptyMap(), farFutureExpiration);
+    ExternalLink refreshedLink =
+        createExternalLink("refreshed-url", 1L, Collections.emptyMap(), farFutureExpiration);
+    when(mockSession.getDatabricksClient()).thenReturn(mockClient);
+    when(mockClient.getResultChunks(eq(mockStatementId), eq(1L)))
+        .thenReturn(Collections.singletonList(rejectedLink))
+        .thenReturn(Collections.singletonList(refreshedLink));
+    lenient()
+        .when(mockClient.getResultChunks(eq(mockStatementId), eq(2L)))
+        .thenReturn(Collections.singletonList(linkForChunkIndex_2));
+    lenient()
+        .when(mockClient.getResultChunks(eq(mockStatementId), eq(3L)))
+        .thenReturn(Collections.singletonList(linkForChunkIndex_3));
+    lenient()
+        .when(mockClient.getResultChunks(eq(mockStatementId), eq(4L)))
+        .thenReturn(Collections.singletonList(linkForChunkIndex_4));
+
+    ChunkLinkDownloadService service =
+        new ChunkLinkDownloadService(
+            mockSession, mockStatementId, TOTAL_CHUNKS, mockChunkMap, NEXT_BATCH_START_INDEX);
+    assertEquals(rejectedLink, service.getLinkForChunk(1L).get(1, TimeUnit.SECONDS));
+
+    // The link has not expired, but the storage rejected it
+    assertEquals(
+        refreshedLink, service.refreshLinkForChunk(1L, rejectedLink).get(1, TimeUnit.SECONDS));
+    // A chunk still holding the rejected link gets the refreshed one without another fetch
+    assertEquals(
+        refreshedLink, service.refreshLinkForChunk(1L, rejectedLink).get(1, TimeUnit.SECONDS));
+    TimeUnit.MILLISECONDS.sleep(500);
+
+    verify(mockClient, times(2)).getResultChunks(mockStatementId, 1L);
+  }
+
   private ExternalLink createExternalLink(
       String url, long chunkIndex, Map<String, String> headers, String expiration) {
     ExternalLink link = new ExternalLink();
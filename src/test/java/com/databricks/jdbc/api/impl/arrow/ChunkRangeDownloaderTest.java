@@ -0,0 +1,249 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import static com.databricks.jdbc.TestConstants.TEST_STATEMENT_ID;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.matching;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.databricks.jdbc.api.impl.DatabricksConnectionContextFactory;
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
+import com.databricks.jdbc.common.CompressionCodec;
+import com.databricks.jdbc.common.DatabricksJdbcUrlParams;
+import com.databricks.jdbc.dbclient.IDatabricksHttpClient;
+import com.databricks.jdbc.dbclient.impl.http.DatabricksHttpClientFactory;
+import com.databricks.jdbc.exception.DatabricksParsingException;
+import com.databricks.jdbc.model.core.ExternalLink;
+import com.databricks.sdk.service.sql.BaseChunkInfo;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.Types;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Downloads chunks from a WireMock server that answers range requests like a cloud storage. */
+public class ChunkRangeDownloaderTest {
+  private static final String JDBC_URL =
+      "jdbc:databricks://sample-host.18.azuredatabricks.net:4423/default;transportMode=http;ssl=1;AuthMech=3;httpPath=/sql/1.0/warehouses/99999999;";
+  private static final int ROWS_IN_RECORD_BATCH = 32 * 1024;
+  private static final int RECORD_BATCHES = 8;
+  private static final int RANGE_SIZE = 128 * 1024;
+  private static final int PARALLELISM = 8;
+
+  private static WireMockServer storage;
+  private static byte[] chunkBody;
+  private IDatabricksConnectionContext connectionContext;
+  private IDatabricksHttpClient httpClient;
+  private final List<ArrowResultChunk> chunks = new ArrayList<>();
+
+  @BeforeAll
+  static void startStorage() throws IOException {
+    chunkBody = createArrowStream();
+    storage = new WireMockServer(wireMockConfig().dynamicPort());
+    storage.start();
+    storage.stubFor(
+        get(urlEqualTo("/chunk"))
+            .withHeader("Range", absent())
+            .willReturn(aResponse().withStatus(200).withBody(chunkBody)));
+    for (int start = 0; start < chunkBody.length; start += RANGE_SIZE) {
+      int end = Math.min(start + RANGE_SIZE, chunkBody.length) - 1;
+      storage.stubFor(
+          get(urlEqualTo("/chunk"))
+              .withHeader("Range", equalTo("bytes=" + start + "-" + end))
+              .willReturn(rangeResponse(start, end)));
+      storage.stubFor(
+          get(urlEqualTo("/failing-chunk"))
+              .withHeader("Range", equalTo("bytes=" + start + "-" + end))
+              .willReturn(start == 0 ? rangeResponse(start, end) : aResponse().withStatus(403)));
+    }
+    storage.stubFor(
+        get(urlEqualTo("/no-range-support"))
+            .willReturn(aResponse().withStatus(200).withBody(chunkBody)));
+  }
+
+  @AfterAll
+  static void stopStorage() {
+    storage.stop();
+  }
+
+  @BeforeEach
+  void setUp() throws Exception {
+    Properties properties = new Properties();
+    properties.setProperty(
+        DatabricksJdbcUrlParams.CLOUD_FETCH_RANGE_DOWNLOAD_SIZE.getParamName(),
+        String.valueOf(RANGE_SIZE));
+    properties.setProperty(
+        DatabricksJdbcUrlParams.CLOUD_FETCH_RANGE_DOWNLOAD_PARALLELISM.getParamName(),
+        String.valueOf(PARALLELISM));
+    connectionContext = DatabricksConnectionContextFactory.create(JDBC_URL, properties);
+    httpClient = DatabricksHttpClientFactory.getInstance().getClient(connectionContext);
+  }
+
+  @AfterEach
+  void tearDown() {
+    chunks.forEach(ArrowResultChunk::releaseChunk);
+    DatabricksHttpClientFactory.getInstance().removeClient(connectionContext);
+    storage.resetRequests();
+  }
+
+  @Test
+  void testRangedDownloadMatchesSingleRequest() throws Exception {
+    ArrowResultChunk singleRequestChunk = createChunk("/chunk");
+    singleRequestChunk.downloadData(httpClient, CompressionCodec.NONE, null);
+    ArrowResultChunk rangedChunk = createChunk("/chunk");
+    rangedChunk.downloadData(
+        httpClient, CompressionCodec.NONE, ChunkRangeDownloader.forConnection(connectionContext));
+
+    assertEquals(readValues(singleRequestChunk), readValues(rangedChunk));
+    assertEquals(RECORD_BATCHES * ROWS_IN_RECORD_BATCH, readValues(rangedChunk).size());
+    storage.verify(1, getRequestedFor(urlEqualTo("/chunk")).withHeader("Range", absent()));
+    storage.verify(
+        (chunkBody.length + RANGE_SIZE - 1) / RANGE_SIZE,
+        getRequestedFor(urlEqualTo("/chunk")).withHeader("Range", matching("bytes=\\d+-\\d+")));
+  }
+
+  @Test
+  void testStorageIgnoringRangeReturnsWholeChunk() throws Exception {
+    ArrowResultChunk chunk = createChunk("/no-range-support");
+    chunk.downloadData(
+        httpClient, CompressionCodec.NONE, ChunkRangeDownloader.forConnection(connectionContext));
+
+    assertEquals(ArrowResultChunk.ChunkStatus.DOWNLOAD_SUCCEEDED, chunk.getStatus());
+    assertEquals(RECORD_BATCHES * ROWS_IN_RECORD_BATCH, readValues(chunk).size());
+    storage.verify(1, getRequestedFor(urlEqualTo("/no-range-support")));
+  }
+
+  @Test
+  void testFailedRangeFailsChunkDownload() throws Exception {
+    ArrowResultChunk chunk = createChunk("/failing-chunk");
+
+    assertThrows(
+        DatabricksParsingException.class,
+        () ->
+            chunk.downloadData(
+                httpClient,
+                CompressionCodec.NONE,
+                ChunkRangeDownloader.forConnection(connectionContext)));
+    assertEquals(ArrowResultChunk.ChunkStatus.DOWNLOAD_FAILED, chunk.getStatus());
+    // The retry policy sees the rejected range rather than the partial first response
+    assertEquals(403, chunk.getLastHttpStatusCode());
+  }
+
+  @Test
+  void testSmallChunksAreDownloadedWithSingleRequest() {
+    ChunkRangeDownloader rangeDownloader = new ChunkRangeDownloader(RANGE_SIZE, PARALLELISM);
+
+    assertNull(rangeDownloader.getFirstRangeHeader(0));
+    assertNull(rangeDownloader.getFirstRangeHeader(RANGE_SIZE));
+    assertEquals("bytes=0-131071", rangeDownloader.getFirstRangeHeader(RANGE_SIZE + 1));
+  }
+
+  @Test
+  void testRangeDownloadIsDisabledByDefault() throws Exception {
+    assertNull(
+        ChunkRangeDownloader.forConnection(
+            DatabricksConnectionContextFactory.create(JDBC_URL, new Properties())));
+  }
+
+  @Test
+  void testParseContentRange() throws IOException {
+    assertArrayEquals(
+        new long[] {0, 99, 1000}, ChunkRangeDownloader.parseContentRange("bytes 0-99/1000"));
+    assertThrows(IOException.class, () -> ChunkRangeDownloader.parseContentRange(null));
+    assertThrows(IOException.class, () -> ChunkRangeDownloader.parseContentRange("bytes 0-99/*"));
+    assertThrows(
+        IOException.class, () -> ChunkRangeDownloader.parseContentRange("bytes 0-1000/1000"));
+  }
+
+  private ArrowResultChunk createChunk(String path) throws Exception {
+    ArrowResultChunk chunk =
+        ArrowResultChunk.builder()
+            .withStatementId(TEST_STATEMENT_ID)
+            .withChunkInfo(
+                new BaseChunkInfo()
+                    .setChunkIndex(0L)
+                    .setByteCount((long) chunkBody.length)
+                    .setRowOffset(0L)
+                    .setRowCount((long) RECORD_BATCHES * ROWS_IN_RECORD_BATCH))
+            .build();
+    chunk.setChunkLink(
+        new ExternalLink()
+            .setChunkIndex(0L)
+            .setExternalLink(storage.baseUrl() + path)
+            .setHttpHeaders(Collections.emptyMap())
+            .setExpiration(Instant.now().plusSeconds(3600).toString()));
+    chunks.add(chunk);
+    return chunk;
+  }
+
+  private static List<Integer> readValues(ArrowResultChunk chunk) {
+    List<Integer> values = new ArrayList<>();
+    for (List<ValueVector> recordBatch : chunk.recordBatchList) {
+      IntVector vector = (IntVector) recordBatch.get(0);
+      for (int i = 0; i < vector.getValueCount(); i++) {
+        values.add(vector.get(i));
+      }
+    }
+    return values;
+  }
+
+  private static ResponseDefinitionBuilder rangeResponse(int start, int end) {
+    return aResponse()
+        .withStatus(206)
+        .withHeader("Content-Range", "bytes " + start + "-" + end + "/" + chunkBody.length)
+        .withBody(Arrays.copyOfRange(chunkBody, start, end + 1));
+  }
+
+  private static byte[] createArrowStream() throws IOException {
+    Schema schema =
+        new Schema(
+            Collections.singletonList(
+                new Field(
+                    "value", new FieldType(false, Types.MinorType.INT.getType(), null), null)));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (RootAllocator allocator = new RootAllocator();
+        VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator);
+        ArrowStreamWriter writer = new ArrowStreamWriter(root, null, out)) {
+      writer.start();
+      IntVector vector = (IntVector) root.getVector(0);
+      int value = 0;
+      for (int batch = 0; batch < RECORD_BATCHES; batch++) {
+        vector.allocateNew(ROWS_IN_RECORD_BATCH);
+        for (int i = 0; i < ROWS_IN_RECORD_BATCH; i++) {
+          vector.set(i, value++);
+        }
+        root.setRowCount(ROWS_IN_RECORD_BATCH);
+        writer.writeBatch();
+      }
+      writer.end();
+    }
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,76 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.impl.BasicEntityDetails;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.junit.jupiter.api.Test;
+
+public class ChunkResponseConsumerTest {
+
+  @Test
+  public void testCollectsBodyWithContentLength() throws Exception {
+    BasicHttpResponse response = new BasicHttpResponse(200);
+    response.addHeader(HttpHeaders.CONTENT_LENGTH, "11");
+    assertEquals("hello world", consume(response, "hello ", "world"));
+  }
+
+  @Test
+  public void testCollectsBodyWithoutContentLength() throws Exception {
+    assertEquals("hello world", consume(new BasicHttpResponse(200), "hel", "lo ", "world"));
+  }
+
+  @Test
+  public void testFailsOnErrorStatus() {
+    ChunkResponseConsumer consumer = new ChunkResponseConsumer();
+    assertThrows(
+        IOException.class,
+        () ->
+            consumer.consumeResponse(
+                new BasicHttpResponse(403, "Forbidden"),
+                new BasicEntityDetails(0, ContentType.APPLICATION_OCTET_STREAM),
+                null,
+                new ResultCallback()));
+  }
+
+  private static String consume(BasicHttpResponse response, String... parts) throws Exception {
+    ChunkResponseConsumer consumer = new ChunkResponseConsumer();
+    ResultCallback callback = new ResultCallback();
+    consumer.consumeResponse(
+        response, new BasicEntityDetails(-1, ContentType.APPLICATION_OCTET_STREAM), null, callback);
+    for (String part : parts) {
+      consumer.consume(ByteBuffer.wrap(part.getBytes(StandardCharsets.UTF_8)));
+    }
+    consumer.streamEnd(null);
+    try (InputStream body = callback.result.get()) {
+      return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  private static class ResultCallback implements FutureCallback<InputStream> {
+    private final CompletableFuture<InputStream> result = new CompletableFuture<>();
+
+    @Override
+    public void completed(InputStream body) {
+      result.complete(body);
+    }
+
+    @Override
+    public void failed(Exception e) {
+      result.completeExceptionally(e);
+    }
+
+    @Override
+    public void cancelled() {
+      result.cancel(false);
+    }
+  }
+}
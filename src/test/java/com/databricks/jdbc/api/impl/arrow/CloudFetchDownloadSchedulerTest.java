@@ -0,0 +1,121 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.databricks.jdbc.dbclient.impl.common.StatementId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class CloudFetchDownloadSchedulerTest {
+
+  @Test
+  public void testStatementsAreServedRoundRobin() throws Exception {
+    CloudFetchDownloadScheduler scheduler = new CloudFetchDownloadScheduler(1);
+    CloudFetchDownloadScheduler.StatementQueue largeResult =
+        scheduler.register(new StatementId("large"), 4);
+    CloudFetchDownloadScheduler.StatementQueue smallResult =
+        scheduler.register(new StatementId("small"), 4);
+    List<String> executionOrder = new CopyOnWriteArrayList<>();
+    CountDownLatch blockFirstTask = new CountDownLatch(1);
+    CountDownLatch allDone = new CountDownLatch(7);
+
+    largeResult.submit(
+        () -> {
+          blockFirstTask.await();
+          executionOrder.add("L0");
+          allDone.countDown();
+          return null;
+        });
+    for (int i = 1; i < 5; i++) {
+      largeResult.submit(recordingTask("L" + i, executionOrder, allDone));
+    }
+    for (int i = 0; i < 2; i++) {
+      smallResult.submit(recordingTask("S" + i, executionOrder, allDone));
+    }
+    blockFirstTask.countDown();
+
+    assertTrue(allDone.await(10, TimeUnit.SECONDS));
+    assertEquals(Arrays.asList("L0", "L1", "S0", "L2", "S1", "L3", "L4"), executionOrder);
+  }
+
+  @Test
+  public void testPerStatementConcurrencyCap() throws Exception {
+    CloudFetchDownloadScheduler scheduler = new CloudFetchDownloadScheduler(8);
+    CloudFetchDownloadScheduler.StatementQueue queue =
+        scheduler.register(new StatementId("capped"), 2);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    CountDownLatch allDone = new CountDownLatch(10);
+    for (int i = 0; i < 10; i++) {
+      queue.submit(
+          () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(10);
+            running.decrementAndGet();
+            allDone.countDown();
+            return null;
+          });
+    }
+
+    assertTrue(allDone.await(10, TimeUnit.SECONDS));
+    assertTrue(maxRunning.get() <= 2);
+  }
+
+  @Test
+  public void testCloseDropsPendingAndInterruptsRunning() throws Exception {
+    CloudFetchDownloadScheduler scheduler = new CloudFetchDownloadScheduler(1);
+    CloudFetchDownloadScheduler.StatementQueue queue =
+        scheduler.register(new StatementId("closed"), 1);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    AtomicInteger executedAfterClose = new AtomicInteger();
+    queue.submit(
+        () -> {
+          started.countDown();
+          try {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+          } catch (InterruptedException e) {
+            interrupted.countDown();
+          }
+          return null;
+        });
+    queue.submit(
+        () -> {
+          executedAfterClose.incrementAndGet();
+          return null;
+        });
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    assertEquals(1, queue.getPendingTaskCount());
+
+    queue.close();
+
+    assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    assertEquals(0, queue.getPendingTaskCount());
+    // The shared thread is free again for other statements
+    CountDownLatch otherDone = new CountDownLatch(1);
+    scheduler
+        .register(new StatementId("other"), 1)
+        .submit(
+            () -> {
+              assertFalse(Thread.currentThread().isInterrupted());
+              otherDone.countDown();
+              return null;
+            });
+    assertTrue(otherDone.await(10, TimeUnit.SECONDS));
+    assertEquals(0, executedAfterClose.get());
+  }
+
+  private static DatabricksCallableTask recordingTask(
+      String name, List<String> executionOrder, CountDownLatch done) {
+    return () -> {
+      executionOrder.add(name);
+      done.countDown();
+      return null;
+    };
+  }
+}
@@ -3,12 +3,19 @@ package com.databricks.jdbc.api.impl.arrow;
 import static com.databricks.jdbc.TestConstants.ARROW_BATCH_LIST;
 import static com.databricks.jdbc.TestConstants.TEST_TABLE_SCHEMA;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.databricks.jdbc.api.impl.converters.ArrowColumnAccessor;
+import com.databricks.jdbc.api.impl.converters.ArrowToJavaObjectConverter;
+import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
 import com.databricks.jdbc.api.internal.IDatabricksSession;
 import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
 import com.databricks.jdbc.common.CompressionCodec;
+import com.databricks.jdbc.common.util.DatabricksThreadContextHolder;
+import com.databricks.jdbc.dbclient.IDatabricksClient;
 import com.databricks.jdbc.exception.DatabricksParsingException;
 import com.databricks.jdbc.exception.DatabricksSQLException;
 import com.databricks.jdbc.model.client.thrift.generated.TFetchResultsResp;
@@ -22,6 +29,10 @@ import com.databricks.sdk.service.sql.ColumnInfoTypeName;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import net.jpountz.lz4.LZ4FrameOutputStream;
 import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.memory.RootAllocator;
@@ -41,11 +52,13 @@ public class InlineChunkProviderTest {
   @Mock TFetchResultsResp fetchResultsResp;
   @Mock IDatabricksStatementInternal parentStatement;
   @Mock IDatabricksSession session;
+  @Mock IDatabricksClient databricksClient;
+  @Mock IDatabricksConnectionContext connectionContext;
   @Mock private ResultData mockResultData;
   @Mock private ResultManifest mockResultManifest;
 
   @Test
-  void testInitialisation() throws DatabricksParsingException {
+  void testInitialisation() throws DatabricksSQLException {
     when(fetchResultsResp.getResultSetMetadata()).thenReturn(metadata);
     when(metadata.getArrowSchema()).thenReturn(null);
     when(metadata.getSchema()).thenReturn(TEST_TABLE_SCHEMA);
@@ -59,7 +72,7 @@ public class InlineChunkProviderTest {
   }
 
   @Test
-  void handleErrorTest() throws DatabricksParsingException {
+  void handleErrorTest() throws DatabricksSQLException {
     TSparkArrowBatch arrowBatch =
         new TSparkArrowBatch().setRowCount(0).setBatch(new byte[] {65, 66, 67});
     when(fetchResultsResp.getResultSetMetadata()).thenReturn(metadata);
@@ -96,15 +109,14 @@ public class InlineChunkProviderTest {
 
     // Get the iterator
     ArrowResultChunk.ArrowResultChunkIterator iterator = provider.getChunk().getChunkIterator();
-    ColumnInfo intColumnInfo = new ColumnInfo();
+    ArrowColumnAccessor intAccessor =
+        ArrowToJavaObjectConverter.createAccessor(ColumnInfoTypeName.INT, "INT", new ColumnInfo());
 
     // Verify the data
     assertTrue(iterator.nextRow());
-    assertEquals(
-        1, iterator.getColumnObjectAtCurrentRow(0, ColumnInfoTypeName.INT, "INT", intColumnInfo));
+    assertEquals(1, iterator.getColumnObjectAtCurrentRow(0, intAccessor));
     assertTrue(iterator.nextRow());
-    assertEquals(
-        2, iterator.getColumnObjectAtCurrentRow(0, ColumnInfoTypeName.INT, "INT", intColumnInfo));
+    assertEquals(2, iterator.getColumnObjectAtCurrentRow(0, intAccessor));
 
     // No more chunk
     assertFalse(provider.next());
@@ -138,15 +150,14 @@ public class InlineChunkProviderTest {
 
     // Get the iterator
     ArrowResultChunk.ArrowResultChunkIterator iterator = provider.getChunk().getChunkIterator();
-    ColumnInfo intColumnInfo = new ColumnInfo();
+    ArrowColumnAccessor intAccessor =
+        ArrowToJavaObjectConverter.createAccessor(ColumnInfoTypeName.INT, "INT", new ColumnInfo());
 
     // Verify the data
     assertTrue(iterator.nextRow());
-    assertEquals(
-        1, iterator.getColumnObjectAtCurrentRow(0, ColumnInfoTypeName.INT, "INT", intColumnInfo));
+    assertEquals(1, iterator.getColumnObjectAtCurrentRow(0, intAccessor));
     assertTrue(iterator.nextRow());
-    assertEquals(
-        2, iterator.getColumnObjectAtCurrentRow(0, ColumnInfoTypeName.INT, "INT", intColumnInfo));
+    assertEquals(2, iterator.getColumnObjectAtCurrentRow(0, intAccessor));
 
     // No more chunk
     assertFalse(provider.next());
@@ -190,6 +201,115 @@ public class InlineChunkProviderTest {
     assertEquals(TOTAL_ROWS, provider.getRowCount(), "Row count should match");
   }
 
+  @Test
+  void testPagesAreReadAsSeparateChunks() throws Exception {
+    byte[] arrowData;
+    try (BufferAllocator allocator = new RootAllocator()) {
+      arrowData = createArrowData(allocator);
+    }
+    // Each batch holds a complete arrow stream, hence the schema sent before it is empty
+    when(metadata.getArrowSchema()).thenReturn(new byte[0]);
+    TFetchResultsResp firstPage = createPage(arrowData, true);
+    firstPage.setResultSetMetadata(metadata);
+    TFetchResultsResp emptyPage =
+        new TFetchResultsResp().setResults(new TRowSet()).setHasMoreRows(true);
+    TFetchResultsResp lastPage = createPage(arrowData, false);
+    when(session.getDatabricksClient()).thenReturn(databricksClient);
+    when(databricksClient.getMoreResults(parentStatement)).thenReturn(emptyPage, lastPage);
+    ArrowColumnAccessor intAccessor =
+        ArrowToJavaObjectConverter.createAccessor(ColumnInfoTypeName.INT, "INT", new ColumnInfo());
+
+    InlineChunkProvider provider = new InlineChunkProvider(firstPage, parentStatement, session);
+
+    assertTrue(provider.next());
+    ArrowResultChunk firstChunk = provider.getChunk();
+    ArrowResultChunk.ArrowResultChunkIterator iterator = firstChunk.getChunkIterator();
+    assertTrue(iterator.nextRow());
+    assertEquals(1, iterator.getColumnObjectAtCurrentRow(0, intAccessor));
+    assertTrue(provider.hasNextChunk());
+
+    assertTrue(provider.next());
+    assertEquals(ArrowResultChunk.ChunkStatus.CHUNK_RELEASED, firstChunk.getStatus());
+    iterator = provider.getChunk().getChunkIterator();
+    assertTrue(iterator.nextRow());
+    assertTrue(iterator.nextRow());
+    assertEquals(2, iterator.getColumnObjectAtCurrentRow(0, intAccessor));
+    assertFalse(iterator.nextRow());
+
+    assertFalse(provider.hasNextChunk());
+    assertFalse(provider.next());
+    assertEquals(4, provider.getRowCount());
+    verify(databricksClient, times(2)).getMoreResults(parentStatement);
+    provider.close();
+  }
+
+  @Test
+  void testNoPagesFetchedPastRowLimit() throws Exception {
+    byte[] arrowData;
+    try (BufferAllocator allocator = new RootAllocator()) {
+      arrowData = createArrowData(allocator);
+    }
+    when(metadata.getArrowSchema()).thenReturn(new byte[0]);
+    TFetchResultsResp firstPage = createPage(arrowData, true);
+    firstPage.setResultSetMetadata(metadata);
+
+    InlineChunkProvider provider =
+        new InlineChunkProvider(firstPage, parentStatement, session, TOTAL_ROWS);
+
+    assertTrue(provider.next());
+    assertEquals(TOTAL_ROWS, provider.getChunk().numRows);
+    assertFalse(provider.hasNextChunk());
+    verify(session, never()).getDatabricksClient();
+  }
+
+  @Test
+  void testCloseWaitsForPageFetchInFlight() throws Exception {
+    byte[] arrowData;
+    try (BufferAllocator allocator = new RootAllocator()) {
+      arrowData = createArrowData(allocator);
+    }
+    when(metadata.getArrowSchema()).thenReturn(new byte[0]);
+    TFetchResultsResp firstPage = createPage(arrowData, true);
+    firstPage.setResultSetMetadata(metadata);
+    CountDownLatch fetchStarted = new CountDownLatch(1);
+    CountDownLatch fetchReleased = new CountDownLatch(1);
+    AtomicReference<IDatabricksConnectionContext> fetchContext = new AtomicReference<>();
+    when(session.getDatabricksClient()).thenReturn(databricksClient);
+    when(databricksClient.getMoreResults(parentStatement))
+        .thenAnswer(
+            invocation -> {
+              fetchContext.set(DatabricksThreadContextHolder.getConnectionContext());
+              fetchStarted.countDown();
+              fetchReleased.await();
+              return createPage(arrowData, false);
+            });
+    DatabricksThreadContextHolder.setConnectionContext(connectionContext);
+    InlineChunkProvider provider;
+    try {
+      provider = new InlineChunkProvider(firstPage, parentStatement, session);
+    } finally {
+      DatabricksThreadContextHolder.clearAllContext();
+    }
+    assertTrue(fetchStarted.await(5, TimeUnit.SECONDS));
+
+    CompletableFuture<Void> close = CompletableFuture.runAsync(provider::close);
+    Thread.sleep(100);
+    assertFalse(close.isDone());
+    fetchReleased.countDown();
+    close.get(5, TimeUnit.SECONDS);
+
+    assertSame(connectionContext, fetchContext.get());
+    assertFalse(provider.hasNextChunk());
+    verify(databricksClient, times(1)).getMoreResults(parentStatement);
+  }
+
+  private static TFetchResultsResp createPage(byte[] arrowData, boolean hasMoreRows) {
+    TSparkArrowBatch arrowBatch = new TSparkArrowBatch().setRowCount(2).setBatch(arrowData);
+    return new TFetchResultsResp()
+        .setResults(new TRowSet().setArrowBatches(Collections.singletonList(arrowBatch)))
+        .setHasMoreRows(hasMoreRows);
+  }
+
   /** Create a simple Arrow data with two rows and one column: [1, 2]. */
   private byte[] createArrowData(BufferAllocator allocator) throws IOException {
     ByteArrayOutputStream out = new ByteArrayOutputStream();
@@ -2,16 +2,33 @@ package com.databricks.jdbc.api.impl.arrow;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
 import com.databricks.jdbc.api.internal.IDatabricksSession;
+import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
+import com.databricks.jdbc.common.CompressionCodec;
 import com.databricks.jdbc.common.DatabricksClientType;
+import com.databricks.jdbc.dbclient.IDatabricksClient;
 import com.databricks.jdbc.dbclient.impl.common.StatementId;
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.model.client.thrift.generated.TFetchResultsResp;
+import com.databricks.jdbc.model.client.thrift.generated.TRowSet;
+import com.databricks.jdbc.model.client.thrift.generated.TSparkArrowResultLink;
 import com.databricks.jdbc.model.core.ResultData;
 import com.databricks.jdbc.model.core.ResultManifest;
+import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
+import com.databricks.sdk.service.sql.BaseChunkInfo;
 import com.databricks.sdk.service.sql.ResultSchema;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -33,9 +50,300 @@ public class RemoteChunkProviderTest {
     ResultData resultData = new ResultData().setExternalLinks(new ArrayList<>());
     when(mockSession.getConnectionContext()).thenReturn(mock(IDatabricksConnectionContext.class));
     when(mockSession.getConnectionContext().getClientType()).thenReturn(DatabricksClientType.SEA);
+    when(mockSession.getConnectionContext().getConnectionUuid()).thenReturn("empty-uuid");
     assertDoesNotThrow(
         () ->
             new RemoteChunkProvider(
                 STATEMENT_ID, resultManifest, resultData, mockSession, null, 4));
   }
+
+  @Test
+  public void testPrefetchThrottledByMemoryBudget() throws Exception {
+    IDatabricksConnectionContext connectionContext = mock(IDatabricksConnectionContext.class);
+    when(connectionContext.getConnectionUuid()).thenReturn("budget-uuid");
+    when(connectionContext.getCloudFetchMemoryLimit()).thenReturn(150L);
+    when(mockSession.getConnectionContext()).thenReturn(connectionContext);
+    List<BaseChunkInfo> chunks = new ArrayList<>();
+    for (long i = 0; i < 3; i++) {
+      chunks.add(
+          new BaseChunkInfo().setChunkIndex(i).setRowOffset(i).setRowCount(1L).setByteCount(100L));
+    }
+    ResultManifest resultManifest =
+        new ResultManifest()
+            .setTotalChunkCount(3L)
+            .setTotalRowCount(3L)
+            .setChunks(chunks)
+            .setSchema(new ResultSchema().setColumns(new ArrayList<>()));
+    ResultData resultData = new ResultData().setExternalLinks(new ArrayList<>());
+    ArrowMemoryBudget budget = ArrowMemoryBudgetFactory.getInstance().getBudget(connectionContext);
+    try {
+      RemoteChunkProvider chunkProvider =
+          new RemoteChunkProvider(STATEMENT_ID, resultManifest, resultData, mockSession, null, 4);
+      // Only the first chunk fits into the budget, the second one would exceed it
+      assertEquals(100L, budget.getUsage().getReservedBytes());
+      assertEquals(150L, budget.getUsage().getLimitBytes());
+
+      chunkProvider.close();
+      assertEquals(0L, budget.getUsage().getReservedBytes());
+    } finally {
+      ArrowMemoryBudgetFactory.getInstance().removeBudget(connectionContext);
+    }
+  }
+
+  @Test
+  public void testResultSetWaitsForMemoryReleasedByAnotherResultSet() throws Exception {
+    IDatabricksConnectionContext connectionContext = mock(IDatabricksConnectionContext.class);
+    when(connectionContext.getConnectionUuid()).thenReturn("shared-budget-uuid");
+    when(connectionContext.getCloudFetchMemoryLimit()).thenReturn(150L);
+    when(connectionContext.getCloudFetchMemoryWaitTimeout()).thenReturn(30);
+    when(mockSession.getConnectionContext()).thenReturn(connectionContext);
+    ArrowMemoryBudget budget = ArrowMemoryBudgetFactory.getInstance().getBudget(connectionContext);
+    try {
+      RemoteChunkProvider firstProvider =
+          new RemoteChunkProvider(
+              new StatementId("first"),
+              createManifest(1),
+              createResultData(),
+              mockSession,
+              null,
+              4);
+      assertEquals(100L, budget.getUsage().getReservedBytes());
+
+      // The first chunk of the second result set does not fit next to the first result set
+      CompletableFuture<RemoteChunkProvider> secondProvider =
+          CompletableFuture.supplyAsync(
+              () -> {
+                try {
+                  return new RemoteChunkProvider(
+                      new StatementId("second"),
+                      createManifest(1),
+                      createResultData(),
+                      mockSession,
+                      null,
+                      4);
+                } catch (DatabricksSQLException e) {
+                  throw new CompletionException(e);
+                }
+              });
+      assertThrows(TimeoutException.class, () -> secondProvider.get(200, TimeUnit.MILLISECONDS));
+      assertEquals(100L, budget.getUsage().getReservedBytes());
+
+      firstProvider.close();
+      secondProvider.get(10, TimeUnit.SECONDS).close();
+      assertEquals(0L, budget.getUsage().getReservedBytes());
+    } finally {
+      ArrowMemoryBudgetFactory.getInstance().removeBudget(connectionContext);
+    }
+  }
+
+  @Test
+  public void testChunkFailsWhenMemoryIsNotReleasedInTime() throws Exception {
+    IDatabricksConnectionContext connectionContext = mock(IDatabricksConnectionContext.class);
+    when(connectionContext.getConnectionUuid()).thenReturn("memory-timeout-uuid");
+    when(connectionContext.getCloudFetchMemoryLimit()).thenReturn(150L);
+    when(mockSession.getConnectionContext()).thenReturn(connectionContext);
+    try {
+      RemoteChunkProvider firstProvider =
+          new RemoteChunkProvider(
+              new StatementId("first"),
+              createManifest(1),
+              createResultData(),
+              mockSession,
+              null,
+              4);
+      RemoteChunkProvider secondProvider =
+          new RemoteChunkProvider(
+              new StatementId("second"),
+              createManifest(1),
+              createResultData(),
+              mockSession,
+              null,
+              4);
+
+      assertTrue(secondProvider.next());
+      DatabricksSQLException exception =
+          assertThrows(DatabricksSQLException.class, secondProvider::getChunk);
+      assertTrue(exception.getMessage().contains("cloudFetchMemoryLimit"), exception.getMessage());
+      firstProvider.close();
+      secondProvider.close();
+    } finally {
+      ArrowMemoryBudgetFactory.getInstance().removeBudget(connectionContext);
+    }
+  }
+
+  @Test
+  public void testThriftLinksPastRowLimitAreNotFetched() throws Exception {
+    IDatabricksConnectionContext connectionContext = mock(IDatabricksConnectionContext.class);
+    when(connectionContext.getConnectionUuid()).thenReturn("row-limit-uuid");
+    when(mockSession.getConnectionContext()).thenReturn(connectionContext);
+    IDatabricksStatementInternal parentStatement = mock(IDatabricksStatementInternal.class);
+    when(parentStatement.getStatementId()).thenReturn(STATEMENT_ID);
+    List<TSparkArrowResultLink> resultLinks = new ArrayList<>();
+    for (long i = 0; i < 3; i++) {
+      resultLinks.add(
+          new TSparkArrowResultLink()
+              .setFileLink("https://chunk.databricks.com/" + i)
+              .setStartRowOffset(i * 100)
+              .setRowCount(100)
+              .setExpiryTime(System.currentTimeMillis() + 3600_000L));
+    }
+    TFetchResultsResp resultsResp =
+        new TFetchResultsResp()
+            .setResults(new TRowSet().setResultLinks(resultLinks))
+            .setHasMoreRows(true);
+
+    RemoteChunkProvider chunkProvider =
+        new RemoteChunkProvider(
+            parentStatement, resultsResp, mockSession, null, 1, CompressionCodec.NONE, 150);
+    try {
+      // The first page already covers the limit, so no further page is requested and only the
+      // chunks starting below row 150 are part of the result
+      verify(mockSession, never()).getDatabricksClient();
+      assertEquals(2, chunkProvider.getChunkCount());
+      assertEquals(150, chunkProvider.getRowCount());
+    } finally {
+      chunkProvider.close();
+      ArrowMemoryBudgetFactory.getInstance().removeBudget(connectionContext);
+    }
+  }
+
+  @Test
+  public void testLazyResultLinksAreFetchedBehindDownloadFrontier() throws Exception {
+    IDatabricksConnectionContext connectionContext = mock(IDatabricksConnectionContext.class);
+    when(connectionContext.getConnectionUuid()).thenReturn("lazy-links-uuid");
+    when(connectionContext.isCloudFetchLazyResultLinksEnabled()).thenReturn(true);
+    when(mockSession.getConnectionContext()).thenReturn(connectionContext);
+    IDatabricksClient databricksClient = mock(IDatabricksClient.class);
+    when(mockSession.getDatabricksClient()).thenReturn(databricksClient);
+    IDatabricksStatementInternal parentStatement = mock(IDatabricksStatementInternal.class);
+    when(parentStatement.getStatementId()).thenReturn(STATEMENT_ID);
+    when(databricksClient.getMoreResults(parentStatement)).thenReturn(createLinkPage(2, 2, false));
+
+    RemoteChunkProvider chunkProvider =
+        new RemoteChunkProvider(
+            parentStatement,
+            createLinkPage(0, 2, true),
+            mockSession,
+            null,
+            1,
+            CompressionCodec.NONE);
+    try {
+      // Downloads start from the first page without waiting for the remaining links
+      verify(databricksClient, never()).getMoreResults(parentStatement);
+      assertEquals(2, chunkProvider.getChunkCount());
+
+      assertTrue(chunkProvider.next());
+      assertTrue(chunkProvider.next());
+      assertTrue(chunkProvider.hasNextChunk());
+      verify(databricksClient, times(1)).getMoreResults(parentStatement);
+      assertEquals(4, chunkProvider.getChunkCount());
+      assertEquals(400, chunkProvider.getRowCount());
+    } finally {
+      chunkProvider.close();
+      ArrowMemoryBudgetFactory.getInstance().removeBudget(connectionContext);
+    }
+  }
+
+  @Test
+  public void testLazyResultLinksRowCountIsFinalOnlyAfterLastPage() throws Exception {
+    IDatabricksConnectionContext connectionContext = mock(IDatabricksConnectionContext.class);
+    when(connectionContext.getConnectionUuid()).thenReturn("lazy-links-final-uuid");
+    when(connectionContext.isCloudFetchLazyResultLinksEnabled()).thenReturn(true);
+    when(mockSession.getConnectionContext()).thenReturn(connectionContext);
+    IDatabricksClient databricksClient = mock(IDatabricksClient.class);
+    when(mockSession.getDatabricksClient()).thenReturn(databricksClient);
+    IDatabricksStatementInternal parentStatement = mock(IDatabricksStatementInternal.class);
+    when(parentStatement.getStatementId()).thenReturn(STATEMENT_ID);
+    when(databricksClient.getMoreResults(parentStatement))
+        .thenReturn(createLinkPage(1, 1, true), createLinkPage(2, 0, false));
+
+    RemoteChunkProvider chunkProvider =
+        new RemoteChunkProvider(
+            parentStatement,
+            createLinkPage(0, 1, true),
+            mockSession,
+            null,
+            1,
+            CompressionCodec.NONE);
+    try {
+      assertEquals(100, chunkProvider.getRowCount());
+      // The next link page adds rows, so the count known before it was not final
+      assertFalse(chunkProvider.isRowCountFinal());
+      assertEquals(200, chunkProvider.getRowCount());
+      // The last link page is empty
+      assertTrue(chunkProvider.isRowCountFinal());
+      assertEquals(200, chunkProvider.getRowCount());
+      verify(databricksClient, times(2)).getMoreResults(parentStatement);
+    } finally {
+      chunkProvider.close();
+      ArrowMemoryBudgetFactory.getInstance().removeBudget(connectionContext);
+    }
+  }
+
+  @Test
+  public void testLazyResultLinkFetchFailureIsReported() throws Exception {
+    IDatabricksConnectionContext connectionContext = mock(IDatabricksConnectionContext.class);
+    when(connectionContext.getConnectionUuid()).thenReturn("lazy-links-failure-uuid");
+    when(connectionContext.isCloudFetchLazyResultLinksEnabled()).thenReturn(true);
+    when(mockSession.getConnectionContext()).thenReturn(connectionContext);
+    IDatabricksClient databricksClient = mock(IDatabricksClient.class);
+    when(mockSession.getDatabricksClient()).thenReturn(databricksClient);
+    IDatabricksStatementInternal parentStatement = mock(IDatabricksStatementInternal.class);
+    when(parentStatement.getStatementId()).thenReturn(STATEMENT_ID);
+    when(databricksClient.getMoreResults(parentStatement))
+        .thenThrow(
+            new DatabricksSQLException("fetch failed", DatabricksDriverErrorCode.INVALID_STATE));
+
+    RemoteChunkProvider chunkProvider =
+        new RemoteChunkProvider(
+            parentStatement,
+            createLinkPage(0, 1, true),
+            mockSession,
+            null,
+            1,
+            CompressionCodec.NONE);
+    try {
+      assertTrue(chunkProvider.next());
+      // The result does not silently end where the links could not be fetched
+      assertTrue(chunkProvider.next());
+      DatabricksSQLException exception =
+          assertThrows(DatabricksSQLException.class, chunkProvider::getChunk);
+      assertEquals("fetch failed", exception.getMessage());
+    } finally {
+      chunkProvider.close();
+      ArrowMemoryBudgetFactory.getInstance().removeBudget(connectionContext);
+    }
+  }
+
+  private static ResultManifest createManifest(long chunkCount) {
+    List<BaseChunkInfo> chunks = new ArrayList<>();
+    for (long i = 0; i < chunkCount; i++) {
+      chunks.add(
+          new BaseChunkInfo().setChunkIndex(i).setRowOffset(i).setRowCount(1L).setByteCount(100L));
+    }
+    return new ResultManifest()
+        .setTotalChunkCount(chunkCount)
+        .setTotalRowCount(chunkCount)
+        .setChunks(chunks)
+        .setSchema(new ResultSchema().setColumns(new ArrayList<>()));
+  }
+
+  private static ResultData createResultData() {
+    return new ResultData().setExternalLinks(new ArrayList<>());
+  }
+
+  private static TFetchResultsResp createLinkPage(long startChunk, int links, boolean hasMore) {
+    List<TSparkArrowResultLink> resultLinks = new ArrayList<>();
+    for (long i = startChunk; i < startChunk + links; i++) {
+      resultLinks.add(
+          new TSparkArrowResultLink()
+              .setFileLink("https://chunk.databricks.com/" + i)
+              .setStartRowOffset(i * 100)
+              .setRowCount(100)
+              .setExpiryTime(System.currentTimeMillis() + 3600_000L));
+    }
+    return new TFetchResultsResp()
+        .setResults(new TRowSet().setResultLinks(resultLinks))
+        .setHasMoreRows(hasMore);
+  }
 }
@@ -0,0 +1,206 @@
+package com.databricks.jdbc.api.impl.arrow;
+
+import static com.databricks.jdbc.common.DatabricksJdbcConstants.ARROW_METADATA_KEY;
+
+import com.databricks.jdbc.api.impl.converters.ArrowColumnAccessor;
+import com.databricks.jdbc.api.impl.converters.ArrowToJavaObjectConverter;
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.sdk.service.sql.ColumnInfo;
+import com.databricks.sdk.service.sql.ColumnInfoTypeName;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures per-cell conversion cost on wide Arrow results, comparing the per-column accessor plan
+ * used by {@link ArrowStreamResult} against resolving the column type on every cell.
+ *
+ * <p>Run from the IDE through {@link #main}, or with the JMH runner on the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"--add-opens=java.base/java.nio=ALL-UNNAMED"})
+public class WideResultAccessorPlanBenchmark {
+  private static final int ROW_COUNT = 1_000;
+  private static final String[] TYPE_TEXTS = {"INT", "BIGINT", "DOUBLE", "STRING"};
+  private static final ColumnInfoTypeName[] TYPE_NAMES = {
+    ColumnInfoTypeName.INT,
+    ColumnInfoTypeName.LONG,
+    ColumnInfoTypeName.DOUBLE,
+    ColumnInfoTypeName.STRING
+  };
+
+  @Param({"320"})
+  public int columnCount;
+
+  private ArrowResultChunk chunk;
+  private List<ColumnInfo> columnInfos;
+  private List<String> arrowMetadata;
+  private ArrowColumnAccessor[] columnAccessors;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    columnInfos = new ArrayList<>();
+    for (int i = 0; i < columnCount; i++) {
+      columnInfos.add(
+          new ColumnInfo()
+              .setName("c" + i)
+              .setTypeName(TYPE_NAMES[i % TYPE_NAMES.length])
+              .setTypeText(TYPE_TEXTS[i % TYPE_TEXTS.length]));
+    }
+    chunk =
+        ArrowResultChunk.builder()
+            .withInputStream(new ByteArrayInputStream(createArrowBytes()), ROW_COUNT)
+            .build();
+    arrowMetadata = chunk.getArrowMetadata();
+    columnAccessors = new ArrowColumnAccessor[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      columnAccessors[i] =
+          ArrowToJavaObjectConverter.createAccessor(
+              columnInfos.get(i).getTypeName(), arrowMetadata.get(i), columnInfos.get(i));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    chunk.releaseChunk();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROW_COUNT)
+  public void accessorPlan(Blackhole blackhole) throws DatabricksSQLException {
+    for (List<ValueVector> recordBatch : chunk.recordBatchList) {
+      int rows = recordBatch.get(0).getValueCount();
+      for (int row = 0; row < rows; row++) {
+        for (int column = 0; column < columnCount; column++) {
+          blackhole.consume(columnAccessors[column].getObject(recordBatch.get(column), row));
+        }
+      }
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROW_COUNT)
+  public void perCellResolution(Blackhole blackhole) throws DatabricksSQLException {
+    for (List<ValueVector> recordBatch : chunk.recordBatchList) {
+      int rows = recordBatch.get(0).getValueCount();
+      for (int row = 0; row < rows; row++) {
+        for (int column = 0; column < columnCount; column++) {
+          ColumnInfo columnInfo = columnInfos.get(column);
+          blackhole.consume(
+              ArrowToJavaObjectConverter.convert(
+                  recordBatch.get(column),
+                  row,
+                  columnInfo.getTypeName(),
+                  arrowMetadata.get(column),
+                  columnInfo));
+        }
+      }
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(WideResultAccessorPlanBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+
+  private byte[] createArrowBytes() throws Exception {
+    List<Field> fields = new ArrayList<>();
+    for (int i = 0; i < columnCount; i++) {
+      fields.add(
+          new Field(
+              "c" + i,
+              new FieldType(
+                  true,
+                  getArrowType(i),
+                  null,
+                  Collections.singletonMap(ARROW_METADATA_KEY, TYPE_TEXTS[i % TYPE_TEXTS.length])),
+              null));
+    }
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try (BufferAllocator allocator = new RootAllocator();
+        VectorSchemaRoot root = VectorSchemaRoot.create(new Schema(fields), allocator);
+        ArrowStreamWriter writer = new ArrowStreamWriter(root, null, outputStream)) {
+      writer.start();
+      for (int i = 0; i < columnCount; i++) {
+        FieldVector vector = root.getVector(i);
+        vector.setInitialCapacity(ROW_COUNT);
+        vector.allocateNew();
+        for (int row = 0; row < ROW_COUNT; row++) {
+          if (vector instanceof IntVector) {
+            ((IntVector) vector).set(row, row);
+          } else if (vector instanceof BigIntVector) {
+            ((BigIntVector) vector).set(row, row * 31L);
+          } else if (vector instanceof Float8Vector) {
+            ((Float8Vector) vector).set(row, row * 0.25);
+          } else {
+            ((VarCharVector) vector)
+                .setSafe(row, ("value-" + row).getBytes(StandardCharsets.UTF_8));
+          }
+        }
+      }
+      root.setRowCount(ROW_COUNT);
+      writer.writeBatch();
+      writer.end();
+    }
+    return outputStream.toByteArray();
+  }
+
+  private static ArrowType getArrowType(int columnIndex) {
+    switch (columnIndex % TYPE_TEXTS.length) {
+      case 0:
+        return new ArrowType.Int(32, true);
+      case 1:
+        return new ArrowType.Int(64, true);
+      case 2:
+        return new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE);
+      default:
+        return ArrowType.Utf8.INSTANCE;
+    }
+  }
+}
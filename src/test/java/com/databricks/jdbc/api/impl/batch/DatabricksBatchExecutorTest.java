@@ -6,8 +6,18 @@ import static org.mockito.Mockito.*;
 import com.databricks.jdbc.api.IDatabricksStatement;
 import com.databricks.jdbc.api.internal.IDatabricksConnectionContext;
 import java.sql.BatchUpdateException;
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +30,7 @@ public class DatabricksBatchExecutorTest {
   @Mock IDatabricksConnectionContext connectionContext;
   @Mock private IDatabricksStatement mockStatement;
   private DatabricksBatchExecutor databricksBatchExecutor;
+  private ExecutorService connectionExecutor;
   private final int MAX_BATCH_SIZE = 5;
 
   @BeforeEach
@@ -27,6 +38,13 @@ public class DatabricksBatchExecutorTest {
     databricksBatchExecutor = new DatabricksBatchExecutor(mockStatement, MAX_BATCH_SIZE);
   }
 
+  @AfterEach
+  public void tearDown() {
+    if (connectionExecutor != null) {
+      connectionExecutor.shutdownNow();
+    }
+  }
+
   /** Test adding valid commands to the batch. */
   @Test
   public void testAddCommand_Success() throws SQLException {
@@ -177,4 +195,142 @@ public class DatabricksBatchExecutorTest {
     verify(spyDatabricksBatchExecutor, times(1))
         .logCommandExecutionTime(anyInt(), any(Instant.class), eq(true));
   }
+
+  /** Test that continue-on-error executes the commands after a failed one. */
+  @Test
+  public void testExecuteBatch_ContinueOnError() throws SQLException {
+    DatabricksBatchExecutor executor =
+        new DatabricksBatchExecutor(mockStatement, MAX_BATCH_SIZE, 1, true, null);
+    executor.addCommand("INSERT INTO table1 VALUES (1)");
+    executor.addCommand("BAD SQL COMMAND");
+    executor.addCommand("INSERT INTO table1 VALUES (3)");
+
+    when(mockStatement.execute(anyString()))
+        .thenReturn(false)
+        .thenThrow(new SQLException("Syntax error"))
+        .thenReturn(false);
+    when(mockStatement.getLargeUpdateCount()).thenReturn(1L);
+
+    BatchUpdateException exception =
+        assertThrows(BatchUpdateException.class, executor::executeBatch);
+
+    assertEquals("Batch execution failed at command 1: Syntax error", exception.getMessage());
+    assertArrayEquals(
+        new long[] {1, Statement.EXECUTE_FAILED, 1}, exception.getLargeUpdateCounts());
+    verify(mockStatement, times(3)).execute(anyString());
+    assertEquals(0, executor.commands.size());
+  }
+
+  /** Test that parallel commands run concurrently and report update counts in batch order. */
+  @Test
+  public void testExecuteBatch_Parallel() throws SQLException {
+    int commandCount = 3;
+    DatabricksBatchExecutor executor = createParallelExecutor(commandCount);
+    // Every command waits until all commands have started, so they must run concurrently
+    CountDownLatch allStarted = new CountDownLatch(commandCount);
+    List<Statement> childStatements = new ArrayList<>();
+    for (int i = 0; i < commandCount; i++) {
+      executor.addCommand("DELETE FROM table1 WHERE id <= " + (i + 1));
+      childStatements.add(createChildStatement(allStarted));
+    }
+    Connection connection = mock(Connection.class);
+    when(mockStatement.getConnection()).thenReturn(connection);
+    when(connection.createStatement())
+        .thenReturn(
+            childStatements.get(0),
+            childStatements.subList(1, commandCount).toArray(new Statement[0]));
+
+    long[] updateCounts = executor.executeBatch();
+
+    assertArrayEquals(new long[] {1, 2, 3}, updateCounts);
+    for (Statement childStatement : childStatements) {
+      verify(childStatement).close();
+    }
+    verify(mockStatement, never()).execute(anyString());
+    assertEquals(0, executor.commands.size());
+  }
+
+  /** Test that a parallel batch stops starting commands after a failure. */
+  @Test
+  public void testExecuteBatch_ParallelCommandFails() throws SQLException {
+    DatabricksBatchExecutor executor = createParallelExecutor(2);
+    Statement failingStatement = mock(Statement.class);
+    when(failingStatement.execute(anyString())).thenThrow(new SQLException("Syntax error"));
+    Connection connection = mock(Connection.class);
+    when(mockStatement.getConnection()).thenReturn(connection);
+    when(connection.createStatement()).thenReturn(failingStatement);
+    for (int i = 0; i < MAX_BATCH_SIZE; i++) {
+      executor.addCommand("BAD SQL COMMAND " + i);
+    }
+
+    BatchUpdateException exception =
+        assertThrows(BatchUpdateException.class, executor::executeBatch);
+
+    assertEquals("Batch execution failed at command 0: Syntax error", exception.getMessage());
+    long[] updateCounts = exception.getLargeUpdateCounts();
+    assertEquals(MAX_BATCH_SIZE, updateCounts.length);
+    for (long updateCount : updateCounts) {
+      assertEquals(Statement.EXECUTE_FAILED, updateCount);
+    }
+    // Only the commands started by the two threads before the first failure are executed
+    verify(failingStatement, atMost(2)).execute(anyString());
+  }
+
+  /** Test that consecutive parallel batches run on the executor of the connection. */
+  @Test
+  public void testExecuteBatch_ParallelBatchesShareConnectionExecutor() throws SQLException {
+    when(connectionContext.getBatchParallelism()).thenReturn(2);
+    connectionExecutor = DatabricksBatchExecutor.createExecutor(connectionContext);
+    List<String> threadNames = new ArrayList<>();
+    DatabricksBatchExecutor executor =
+        new DatabricksBatchExecutor(
+            mockStatement, MAX_BATCH_SIZE, 2, false, () -> connectionExecutor);
+    Statement childStatement = mock(Statement.class);
+    when(childStatement.execute(anyString()))
+        .thenAnswer(
+            invocation -> {
+              synchronized (threadNames) {
+                threadNames.add(Thread.currentThread().getName());
+              }
+              return false;
+            });
+    when(childStatement.getLargeUpdateCount()).thenReturn(1L);
+    Connection connection = mock(Connection.class);
+    when(mockStatement.getConnection()).thenReturn(connection);
+    when(connection.createStatement()).thenReturn(childStatement);
+
+    for (int batch = 0; batch < 2; batch++) {
+      executor.addCommand("INSERT INTO table1 VALUES (1)");
+      executor.addCommand("INSERT INTO table1 VALUES (2)");
+      assertArrayEquals(new long[] {1, 1}, executor.executeBatch());
+      assertFalse(connectionExecutor.isShutdown());
+    }
+
+    assertEquals(4, threadNames.size());
+    // The two threads of the connection executor run the commands of both batches
+    assertTrue(threadNames.stream().distinct().count() <= 2);
+    threadNames.forEach(name -> assertTrue(name.startsWith("databricks-jdbc-batch-")));
+  }
+
+  private DatabricksBatchExecutor createParallelExecutor(int parallelism) {
+    connectionExecutor = Executors.newFixedThreadPool(parallelism);
+    return new DatabricksBatchExecutor(
+        mockStatement, MAX_BATCH_SIZE, parallelism, false, () -> connectionExecutor);
+  }
+
+  private static Statement createChildStatement(CountDownLatch allStarted) throws SQLException {
+    Statement statement = mock(Statement.class);
+    AtomicLong updateCount = new AtomicLong();
+    when(statement.execute(anyString()))
+        .thenAnswer(
+            invocation -> {
+              String sql = invocation.getArgument(0);
+              updateCount.set(Long.parseLong(sql.substring(sql.lastIndexOf(' ') + 1)));
+              allStarted.countDown();
+              assertTrue(allStarted.await(10, TimeUnit.SECONDS));
+              return false;
+            });
+    when(statement.getLargeUpdateCount()).thenAnswer(invocation -> updateCount.get());
+    return statement;
+  }
 }
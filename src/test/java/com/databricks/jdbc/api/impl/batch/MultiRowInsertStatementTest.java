@@ -0,0 +1,133 @@
+package com.databricks.jdbc.api.impl.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.databricks.jdbc.api.impl.ImmutableSqlParameter;
+import com.databricks.jdbc.common.util.DatabricksTypeUtil;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class MultiRowInsertStatementTest {
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "INSERT INTO t VALUES (?, ?)",
+        "insert into schema.t (a, b) values (?, ?);",
+        "INSERT INTO TABLE `cat`.`schema`.`t` (a, b)\nVALUES (?, concat(?, 'x'), 1)",
+        "INSERT INTO t (a, b, c) VALUES (?, 'why?', ?)",
+        "INSERT INTO t VALUES (-1, ?, 'a-b/c', ?)",
+        "INSERT INTO t (a, b) VALUES (? / 2, - ? - 1)"
+      })
+  public void testParsesSingleRowInsert(String sql) {
+    MultiRowInsertStatement statement = MultiRowInsertStatement.parse(sql);
+    assertNotNull(statement);
+    assertEquals(2, statement.getParametersPerRow());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "SELECT * FROM t WHERE a = ?",
+        "INSERT OVERWRITE t VALUES (?, ?)",
+        "INSERT INTO t REPLACE WHERE a = 1 VALUES (?, ?)",
+        "INSERT INTO t VALUES (?, ?), (?, ?)",
+        "INSERT INTO t VALUES (1, 2)",
+        "INSERT INTO t SELECT ?, ?",
+        "INSERT INTO t VALUES (?, ?) -- comment",
+        "INSERT INTO t VALUES (?, ? -- )\n, 1)",
+        "INSERT INTO t VALUES (?, /* ) */ ?)"
+      })
+  public void testDoesNotParseOtherStatements(String sql) {
+    assertNull(MultiRowInsertStatement.parse(sql));
+  }
+
+  @Test
+  public void testGroupsRowsByParameterCount() throws Exception {
+    MultiRowInsertStatement statement =
+        MultiRowInsertStatement.parse("INSERT INTO t VALUES (?, ?)");
+    int rowsPerGroup = MultiRowInsertStatement.MAX_PARAMETERS / 2;
+    List<Map<Integer, ImmutableSqlParameter>> rows = createRows(rowsPerGroup + 1);
+
+    List<MultiRowInsertStatement.Group> groups = statement.group(rows, false);
+
+    assertEquals(2, groups.size());
+    assertEquals(0, groups.get(0).getFirstRowIndex());
+    assertEquals(rowsPerGroup, groups.get(0).getRowCount());
+    assertEquals(MultiRowInsertStatement.MAX_PARAMETERS, groups.get(0).getParameters().size());
+    MultiRowInsertStatement.Group last = groups.get(1);
+    assertEquals(rowsPerGroup, last.getFirstRowIndex());
+    assertEquals(1, last.getRowCount());
+    assertEquals("INSERT INTO t VALUES (?, ?)", last.getSql());
+    assertEquals(rowsPerGroup, last.getParameters().get(1).value());
+    assertEquals(2, last.getParameters().get(2).cardinal());
+  }
+
+  @Test
+  public void testInterpolatedRowsAreGroupedBySize() throws Exception {
+    MultiRowInsertStatement statement =
+        MultiRowInsertStatement.parse("INSERT INTO t VALUES (?, ?)");
+    List<Map<Integer, ImmutableSqlParameter>> rows = createRows(1000);
+
+    List<MultiRowInsertStatement.Group> groups = statement.group(rows, true);
+
+    assertEquals(1, groups.size());
+    assertEquals(1000, groups.get(0).getRowCount());
+    assertTrue(groups.get(0).getParameters().isEmpty());
+    assertTrue(groups.get(0).getSql().startsWith("INSERT INTO t VALUES (0, 'value0'), (1, "));
+  }
+
+  @Test
+  public void testRowsWithNegativeLiteralAreCoalesced() throws Exception {
+    MultiRowInsertStatement statement =
+        MultiRowInsertStatement.parse("INSERT INTO t VALUES (-1, ?, ?)");
+
+    List<MultiRowInsertStatement.Group> groups = statement.group(createRows(2), true);
+
+    assertEquals(1, groups.size());
+    assertEquals(
+        "INSERT INTO t VALUES (-1, 0, 'value0'), (-1, 1, 'value1')", groups.get(0).getSql());
+  }
+
+  @Test
+  public void testStatementSizeIsBounded() throws Exception {
+    MultiRowInsertStatement statement = MultiRowInsertStatement.parse("INSERT INTO t VALUES (?)");
+    String value = new String(new char[MultiRowInsertStatement.MAX_STATEMENT_BYTES / 3]);
+    List<Map<Integer, ImmutableSqlParameter>> rows = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      Map<Integer, ImmutableSqlParameter> row = new HashMap<>();
+      row.put(1, createParameter(1, value, DatabricksTypeUtil.STRING));
+      rows.add(row);
+    }
+
+    List<MultiRowInsertStatement.Group> groups = statement.group(rows, true);
+
+    assertEquals(2, groups.size());
+    assertEquals(2, groups.get(0).getRowCount());
+    assertEquals(2, groups.get(1).getFirstRowIndex());
+  }
+
+  private static List<Map<Integer, ImmutableSqlParameter>> createRows(int rowCount) {
+    List<Map<Integer, ImmutableSqlParameter>> rows = new ArrayList<>();
+    for (int i = 0; i < rowCount; i++) {
+      Map<Integer, ImmutableSqlParameter> row = new HashMap<>();
+      row.put(1, createParameter(1, i, DatabricksTypeUtil.INT));
+      row.put(2, createParameter(2, "value" + i, DatabricksTypeUtil.STRING));
+      rows.add(row);
+    }
+    return rows;
+  }
+
+  private static ImmutableSqlParameter createParameter(int cardinal, Object value, String type) {
+    return ImmutableSqlParameter.builder()
+        .type(DatabricksTypeUtil.getColumnInfoType(type))
+        .value(value)
+        .cardinal(cardinal)
+        .build();
+  }
+}
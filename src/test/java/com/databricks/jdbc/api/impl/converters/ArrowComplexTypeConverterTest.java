@@ -0,0 +1,264 @@
+package com.databricks.jdbc.api.impl.converters;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.databricks.jdbc.api.impl.DatabricksArray;
+import com.databricks.jdbc.api.impl.DatabricksMap;
+import com.databricks.jdbc.api.impl.DatabricksStruct;
+import com.databricks.sdk.service.sql.ColumnInfo;
+import com.databricks.sdk.service.sql.ColumnInfoTypeName;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.MapVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.arrow.vector.complex.impl.UnionListWriter;
+import org.apache.arrow.vector.complex.impl.UnionMapWriter;
+import org.apache.arrow.vector.complex.writer.BaseWriter.StructWriter;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ArrowComplexTypeConverterTest {
+  private final BufferAllocator bufferAllocator = new RootAllocator();
+
+  @AfterEach
+  void tearDown() {
+    bufferAllocator.close();
+  }
+
+  @Test
+  void testConvertListVector() throws SQLException {
+    try (ListVector listVector = ListVector.empty("list", bufferAllocator)) {
+      UnionListWriter writer = listVector.getWriter();
+      writer.setPosition(0);
+      writer.startList();
+      writer.writeInt(1);
+      writer.writeNull();
+      writer.writeInt(3);
+      writer.endList();
+      writer.setPosition(2);
+      writer.startList();
+      writer.endList();
+      writer.setValueCount(3);
+
+      ArrowColumnAccessor accessor =
+          ArrowToJavaObjectConverter.createAccessor(
+              ColumnInfoTypeName.ARRAY, "ARRAY<INT>", new ColumnInfo());
+
+      DatabricksArray array = (DatabricksArray) accessor.getObject(listVector, 0);
+      assertArrayEquals(new Object[] {1, null, 3}, (Object[]) array.getArray());
+      assertEquals("ARRAY<INT>", array.getBaseTypeName());
+      assertNull(accessor.getObject(listVector, 1));
+      assertEquals(
+          0, ((Object[]) ((DatabricksArray) accessor.getObject(listVector, 2)).getArray()).length);
+    }
+  }
+
+  @Test
+  void testConvertStructVector() throws SQLException {
+    try (StructVector structVector = StructVector.empty("struct", bufferAllocator)) {
+      IntVector idVector =
+          structVector.addOrGet(
+              "id", FieldType.nullable(new ArrowType.Int(32, true)), IntVector.class);
+      VarCharVector nameVector =
+          structVector.addOrGet(
+              "name", FieldType.nullable(ArrowType.Utf8.INSTANCE), VarCharVector.class);
+      DateDayVector dateVector =
+          structVector.addOrGet(
+              "day",
+              FieldType.nullable(new ArrowType.Date(org.apache.arrow.vector.types.DateUnit.DAY)),
+              DateDayVector.class);
+      idVector.setSafe(0, 7);
+      nameVector.setSafe(0, "seven".getBytes(StandardCharsets.UTF_8));
+      dateVector.setSafe(0, (int) LocalDate.of(2024, 2, 29).toEpochDay());
+      structVector.setIndexDefined(0);
+      structVector.setNull(1);
+      structVector.setValueCount(2);
+
+      ArrowColumnAccessor accessor =
+          ArrowToJavaObjectConverter.createAccessor(
+              ColumnInfoTypeName.STRUCT,
+              "STRUCT<id: INT, name: STRING, day: DATE>",
+              new ColumnInfo());
+
+      DatabricksStruct struct = (DatabricksStruct) accessor.getObject(structVector, 0);
+      assertArrayEquals(
+          new Object[] {7, "seven", Date.valueOf("2024-02-29")}, struct.getAttributes());
+      assertEquals("{\"id\":7,\"name\":\"seven\",\"day\":2024-02-29}", struct.toString());
+      assertNull(accessor.getObject(structVector, 1));
+    }
+  }
+
+  @Test
+  void testConvertMapVector() throws SQLException {
+    try (MapVector mapVector = MapVector.empty("map", bufferAllocator, false)) {
+      UnionMapWriter writer = mapVector.getWriter();
+      writer.setPosition(0);
+      writer.startMap();
+      writer.startEntry();
+      writer.key().integer().writeInt(10);
+      writer.value().integer().writeInt(1);
+      writer.endEntry();
+      writer.startEntry();
+      writer.key().integer().writeInt(20);
+      writer.value().integer().writeInt(2);
+      writer.endEntry();
+      writer.endMap();
+      writer.setValueCount(1);
+
+      ArrowColumnAccessor accessor =
+          ArrowToJavaObjectConverter.createAccessor(
+              ColumnInfoTypeName.MAP, "MAP<INT, INT>", new ColumnInfo());
+
+      @SuppressWarnings("unchecked")
+      Map<Object, Object> map = (DatabricksMap<Object, Object>) accessor.getObject(mapVector, 0);
+      assertEquals(2, map.size());
+      assertEquals(1, map.get(10));
+      assertEquals(2, map.get(20));
+      assertEquals("{10:1,20:2}", map.toString());
+    }
+  }
+
+  @Test
+  void testConvertNestedArrayOfStructs() throws SQLException {
+    try (ListVector listVector = ListVector.empty("list", bufferAllocator)) {
+      UnionListWriter writer = listVector.getWriter();
+      writer.setPosition(0);
+      writer.startList();
+      for (int i = 1; i <= 2; i++) {
+        StructWriter structWriter = writer.struct();
+        structWriter.start();
+        structWriter.integer("x").writeInt(i);
+        structWriter.end();
+      }
+      writer.endList();
+      writer.setValueCount(1);
+
+      ArrowColumnAccessor accessor =
+          ArrowToJavaObjectConverter.createAccessor(
+              ColumnInfoTypeName.ARRAY, "ARRAY<STRUCT<x: INT>>", new ColumnInfo());
+
+      DatabricksArray array = (DatabricksArray) accessor.getObject(listVector, 0);
+      Object[] elements = (Object[]) array.getArray();
+      assertEquals(2, elements.length);
+      assertEquals("STRUCT<x: INT>", ((DatabricksStruct) elements[0]).getSQLTypeName());
+      assertArrayEquals(new Object[] {2}, ((DatabricksStruct) elements[1]).getAttributes());
+      assertEquals("[{\"x\":1},{\"x\":2}]", array.toString());
+    }
+  }
+
+  @Test
+  void testJsonTextFallsBackToParser() throws SQLException {
+    try (VarCharVector varCharVector = new VarCharVector("json", bufferAllocator)) {
+      varCharVector.allocateNew(1);
+      varCharVector.set(0, "{\"k\": 10}".getBytes(StandardCharsets.UTF_8));
+      varCharVector.setValueCount(1);
+
+      ArrowColumnAccessor accessor =
+          ArrowToJavaObjectConverter.createAccessor(
+              ColumnInfoTypeName.STRUCT, "STRUCT<k: INT>", new ColumnInfo());
+
+      DatabricksStruct struct = (DatabricksStruct) accessor.getObject(varCharVector, 0);
+      assertArrayEquals(new Object[] {10}, struct.getAttributes());
+    }
+  }
+
+  @Test
+  void testLazyArrayDecodesSliceAndSurvivesScopeRelease() throws SQLException {
+    ArrowVectorScope vectorScope = new ArrowVectorScope();
+    DatabricksArray array;
+    DatabricksStruct struct;
+    try (ListVector listVector = ListVector.empty("list", bufferAllocator)) {
+      UnionListWriter writer = listVector.getWriter();
+      writer.setPosition(0);
+      writer.startList();
+      for (int i = 1; i <= 4; i++) {
+        StructWriter structWriter = writer.struct();
+        structWriter.start();
+        structWriter.integer("x").writeInt(i);
+        structWriter.integer("y").writeInt(i * 10);
+        structWriter.end();
+      }
+      writer.endList();
+      writer.setValueCount(1);
+
+      ArrowColumnAccessor accessor =
+          ArrowToJavaObjectConverter.createAccessor(
+              ColumnInfoTypeName.ARRAY, "ARRAY<STRUCT<x: INT, y: INT>>", new ColumnInfo());
+
+      array = (DatabricksArray) accessor.getObject(listVector, 0, vectorScope);
+      Object[] slice = (Object[]) array.getArray(2, 2);
+      assertEquals(2, slice.length);
+      struct = (DatabricksStruct) slice[0];
+      assertEquals(20, struct.getAttribute("y"));
+      assertArrayEquals(
+          new Object[] {null}, Arrays.copyOfRange((Object[]) array.getArray(4, 2), 1, 2));
+      assertThrows(ArrayIndexOutOfBoundsException.class, () -> array.getArray(6, 1));
+
+      vectorScope.release();
+    }
+
+    assertEquals(2, struct.getAttribute("x"));
+    assertNull(struct.getAttribute("z"));
+    assertEquals(
+        "[{\"x\":1,\"y\":10},{\"x\":2,\"y\":20},{\"x\":3,\"y\":30},{\"x\":4,\"y\":40}]",
+        array.toString());
+  }
+
+  @Test
+  void testLazyMapCopiedOutOnFree() throws SQLException {
+    ArrowVectorScope vectorScope = new ArrowVectorScope();
+    DatabricksArray array;
+    try (ListVector listVector = ListVector.empty("list", bufferAllocator)) {
+      UnionListWriter writer = listVector.getWriter();
+      writer.setPosition(0);
+      writer.startList();
+      writer.writeInt(5);
+      writer.writeInt(6);
+      writer.endList();
+      writer.setValueCount(1);
+
+      ArrowColumnAccessor accessor =
+          ArrowToJavaObjectConverter.createAccessor(
+              ColumnInfoTypeName.ARRAY, "ARRAY<INT>", new ColumnInfo());
+      array = (DatabricksArray) accessor.getObject(listVector, 0, vectorScope);
+      array.free();
+    }
+    assertArrayEquals(new Object[] {5, 6}, (Object[]) array.getArray());
+
+    try (MapVector mapVector = MapVector.empty("map", bufferAllocator, false)) {
+      UnionMapWriter writer = mapVector.getWriter();
+      writer.setPosition(0);
+      writer.startMap();
+      writer.startEntry();
+      writer.key().integer().writeInt(1);
+      writer.value().integer().writeInt(100);
+      writer.endEntry();
+      writer.endMap();
+      writer.setValueCount(1);
+
+      ArrowColumnAccessor accessor =
+          ArrowToJavaObjectConverter.createAccessor(
+              ColumnInfoTypeName.MAP, "MAP<INT, INT>", new ColumnInfo());
+      @SuppressWarnings("unchecked")
+      Map<Object, Object> map =
+          (DatabricksMap<Object, Object>) accessor.getObject(mapVector, 0, vectorScope);
+      assertEquals(2, vectorScope.getTrackedCount());
+      vectorScope.release();
+      vectorScope.release();
+      mapVector.close();
+      assertEquals(100, map.get(1));
+    }
+  }
+}
@@ -311,6 +311,38 @@ public class ArrowToJavaObjectConverterTest {
     assertEquals(BigDecimal.valueOf(4.1111111111), convertedObject);
   }
 
+  @Test
+  public void testCreateAccessorResolvesTypeOnce() throws SQLException {
+    VarCharVector varCharVector = new VarCharVector("varCharVector", this.bufferAllocator);
+    varCharVector.allocateNew(3);
+    varCharVector.set(0, "[\"A\", \"B\"]".getBytes());
+    varCharVector.setNull(1);
+    varCharVector.set(2, "[\"C\"]".getBytes());
+    varCharVector.setValueCount(3);
+    ArrowColumnAccessor accessor =
+        ArrowToJavaObjectConverter.createAccessor(
+            ColumnInfoTypeName.STRING, "ARRAY<STRING>", new ColumnInfo());
+
+    assertInstanceOf(DatabricksArray.class, accessor.getObject(varCharVector, 0));
+    assertNull(accessor.getObject(varCharVector, 1));
+    assertInstanceOf(DatabricksArray.class, accessor.getObject(varCharVector, 2));
+  }
+
+  @Test
+  public void testCreateAccessorForUnsupportedTypeFailsOnRead() {
+    IntVector intVector = new IntVector("intVector", this.bufferAllocator);
+    intVector.allocateNew(2);
+    intVector.set(0, 1);
+    intVector.setNull(1);
+    intVector.setValueCount(2);
+    ArrowColumnAccessor accessor =
+        ArrowToJavaObjectConverter.createAccessor(
+            ColumnInfoTypeName.USER_DEFINED_TYPE, null, new ColumnInfo());
+
+    assertDoesNotThrow(() -> assertNull(accessor.getObject(intVector, 1)));
+    assertThrows(DatabricksValidationException.class, () -> accessor.getObject(intVector, 0));
+  }
+
   @Test
   public void testByteArrayConversion() throws SQLException {
     VarBinaryVector varBinaryVector = new VarBinaryVector("varBinaryVector", this.bufferAllocator);
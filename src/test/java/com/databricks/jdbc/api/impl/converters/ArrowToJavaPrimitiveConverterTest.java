@@ -0,0 +1,122 @@
+package com.databricks.jdbc.api.impl.converters;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.databricks.jdbc.exception.DatabricksValidationException;
+import com.databricks.sdk.service.sql.ColumnInfoTypeName;
+import java.sql.Types;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.SmallIntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ArrowToJavaPrimitiveConverterTest {
+  private final BufferAllocator bufferAllocator = new RootAllocator();
+
+  @AfterEach
+  public void tearDown() {
+    bufferAllocator.close();
+  }
+
+  @Test
+  public void testCanReadIntegralWidening() {
+    try (SmallIntVector vector = new SmallIntVector("smallint", bufferAllocator)) {
+      assertFalse(
+          ArrowToJavaPrimitiveConverter.canRead(vector, ColumnInfoTypeName.SHORT, Types.TINYINT));
+      assertTrue(
+          ArrowToJavaPrimitiveConverter.canRead(vector, ColumnInfoTypeName.SHORT, Types.SMALLINT));
+      assertTrue(
+          ArrowToJavaPrimitiveConverter.canRead(vector, ColumnInfoTypeName.SHORT, Types.INTEGER));
+      assertTrue(
+          ArrowToJavaPrimitiveConverter.canRead(vector, ColumnInfoTypeName.SHORT, Types.BIGINT));
+      assertTrue(
+          ArrowToJavaPrimitiveConverter.canRead(vector, ColumnInfoTypeName.SHORT, Types.REAL));
+      assertTrue(
+          ArrowToJavaPrimitiveConverter.canRead(vector, ColumnInfoTypeName.SHORT, Types.DOUBLE));
+      assertFalse(
+          ArrowToJavaPrimitiveConverter.canRead(vector, ColumnInfoTypeName.SHORT, Types.BOOLEAN));
+      // Column type must agree with the vector type
+      assertFalse(
+          ArrowToJavaPrimitiveConverter.canRead(vector, ColumnInfoTypeName.STRING, Types.BIGINT));
+    }
+    try (BigIntVector vector = new BigIntVector("bigint", bufferAllocator)) {
+      assertFalse(
+          ArrowToJavaPrimitiveConverter.canRead(vector, ColumnInfoTypeName.LONG, Types.INTEGER));
+      assertFalse(
+          ArrowToJavaPrimitiveConverter.canRead(vector, ColumnInfoTypeName.LONG, Types.REAL));
+      assertTrue(
+          ArrowToJavaPrimitiveConverter.canRead(vector, ColumnInfoTypeName.LONG, Types.DOUBLE));
+    }
+  }
+
+  @Test
+  public void testCanReadFloatingPointAndBoolean() {
+    try (Float4Vector float4Vector = new Float4Vector("float", bufferAllocator);
+        Float8Vector float8Vector = new Float8Vector("double", bufferAllocator);
+        BitVector bitVector = new BitVector("boolean", bufferAllocator);
+        VarCharVector varCharVector = new VarCharVector("string", bufferAllocator)) {
+      assertTrue(
+          ArrowToJavaPrimitiveConverter.canRead(
+              float4Vector, ColumnInfoTypeName.FLOAT, Types.REAL));
+      assertTrue(
+          ArrowToJavaPrimitiveConverter.canRead(
+              float4Vector, ColumnInfoTypeName.FLOAT, Types.DOUBLE));
+      assertFalse(
+          ArrowToJavaPrimitiveConverter.canRead(
+              float4Vector, ColumnInfoTypeName.FLOAT, Types.BIGINT));
+      assertFalse(
+          ArrowToJavaPrimitiveConverter.canRead(
+              float8Vector, ColumnInfoTypeName.DOUBLE, Types.REAL));
+      assertTrue(
+          ArrowToJavaPrimitiveConverter.canRead(
+              float8Vector, ColumnInfoTypeName.DOUBLE, Types.DOUBLE));
+      assertTrue(
+          ArrowToJavaPrimitiveConverter.canRead(
+              bitVector, ColumnInfoTypeName.BOOLEAN, Types.BOOLEAN));
+      assertFalse(
+          ArrowToJavaPrimitiveConverter.canRead(
+              bitVector, ColumnInfoTypeName.BOOLEAN, Types.INTEGER));
+      assertFalse(
+          ArrowToJavaPrimitiveConverter.canRead(
+              varCharVector, ColumnInfoTypeName.STRING, Types.DOUBLE));
+    }
+  }
+
+  @Test
+  public void testTypedReads() throws DatabricksValidationException {
+    try (IntVector intVector = new IntVector("int", bufferAllocator);
+        Float4Vector float4Vector = new Float4Vector("float", bufferAllocator);
+        BitVector bitVector = new BitVector("boolean", bufferAllocator)) {
+      intVector.allocateNew(2);
+      intVector.set(0, -42);
+      intVector.setNull(1);
+      intVector.setValueCount(2);
+      float4Vector.allocateNew(1);
+      float4Vector.set(0, 1.5f);
+      float4Vector.setValueCount(1);
+      bitVector.allocateNew(1);
+      bitVector.set(0, 1);
+      bitVector.setValueCount(1);
+
+      assertEquals(-42L, ArrowToJavaPrimitiveConverter.getLong(intVector, 0));
+      assertEquals(-42.0, ArrowToJavaPrimitiveConverter.getDouble(intVector, 0));
+      assertFalse(ArrowToJavaPrimitiveConverter.isNull(intVector, 0));
+      assertTrue(ArrowToJavaPrimitiveConverter.isNull(intVector, 1));
+      assertEquals(1.5, ArrowToJavaPrimitiveConverter.getDouble(float4Vector, 0));
+      assertTrue(ArrowToJavaPrimitiveConverter.getBoolean(bitVector, 0));
+      assertThrows(
+          DatabricksValidationException.class,
+          () -> ArrowToJavaPrimitiveConverter.getLong(float4Vector, 0));
+      assertThrows(
+          DatabricksValidationException.class,
+          () -> ArrowToJavaPrimitiveConverter.getBoolean(intVector, 0));
+    }
+  }
+}
@@ -31,6 +31,33 @@ public class DatabricksThriftUtilTest {
   @Mock IDatabricksStatementInternal parentStatement;
   @Mock IDatabricksSession session;
 
+  @Test
+  void testGetPollHintMillis() {
+    long now = 100_000;
+    TGetOperationStatusResp resp =
+        new TGetOperationStatusResp()
+            .setOperationState(TOperationState.RUNNING_STATE)
+            .setOperationStarted(now - 8_000);
+    assertEquals(0, DatabricksThriftUtil.getPollHintMillis(resp, now));
+
+    // 20% done after 8 seconds: 32 seconds remain, half of which is suggested
+    resp.setProgressUpdateResponse(new TProgressUpdateResp().setProgressedPercentage(0.2));
+    assertEquals(16_000, DatabricksThriftUtil.getPollHintMillis(resp, now));
+    // The completed fraction is out of range, not a percentage
+    resp.getProgressUpdateResponse().setProgressedPercentage(20);
+    assertEquals(0, DatabricksThriftUtil.getPollHintMillis(resp, now));
+
+    // The start time of the progress update takes precedence
+    resp.getProgressUpdateResponse().setProgressedPercentage(0.8).setStartTime(now - 4_000);
+    assertEquals(500, DatabricksThriftUtil.getPollHintMillis(resp, now));
+
+    resp.getProgressUpdateResponse().setProgressedPercentage(0);
+    assertEquals(0, DatabricksThriftUtil.getPollHintMillis(resp, now));
+    resp.getProgressUpdateResponse().setProgressedPercentage(1);
+    assertEquals(0, DatabricksThriftUtil.getPollHintMillis(resp, now));
+    assertEquals(0, DatabricksThriftUtil.getPollHintMillis(null, now));
+  }
+
   @Test
   void testByteBufferToString() {
     DatabricksThriftUtil helper = new DatabricksThriftUtil(); // cover the constructors too
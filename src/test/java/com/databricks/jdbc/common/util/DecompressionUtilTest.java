@@ -3,6 +3,7 @@ package com.databricks.jdbc.common.util;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.databricks.jdbc.common.CompressionCodec;
+import com.databricks.jdbc.exception.DatabricksParsingException;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -48,4 +49,40 @@ public class DecompressionUtilTest {
         DecompressionUtil.decompress(
             (ByteArrayInputStream) null, CompressionCodec.LZ4_FRAME, CONTEXT));
   }
+
+  @Test
+  public void testDecompressLZ4FrameStreamsLazily() throws Exception {
+    byte[] uncompressedData = new byte[8 * 1024 * 1024];
+    for (int i = 0; i < uncompressedData.length; i++) {
+      uncompressedData[i] = (byte) (i % 251);
+    }
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    try (LZ4FrameOutputStream lz4FrameOutputStream =
+        new LZ4FrameOutputStream(byteArrayOutputStream)) {
+      lz4FrameOutputStream.write(uncompressedData);
+    }
+    byte[] compressedData = byteArrayOutputStream.toByteArray();
+    ByteArrayInputStream source = new ByteArrayInputStream(compressedData);
+
+    InputStream resultStream =
+        DecompressionUtil.decompress(source, CompressionCodec.LZ4_FRAME, CONTEXT);
+    assertEquals(uncompressedData[0], (byte) resultStream.read());
+    // Only the frame header and the first block have been consumed
+    assertTrue(source.available() > 0);
+    assertEquals(uncompressedData[1], (byte) resultStream.read());
+    byte[] remaining = IOUtils.toByteArray(resultStream);
+    assertEquals(uncompressedData.length - 2, remaining.length);
+    assertEquals(0, source.available());
+  }
+
+  @Test
+  public void testDecompressInvalidLZ4FrameStream() {
+    assertThrows(
+        DatabricksParsingException.class,
+        () ->
+            DecompressionUtil.decompress(
+                new ByteArrayInputStream("not lz4".getBytes()),
+                CompressionCodec.LZ4_FRAME,
+                CONTEXT));
+  }
 }
@@ -0,0 +1,71 @@
+package com.databricks.jdbc.common.util;
+
+import static com.databricks.jdbc.api.impl.DatabricksPreparedStatementTest.getSqlParam;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.databricks.jdbc.api.impl.ImmutableSqlParameter;
+import com.databricks.jdbc.exception.DatabricksValidationException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class SQLTemplateTest {
+
+  private static Stream<Arguments> providePlaceholderCountTestCases() {
+    return Stream.of(
+        Arguments.of("SELECT 1", 0),
+        Arguments.of("SELECT * FROM t WHERE a = ? AND b = ?", 2),
+        Arguments.of("SELECT * FROM t WHERE a = '?' AND b = ?", 1),
+        Arguments.of("SELECT * FROM t WHERE a = 'it''s ?' AND b = ?", 1),
+        Arguments.of("SELECT * FROM t WHERE a = 'it\\'s ?' AND b = ?", 1),
+        Arguments.of("SELECT \"?\", `col?` FROM t WHERE b = ?", 1),
+        Arguments.of("SELECT ? -- why?\nFROM t WHERE b = ?", 2),
+        Arguments.of("SELECT ? /* why? /* nested? */ still? */ FROM t WHERE b = ?", 2),
+        Arguments.of("SELECT 'unterminated ?", 0));
+  }
+
+  @ParameterizedTest
+  @MethodSource("providePlaceholderCountTestCases")
+  public void testPlaceholderCount(String sql, int expectedCount) {
+    assertEquals(expectedCount, SQLTemplate.compile(sql).getPlaceholderCount());
+  }
+
+  @Test
+  public void testRenderSkipsQuestionMarksInLiteralsAndComments()
+      throws DatabricksValidationException {
+    SQLTemplate template =
+        SQLTemplate.compile("SELECT * FROM t /* a? */ WHERE a = '?' AND b = ? AND c = ?");
+    Map<Integer, ImmutableSqlParameter> params = new HashMap<>();
+    params.put(1, getSqlParam(1, "O'Reilly", DatabricksTypeUtil.STRING));
+    params.put(2, getSqlParam(2, 7, DatabricksTypeUtil.INT));
+
+    assertEquals(
+        "SELECT * FROM t /* a? */ WHERE a = '?' AND b = 'O''Reilly' AND c = 7",
+        template.render(params));
+  }
+
+  @Test
+  public void testRenderIsRepeatable() throws DatabricksValidationException {
+    SQLTemplate template = SQLTemplate.compile("?, ?");
+    for (int i = 0; i < 3; i++) {
+      Map<Integer, ImmutableSqlParameter> params = new HashMap<>();
+      params.put(1, getSqlParam(1, i, DatabricksTypeUtil.INT));
+      params.put(2, getSqlParam(2, null, DatabricksTypeUtil.NULL));
+      assertEquals(i + ", NULL", template.render(params));
+    }
+  }
+
+  @Test
+  public void testRenderWithParameterMismatch() {
+    SQLTemplate template = SQLTemplate.compile("SELECT * FROM t WHERE a = ? AND b = '?'");
+    Map<Integer, ImmutableSqlParameter> params = new HashMap<>();
+    params.put(1, getSqlParam(1, 1, DatabricksTypeUtil.INT));
+    params.put(2, getSqlParam(2, 2, DatabricksTypeUtil.INT));
+    assertThrows(DatabricksValidationException.class, () -> template.render(params));
+  }
+}
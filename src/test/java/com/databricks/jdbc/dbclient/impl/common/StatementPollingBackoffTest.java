@@ -0,0 +1,94 @@
+package com.databricks.jdbc.dbclient.impl.common;
+
+import static com.databricks.jdbc.TestConstants.WAREHOUSE_JDBC_URL;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.databricks.jdbc.api.impl.DatabricksConnectionContext;
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.model.telemetry.latency.OperationDetail;
+import com.databricks.jdbc.model.telemetry.latency.OperationType;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class StatementPollingBackoffTest {
+
+  @Test
+  public void testFixedIntervalByDefault() throws DatabricksSQLException {
+    StatementPollingBackoff backoff =
+        StatementPollingBackoff.forConnection(
+            DatabricksConnectionContext.parse(WAREHOUSE_JDBC_URL, new Properties()));
+
+    assertEquals(200, backoff.nextWaitMillis());
+    assertEquals(200, backoff.nextWaitMillis(5_000));
+    assertEquals(200, backoff.nextWaitMillis());
+  }
+
+  @Test
+  public void testMetadataOperationsDoNotWaitWithoutAdaptivePolling()
+      throws DatabricksSQLException {
+    StatementPollingBackoff backoff =
+        StatementPollingBackoff.forMetadataOperation(
+            DatabricksConnectionContext.parse(WAREHOUSE_JDBC_URL, new Properties()));
+    StatementPollingBackoff adaptiveBackoff =
+        StatementPollingBackoff.forMetadataOperation(
+            DatabricksConnectionContext.parse(
+                WAREHOUSE_JDBC_URL + ";EnableAdaptivePolling=1;AdaptivePollMinInterval=2",
+                new Properties()));
+
+    assertFalse(backoff.isAdaptive());
+    assertEquals(0, backoff.nextWaitMillis());
+    assertEquals(0, backoff.nextWaitMillis(5_000));
+    assertTrue(adaptiveBackoff.isAdaptive());
+    assertEquals(2, adaptiveBackoff.nextWaitMillis());
+  }
+
+  @Test
+  public void testAdaptiveWaitsGrowWithJitterUpToCeiling() throws DatabricksSQLException {
+    StatementPollingBackoff backoff =
+        StatementPollingBackoff.forConnection(
+            DatabricksConnectionContext.parse(
+                WAREHOUSE_JDBC_URL
+                    + ";EnableAdaptivePolling=1;AdaptivePollMinInterval=2;AdaptivePollMaxInterval=300",
+                new Properties()));
+
+    long previousWait = backoff.nextWaitMillis();
+    assertEquals(2, previousWait);
+    boolean reachedCeilingRange = false;
+    for (int i = 0; i < 200; i++) {
+      long wait = backoff.nextWaitMillis();
+      assertTrue(wait >= 2, String.valueOf(wait));
+      assertTrue(wait <= Math.min(300, previousWait * 3), String.valueOf(wait));
+      reachedCeilingRange |= wait > 100;
+      previousWait = wait;
+    }
+    assertTrue(reachedCeilingRange);
+  }
+
+  @Test
+  public void testAdaptiveHonoursServerHintWithinBounds() {
+    StatementPollingBackoff backoff = new StatementPollingBackoff(true, 5, 1_000);
+
+    assertEquals(40, backoff.nextWaitMillis(40));
+    assertEquals(1_000, backoff.nextWaitMillis(60_000));
+    assertEquals(5, backoff.nextWaitMillis(1));
+  }
+
+  @Test
+  public void testPollStatisticsInOperationDetail() throws InterruptedException {
+    StatementPollingBackoff backoff = new StatementPollingBackoff(true, 1, 1);
+    backoff.onPoll(TimeUnit.MILLISECONDS.toNanos(3));
+    backoff.awaitNextPoll();
+    backoff.onPoll(TimeUnit.MILLISECONDS.toNanos(4));
+    backoff.awaitNextPoll();
+    backoff.onPoll(TimeUnit.MILLISECONDS.toNanos(5));
+
+    assertEquals(3, backoff.getPollCount());
+    assertEquals(2, backoff.getTotalWaitMillis());
+    assertEquals(1, backoff.getWastedWaitMillis());
+    OperationDetail operationDetail = backoff.toOperationDetail(OperationType.EXECUTE_STATEMENT);
+    assertTrue(operationDetail.toString().contains("nOperationStatusCalls=3"));
+    assertTrue(operationDetail.toString().contains("operationLatencyMillis=12"));
+    assertTrue(operationDetail.toString().contains("pollWaitMillis=2"));
+  }
+}
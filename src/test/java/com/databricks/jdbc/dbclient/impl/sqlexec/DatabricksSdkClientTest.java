@@ -27,6 +27,7 @@ import com.databricks.jdbc.model.core.Disposition;
 import com.databricks.jdbc.model.core.ResultData;
 import com.databricks.jdbc.model.core.ResultManifest;
 import com.databricks.jdbc.model.core.StatementStatus;
+import com.databricks.jdbc.telemetry.latency.LatencyOperation;
 import com.databricks.sdk.core.ApiClient;
 import com.databricks.sdk.core.DatabricksError;
 import com.databricks.sdk.core.http.Request;
@@ -209,6 +210,7 @@ public class DatabricksSdkClientTest {
             statement);
     assertEquals(STATEMENT_ID, statement.getStatementId());
     assertNotNull(resultSet.getMetaData());
+    assertEquals(1, connection.getLatencySnapshots().get(LatencyOperation.EXECUTE).getCount());
 
     // Verify a Request with POST method is created and executed
     verify(apiClient, atLeastOnce()).serialize(any(ExecuteStatementRequest.class));
@@ -257,6 +259,8 @@ public class DatabricksSdkClientTest {
 
     databricksSdkClient.closeStatement(STATEMENT_ID);
 
+    assertEquals(
+        1, databricksSdkClient.getLatencyRecorder().snapshot(LatencyOperation.CLOSE).getCount());
     // Verify a Request with DELETE method is created and executed
     verify(apiClient).serialize(any(CloseStatementRequest.class));
     verify(apiClient)
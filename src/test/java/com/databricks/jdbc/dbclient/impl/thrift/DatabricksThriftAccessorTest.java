@@ -11,10 +11,14 @@ import com.databricks.jdbc.api.internal.IDatabricksSession;
 import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
 import com.databricks.jdbc.common.StatementType;
 import com.databricks.jdbc.dbclient.impl.common.StatementId;
+import com.databricks.jdbc.dbclient.impl.common.StatementPollingBackoff;
 import com.databricks.jdbc.exception.DatabricksHttpException;
 import com.databricks.jdbc.exception.DatabricksSQLException;
 import com.databricks.jdbc.exception.DatabricksTimeoutException;
 import com.databricks.jdbc.model.client.thrift.generated.*;
+import com.databricks.jdbc.model.telemetry.latency.OperationDetail;
+import com.databricks.jdbc.telemetry.TelemetryHelper;
+import com.databricks.jdbc.telemetry.latency.LatencyOperation;
 import com.databricks.sdk.service.sql.StatementState;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -22,7 +26,9 @@ import java.util.ArrayList;
 import org.apache.thrift.TException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -530,6 +536,69 @@ public class DatabricksThriftAccessorTest {
     assertEquals(actualResponse, fetchResultsResponse);
   }
 
+  @Test
+  void testListCatalogsRepollsUntilFinished() throws TException, DatabricksSQLException {
+    setup(true);
+    TGetCatalogsReq request = new TGetCatalogsReq();
+    TGetCatalogsResp tGetCatalogsResp =
+        new TGetCatalogsResp()
+            .setOperationHandle(tOperationHandle)
+            .setStatus(new TStatus().setStatusCode(TStatusCode.SUCCESS_STATUS));
+    when(thriftClient.GetOperationStatus(operationStatusReq))
+        .thenReturn(operationStatusRunningResp)
+        .thenReturn(operationStatusFinishedResp);
+    when(thriftClient.FetchResults(getFetchResultsRequest(false))).thenReturn(fetchResultsResponse);
+    when(thriftClient.GetCatalogs(request)).thenReturn(tGetCatalogsResp);
+
+    TFetchResultsResp actualResponse = (TFetchResultsResp) accessor.getThriftResponse(request);
+
+    assertEquals(actualResponse, fetchResultsResponse);
+    verify(thriftClient, times(2)).GetOperationStatus(operationStatusReq);
+    // Metadata operations do not wait for the statement polling interval between polls
+    verify(connectionContext, never()).getAsyncExecPollInterval();
+    assertEquals(2, accessor.getLatencyRecorder().snapshot(LatencyOperation.POLL).getCount());
+  }
+
+  @Test
+  void testListCatalogsWithAdaptivePolling() throws TException, DatabricksSQLException {
+    setup(true);
+    when(connectionContext.isAdaptivePollingEnabled()).thenReturn(true);
+    when(connectionContext.getAdaptivePollMinInterval()).thenReturn(1);
+    when(connectionContext.getAdaptivePollMaxInterval()).thenReturn(1);
+    TGetCatalogsReq request = new TGetCatalogsReq();
+    TGetCatalogsResp tGetCatalogsResp =
+        new TGetCatalogsResp()
+            .setOperationHandle(tOperationHandle)
+            .setStatus(new TStatus().setStatusCode(TStatusCode.SUCCESS_STATUS));
+    TGetOperationStatusReq progressStatusReq =
+        new TGetOperationStatusReq()
+            .setOperationHandle(tOperationHandle)
+            .setGetProgressUpdate(true);
+    when(thriftClient.GetOperationStatus(progressStatusReq))
+        .thenReturn(operationStatusRunningResp)
+        .thenReturn(operationStatusRunningResp)
+        .thenReturn(operationStatusFinishedResp);
+    when(thriftClient.FetchResults(getFetchResultsRequest(false))).thenReturn(fetchResultsResponse);
+    when(thriftClient.GetCatalogs(request)).thenReturn(tGetCatalogsResp);
+
+    try (MockedStatic<TelemetryHelper> telemetryHelper = mockStatic(TelemetryHelper.class)) {
+      TFetchResultsResp actualResponse = (TFetchResultsResp) accessor.getThriftResponse(request);
+
+      assertEquals(actualResponse, fetchResultsResponse);
+      verify(thriftClient, times(3)).GetOperationStatus(progressStatusReq);
+      // The first poll is sent right away, the following ones after the 1 ms backoff
+      ArgumentCaptor<OperationDetail> operationDetail =
+          ArgumentCaptor.forClass(OperationDetail.class);
+      telemetryHelper.verify(
+          () -> TelemetryHelper.exportLatencyLog(anyLong(), operationDetail.capture()));
+      String pollStatistics = operationDetail.getValue().toString();
+      assertTrue(pollStatistics.contains("nOperationStatusCalls=3"), pollStatistics);
+      assertTrue(pollStatistics.contains("pollWaitMillis=2"), pollStatistics);
+      assertTrue(pollStatistics.contains("operationName=LIST_CATALOGS"), pollStatistics);
+    }
+    verify(connectionContext, never()).getAsyncExecPollInterval();
+  }
+
   @Test
   void testListCatalogsWithDirectResults() throws TException, DatabricksSQLException {
     setup(true);
@@ -746,6 +815,54 @@ public class DatabricksThriftAccessorTest {
     verify(thriftClient, never()).CancelOperation(any());
   }
 
+  @Test
+  void testExecuteWithAdaptivePolling() throws TException, SQLException {
+    when(connectionContext.isAdaptivePollingEnabled()).thenReturn(true);
+    when(connectionContext.getAdaptivePollMinInterval()).thenReturn(1);
+    when(connectionContext.getAdaptivePollMaxInterval()).thenReturn(20);
+    accessor = new DatabricksThriftAccessor(thriftClient, connectionContext);
+
+    TExecuteStatementReq request = new TExecuteStatementReq();
+    TExecuteStatementResp tExecuteStatementResp =
+        new TExecuteStatementResp()
+            .setOperationHandle(tOperationHandle)
+            .setStatus(new TStatus().setStatusCode(TStatusCode.SUCCESS_STATUS));
+    when(thriftClient.ExecuteStatement(request)).thenReturn(tExecuteStatementResp);
+    when(thriftClient.FetchResults(getFetchResultsRequest(true))).thenReturn(fetchResultsResponse);
+    TGetOperationStatusResp operationStatusProgressResp =
+        new TGetOperationStatusResp()
+            .setStatus(new TStatus().setStatusCode(TStatusCode.SUCCESS_STATUS))
+            .setOperationState(TOperationState.RUNNING_STATE)
+            .setProgressUpdateResponse(
+                new TProgressUpdateResp()
+                    .setProgressedPercentage(0.5)
+                    .setStartTime(System.currentTimeMillis() - 10_000));
+    TGetOperationStatusReq progressStatusReq =
+        new TGetOperationStatusReq()
+            .setOperationHandle(tOperationHandle)
+            .setGetProgressUpdate(true);
+    when(thriftClient.GetOperationStatus(progressStatusReq))
+        .thenReturn(operationStatusRunningResp)
+        .thenReturn(operationStatusProgressResp)
+        .thenReturn(operationStatusFinishedResp);
+    Statement statement = mock(Statement.class);
+    when(parentStatement.getStatement()).thenReturn(statement);
+    when(statement.getQueryTimeout()).thenReturn(0);
+    when(session.getConnectionContext()).thenReturn(connectionContext);
+
+    StatementPollingBackoff pollingBackoff =
+        StatementPollingBackoff.forConnection(connectionContext);
+    DatabricksResultSet resultSet =
+        accessor.execute(request, parentStatement, session, StatementType.SQL, pollingBackoff);
+
+    assertEquals(StatementState.SUCCEEDED, resultSet.getStatementStatus().getState());
+    assertEquals(3, pollingBackoff.getPollCount());
+    // One wait at the minimum interval, one at the maximum interval hinted by the progress update
+    assertEquals(21, pollingBackoff.getTotalWaitMillis());
+    assertEquals(20, pollingBackoff.getWastedWaitMillis());
+    assertEquals(3, accessor.getLatencyRecorder().snapshot(LatencyOperation.POLL).getCount());
+  }
+
   @Test
   void testExecuteWithTimeoutExpired() throws TException, SQLException {
     // Set the async poll interval to 1 second to facilitate testing
@@ -20,6 +20,7 @@ import com.databricks.jdbc.api.internal.IDatabricksSession;
 import com.databricks.jdbc.api.internal.IDatabricksStatementInternal;
 import com.databricks.jdbc.common.StatementType;
 import com.databricks.jdbc.dbclient.impl.common.StatementId;
+import com.databricks.jdbc.dbclient.impl.common.StatementPollingBackoff;
 import com.databricks.jdbc.exception.DatabricksSQLException;
 import com.databricks.jdbc.model.client.thrift.generated.*;
 import com.databricks.jdbc.model.core.ExternalLink;
@@ -184,7 +185,12 @@ public class DatabricksThriftServiceClientTest {
     ArgumentCaptor<TExecuteStatementReq> requestCaptor =
         ArgumentCaptor.forClass(TExecuteStatementReq.class);
     verify(thriftAccessor)
-        .execute(requestCaptor.capture(), eq(parentStatement), eq(session), eq(StatementType.SQL));
+        .execute(
+            requestCaptor.capture(),
+            eq(parentStatement),
+            eq(session),
+            eq(StatementType.SQL),
+            any(StatementPollingBackoff.class));
 
     // Get the captured request
     TExecuteStatementReq request = requestCaptor.getValue();
@@ -262,7 +268,12 @@ public class DatabricksThriftServiceClientTest {
             .setParameters(Collections.emptyList())
             .setRunAsync(true)
             .setUseArrowNativeTypes(arrowNativeTypes);
-    when(thriftAccessor.execute(executeStatementReq, parentStatement, session, StatementType.SQL))
+    when(thriftAccessor.execute(
+            eq(executeStatementReq),
+            eq(parentStatement),
+            eq(session),
+            eq(StatementType.SQL),
+            any(StatementPollingBackoff.class)))
         .thenReturn(resultSet);
     DatabricksResultSet actualResultSet =
         client.executeStatement(
@@ -0,0 +1,84 @@
+package com.databricks.jdbc.log;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the cost of debug log statements on a {@link JulLogger} configured at WARNING, the
+ * production default. Parameterized and supplier based statements should cost about as much as the
+ * {@link #baseline}, while {@link #eagerFormat} shows the cost of formatting at the call site.
+ *
+ * <p>Run from the IDE through {@link #main}, or with {@code mvn test-compile} followed by the JMH
+ * runner on the test classpath. Use {@code -prof gc} to check that disabled statements do not
+ * allocate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JdbcLoggerBenchmark {
+  private static final String LOGGER_NAME = "com.databricks.jdbc.log.JdbcLoggerBenchmark";
+
+  private JdbcLogger logger;
+  private long rowIndex;
+  private String statementId;
+
+  @Setup
+  public void setup() {
+    Logger.getLogger(LOGGER_NAME).setLevel(Level.WARNING);
+    logger = new JulLogger(LOGGER_NAME);
+    statementId = "01ef-statement-id";
+  }
+
+  @Benchmark
+  public long baseline() {
+    return ++rowIndex;
+  }
+
+  @Benchmark
+  public long constantMessage() {
+    logger.debug("public IDatabricksClient getDatabricksClient()");
+    return ++rowIndex;
+  }
+
+  @Benchmark
+  public long parameterizedMessage() {
+    logger.debug("Reading row {} of statement {}", ++rowIndex, statementId);
+    return rowIndex;
+  }
+
+  @Benchmark
+  public long supplierMessage() {
+    long row = ++rowIndex;
+    logger.debug(() -> "Reading row " + row + " of statement " + statementId);
+    return row;
+  }
+
+  @Benchmark
+  public void eagerFormat(Blackhole blackhole) {
+    logger.debug(String.format("Reading row {%s} of statement {%s}", ++rowIndex, statementId));
+    blackhole.consume(rowIndex);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(JdbcLoggerBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
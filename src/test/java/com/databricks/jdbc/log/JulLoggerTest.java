@@ -7,6 +7,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.logging.*;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +26,7 @@ public class JulLoggerTest {
   @BeforeEach
   void setUp() {
     mockLogger = Mockito.mock(Logger.class);
+    Mockito.when(mockLogger.isLoggable(Mockito.any(Level.class))).thenReturn(true);
     julLogger = new JulLogger("test");
     julLogger.logger = mockLogger;
   }
@@ -102,6 +105,57 @@ public class JulLoggerTest {
             exception);
   }
 
+  @Test
+  void testErrorWithThrowableAndArguments() {
+    Exception exception = new Exception("Test exception");
+    julLogger.error(exception, "Test error message {}", 42);
+    verify(mockLogger)
+        .logp(
+            Level.SEVERE,
+            "com.databricks.jdbc.log.JulLoggerTest",
+            "testErrorWithThrowableAndArguments",
+            "Test error message 42",
+            exception);
+  }
+
+  @Test
+  void testDebugWithSupplier() {
+    julLogger.debug(() -> "Test debug " + "message");
+    verify(mockLogger)
+        .logp(
+            Level.FINE,
+            "com.databricks.jdbc.log.JulLoggerTest",
+            "testDebugWithSupplier",
+            "Test debug message");
+  }
+
+  @Test
+  void testDisabledLevelSkipsFormatting() {
+    Mockito.when(mockLogger.isLoggable(Level.FINE)).thenReturn(false);
+    AtomicInteger formatted = new AtomicInteger();
+    Object argument =
+        new Object() {
+          @Override
+          public String toString() {
+            return String.valueOf(formatted.incrementAndGet());
+          }
+        };
+    Supplier<String> supplier = Mockito.mock(Supplier.class);
+
+    julLogger.debug("Test debug message {}", argument);
+    julLogger.debug(supplier);
+
+    assertFalse(julLogger.isDebugEnabled());
+    assertEquals(0, formatted.get());
+    Mockito.verifyNoInteractions(supplier);
+    verify(mockLogger, Mockito.never())
+        .logp(
+            Mockito.any(Level.class),
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyString());
+  }
+
   @Test
   void testInitLoggerWithStdout() throws IOException {
     JulLogger.initLogger(Level.INFO, JulLogger.STDOUT, 1024, 1);
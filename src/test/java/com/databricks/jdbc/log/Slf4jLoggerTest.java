@@ -5,6 +5,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.lang.reflect.Field;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -40,6 +41,22 @@ public class Slf4jLoggerTest {
     verify(mockLogger, times(1)).debug(message);
   }
 
+  @Test
+  public void testDebugWithSupplier() {
+    Mockito.when(mockLogger.isDebugEnabled()).thenReturn(true);
+    slf4jLogger.debug(() -> "debug message");
+    verify(mockLogger, times(1)).debug("debug message");
+  }
+
+  @Test
+  public void testDisabledDebugDoesNotCallSupplier() {
+    Supplier<String> supplier = Mockito.mock(Supplier.class);
+    slf4jLogger.debug(supplier);
+    slf4jLogger.trace(supplier);
+    Mockito.verifyNoInteractions(supplier);
+    assertFalse(slf4jLogger.isDebugEnabled());
+  }
+
   @Test
   public void testInfo() {
     String message = "info message";
@@ -0,0 +1,211 @@
+package com.databricks.jdbc.pooling;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.exception.DatabricksValidationException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.sql.ConnectionPoolDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DatabricksConnectionPoolTest {
+
+  private final List<Connection> physicalConnections = new ArrayList<>();
+  private final List<Statement> pingStatements = new ArrayList<>();
+  private ConnectionPoolDataSource dataSource;
+  private DatabricksConnectionPool pool;
+
+  @BeforeEach
+  public void setUp() throws SQLException {
+    dataSource = mock(ConnectionPoolDataSource.class);
+    when(dataSource.getPooledConnection())
+        .thenAnswer(invocation -> new DatabricksPooledConnection(createPhysicalConnection()));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    if (pool != null) {
+      pool.close();
+    }
+  }
+
+  @Test
+  public void testReturnedConnectionIsReused() throws SQLException {
+    pool = DatabricksConnectionPool.builder(dataSource).withMaxPoolSize(2).build();
+
+    Connection connection = pool.getConnection();
+    assertEquals(1, pool.getStats().getActiveConnections());
+    connection.close();
+    assertTrue(connection.isClosed());
+    assertEquals(1, pool.getStats().getIdleConnections());
+    pool.getConnection().close();
+
+    DatabricksConnectionPoolStats stats = pool.getStats();
+    assertEquals(1, physicalConnections.size());
+    assertEquals(2, stats.getBorrowCount());
+    assertEquals(1, stats.getCreatedCount());
+    assertEquals(0, stats.getActiveConnections());
+    assertFalse(physicalConnections.get(0).isClosed());
+  }
+
+  @Test
+  public void testBorrowTimesOutWhenPoolIsExhausted() throws SQLException {
+    pool =
+        DatabricksConnectionPool.builder(dataSource)
+            .withMaxPoolSize(1)
+            .withBorrowTimeout(Duration.ofMillis(50))
+            .build();
+    pool.getConnection();
+
+    assertThrows(SQLTimeoutException.class, pool::getConnection);
+    assertEquals(1, pool.getStats().getBorrowTimeoutCount());
+    assertEquals(1, pool.getStats().getTotalConnections());
+  }
+
+  @Test
+  public void testWaitingBorrowerGetsReturnedConnection() throws Exception {
+    pool = DatabricksConnectionPool.builder(dataSource).withMaxPoolSize(1).build();
+    Connection connection = pool.getConnection();
+
+    CompletableFuture<Connection> waiting =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return pool.getConnection();
+              } catch (SQLException e) {
+                throw new RuntimeException(e);
+              }
+            });
+    while (pool.getStats().getPendingThreads() == 0) {
+      Thread.sleep(1);
+    }
+    connection.close();
+
+    assertNotNull(waiting.get(5, TimeUnit.SECONDS));
+    assertEquals(1, physicalConnections.size());
+    assertTrue(pool.getStats().getMaxWaitTime().toNanos() > 0);
+  }
+
+  @Test
+  public void testIdleConnectionIsPingedAndReplacedWhenInvalid() throws SQLException {
+    pool =
+        DatabricksConnectionPool.builder(dataSource)
+            .withMaxPoolSize(1)
+            .withPingInterval(Duration.ZERO)
+            .build();
+    pool.getConnection().close();
+    when(physicalConnections.get(0).isValid(anyInt())).thenReturn(false);
+
+    pool.getConnection();
+
+    assertEquals(2, physicalConnections.size());
+    verify(physicalConnections.get(0)).close();
+    assertEquals(1, pool.getStats().getDestroyedCount());
+  }
+
+  @Test
+  public void testPingRunsSelectOne() throws SQLException {
+    pool =
+        DatabricksConnectionPool.builder(dataSource)
+            .withPingInterval(Duration.ZERO)
+            .withValidationTimeout(Duration.ofSeconds(3))
+            .build();
+    pool.getConnection().close();
+
+    pool.getConnection();
+
+    verify(pingStatements.get(0)).setQueryTimeout(3);
+    verify(pingStatements.get(0)).execute("SELECT 1");
+  }
+
+  @Test
+  public void testExpiredConnectionIsClosedOnReturn() throws SQLException {
+    pool =
+        DatabricksConnectionPool.builder(dataSource).withMaxLifetime(Duration.ofNanos(1)).build();
+
+    pool.getConnection().close();
+
+    verify(physicalConnections.get(0)).close();
+    assertEquals(0, pool.getStats().getTotalConnections());
+  }
+
+  @Test
+  public void testHousekeeperFillsMinIdleAndKeepsSessionsAlive() throws Exception {
+    pool =
+        DatabricksConnectionPool.builder(dataSource)
+            .withMinIdle(2)
+            .withKeepAliveInterval(Duration.ofMillis(1))
+            .withHousekeepingInterval(Duration.ofMillis(10))
+            .build();
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (pingStatements.size() < 2 && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+
+    assertEquals(2, physicalConnections.size());
+    assertTrue(pingStatements.size() >= 2);
+    verify(pingStatements.get(0)).execute("SELECT 1");
+  }
+
+  @Test
+  public void testCloseClosesAllConnections() throws SQLException {
+    pool = DatabricksConnectionPool.builder(dataSource).build();
+    Connection borrowed = pool.getConnection();
+    pool.getConnection().close();
+
+    pool.close();
+
+    assertTrue(pool.isClosed());
+    assertTrue(borrowed.isClosed());
+    for (Connection physicalConnection : physicalConnections) {
+      verify(physicalConnection).close();
+    }
+    assertThrows(DatabricksSQLException.class, pool::getConnection);
+  }
+
+  @Test
+  public void testInvalidConfiguration() {
+    assertThrows(
+        DatabricksValidationException.class,
+        () -> DatabricksConnectionPool.builder(dataSource).withMaxPoolSize(0).build());
+    assertThrows(
+        DatabricksValidationException.class,
+        () ->
+            DatabricksConnectionPool.builder(dataSource).withMinIdle(2).withMaxPoolSize(1).build());
+    assertThrows(
+        DatabricksValidationException.class,
+        () ->
+            DatabricksConnectionPool.builder(dataSource)
+                .withBorrowTimeout(Duration.ofSeconds(-1))
+                .build());
+  }
+
+  private synchronized Connection createPhysicalConnection() throws SQLException {
+    Connection physicalConnection = mock(Connection.class);
+    when(physicalConnection.isValid(anyInt())).thenReturn(true);
+    when(physicalConnection.createStatement())
+        .thenAnswer(
+            invocation -> {
+              Statement statement = mock(Statement.class);
+              synchronized (this) {
+                pingStatements.add(statement);
+              }
+              return statement;
+            });
+    physicalConnections.add(physicalConnection);
+    return physicalConnection;
+  }
+}
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.when;
 
 import com.databricks.client.jdbc.DataSource;
 import com.databricks.client.jdbc.Driver;
+import com.databricks.jdbc.api.IDatabricksConnection;
 import com.databricks.jdbc.api.impl.DatabricksConnection;
 import com.databricks.jdbc.api.impl.DatabricksConnectionContextFactory;
 import com.databricks.jdbc.api.impl.ImmutableSessionInfo;
@@ -17,6 +18,7 @@ import com.databricks.jdbc.common.IDatabricksComputeResource;
 import com.databricks.jdbc.common.Warehouse;
 import com.databricks.jdbc.dbclient.impl.sqlexec.DatabricksSdkClient;
 import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.telemetry.latency.LatencyRecorder;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
@@ -211,6 +213,73 @@ public class DatabricksPooledConnectionTest {
     assertTrue(statement.isClosed());
   }
 
+  @Test
+  public void testHandleExposesDatabricksConnection() throws SQLException {
+    ImmutableSessionInfo session =
+        ImmutableSessionInfo.builder().computeResource(warehouse).sessionId(SESSION_ID).build();
+    when(databricksClient.createSession(eq(new Warehouse(WAREHOUSE_ID)), any(), any(), any()))
+        .thenReturn(session);
+    when(databricksClient.getLatencyRecorder()).thenReturn(new LatencyRecorder());
+    DatabricksConnection databricksConnection =
+        new DatabricksConnection(connectionContext, databricksClient);
+    databricksConnection.open();
+    DatabricksPooledConnection pooledConnection =
+        new DatabricksPooledConnection(databricksConnection);
+
+    IDatabricksConnection connection = (IDatabricksConnection) pooledConnection.getConnection();
+
+    assertEquals(databricksConnection.getConnectionId(), connection.getConnectionId());
+    assertEquals(
+        databricksConnection.getArrowMemoryUsage().getLimitBytes(),
+        connection.getArrowMemoryUsage().getLimitBytes());
+    assertEquals(
+        databricksConnection.getPreparedStatementCacheStats().getMaxSize(),
+        connection.getPreparedStatementCacheStats().getMaxSize());
+    assertEquals(
+        databricksConnection.getMetadataCacheStats().getMaxSize(),
+        connection.getMetadataCacheStats().getMaxSize());
+    assertEquals(
+        databricksConnection.getLatencySnapshots().keySet(),
+        connection.getLatencySnapshots().keySet());
+    connection.close();
+    assertThrows(DatabricksSQLException.class, connection::getConnectionId);
+    pooledConnection.close();
+  }
+
+  @Test
+  public void testHandlesDelegateAndReportErrors() throws SQLException {
+    Connection physicalConnection = Mockito.mock(Connection.class);
+    PreparedStatement physicalStatement = Mockito.mock(PreparedStatement.class);
+    SQLException error = new SQLException("boom");
+    when(physicalConnection.prepareStatement("SELECT ?")).thenReturn(physicalStatement);
+    when(physicalStatement.executeQuery()).thenThrow(error);
+    DatabricksPooledConnection pooledConnection =
+        new DatabricksPooledConnection(physicalConnection);
+    TestListener listener = new TestListener();
+    pooledConnection.addConnectionEventListener(listener);
+
+    Connection connection = pooledConnection.getConnection();
+    PreparedStatement statement = connection.prepareStatement("SELECT ?");
+    statement.setInt(1, 7);
+
+    Mockito.verify(physicalStatement).setInt(1, 7);
+    assertSame(connection, statement.getConnection());
+    assertSame(error, assertThrows(SQLException.class, statement::executeQuery));
+    assertEquals(1, listener.connectionErrorEvents.size());
+    assertSame(error, listener.connectionErrorEvents.get(0).getSQLException());
+
+    // A new handle detaches the previous one without a closed event
+    Connection newConnection = pooledConnection.getConnection();
+    assertTrue(connection.isClosed());
+    assertThrows(DatabricksSQLException.class, connection::createStatement);
+    connection.close();
+    assertTrue(listener.getConnectionClosedEvents().isEmpty());
+    newConnection.close();
+    newConnection.close();
+    assertEquals(1, listener.getConnectionClosedEvents().size());
+    Mockito.verify(physicalConnection, Mockito.never()).close();
+  }
+
   static class TestListener implements ConnectionEventListener {
     List<ConnectionEvent> connectionClosedEvents = new ArrayList<>();
     List<ConnectionEvent> connectionErrorEvents = new ArrayList<>();
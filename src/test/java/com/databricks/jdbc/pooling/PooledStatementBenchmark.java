@@ -0,0 +1,141 @@
+package com.databricks.jdbc.pooling;
+
+import com.databricks.jdbc.api.IDatabricksStatement;
+import com.databricks.jdbc.api.impl.DatabricksConnection;
+import com.databricks.jdbc.api.impl.DatabricksConnectionContext;
+import com.databricks.jdbc.api.impl.DatabricksStatement;
+import com.databricks.jdbc.exception.DatabricksSQLException;
+import com.databricks.jdbc.log.JdbcLogger;
+import com.databricks.jdbc.log.JdbcLoggerFactory;
+import com.databricks.jdbc.model.telemetry.enums.DatabricksDriverErrorCode;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the per-call overhead of statements handed out by a {@link DatabricksPooledConnection}.
+ * {@code wrapper*} calls go through {@link PooledStatementHandle}, {@code proxy*} through a {@link
+ * Proxy} with the reflective handler the pooled connection used before, and {@code direct*} call
+ * the physical statement.
+ *
+ * <p>Run from the IDE through {@link #main}, or with {@code mvn test-compile} followed by the JMH
+ * runner on the test classpath. Use {@code -prof gc} to compare allocations per call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PooledStatementBenchmark {
+  private static final String JDBC_URL =
+      "jdbc:databricks://sample-host.cloud.databricks.com:443/default;transportMode=http;ssl=1;AuthMech=3;httpPath=/sql/1.0/warehouses/9999999999999999;";
+
+  private Statement physicalStatement;
+  private Statement wrapperStatement;
+  private Statement proxyStatement;
+  private int timeout;
+
+  @Setup
+  public void setup() throws SQLException {
+    DatabricksConnection physicalConnection =
+        new DatabricksConnection(
+            DatabricksConnectionContext.parse(JDBC_URL, new Properties()), null);
+    physicalStatement = new DatabricksStatement(physicalConnection);
+    DatabricksPooledConnection pooledConnection =
+        new DatabricksPooledConnection(physicalConnection);
+    wrapperStatement =
+        new PooledStatementHandle(
+            new PooledConnectionHandle(pooledConnection, physicalConnection), physicalStatement);
+    proxyStatement =
+        (Statement)
+            Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class[] {Statement.class, IDatabricksStatement.class},
+                new ReflectiveStatementHandler(physicalStatement));
+  }
+
+  @Benchmark
+  public int directGet() throws SQLException {
+    return physicalStatement.getQueryTimeout();
+  }
+
+  @Benchmark
+  public int wrapperGet() throws SQLException {
+    return wrapperStatement.getQueryTimeout();
+  }
+
+  @Benchmark
+  public int proxyGet() throws SQLException {
+    return proxyStatement.getQueryTimeout();
+  }
+
+  @Benchmark
+  public void directSet() throws SQLException {
+    physicalStatement.setQueryTimeout(++timeout & 0xFF);
+  }
+
+  @Benchmark
+  public void wrapperSet() throws SQLException {
+    wrapperStatement.setQueryTimeout(++timeout & 0xFF);
+  }
+
+  @Benchmark
+  public void proxySet() throws SQLException {
+    proxyStatement.setQueryTimeout(++timeout & 0xFF);
+  }
+
+  /** The delegation path of the reflective statement handler replaced by the wrappers. */
+  private static class ReflectiveStatementHandler implements InvocationHandler {
+    private static final JdbcLogger LOGGER =
+        JdbcLoggerFactory.getLogger(ReflectiveStatementHandler.class);
+    private final Statement physicalStatement;
+
+    ReflectiveStatementHandler(Statement physicalStatement) {
+      this.physicalStatement = physicalStatement;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      LOGGER.debug(
+          "public Object invoke(Object proxy, Method method = {}, Object[] args = {})",
+          method,
+          Arrays.toString(args));
+      synchronized (this) {
+        if (physicalStatement.isClosed()) {
+          throw new DatabricksSQLException(
+              "Statement has been closed.", DatabricksDriverErrorCode.CONNECTION_CLOSED);
+        }
+      }
+      try {
+        return method.invoke(physicalStatement, args);
+      } catch (InvocationTargetException e) {
+        throw e.getTargetException();
+      }
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(PooledStatementBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
@@ -0,0 +1,78 @@
+package com.databricks.jdbc.telemetry.latency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+  @Test
+  public void testBucketsCoverValuesWithinOneSixteenth() {
+    int previousIndex = -1;
+    for (long value = 0; value < 1 << 20; value += 1 + value / 64) {
+      int index = LatencyHistogram.bucketIndex(value);
+      assertTrue(index >= previousIndex);
+      long highestValue = LatencyHistogram.highestValueInBucket(index);
+      assertTrue(highestValue >= value);
+      assertTrue(highestValue - value <= value / 16);
+      previousIndex = index;
+    }
+    assertEquals(
+        LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(TimeUnit.DAYS.toNanos(1)));
+    assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+  }
+
+  @Test
+  public void testSnapshotPercentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 100; i++) {
+      histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+    }
+
+    LatencySnapshot snapshot = histogram.snapshot();
+
+    assertEquals(100, snapshot.getCount());
+    assertEquals(Duration.ofMillis(100), snapshot.getMaxTime());
+    assertEquals(
+        Duration.ofNanos(TimeUnit.MILLISECONDS.toNanos(5050) / 100), snapshot.getMeanTime());
+    assertWithinOneSixteenth(Duration.ofMillis(50), snapshot.getPercentile(50));
+    assertWithinOneSixteenth(Duration.ofMillis(99), snapshot.getPercentile(99));
+    assertEquals(Duration.ofMillis(100), snapshot.getPercentile(100));
+    assertWithinOneSixteenth(Duration.ofMillis(1), snapshot.getPercentile(0));
+  }
+
+  @Test
+  public void testEmptySnapshot() {
+    LatencySnapshot snapshot = new LatencyHistogram().snapshot();
+
+    assertEquals(0, snapshot.getCount());
+    assertEquals(Duration.ZERO, snapshot.getMeanTime());
+    assertEquals(Duration.ZERO, snapshot.getPercentile(99));
+  }
+
+  @Test
+  public void testRecorderKeepsOperationsApart() {
+    LatencyRecorder recorder = new LatencyRecorder();
+    recorder.recordNanos(LatencyOperation.POLL, 1_000);
+    recorder.recordNanos(LatencyOperation.POLL, 3_000);
+    long elapsedNanos = recorder.record(LatencyOperation.EXECUTE, System.nanoTime());
+
+    Map<LatencyOperation, LatencySnapshot> snapshots = recorder.snapshot();
+
+    assertEquals(LatencyOperation.values().length, snapshots.size());
+    assertEquals(2, snapshots.get(LatencyOperation.POLL).getCount());
+    assertEquals(Duration.ofNanos(4_000), snapshots.get(LatencyOperation.POLL).getTotalTime());
+    assertEquals(1, snapshots.get(LatencyOperation.EXECUTE).getCount());
+    assertEquals(
+        Duration.ofNanos(elapsedNanos), snapshots.get(LatencyOperation.EXECUTE).getMaxTime());
+    assertEquals(0, snapshots.get(LatencyOperation.CHUNK_DOWNLOAD).getCount());
+  }
+
+  private static void assertWithinOneSixteenth(Duration expected, Duration actual) {
+    assertTrue(actual.compareTo(expected) >= 0, actual.toString());
+    assertTrue(actual.minus(expected).toNanos() <= expected.toNanos() / 16, actual.toString());
+  }
+}